@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdi.internal.connect.SocketAttachingConnectorImpl;
+import org.eclipse.jdi.internal.connect.SocketLaunchingConnectorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.connect.Connector.Argument;
+
+/**
+ * Measures attaching to and detaching from a running VM, including the
+ * handshake and the queries done when the connection is established.
+ * <p>
+ * The <code>ConsoleInput</code> test program waits on its standard input, so
+ * it keeps running while the benchmark attaches to it again and again.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("restriction")
+public class AttachBenchmark {
+
+	private Process fProcess;
+	private SocketAttachingConnectorImpl fConnector;
+	private Map<String, Argument> fArguments;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		int port = SocketLaunchingConnectorImpl.findFreePort();
+		String java = System.getProperty("java.home") + File.separatorChar + "bin" + File.separatorChar + "java";
+		fProcess = new ProcessBuilder(java, "-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=" + port, "-classpath", Debuggee.classPath(), "ConsoleInput").start();
+		// the agent tells when it listens
+		BufferedReader output = new BufferedReader(new InputStreamReader(fProcess.getInputStream()));
+		String line = output.readLine();
+		if (line == null || !line.startsWith("Listening")) {
+			fProcess.destroy();
+			throw new IllegalStateException("The VM does not listen: " + line);
+		}
+		fConnector = new SocketAttachingConnectorImpl(Debuggee.manager());
+		fArguments = fConnector.defaultArguments();
+		fArguments.get("hostname").setValue("localhost");
+		fArguments.get("port").setValue(String.valueOf(port));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		fProcess.destroy();
+		fProcess.waitFor();
+	}
+
+	/**
+	 * Attaching and detaching.
+	 */
+	@Benchmark
+	public String attach() throws Exception {
+		VirtualMachine vm = attachVM();
+		JdwpProfiler.watch(vm);
+		String version = vm.version();
+		JdwpProfiler.unwatch(vm);
+		vm.dispose();
+		return version;
+	}
+
+	/**
+	 * Attaches to the VM, which listens again shortly after the previous
+	 * connection has been disposed.
+	 */
+	private VirtualMachine attachVM() throws Exception {
+		long deadline = System.currentTimeMillis() + Debuggee.TIMEOUT;
+		while (true) {
+			try {
+				return fConnector.attach(fArguments);
+			} catch (IOException e) {
+				if (!(e.getCause() instanceof ConnectException) || System.currentTimeMillis() > deadline) {
+					throw e;
+				}
+				Thread.sleep(1);
+			}
+		}
+	}
+}
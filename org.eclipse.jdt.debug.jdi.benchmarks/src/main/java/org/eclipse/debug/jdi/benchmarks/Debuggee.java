@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.benchmarks;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.eclipse.jdi.Bootstrap;
+import org.eclipse.jdi.internal.VirtualMachineManagerImpl;
+import org.eclipse.jdi.internal.connect.SocketLaunchingConnectorImpl;
+
+import com.sun.jdi.ClassType;
+import com.sun.jdi.Location;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.connect.Connector.Argument;
+import com.sun.jdi.event.BreakpointEvent;
+import com.sun.jdi.event.ClassPrepareEvent;
+import com.sun.jdi.event.Event;
+import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.VMDeathEvent;
+import com.sun.jdi.event.VMDisconnectEvent;
+import com.sun.jdi.event.VMStartEvent;
+import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.ClassPrepareRequest;
+import com.sun.jdi.request.EventRequest;
+
+/**
+ * Launches the test programs debugged by the benchmarks, found in the
+ * <code>testprograms</code> of <code>org.eclipse.jdt.debug.tests</code>, and
+ * waits for their events. Events are read by the benchmark thread itself, as
+ * the latency of an event reader thread is not what is measured.
+ */
+@SuppressWarnings("restriction")
+final class Debuggee {
+
+	/**
+	 * Time to wait for an event, in milliseconds
+	 */
+	static final long TIMEOUT = 10000;
+
+	private Debuggee() {
+	}
+
+	/**
+	 * @return the virtual machine manager of the JDI client, created without
+	 *         the Eclipse platform
+	 */
+	static VirtualMachineManagerImpl manager() {
+		return (VirtualMachineManagerImpl) Bootstrap.virtualMachineManager();
+	}
+
+	/**
+	 * @return the class path of the test programs
+	 */
+	static String classPath() throws Exception {
+		return Path.of(Debuggee.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+	}
+
+	/**
+	 * Launches the given test program suspended and waits for it to start.
+	 *
+	 * @param mainClass
+	 *            the name of the test program
+	 * @return the suspended VM, whose round trips are counted
+	 */
+	static VirtualMachine launch(String mainClass) throws Exception {
+		SocketLaunchingConnectorImpl connector = new SocketLaunchingConnectorImpl(manager());
+		Map<String, Argument> args = connector.defaultArguments();
+		args.get("options").setValue("-classpath \"" + classPath() + "\"");
+		args.get("main").setValue(mainClass);
+		VirtualMachine vm = connector.launch(args);
+		JdwpProfiler.watch(vm);
+		waitFor(vm, VMStartEvent.class);
+		return vm;
+	}
+
+	/**
+	 * Resumes the given VM started by {@link #launch} until the given line of
+	 * its main class is reached.
+	 *
+	 * @return the thread suspended at the line, all other threads running
+	 */
+	static ThreadReference runToLine(VirtualMachine vm, String className, int line) throws Exception {
+		ClassPrepareRequest prepareRequest = vm.eventRequestManager().createClassPrepareRequest();
+		prepareRequest.addClassFilter(className);
+		prepareRequest.enable();
+		vm.resume();
+		ClassType type = (ClassType) waitFor(vm, ClassPrepareEvent.class).referenceType();
+		vm.eventRequestManager().deleteEventRequest(prepareRequest);
+		BreakpointRequest request = createBreakpoint(type, line);
+		vm.resume();
+		ThreadReference thread = waitFor(vm, BreakpointEvent.class).thread();
+		vm.eventRequestManager().deleteEventRequest(request);
+		return thread;
+	}
+
+	/**
+	 * Creates and enables a breakpoint suspending the thread which hits it.
+	 */
+	static BreakpointRequest createBreakpoint(ClassType type, int line) throws Exception {
+		Location location = type.locationsOfLine(line).get(0);
+		BreakpointRequest request = type.virtualMachine().eventRequestManager().createBreakpointRequest(location);
+		request.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+		request.enable();
+		return request;
+	}
+
+	/**
+	 * Removes event sets from the queue of the given VM until one contains an
+	 * event of the given type. Event sets without such an event are resumed.
+	 *
+	 * @return the event, its event set not resumed
+	 */
+	static <T extends Event> T waitFor(VirtualMachine vm, Class<T> eventType) throws InterruptedException {
+		while (true) {
+			EventSet set = vm.eventQueue().remove(TIMEOUT);
+			if (set == null) {
+				throw new IllegalStateException("Timed out waiting for " + eventType.getSimpleName());
+			}
+			for (Event event : set) {
+				if (eventType.isInstance(event)) {
+					return eventType.cast(event);
+				}
+				if (event instanceof VMDeathEvent || event instanceof VMDisconnectEvent) {
+					throw new IllegalStateException("VM terminated waiting for " + eventType.getSimpleName());
+				}
+			}
+			set.resume();
+		}
+	}
+
+	/**
+	 * Terminates the given VM started by {@link #launch}.
+	 */
+	static void terminate(VirtualMachine vm) {
+		JdwpProfiler.unwatch(vm);
+		vm.exit(0);
+	}
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.jdi.ClassType;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.BreakpointEvent;
+
+/**
+ * Measures how many breakpoint events per second the JDI client receives from
+ * a thread hitting a breakpoint in a loop, each event resuming the thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBenchmark {
+
+	/**
+	 * Line of the body of <code>add</code>, called in a loop
+	 */
+	private static final int ADD_LINE = 28;
+
+	private VirtualMachine fVM;
+	private ThreadReference fThread;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		fVM = Debuggee.launch("MethodExitLoop");
+		fThread = Debuggee.runToLine(fVM, "MethodExitLoop", ADD_LINE);
+		Debuggee.createBreakpoint((ClassType) fThread.frame(0).location().declaringType(), ADD_LINE);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Debuggee.terminate(fVM);
+	}
+
+	/**
+	 * Resuming the thread until it hits the breakpoint again.
+	 */
+	@Benchmark
+	public BreakpointEvent breakpointEvents() throws Exception {
+		fThread.resume();
+		return Debuggee.waitFor(fVM, BreakpointEvent.class);
+	}
+}
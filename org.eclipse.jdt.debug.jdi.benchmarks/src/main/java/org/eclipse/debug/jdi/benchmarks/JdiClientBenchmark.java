@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.jdi.ClassType;
+import com.sun.jdi.Field;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.Value;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.StepEvent;
+import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.EventRequest;
+import com.sun.jdi.request.StepRequest;
+
+/**
+ * Measures the queries and requests a debugger sends to a VM suspended at a
+ * breakpoint, in the loop of the <code>MethodExitLoop</code> test program.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JdiClientBenchmark {
+
+	/**
+	 * Line of the loop in <code>main</code>
+	 */
+	private static final int LOOP_LINE = 22;
+
+	/**
+	 * Line of the body of <code>add</code>
+	 */
+	private static final int ADD_LINE = 28;
+
+	private VirtualMachine fVM;
+	private ThreadReference fThread;
+	private ClassType fType;
+	private ObjectReference fLoop;
+	private List<Field> fFields;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		fVM = Debuggee.launch("MethodExitLoop");
+		fThread = Debuggee.runToLine(fVM, "MethodExitLoop", LOOP_LINE);
+		StackFrame frame = fThread.frame(0);
+		fType = (ClassType) frame.location().declaringType();
+		fLoop = (ObjectReference) frame.getValue(frame.visibleVariableByName("loop"));
+		fFields = fLoop.referenceType().allFields();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Debuggee.terminate(fVM);
+	}
+
+	/**
+	 * Listing all loaded types, e.g. to look for the types of breakpoints.
+	 */
+	@Benchmark
+	public List<ReferenceType> allClasses() {
+		return fVM.allClasses();
+	}
+
+	/**
+	 * Looking up a type by name, e.g. to install a breakpoint.
+	 */
+	@Benchmark
+	public List<ReferenceType> classesByName() {
+		return fVM.classesByName("MethodExitLoop");
+	}
+
+	/**
+	 * Fetching the stack of a suspended thread.
+	 */
+	@Benchmark
+	public List<StackFrame> frames() throws Exception {
+		return fThread.frames();
+	}
+
+	/**
+	 * Fetching the values of the fields of an object.
+	 */
+	@Benchmark
+	public Map<Field, Value> fieldValues() {
+		return fLoop.getValues(fFields);
+	}
+
+	/**
+	 * Stepping over a line. The stepping thread keeps looping in
+	 * <code>main</code>.
+	 */
+	@Benchmark
+	public StepEvent step() throws Exception {
+		StepRequest request = fVM.eventRequestManager().createStepRequest(fThread, StepRequest.STEP_LINE, StepRequest.STEP_OVER);
+		request.addCountFilter(1);
+		request.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+		request.enable();
+		fThread.resume();
+		StepEvent event = Debuggee.waitFor(fVM, StepEvent.class);
+		fVM.eventRequestManager().deleteEventRequest(request);
+		return event;
+	}
+
+	/**
+	 * Installing and removing a breakpoint in a loaded type.
+	 */
+	@Benchmark
+	public BreakpointRequest installBreakpoint() throws Exception {
+		BreakpointRequest request = Debuggee.createBreakpoint(fType, ADD_LINE);
+		fVM.eventRequestManager().deleteEventRequest(request);
+		return request;
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+import org.openjdk.jmh.runner.Defaults;
+
+import com.sun.jdi.VirtualMachine;
+
+/**
+ * Reports the JDWP round trips performed by the VMs of the benchmarks, in
+ * total and per operation, so that a change adding round trips to an operation
+ * shows even when the debuggee runs on the same machine.
+ * <p>
+ * Enabled with <code>-prof org.eclipse.debug.jdi.benchmarks.JdwpProfiler</code>.
+ * The benchmarks register the VMs they connect to with {@link #watch} and
+ * {@link #unwatch}.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public class JdwpProfiler implements InternalProfiler {
+
+	private static final List<VirtualMachineImpl> fgVMs = new ArrayList<>();
+
+	/**
+	 * Round trips performed by the VMs which are no longer watched
+	 */
+	private static long fgUnwatchedRoundTrips;
+
+	private long fStart;
+
+	/**
+	 * Starts counting the round trips of the given VM.
+	 */
+	static synchronized void watch(VirtualMachine vm) {
+		fgVMs.add((VirtualMachineImpl) vm);
+	}
+
+	/**
+	 * Stops counting the round trips of the given VM, keeping those it
+	 * performed so far. Called before the VM is disposed.
+	 */
+	static synchronized void unwatch(VirtualMachine vm) {
+		if (fgVMs.remove(vm)) {
+			fgUnwatchedRoundTrips += ((VirtualMachineImpl) vm).roundTripCount();
+		}
+	}
+
+	/**
+	 * @return the round trips performed by all VMs watched so far
+	 */
+	static synchronized long roundTripCount() {
+		long count = fgUnwatchedRoundTrips;
+		for (VirtualMachineImpl vm : fgVMs) {
+			count += vm.roundTripCount();
+		}
+		return count;
+	}
+
+	@Override
+	public String getDescription() {
+		return "JDWP round trips";
+	}
+
+	@Override
+	public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+		fStart = roundTripCount();
+	}
+
+	@Override
+	public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+		long roundTrips = roundTripCount() - fStart;
+		long operations = result.getMetadata().getAllOps();
+		List<Result> results = new ArrayList<>(2);
+		results.add(new ScalarResult(Defaults.PREFIX + "jdwp.roundTrips", roundTrips, "trips", AggregationPolicy.SUM));
+		if (operations > 0) {
+			results.add(new ScalarResult(Defaults.PREFIX + "jdwp.roundTrips.norm", (double) roundTrips / operations, "trips/op", AggregationPolicy.AVG));
+		}
+		return results;
+	}
+}
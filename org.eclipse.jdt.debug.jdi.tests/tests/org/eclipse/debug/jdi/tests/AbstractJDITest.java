@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@ package org.eclipse.debug.jdi.tests;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.ServerSocket;
+import java.net.Socket;
 import java.net.URISyntaxException;
 import java.util.Iterator;
 import java.util.List;
@@ -28,6 +30,9 @@ import java.util.Vector;
 import org.eclipse.debug.jdi.tests.program.MainClass;
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.spy.JdwpRecording;
+import org.eclipse.jdi.internal.spy.JdwpStatistics;
+import org.eclipse.jdi.internal.spy.TcpipSpy;
 
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ArrayReference;
@@ -90,6 +95,8 @@ public abstract class AbstractJDITest extends TestCase {
 	protected Process fLaunchedVM;
 	protected static int fVMTraceFlags = com.sun.jdi.VirtualMachine.TRACE_NONE;
 	protected EventReader fEventReader;
+	// Statistics of the traffic, when attached through a spy
+	protected JdwpStatistics fSpyStatistics;
 	protected AbstractReader fConsoleReader;
 	protected AbstractReader fConsoleErrorReader;
 	protected AbstractReader fProxyReader;
@@ -972,6 +979,78 @@ public abstract class AbstractJDITest extends TestCase {
 		System.out.println("Connected to localhost" + ":" + fBackEndPort + " after " + (n1 - n0) / 1_000_000L + "ms");
 		startEventReader();
 	}
+
+	/**
+	 * Disconnects from the target vm and attaches to it again through a spy
+	 * which simulates a slow network, see
+	 * {@link TcpipSpy#spy(Socket, Socket, long, long, OutputStream, JdwpRecording)}.
+	 * The statistics of the traffic are available in {@link #fSpyStatistics}.
+	 *
+	 * @param latency
+	 *            latency in milliseconds by which each packet is delayed
+	 * @param bandwidth
+	 *            bandwidth in bytes per second, 0 for unlimited
+	 * @return the time spent attaching, in milliseconds
+	 */
+	protected long connectThroughSpy(long latency, long bandwidth) throws Exception {
+		return connectThroughSpy(latency, bandwidth, null);
+	}
+
+	/**
+	 * Disconnects from the target vm and attaches to it again through a spy
+	 * which simulates a slow network and records the traffic.
+	 *
+	 * @param latency
+	 *            latency in milliseconds by which each packet is delayed
+	 * @param bandwidth
+	 *            bandwidth in bytes per second, 0 for unlimited
+	 * @param recording
+	 *            the recording to write the traffic to or <code>null</code>
+	 * @return the time spent attaching, in milliseconds
+	 */
+	protected long connectThroughSpy(long latency, long bandwidth, JdwpRecording recording) throws Exception {
+		stopEventReader();
+		fVM.dispose();
+		fSpyStatistics = null;
+		try (ServerSocket spySocket = new ServerSocket(0)) {
+			Thread spy = new Thread(() -> {
+				try {
+					Socket debuggerSocket = spySocket.accept();
+					// the VM listens again shortly after the previous connection is disposed
+					long n0 = System.nanoTime();
+					Socket vmSocket = null;
+					while (vmSocket == null) {
+						try {
+							vmSocket = new Socket("localhost", fBackEndPort);
+						} catch (IOException e) {
+							if (System.nanoTime() - n0 > 5_000_000_000L) {
+								debuggerSocket.close();
+								throw e;
+							}
+							Thread.sleep(10);
+						}
+					}
+					TcpipSpy[] spies = TcpipSpy.spy(debuggerSocket, vmSocket, latency, bandwidth, OutputStream.nullOutputStream(), recording);
+					fSpyStatistics = spies[0].getStatistics();
+				} catch (IOException | InterruptedException e) {
+					e.printStackTrace();
+				}
+			}, "JDI Tests Spy");
+			spy.start();
+
+			AttachingConnector connector = Bootstrap.virtualMachineManager().attachingConnectors().get(0);
+			Map<String, Argument> args = connector.defaultArguments();
+			args.get("port").setValue(String.valueOf(spySocket.getLocalPort()));
+			args.get("hostname").setValue("localhost");
+			long start = System.nanoTime();
+			fVM = connector.attach(args);
+			long attachTime = (System.nanoTime() - start) / 1_000_000L;
+			spy.join();
+			startEventReader();
+			fEventReader.start();
+			return attachTime;
+		}
+	}
 	/**
 	 * Initializes the fields that are used by this test only.
 	 */
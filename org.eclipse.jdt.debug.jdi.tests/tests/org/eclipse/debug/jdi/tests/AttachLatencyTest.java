@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.util.List;
+
+import org.eclipse.jdi.internal.ThreadReferenceImpl;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+
+import com.sun.jdi.ThreadGroupReference;
+import com.sun.jdi.ThreadReference;
+
+/**
+ * Counts the round trips to a VM attached through a proxy which delays every
+ * JDWP packet, simulating a remote VM on a high latency network.
+ */
+@SuppressWarnings("restriction")
+public class AttachLatencyTest extends AbstractJDITest {
+
+	/**
+	 * Latency added to each packet in each direction, in milliseconds
+	 */
+	private static final long LATENCY = 25;
+
+	/**
+	 * Creates a new test.
+	 */
+	public AttachLatencyTest() {
+		super();
+	}
+
+	public AttachLatencyTest(String name) {
+		super(name);
+	}
+
+	/**
+	 * Init the fields that are used by this test only.
+	 */
+	@Override
+	public void localSetUp() {
+	}
+
+	/**
+	 * Run all tests and output to standard output.
+	 */
+	public static void main(java.lang.String[] args) {
+		new AttachLatencyTest().runSuite(args);
+	}
+
+	/**
+	 * Test that the VM information is known once attached, so that querying it
+	 * does not cost a round trip per query.
+	 */
+	public void testHandshake() throws Exception {
+		long attachTime = connectThroughSpy(LATENCY, 0);
+
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		long roundTrips = vm.roundTripCount();
+		assertNotNull("1", fVM.name());
+		assertNotNull("2", fVM.version());
+		fVM.canRedefineClasses();
+		fVM.canGetBytecodes();
+		fVM.canUseInstanceFilters();
+		fVM.canGetConstantPool();
+		vm.canReloadClasses();
+
+		System.out.println("Attached with " + LATENCY + "ms latency after " + attachTime + "ms");
+		assertEquals("3", roundTrips, vm.roundTripCount());
+	}
+
+	/**
+	 * Test that the information about all threads is fetched in bulk, including
+	 * their status once.
+	 */
+	public void testPrefetchThreadInfo() throws Exception {
+		connectThroughSpy(LATENCY, 0);
+
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		List<ThreadReference> threads = fVM.allThreads();
+		long roundTrips = vm.roundTripCount();
+		vm.prefetchThreadInfo(threads);
+		long prefetchRoundTrips = vm.roundTripCount() - roundTrips;
+
+		roundTrips = vm.roundTripCount();
+		for (ThreadReference thread : threads) {
+			assertNotNull("1", thread.referenceType());
+			thread.status();
+			thread.isSuspended();
+			((ThreadReferenceImpl) thread).isDaemon();
+			ThreadGroupReference group = thread.threadGroup();
+			while (group != null) {
+				assertNotNull("2", group.name());
+				group = group.parent();
+			}
+		}
+		long queryRoundTrips = vm.roundTripCount() - roundTrips;
+
+		System.out.println("Fetched information of " + threads.size() + " threads in " + prefetchRoundTrips + " round trips, queried in " + queryRoundTrips + " round trips");
+		assertEquals("3", 0, queryRoundTrips);
+
+		ThreadGroupReference group = getThread().threadGroup();
+		assertEquals("4", "Test ThreadGroup", group.name());
+		assertEquals("5", "main", group.parent().name());
+	}
+}
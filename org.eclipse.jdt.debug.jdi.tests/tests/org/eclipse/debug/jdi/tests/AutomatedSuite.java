@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2022 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ public class AutomatedSuite extends TestSuite {
 		addTest(new TestSuite(AccessibleTest.class));
 		addTest(new TestSuite(ArrayReferenceTest.class));
 		addTest(new TestSuite(ArrayTypeTest.class));
+		addTest(new TestSuite(AttachLatencyTest.class));
 		addTest(new TestSuite(BooleanValueTest.class));
 		addTest(new TestSuite(BreakpointRequestTest.class));
 		addTest(new TestSuite(ByteValueTest.class));
@@ -54,6 +55,7 @@ public class AutomatedSuite extends TestSuite {
 		addTest(new TestSuite(HotCodeReplacementTest.class));
 		addTest(new TestSuite(IntegerValueTest.class));
 		addTest(new TestSuite(InterfaceTypeTest.class));
+		addTest(new TestSuite(JdwpReplayTest.class));
 		addTest(new TestSuite(LocalVariableTest.class));
 		addTest(new TestSuite(LocatableTest.class));
 		addTest(new TestSuite(LocationTest.class));
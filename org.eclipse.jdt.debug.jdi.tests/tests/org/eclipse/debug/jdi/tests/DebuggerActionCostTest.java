@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.spy.JdwpStatistics;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+import com.sun.jdi.ClassType;
+import com.sun.jdi.Field;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.Location;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.StackFrame;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.Value;
+import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.EventRequest;
+import com.sun.jdi.request.StepRequest;
+
+/**
+ * Measures how much time typical debugger actions cost when the VM is reached
+ * through a slow network, simulated by a spy which delays every packet.
+ */
+@SuppressWarnings("restriction")
+public class DebuggerActionCostTest extends AbstractJDITest {
+
+	/**
+	 * Latency added to each packet in each direction, in milliseconds
+	 */
+	private static final long LATENCY = 10;
+
+	/**
+	 * Bandwidth in each direction, in bytes per second
+	 */
+	private static final long BANDWIDTH = 1_000_000;
+
+	/**
+	 * A debugger action to measure
+	 */
+	private interface Action {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Creates a new test.
+	 */
+	public DebuggerActionCostTest() {
+		super();
+	}
+
+	public DebuggerActionCostTest(String name) {
+		super(name);
+	}
+
+	/**
+	 * Init the fields that are used by this test only.
+	 */
+	@Override
+	public void localSetUp() {
+	}
+
+	/**
+	 * Make sure the test leaves the VM in the same state it found it.
+	 */
+	@Override
+	public void localTearDown() {
+		waitUntilReady();
+	}
+
+	/**
+	 * Run all tests and output to standard output.
+	 */
+	public static void main(java.lang.String[] args) {
+		new DebuggerActionCostTest().runSuite(args);
+	}
+
+	/**
+	 * Suspending the VM and showing the stack of the suspended thread.
+	 */
+	public void testSuspend() throws Exception {
+		connectThroughSpy(LATENCY, BANDWIDTH);
+		waitUntilReady();
+		fVM.resume();
+
+		measure("Suspend", () -> {
+			fVM.suspend();
+			for (ThreadReference thread : fVM.allThreads()) {
+				thread.name();
+				thread.status();
+				thread.isSuspended();
+			}
+			getThread().frames();
+		});
+	}
+
+	/**
+	 * Stepping over a line and showing the stack of the stepping thread.
+	 */
+	public void testStep() throws Exception {
+		connectThroughSpy(LATENCY, BANDWIDTH);
+		waitUntilReady();
+		ThreadReference thread = getThread();
+
+		measure("Step", () -> {
+			StepRequest request = fVM.eventRequestManager().createStepRequest(thread, StepRequest.STEP_LINE, StepRequest.STEP_OVER);
+			request.addCountFilter(1);
+			request.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+			request.enable();
+			EventWaiter waiter = new EventWaiter(request, false);
+			fEventReader.addEventListener(waiter);
+			thread.resume();
+			assertNotNull("1", waitForEvent(waiter, TIMEOUT));
+			fEventReader.removeEventListener(waiter);
+			fVM.eventRequestManager().deleteEventRequest(request);
+			thread.frames();
+		});
+	}
+
+	/**
+	 * Showing the variables of a frame and expanding an object.
+	 */
+	public void testExpandVariable() throws Exception {
+		connectThroughSpy(LATENCY, BANDWIDTH);
+		waitUntilReady();
+		StackFrame frame = getFrame(RUN_FRAME_OFFSET);
+
+		measure("Expand variable", () -> {
+			List<LocalVariable> variables = frame.visibleVariables();
+			Map<LocalVariable, Value> values = frame.getValues(variables);
+			ObjectReference object = (ObjectReference) values.get(frame.visibleVariableByName("o"));
+			List<Field> fields = object.referenceType().allFields();
+			Map<Field, Value> fieldValues = object.getValues(fields);
+			assertEquals("1", fields.size(), fieldValues.size());
+		});
+	}
+
+	/**
+	 * Installing a breakpoint in a loaded type.
+	 */
+	public void testInstallBreakpoint() throws Exception {
+		connectThroughSpy(LATENCY, BANDWIDTH);
+		waitUntilReady();
+		List<BreakpointRequest> requests = new ArrayList<>();
+
+		measure("Install breakpoint", () -> {
+			ClassType type = getMainClass();
+			Location location = type.methodsByName("triggerBreakpointEvent").get(0).location();
+			BreakpointRequest request = fVM.eventRequestManager().createBreakpointRequest(location);
+			request.enable();
+			requests.add(request);
+		});
+		fVM.eventRequestManager().deleteEventRequests(requests);
+	}
+
+	/**
+	 * Measures the time the given action takes with the performance framework
+	 * and checks the consistency of the statistics of the spied traffic.
+	 */
+	private void measure(String name, Action action) throws Exception {
+		JdwpStatistics statistics = fSpyStatistics;
+		Performance performance = Performance.getDefault();
+		PerformanceMeter meter = performance.createPerformanceMeter(performance.getDefaultScenarioId(this));
+		try {
+			statistics.reset();
+			meter.start();
+			action.run();
+			meter.stop();
+			assertTrue(name, statistics.getCommandCount() > 0);
+			assertTrue(name, statistics.getRoundTripCount() <= statistics.getCommandCount());
+			meter.commit();
+			performance.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+}
@@ -17,6 +17,9 @@ package org.eclipse.debug.jdi.tests;
 import java.util.List;
 import java.util.ListIterator;
 
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
+
 import com.sun.jdi.Field;
 import com.sun.jdi.Location;
 import com.sun.jdi.request.AccessWatchpointRequest;
@@ -33,6 +36,7 @@ import com.sun.jdi.request.ThreadStartRequest;
 /**
  * Tests for JDI com.sun.jdi.request.EventRequestManager.
  */
+@SuppressWarnings("restriction")
 public class EventRequestManagerTest extends AbstractJDITest {
 
 	private EventRequestManager fManager;
@@ -259,4 +263,36 @@ public class EventRequestManagerTest extends AbstractJDITest {
 		fManager.deleteEventRequest(request);
 		assertEquals("2", 0, fManager.classUnloadRequests().size());
 	}
+	/**
+	 * Test that deleting event requests and enabling others at once costs a
+	 * single round trip.
+	 */
+	public void testReplaceEventRequests() {
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		EventRequestManagerImpl manager = (EventRequestManagerImpl) fManager;
+		ThreadStartRequest start = fManager.createThreadStartRequest();
+		ThreadDeathRequest death = fManager.createThreadDeathRequest();
+		start.enable();
+		death.enable();
+		ExceptionRequest exception = fManager.createExceptionRequest(null, true, false);
+		ClassPrepareRequest prepare = fManager.createClassPrepareRequest();
+
+		long roundTrips = vm.roundTripCount();
+		manager.replaceEventRequests(List.of(start, death), List.of(exception, prepare));
+		assertEquals("1", roundTrips + 1, vm.roundTripCount());
+		assertFalse("2", fManager.threadStartRequests().contains(start));
+		assertFalse("3", fManager.threadDeathRequests().contains(death));
+		assertTrue("4", exception.isEnabled());
+		assertTrue("5", prepare.isEnabled());
+
+		// requests which are already enabled are ignored
+		roundTrips = vm.roundTripCount();
+		manager.replaceEventRequests(List.of(), List.of(exception, prepare));
+		assertEquals("6", roundTrips, vm.roundTripCount());
+
+		fManager.deleteEventRequests(List.of(exception, prepare));
+		assertEquals("7", roundTrips + 1, vm.roundTripCount());
+		assertFalse("8", fManager.exceptionRequests().contains(exception));
+		assertFalse("9", fManager.classPrepareRequests().contains(prepare));
+	}
 }
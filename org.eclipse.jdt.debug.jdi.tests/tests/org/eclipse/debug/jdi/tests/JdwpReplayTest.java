@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdi.Bootstrap;
+import org.eclipse.jdi.internal.spy.JdwpRecording;
+import org.eclipse.jdi.internal.spy.JdwpReplay;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.connect.AttachingConnector;
+import com.sun.jdi.connect.Connector.Argument;
+
+/**
+ * Tests replaying a session recorded by the JDWP spy without the VM.
+ */
+@SuppressWarnings("restriction")
+public class JdwpReplayTest extends AbstractJDITest {
+
+	/**
+	 * Creates a new test.
+	 */
+	public JdwpReplayTest() {
+		super();
+	}
+
+	public JdwpReplayTest(String name) {
+		super(name);
+	}
+
+	/**
+	 * Init the fields that are used by this test only.
+	 */
+	@Override
+	public void localSetUp() {
+	}
+
+	/**
+	 * Run all tests and output to standard output.
+	 */
+	public static void main(java.lang.String[] args) {
+		new JdwpReplayTest().runSuite(args);
+	}
+
+	/**
+	 * Test that a recorded session can be replayed without the VM.
+	 */
+	public void testReplay() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		JdwpRecording recording = new JdwpRecording(bytes);
+		List<String> recorded;
+		try {
+			connectThroughSpy(0, 0, recording);
+			recorded = describe(fVM);
+		} finally {
+			recording.close();
+		}
+
+		JdwpReplay replay = new JdwpReplay(JdwpRecording.read(new ByteArrayInputStream(bytes.toByteArray())));
+		Exception[] failure = new Exception[1];
+		try (ServerSocket replaySocket = new ServerSocket(0)) {
+			Thread replayer = new Thread(() -> {
+				try (Socket socket = replaySocket.accept()) {
+					replay.replay(socket);
+				} catch (Exception e) {
+					failure[0] = e;
+				}
+			}, "JDI Tests Replay");
+			replayer.start();
+
+			AttachingConnector connector = Bootstrap.virtualMachineManager().attachingConnectors().get(0);
+			Map<String, Argument> args = connector.defaultArguments();
+			args.get("port").setValue(String.valueOf(replaySocket.getLocalPort()));
+			args.get("hostname").setValue("localhost");
+			VirtualMachine replayed = connector.attach(args);
+			try {
+				assertEquals("1", recorded, describe(replayed));
+			} finally {
+				replayed.dispose();
+			}
+			replayer.join();
+		}
+		if (failure[0] != null) {
+			throw failure[0];
+		}
+	}
+
+	/**
+	 * Returns a description of the given VM: its name, the names of its
+	 * threads and the fields of the main class.
+	 */
+	private List<String> describe(VirtualMachine vm) {
+		List<String> description = new ArrayList<>();
+		description.add(vm.name());
+		for (ThreadReference thread : vm.allThreads()) {
+			description.add(thread.name());
+		}
+		for (Field field : vm.classesByName(getMainClassName()).get(0).fields()) {
+			description.add(field.name());
+		}
+		return description;
+	}
+}
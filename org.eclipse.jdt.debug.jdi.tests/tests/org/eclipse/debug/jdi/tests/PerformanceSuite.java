@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import junit.framework.TestSuite;
+
+/**
+ * Performance tests of the JDI implementation.
+ */
+public class PerformanceSuite extends TestSuite {
+
+	/**
+	 * returns an instance of PerformanceSuite
+	 * @return a new test suite
+	 */
+	public static TestSuite suite() {
+		return new PerformanceSuite();
+	}
+
+	/**
+	 * runs the performance tests
+	 */
+	public PerformanceSuite() {
+		AbstractJDITest.parseArgs(new String[] {});
+
+		addTest(new TestSuite(DebuggerActionCostTest.class));
+	}
+}
@@ -22,8 +22,16 @@ import static org.junit.Assert.assertNotEquals;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.debug.tests.TestUtil;
+import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceConsole;
+import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceFormatter;
+import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceTypeCache;
+import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.Position;
 import org.eclipse.swt.custom.ST;
@@ -35,6 +43,8 @@ import org.eclipse.ui.console.TextConsoleViewer;
  */
 public class JavaStackTraceConsoleTest extends AbstractJavaStackTraceConsoleTest {
 
+	private boolean fFoldingChanged;
+
 	public JavaStackTraceConsoleTest(String name) {
 		super(name);
 	}
@@ -405,6 +415,91 @@ public class JavaStackTraceConsoleTest extends AbstractJavaStackTraceConsoleTest
 		checkIndentationConsistency(doc, 3);
 	}
 
+	/** Test that formatting keeps repeated frames unless folding is enabled. */
+	public void testFormatNoFoldByDefault() throws Exception {
+		IDocument doc = consoleDocumentFormatted("java.lang.StackOverflowError\n" + "\tat Foo.recurse(Foo.java:3)\n"
+				+ "\tat Foo.recurse(Foo.java:3)\n" + "\tat Foo.main(Foo.java:7)");
+		assertEquals("at Foo.recurse(Foo.java:3)", getLine(doc, 1).trim());
+		assertEquals("at Foo.recurse(Foo.java:3)", getLine(doc, 2).trim());
+		assertEquals("at Foo.main(Foo.java:7)", getLine(doc, 3).trim());
+		assertEquals(4, doc.getNumberOfLines());
+	}
+
+	/** Test folding of repeated frames, e.g. of a recursion. */
+	public void testFormatFoldRepeatedFrames() throws Exception {
+		setFolding(true);
+		IDocument doc = consoleDocumentFormatted("java.lang.StackOverflowError\n" + "\tat Foo.recurse(Foo.java:3)\n"
+				+ "\tat Foo.recurse(Foo.java:3)\n" + "\tat Foo.recurse(Foo.java:3)\n" + "\tat Foo.recurse(Foo.java:3)\n"
+				+ "\tat Foo.main(Foo.java:7)");
+		assertEquals("java.lang.StackOverflowError", getLine(doc, 0));
+		assertEquals("at Foo.recurse(Foo.java:3)", getLine(doc, 1).trim());
+		assertEquals("... 3 identical frames omitted", getLine(doc, 2).trim());
+		assertEquals("at Foo.main(Foo.java:7)", getLine(doc, 3).trim());
+		assertEquals(4, doc.getNumberOfLines());
+		checkIndentationConsistency(doc, 0);
+	}
+
+	/** Test folding of thread stacks identical to the stack of a previous thread. */
+	public void testFormatFoldThreadStacks() throws Exception {
+		setFolding(true);
+		IDocument doc = consoleDocumentFormatted("\"Worker-1\" prio=5\n" + "\tat java.lang.Object.wait(Native Method)\n"
+				+ "\tat Worker.run(Worker.java:12)\n\n" + "\"Worker-2\" prio=5\n" + "\tat java.lang.Object.wait(Native Method)\n"
+				+ "\tat Worker.run(Worker.java:12)\n\n" + "\"main\" prio=5\n" + "\tat Main.main(Main.java:4)");
+		assertEquals("\"Worker-1\" prio=5", getLine(doc, 2));
+		assertEquals("at java.lang.Object.wait(Native Method)", getLine(doc, 3).trim());
+		assertEquals("at Worker.run(Worker.java:12)", getLine(doc, 4).trim());
+		assertEquals("\"Worker-2\" prio=5", getLine(doc, 6));
+		assertEquals("... same stack as \"Worker-1\"", getLine(doc, 7).trim());
+		assertEquals("\"main\" prio=5", getLine(doc, 9));
+		assertEquals("at Main.main(Main.java:4)", getLine(doc, 10).trim());
+	}
+
+	/** Test formatting a dump larger than the chunks applied to the document at once. */
+	public void testFormatLargeDump() throws Exception {
+		StringBuilder dump = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			dump.append("\"Worker-").append(i).append("\" prio=5\n");
+			dump.append("  at Worker.process(Worker.java:").append(i).append(")\n at Worker.run(Worker.java:3)\n\n");
+		}
+		String expected = JavaStackTraceFormatter.format(dump.toString(), false);
+		IDocument doc = consoleDocumentFormatted(dump.toString());
+		for (int i = 0; i < 50 && !expected.equals(doc.get()); i++) {
+			TestUtil.waitForJobs(getName(), 100, 1000);
+		}
+		assertEquals(expected, doc.get());
+	}
+
+	/**
+	 * Enables or disables folding until the end of the test.
+	 */
+	private void setFolding(boolean fold) {
+		IPreferenceStore store = JDIDebugUIPlugin.getDefault().getPreferenceStore();
+		store.setValue(IJDIPreferencesConstants.PREF_FOLD_JSTCONSOLE, fold);
+		fFoldingChanged = true;
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (fFoldingChanged) {
+			JDIDebugUIPlugin.getDefault().getPreferenceStore().setToDefault(IJDIPreferencesConstants.PREF_FOLD_JSTCONSOLE);
+		}
+		super.tearDown();
+	}
+
+	public void testTypesPrefetched() throws Exception {
+		consoleDocumentWithText("java.lang.IllegalStateException\n" //
+				+ "\tat java.lang.String.valueOf(String.java:1)\n" //
+				+ "\tat java.base/java.lang.Thread.run(Thread.java:2)");
+		JavaStackTraceTypeCache cache = JavaStackTraceTypeCache.getCache(fConsole);
+		for (int i = 0; i < 50 && cache.getCachedTypes("java.lang.Thread") == null; i++) {
+			TestUtil.waitForJobs(getName(), 100, 1000);
+		}
+		List<IType> types = cache.getCachedTypes("java.lang.String");
+		assertNotNull("Types of first frame not searched", types);
+		assertNotNull("Types of second frame not searched", cache.getCachedTypes("java.lang.Thread"));
+		assertSame("Types searched again", types, cache.getTypes("java.lang.String"));
+	}
+
 	public void testHyperlinkMatchWithModule() throws Exception {
 		consoleDocumentWithText("at java.nio.charset.Charset.checkName(java.base/Charset.java:296)");
 
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.console;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceLineScanner;
+
+/**
+ * Tests that {@link JavaStackTraceLineScanner} finds the same hyperlinks as the
+ * regular expressions of the Java stack trace console.
+ */
+public class JavaStackTraceLineScannerTest extends AbstractDebugTest {
+
+	private final JavaStackTraceLineScanner fScanner = new JavaStackTraceLineScanner(new String[] { "java", "groovy" });
+
+	public JavaStackTraceLineScannerTest(String name) {
+		super(name);
+	}
+
+	public void testStackFrame() {
+		assertMatches("\tat p.Type.method(Type.java:12)", "frame:Type.java:12");
+		assertMatches("\tat p.Type.method(Type.groovy:12)", "frame:Type.groovy:12");
+		assertMatches("\tat p.Type.method(Type.java)", new String[0]);
+		assertMatches("\tat p.Type.method(Type.txt:12)", new String[0]);
+		assertMatches("\tat app//p.Type$1.run(Type.java:12) ~[app.jar:1.0]", "frame:Type.java:12");
+	}
+
+	public void testStackFrameWithAnsiEscapes() {
+		assertMatches("\tat p.Type.method(\033[1mType.java:12\033[0m)", "frame:Type.java:12");
+		assertMatches("\tat p.Type.method(\033[1mType\033[0m.java:12)", new String[0]);
+		assertMatches("\tat p.Type.method(Type.java:\033[1m12\033[0m)", "frame:Type.java:\033[1m12\033[0m");
+	}
+
+	public void testNativeMethod() {
+		assertMatches("\tat java.lang.Thread.sleep(Native Method)", "native:Native Method");
+		assertMatches("\tat java.lang.Thread.sleep(\033[1mNative Method\033[0m)", "native:\033[1mNative Method\033[0m");
+	}
+
+	public void testException() {
+		assertMatches("Exception in thread \"main\" java.lang.NullPointerException: message", "exception:java.lang.NullPointerException");
+		assertMatches("Caused by: p.CustomException", "exception:p.CustomException");
+		assertMatches("p.FirstException: p.SecondException|p.ThirdException", "exception:p.FirstException", "exception:p.SecondException|p.ThirdException");
+		assertMatches("p.ExceptionHandler.handle(ExceptionHandler.java:3)", "frame:ExceptionHandler.java:3");
+		assertMatches("Exception", new String[0]);
+	}
+
+	private void assertMatches(String line, String... expected) {
+		List<String> matches = new ArrayList<>();
+		String[] kinds = new String[] { "frame", "native", "exception" };
+		fScanner.scan(line, 0, line.length(), (kind, offset, length) -> matches.add(kinds[kind] + ":" + line.substring(offset, offset + length)));
+		assertEquals("Wrong matches in " + line, List.of(expected), matches);
+	}
+}
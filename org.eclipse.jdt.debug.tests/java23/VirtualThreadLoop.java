@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class VirtualThreadLoop {
+	public static void main(String[] args) throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(20000);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 20000; i++) {
+				executor.submit(() -> {
+					started.countDown();
+					done.await();
+					return null;
+				});
+			}
+			started.await();
+			Thread.startVirtualThread(() -> {
+				int p = 20000;
+				System.out.println("Started " + p);
+			}).join();
+			done.countDown();
+		}
+	}
+}
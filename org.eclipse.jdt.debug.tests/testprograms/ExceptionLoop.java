@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class ExceptionLoop {
+
+	public static void main(String[] args) {
+		int caught = 0;
+		for (int i = 0; i < 20000; i++) {
+			try {
+				fail(i);
+			} catch (IllegalStateException e) {
+				caught++;
+			}
+		}
+		System.out.println(caught);
+	}
+
+	private static void fail(int i) {
+		throw new IllegalStateException(Integer.toString(i));
+	}
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class LiveThreads {
+
+	private static final Object LOCK = new Object();
+	private static boolean done;
+
+	public static void main(String[] args) throws Exception {
+		int count = 2000;
+		Thread[] threads = new Thread[count];
+		Runnable await = new Runnable() {
+			public void run() {
+				await();
+			}
+		};
+		for (int i = 0; i < count; i++) {
+			threads[i] = new Thread(await, "live-" + i);
+			threads[i].setDaemon(i % 2 == 0);
+			threads[i].start();
+		}
+		synchronized (LOCK) {
+			done = true;
+			LOCK.notifyAll();
+		}
+		for (int i = 0; i < count; i++) {
+			threads[i].join();
+		}
+	}
+
+	private static void await() {
+		synchronized (LOCK) {
+			while (!done) {
+				try {
+					LOCK.wait();
+				} catch (InterruptedException e) {
+					return;
+				}
+			}
+		}
+	}
+}
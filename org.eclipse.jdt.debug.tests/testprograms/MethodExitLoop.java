@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class MethodExitLoop {
+
+	private long sum = 0;
+
+	public static void main(String[] args) {
+		MethodExitLoop loop = new MethodExitLoop();
+		for (int i = 0; i < 1000000; i++) {
+			loop.add(i);
+		}
+		loop.done();
+	}
+
+	private void add(int i) {
+		sum += i;
+	}
+
+	private void done() {
+		System.out.println(sum);
+	}
+}
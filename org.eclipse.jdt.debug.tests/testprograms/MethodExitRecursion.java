@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class MethodExitRecursion {
+
+	public static void main(String[] args) {
+		MethodExitRecursion recursion = new MethodExitRecursion();
+		recursion.countDown(3);
+		try {
+			recursion.check(-1);
+		} catch (IllegalArgumentException e) {
+		}
+		recursion.check(1);
+		recursion.spin(3);
+	}
+
+	private int countDown(int n) {
+		if (n == 0) {
+			return 0;
+		}
+		return countDown(n - 1) + 1;
+	}
+
+	private int check(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException();
+		}
+		return n;
+	}
+
+	private int spin(int n) {
+		do {
+			n--;
+		} while (n > 0);
+		return n;
+	}
+}
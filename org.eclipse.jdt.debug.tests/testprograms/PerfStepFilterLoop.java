@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+/**
+ * A loop calling a simple getter and setter
+ */
+public class PerfStepFilterLoop {
+
+	private int fValue;
+
+	public int getValue() {
+		return fValue;
+	}
+
+	public void setValue(int value) {
+		fValue = value;
+	}
+
+	public static void main(String[] args) {
+		PerfStepFilterLoop loop = new PerfStepFilterLoop();
+		for (int i = 0; i < 100000; i++) {
+			loop.setValue(loop.getValue() + i);
+		}
+	}
+}
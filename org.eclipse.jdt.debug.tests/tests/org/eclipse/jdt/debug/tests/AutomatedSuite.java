@@ -61,6 +61,7 @@ import org.eclipse.jdt.debug.tests.console.IOConsoleTests;
 import org.eclipse.jdt.debug.tests.console.JavaDebugStackTraceConsoleTest;
 import org.eclipse.jdt.debug.tests.console.JavaStackTraceAmbiguityTest;
 import org.eclipse.jdt.debug.tests.console.JavaStackTraceConsoleTest;
+import org.eclipse.jdt.debug.tests.console.JavaStackTraceLineScannerTest;
 import org.eclipse.jdt.debug.tests.core.AlternateStratumTests;
 import org.eclipse.jdt.debug.tests.core.ArgumentTests;
 import org.eclipse.jdt.debug.tests.core.ArgumentTestsWithArgfile;
@@ -72,6 +73,7 @@ import org.eclipse.jdt.debug.tests.core.ClasspathVariableTests;
 import org.eclipse.jdt.debug.tests.core.ConsoleInputTests;
 import org.eclipse.jdt.debug.tests.core.ConsoleTests;
 import org.eclipse.jdt.debug.tests.core.DebugEventTests;
+import org.eclipse.jdt.debug.tests.core.DetectedVMsCacheTests;
 import org.eclipse.jdt.debug.tests.core.EEDefinitionTests;
 import org.eclipse.jdt.debug.tests.core.EnvironmentTests;
 import org.eclipse.jdt.debug.tests.core.EventDispatcherTest;
@@ -87,6 +89,7 @@ import org.eclipse.jdt.debug.tests.core.JavaLibraryPathTests;
 import org.eclipse.jdt.debug.tests.core.LineTrackerTests;
 import org.eclipse.jdt.debug.tests.core.LiteralTests17;
 import org.eclipse.jdt.debug.tests.core.LocalVariableTests;
+import org.eclipse.jdt.debug.tests.core.MirrorCacheTests;
 import org.eclipse.jdt.debug.tests.core.ModuleOptionsTests;
 import org.eclipse.jdt.debug.tests.core.MultiReleaseLaunchTests;
 import org.eclipse.jdt.debug.tests.core.ProcessTests;
@@ -273,6 +276,7 @@ public class AutomatedSuite extends DebugSuite {
 
 	//VM Install/Environment tests
 		addTest(new TestSuite(VMInstallTests.class));
+		addTest(new TestSuite(DetectedVMsCacheTests.class));
 		addTest(new TestSuite(StringSubstitutionTests.class));
 		addTest(new TestSuite(EnvironmentTests.class));
 		addTest(new TestSuite(ExecutionEnvironmentTests.class));
@@ -288,6 +292,7 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(IOConsoleTests.class));
 		addTest(new TestSuite(ConsoleTerminateAllActionTests.class));
 		addTest(new TestSuite(JavaStackTraceAmbiguityTest.class));
+		addTest(new TestSuite(JavaStackTraceLineScannerTest.class));
 
 	//Core tests
 		addTest(new TestSuite(DebugEventTests.class));
@@ -333,6 +338,7 @@ public class AutomatedSuite extends DebugSuite {
 	// JDWP tests
 		addTest(new TestSuite(JDWPTests.class));
 		addTest(new TestSuite(MultipleConnectionsTest.class));
+		addTest(new TestSuite(MirrorCacheTests.class));
 	// Refresh state tests
 		addTest(new TestSuite(RefreshStateTests.class));
 
@@ -21,8 +21,15 @@ import org.eclipse.jdt.debug.tests.performance.PerfBreakpointTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConditionalBreakpointsTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConsoleTests;
 import org.eclipse.jdt.debug.tests.performance.PerfContextualLaunchMenu;
+import org.eclipse.jdt.debug.tests.performance.PerfJdwpStringTableTests;
+import org.eclipse.jdt.debug.tests.performance.PerfLambdaEvaluationTests;
+import org.eclipse.jdt.debug.tests.performance.PerfMirrorCacheTests;
+import org.eclipse.jdt.debug.tests.performance.PerfStepFilterTests;
 import org.eclipse.jdt.debug.tests.performance.PerfSteppingTests;
+import org.eclipse.jdt.debug.tests.performance.PerfSuspendStormTests;
+import org.eclipse.jdt.debug.tests.performance.PerfThreadCreationTests;
 import org.eclipse.jdt.debug.tests.performance.PerfVariableDetailTests;
+import org.eclipse.jdt.debug.tests.performance.PerfVirtualThreadTests;
 
 /**
  * Tests for integration and nightly builds.
@@ -47,8 +54,15 @@ public class PerformanceSuite extends DebugSuite {
         addTest(new TestSuite(PerfBreakpointTests.class));
         addTest(new TestSuite(PerfConditionalBreakpointsTests.class));
         addTest(new TestSuite(PerfSteppingTests.class));
+        addTest(new TestSuite(PerfStepFilterTests.class));
         addTest(new TestSuite(PerfConsoleTests.class));
         addTest(new TestSuite(PerfVariableDetailTests.class));
         addTest(new TestSuite(BreakpointManagerPerfTests.class));
+        addTest(new TestSuite(PerfLambdaEvaluationTests.class));
+        addTest(new TestSuite(PerfMirrorCacheTests.class));
+        addTest(new TestSuite(PerfJdwpStringTableTests.class));
+        addTest(new TestSuite(PerfVirtualThreadTests.class));
+        addTest(new TestSuite(PerfThreadCreationTests.class));
+        addTest(new TestSuite(PerfSuspendStormTests.class));
     }
 }
@@ -76,6 +76,13 @@ public class BreakpointLocationVerificationTests extends AbstractDebugTest {
         } else {
             assertEquals("Wrong type name", expectedTypeName, typeName);
         }
+		// the second lookup is answered from the locations found in the compilation unit
+		for (int i = 0; i < 2; i++) {
+			ValidBreakpointLocationLocator cached = ValidBreakpointLocationLocator.locate(compilationUnit, lineToTry, true, bestmatch);
+			assertEquals("Wrong location type", locator.getLocationType(), cached.getLocationType());
+			assertEquals("Wrong line number", lineNumber, cached.getLineLocation());
+			assertEquals("Wrong type name", locator.getFullyQualifiedTypeName(), cached.getFullyQualifiedTypeName());
+		}
 	}
 
 	/**
@@ -369,4 +376,56 @@ public class BreakpointLocationVerificationTests extends AbstractDebugTest {
 	public void testMethodOnMethodSignatureNotAvailable() throws Exception {
 		testMethod(35, 4, "test2", "BreakpointsLocation", null);
 	}
+
+	/**
+	 * Tests that the locations of all the lines of a compilation unit are the ones
+	 * found by visiting the compilation unit for each line
+	 */
+	public void testLocateAllLines() throws Exception {
+		for (String typeName : new String[] { "BreakpointsLocation", "FinalBreakpointLocations", "LabelTest" }) {
+			CompilationUnit compilationUnit = parseCompilationUnit(get14Project().findType(typeName).getCompilationUnit());
+			for (boolean bestMatch : new boolean[] { false, true }) {
+				String[] expected = visitAllLines(compilationUnit, bestMatch);
+				for (int line = 1; line < expected.length; line++) {
+					assertEquals("Wrong location of line " + line + " in " + typeName, expected[line], describe(ValidBreakpointLocationLocator.locate(compilationUnit, line, true, bestMatch)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests that the location of a line is remembered, so that locating the line
+	 * again does not visit the compilation unit
+	 */
+	public void testLocateRemembersLine() throws Exception {
+		CompilationUnit compilationUnit = parseCompilationUnit(get14Project().findType("BreakpointsLocation").getCompilationUnit());
+		String[] expected = visitAllLines(compilationUnit, true);
+		for (int line = 1; line < expected.length; line++) {
+			ValidBreakpointLocationLocator.locate(compilationUnit, line, true, true);
+		}
+		// a visit of the compilation unit would not find any location anymore
+		compilationUnit.types().clear();
+		for (int line = 1; line < expected.length; line++) {
+			assertEquals("Wrong location of line " + line, expected[line], describe(ValidBreakpointLocationLocator.locate(compilationUnit, line, true, true)));
+		}
+	}
+
+	/**
+	 * Returns the descriptions of the locations found by visiting the given
+	 * compilation unit for each line, indexed by line number
+	 */
+	private String[] visitAllLines(CompilationUnit compilationUnit, boolean bestMatch) {
+		int lineCount = compilationUnit.getLineNumber(compilationUnit.getLength() - 1);
+		String[] locations = new String[lineCount + 1];
+		for (int line = 1; line <= lineCount; line++) {
+			ValidBreakpointLocationLocator locator = new ValidBreakpointLocationLocator(compilationUnit, line, true, bestMatch);
+			compilationUnit.accept(locator);
+			locations[line] = describe(locator);
+		}
+		return locations;
+	}
+
+	private String describe(ValidBreakpointLocationLocator locator) {
+		return locator.getLocationType() + ":" + locator.getLineLocation() + ":" + locator.getFullyQualifiedTypeName() + ":" + locator.getMemberOffset();
+	}
 }
\ No newline at end of file
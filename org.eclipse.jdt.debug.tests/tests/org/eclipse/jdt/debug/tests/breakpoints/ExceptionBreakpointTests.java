@@ -215,6 +215,42 @@ public class ExceptionBreakpointTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * tests that the breakpoint does not suspend for multiple exclusion filters, one of them a package
+	 */
+	public void testMultiExclusivePackageScopedExceptionMissed() throws Exception {
+		String typeName = "ThrowsNPE";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.NullPointerException", true, false);
+		ex.setExclusionFilters(new String[] {"java.*", "ThrowsNPE"});
+
+		IJavaDebugTarget target= null;
+		try {
+			target = launchAndTerminate(typeName);
+			ex.delete();
+		} finally {
+			terminateAndRemove(target);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * tests that the breakpoint does not suspend with multiple inclusion filters of the same package
+	 */
+	public void testMultiInclusivePackageScopedExceptionMissed() throws Exception {
+		String typeName = "ThrowsNPE";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.NullPointerException", true, false);
+		ex.setInclusionFilters(new String[] {"org.eclipse.jdt.*", "org.eclipse.debug.*"});
+
+		IJavaDebugTarget target= null;
+		try {
+			target = launchAndTerminate(typeName);
+			ex.delete();
+		} finally {
+			terminateAndRemove(target);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * tests that a breakpoint is hit with multiple inclusion filters set
 	 */
@@ -33,8 +33,12 @@ import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 
+import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.EventRequestManager;
+
 /**
  * Tests method breakpoints.
  */
@@ -460,4 +464,94 @@ public class MethodBreakpointTests extends AbstractDebugTest {
 			}
 		}
 	}
+
+	/**
+	 * Tests that a method exit breakpoint suspends on each exit of a recursive
+	 * method, and that the exits are not requested anymore once all invocations
+	 * have returned
+	 */
+	public void testExitBreakpointRecursion() throws Exception {
+		String typeName = "MethodExitRecursion";
+		createMethodBreakpoint(typeName, "countDown", "(I)I", false, true);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Method exit breakpoint not hit within timeout period", thread);
+			for (int n = 0; n < 3; n++) {
+				assertExitOf(thread, "countDown", n);
+				thread = resume(thread);
+			}
+			assertExitOf(thread, "countDown", 3);
+			assertTrue("Method exits should not be requested anymore", getEventRequestManager(thread).methodExitRequests().isEmpty());
+
+			resumeAndExit(thread);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that a method exit breakpoint suspends on the normal exit of a
+	 * method following an exit caused by an exception, which the VM does not
+	 * report, and that method exits are not requested anymore afterwards
+	 */
+	public void testExitBreakpointExceptionalExits() throws Exception {
+		String typeName = "MethodExitRecursion";
+		createMethodBreakpoint(typeName, "check", "(I)I", false, true);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Method exit breakpoint not hit within timeout period", thread);
+			assertExitOf(thread, "check", 1);
+			assertTrue("Method exits should not be requested anymore", getEventRequestManager(thread).methodExitRequests().isEmpty());
+
+			resumeAndExit(thread);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests a method exit breakpoint on a method which begins with a loop, so
+	 * that its first location is reached on each iteration
+	 */
+	public void testExitBreakpointLoopAtMethodStart() throws Exception {
+		String typeName = "MethodExitRecursion";
+		createMethodBreakpoint(typeName, "spin", "(I)I", false, true);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Method exit breakpoint not hit within timeout period", thread);
+			assertExitOf(thread, "spin", 0);
+			for (BreakpointRequest request : getEventRequestManager(thread).breakpointRequests()) {
+				assertFalse("Entries of the method should not be noticed at the loop head", "spin".equals(request.location().method().name()));
+			}
+
+			resumeAndExit(thread);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Asserts that the given thread is suspended at the exit of the given
+	 * method, with the given value of the parameter <code>n</code>.
+	 */
+	private void assertExitOf(IJavaThread thread, String methodName, int n) throws Exception {
+		IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+		assertEquals("Wrong method", methodName, frame.getMethodName());
+		IVariable var = findVariable(frame, "n");
+		assertNotNull("Could not find variable 'n'", var);
+		assertEquals("Wrong value of 'n'", n, ((IJavaPrimitiveValue) var.getValue()).getIntValue());
+	}
+
+	private EventRequestManager getEventRequestManager(IJavaThread thread) {
+		return ((JDIDebugTarget) thread.getDebugTarget()).getEventRequestManager();
+	}
 }
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.DetectedVMsCache;
+
+/**
+ * Tests the cache of the VM installations detected in root directories
+ */
+public class DetectedVMsCacheTests extends AbstractDebugTest {
+
+	private File fTemp;
+	private File fRoot;
+	private DetectedVMsCache fCache;
+	private final List<File> fValidated = new ArrayList<>();
+
+	public DetectedVMsCacheTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fTemp = Files.createTempDirectory("detectedVMs").toFile().getCanonicalFile();
+		fRoot = new File(fTemp, "jvm");
+		assertTrue("Root directory should be created", fRoot.mkdir());
+		fCache = new DetectedVMsCache(new File(fTemp, "cache.xml"));
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		try (Stream<Path> paths = Files.walk(fTemp.toPath())) {
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		super.tearDown();
+	}
+
+	/**
+	 * Tests that unchanged candidates are not validated again
+	 */
+	public void testUnchangedCandidates() throws Exception {
+		File jdk17 = createVM("jdk-17", true);
+		File jdk21 = createVM("jdk-21", true);
+		createVM("notes", false);
+		touch(fRoot);
+
+		assertEquals("Wrong VMs", Set.of(jdk17, jdk21), findVMs());
+		assertEquals("All candidates should be validated", 3, fValidated.size());
+
+		fValidated.clear();
+		assertEquals("Wrong cached VMs", Set.of(jdk17, jdk21), findVMs());
+		assertTrue("No candidate should be validated: " + fValidated, fValidated.isEmpty());
+	}
+
+	/**
+	 * Tests that a VM which failed validation while it was being extracted is
+	 * detected once it is complete, although the root directory did not change
+	 */
+	public void testChangedInvalidCandidate() throws Exception {
+		File jdk17 = createVM("jdk-17", true);
+		File jdk21 = createVM("jdk-21", false);
+		touch(fRoot);
+
+		assertEquals("Wrong VMs", Set.of(jdk17), findVMs());
+
+		long rootStamp = fRoot.lastModified();
+		createFile(new File(jdk21, "bin/java"));
+		touch(new File(jdk21, "bin"));
+		assertTrue("Root directory stamp should be kept", fRoot.setLastModified(rootStamp));
+
+		fValidated.clear();
+		assertEquals("Completed VM should be detected", Set.of(jdk17, jdk21), findVMs());
+		assertEquals("Only the changed candidate should be validated", List.of(jdk21), fValidated);
+	}
+
+	/**
+	 * Tests that only the candidates added to a root directory are validated
+	 */
+	public void testAddedCandidate() throws Exception {
+		File jdk17 = createVM("jdk-17", true);
+		touch(fRoot);
+		assertEquals("Wrong VMs", Set.of(jdk17), findVMs());
+
+		File jdk21 = createVM("jdk-21", true);
+		touch(fRoot);
+
+		fValidated.clear();
+		assertEquals("Added VM should be detected", Set.of(jdk17, jdk21), findVMs());
+		assertEquals("Only the added candidate should be validated", List.of(jdk21), fValidated);
+	}
+
+	/**
+	 * Tests that a VM removed from a root directory is not detected anymore
+	 */
+	public void testRemovedCandidate() throws Exception {
+		File jdk17 = createVM("jdk-17", true);
+		File jdk21 = createVM("jdk-21", true);
+		touch(fRoot);
+		assertEquals("Wrong VMs", Set.of(jdk17, jdk21), findVMs());
+
+		assertTrue("VM should be deleted", new File(jdk21, "bin/java").delete() && new File(jdk21, "bin").delete() && jdk21.delete());
+		touch(fRoot);
+
+		fValidated.clear();
+		assertEquals("Removed VM should not be detected", Set.of(jdk17), findVMs());
+		assertTrue("No candidate should be validated: " + fValidated, fValidated.isEmpty());
+	}
+
+	/**
+	 * Looks for VMs in the root directory, accepting the candidates which
+	 * contain <code>bin/java</code>.
+	 */
+	private Set<File> findVMs() {
+		return fCache.findVMs(List.of(fRoot), this::validate);
+	}
+
+	private Set<File> validate(Collection<File> locations) {
+		fValidated.addAll(locations);
+		Set<File> valid = new HashSet<>();
+		for (File location : locations) {
+			if (new File(location, "bin/java").isFile()) {
+				valid.add(location);
+			}
+		}
+		return valid;
+	}
+
+	private File createVM(String name, boolean complete) throws IOException {
+		File dir = new File(fRoot, name);
+		assertTrue("Directory should be created", new File(dir, "bin").mkdirs());
+		if (complete) {
+			createFile(new File(dir, "bin/java"));
+		}
+		return dir;
+	}
+
+	private static void createFile(File file) throws IOException {
+		assertTrue("File should be created", file.createNewFile());
+	}
+
+	/**
+	 * Moves the time stamp of the given directory forward, as the file system
+	 * may not record changes made within the same second.
+	 */
+	private static void touch(File file) {
+		assertTrue("Time stamp should be changed", file.setLastModified(file.lastModified() + 10000));
+	}
+}
@@ -15,6 +15,15 @@ package org.eclipse.jdt.debug.tests.core;
 
 import static org.junit.Assert.assertNotEquals;
 
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.jdt.core.IBuffer;
@@ -31,6 +40,10 @@ import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.debug.testplugin.DebugElementEventWaiter;
 import org.eclipse.jdt.debug.testplugin.DebugEventWaiter;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.hcr.MethodBytecodeDigests;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+import com.sun.jdi.ReferenceType;
 
 /**
  * Tests hot code replace
@@ -41,6 +54,8 @@ public class HcrTests extends AbstractDebugTest {
 
 		boolean notified = false;
 		IJavaDebugTarget target = null;
+		long redefineTime = -1;
+		long totalTime = -1;
 
 		/* (non-Javadoc)
 		 * @see org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener#hotCodeReplaceFailed(org.eclipse.jdt.debug.core.IJavaDebugTarget, org.eclipse.debug.core.DebugException)
@@ -61,6 +76,13 @@ public class HcrTests extends AbstractDebugTest {
 			notifyAll();
 		}
 
+		@Override
+		public synchronized void hotCodeReplaceSucceeded(IJavaDebugTarget target, long redefineTime, long totalTime) {
+			this.redefineTime = redefineTime;
+			this.totalTime = totalTime;
+			hotCodeReplaceSucceeded(target);
+		}
+
 		/* (non-Javadoc)
 		 * @see org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener#obsoleteMethods(org.eclipse.jdt.debug.core.IJavaDebugTarget)
 		 */
@@ -242,6 +264,91 @@ public class HcrTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the time taken by a hot code replace is reported to listeners.
+	 */
+	public void testHcrListenerTimings() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.HcrClass";
+		createLineBreakpoint(42, typeName);
+		HCRListener listener = new HCRListener();
+		JDIDebugModel.addHotCodeReplaceListener(listener);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaDebugTarget target = (IJavaDebugTarget)thread.getDebugTarget();
+			if (target.supportsHotCodeReplace()) {
+				removeAllBreakpoints();
+				// now do the HCR
+				ICompilationUnit cu = getCompilationUnit(get14Project(), "src", "org.eclipse.debug.tests.targets", "HcrClass.java");
+				cu = cu.getPrimary();
+				if (!cu.isWorkingCopy()) {
+					cu = cu.getWorkingCopy(null);
+				}
+				assertTrue("HcrClass.java does not exist", cu.exists());
+				IBuffer buffer = cu.getBuffer();
+				String contents = buffer.getContents();
+				int index = contents.indexOf("\"One\"");
+				assertTrue("Could not find code to replace", index > 0);
+				String newCode = contents.substring(0, index) + "\"Two\"" + contents.substring(index + 5);
+				buffer.setContents(newCode);
+
+				// save contents
+				cu.commitWorkingCopy(true, null);
+				waitForBuild();
+				assertTrue("Listener should have been notified", listener.waitNotification());
+				assertTrue("Redefine time should have been reported", listener.redefineTime >= 0);
+				assertTrue("Total time should include redefine time", listener.totalTime >= listener.redefineTime);
+			} else {
+				System.err.println("Warning: HCR test skipped since target VM does not support HCR.");
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+			JDIDebugModel.removeHotCodeReplaceListener(listener);
+		}
+	}
+
+	/**
+	 * Tests that method byte code digests computed from a class file match the
+	 * digests computed from the same type loaded in the VM.
+	 */
+	public void testMethodDigestsMatchLoadedType() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.HcrClass";
+		createLineBreakpoint(42, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			List<ReferenceType> types = target.jdiClassesByName(typeName);
+			assertFalse("HcrClass should be loaded", types.isEmpty());
+			Map<String, byte[]> fromVM = MethodBytecodeDigests.compute(types.get(0));
+			if (fromVM != null) {
+				IPath classFile = get14Project().getOutputLocation().append("org/eclipse/debug/tests/targets/HcrClass.class");
+				IFile file = ResourcesPlugin.getWorkspace().getRoot().getFile(classFile);
+				assertTrue("HcrClass.class does not exist", file.exists());
+				byte[] bytes;
+				try (InputStream stream = file.getContents()) {
+					bytes = stream.readAllBytes();
+				}
+				Map<String, byte[]> fromClassFile = MethodBytecodeDigests.compute(bytes);
+				assertNotNull("Could not read class file", fromClassFile);
+				assertEquals("Methods should be the same", fromClassFile.keySet(), fromVM.keySet());
+				for (Entry<String, byte[]> entry : fromClassFile.entrySet()) {
+					assertTrue("Digests should be the same for " + entry.getKey(), Arrays.equals(entry.getValue(), fromVM.get(entry.getKey())));
+				}
+			} else {
+				System.err.println("Warning: HCR test skipped since target VM cannot provide byte codes.");
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Tests that a target specific listener overrides a generic listener.
 	 */
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.lang.ref.Reference;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdi.internal.MirrorCache;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests the cache of JDI mirrors by JDWP ID
+ */
+public class MirrorCacheTests extends AbstractDebugTest {
+
+	private MirrorCache<Long> fCache;
+
+	public MirrorCacheTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fCache = new MirrorCache<>();
+	}
+
+	/**
+	 * Tests that a removed mirror is not returned anymore and that the other
+	 * mirrors are kept
+	 */
+	public void testRemove() throws Exception {
+		Long[] mirrors = putAll(0, 100);
+		assertSame("Wrong removed mirror", mirrors[50], fCache.remove(50));
+		assertNull("Removed mirror should not be returned", fCache.get(50));
+		assertNull("Mirror should be removed already", fCache.remove(50));
+		for (int i = 0; i < 100; i++) {
+			if (i != 50) {
+				assertSame("Wrong mirror", mirrors[i], fCache.get(i));
+			}
+		}
+		assertEquals("Wrong number of mirrors", 99, toList(fCache).size());
+	}
+
+	/**
+	 * Tests that the slots of removed mirrors are reused for other IDs
+	 */
+	public void testReuse() throws Exception {
+		Long[] mirrors = putAll(0, 1000);
+		for (int i = 0; i < 1000; i += 2) {
+			fCache.remove(i);
+		}
+		Long[] others = putAll(1000, 2000);
+		for (int i = 0; i < 1000; i++) {
+			assertSame("Wrong mirror", i % 2 == 0 ? null : mirrors[i], fCache.get(i));
+			assertSame("Wrong mirror", others[i], fCache.get(1000 + i));
+		}
+		assertEquals("Wrong number of mirrors", 1500, toList(fCache).size());
+	}
+
+	/**
+	 * Tests that the entries of garbage collected mirrors are removed, but not
+	 * the entries which replaced them
+	 */
+	public void testExpunge() throws Exception {
+		Long[] mirrors = putAll(0, 100);
+		collect(7);
+		Reference<?> replaced = entry(9);
+		Long replacement = Long.valueOf(9);
+		fCache.put(9, replacement);
+		replaced.clear();
+		replaced.enqueue();
+
+		// updates remove the entries of collected mirrors
+		fCache.put(100, Long.valueOf(100));
+		assertNull("Collected mirror should not be returned", fCache.get(7));
+		assertSame("Replacing mirror should be kept", replacement, fCache.get(9));
+		List<Long> cached = toList(fCache);
+		assertEquals("Wrong number of mirrors", 100, cached.size());
+		assertFalse("Collected mirror should not be iterated", cached.contains(null));
+
+		fCache.put(7, mirrors[7]);
+		assertSame("Mirror should be cached again", mirrors[7], fCache.get(7));
+	}
+
+	/**
+	 * Tests that lookups never return the mirror of another ID while the slots
+	 * of the looked up IDs are reused by other threads
+	 */
+	public void testConcurrentReuse() throws Exception {
+		Long[] mirrors = new Long[2000];
+		for (int i = 0; i < mirrors.length; i++) {
+			mirrors[i] = Long.valueOf(i);
+		}
+		putAll(0, 1000);
+		AtomicReference<String> failure = new AtomicReference<>();
+		// replaces the mirrors with IDs 0..999 by the ones with IDs 1000..1999 and back
+		Thread updater = new Thread(() -> {
+			for (int round = 0; round < 2000 && failure.get() == null; round++) {
+				int removed = round % 2 * 1000;
+				int added = 1000 - removed;
+				for (int i = 0; i < 1000; i++) {
+					fCache.remove(removed + i);
+					fCache.put(added + i, mirrors[added + i]);
+				}
+			}
+		});
+		List<Thread> readers = new ArrayList<>();
+		for (int r = 0; r < 2; r++) {
+			readers.add(new Thread(() -> {
+				while (updater.isAlive() && failure.get() == null) {
+					for (int i = 0; i < mirrors.length; i++) {
+						Long mirror = fCache.get(i);
+						if (mirror != null && mirror.longValue() != i) {
+							failure.set("ID " + i + " returned the mirror of ID " + mirror);
+						}
+					}
+				}
+			}));
+		}
+		updater.start();
+		readers.forEach(Thread::start);
+		updater.join();
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		assertNull(failure.get(), failure.get());
+	}
+
+	private Long[] putAll(int from, int to) {
+		Long[] mirrors = new Long[to - from];
+		for (int i = from; i < to; i++) {
+			mirrors[i - from] = Long.valueOf(i);
+			fCache.put(i, mirrors[i - from]);
+		}
+		return mirrors;
+	}
+
+	private static List<Long> toList(MirrorCache<Long> cache) {
+		List<Long> list = new ArrayList<>();
+		cache.forEach(list::add);
+		return list;
+	}
+
+	/**
+	 * Clears and enqueues the soft reference to the mirror cached for the
+	 * given ID, as the garbage collector does.
+	 */
+	private void collect(long id) throws Exception {
+		Reference<?> entry = entry(id);
+		entry.clear();
+		entry.enqueue();
+	}
+
+	/**
+	 * Returns the soft reference to the mirror cached for the given ID.
+	 */
+	private Reference<?> entry(long id) throws Exception {
+		Field segments = MirrorCache.class.getDeclaredField("fSegments");
+		segments.setAccessible(true);
+		for (Object segment : (Object[]) segments.get(fCache)) {
+			Field slots = segment.getClass().getDeclaredField("fSlots");
+			slots.setAccessible(true);
+			for (Object slot : (Object[]) slots.get(segment)) {
+				if (slot instanceof Reference<?> entry && entry.get() != null && ((Long) entry.get()).longValue() == id) {
+					return entry;
+				}
+			}
+		}
+		fail("No entry for ID " + id);
+		return null;
+	}
+}
@@ -23,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -38,7 +39,9 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.testplugin.JavaTestPlugin;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.launching.LaunchingPlugin;
+import org.eclipse.jdt.internal.launching.LibraryInfo;
 import org.eclipse.jdt.internal.launching.StandardVMType;
+import org.eclipse.jdt.internal.launching.SystemPackagesIndex;
 import org.eclipse.jdt.launching.ILibraryLocationResolver;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstall2;
@@ -112,6 +115,24 @@ public class VMInstallTests extends AbstractDebugTest {
 		assertNotNull("'user.home' system property should be cached", value);
 	}
 
+	/**
+	 * Tests that the library info of a JRE is dropped once its java executable changes
+	 */
+	public void testLibraryInfoExecutableStamp() {
+		String home = new File(getName()).getAbsolutePath();
+		LibraryInfo info = new LibraryInfo("17", new String[0], new String[0], new String[0]);
+		try {
+			LaunchingPlugin.setLibraryInfo(home, info, 1000L);
+			assertSame("Library info should be cached", info, LaunchingPlugin.getLibraryInfo(home, 1000L));
+			assertNull("Library info of a changed executable should not be returned", LaunchingPlugin.getLibraryInfo(home, 2000L));
+			LaunchingPlugin.setLibraryInfo(home, info);
+			assertSame("Library info of an unknown executable should be returned", info, LaunchingPlugin.getLibraryInfo(home, 2000L));
+		} finally {
+			LaunchingPlugin.setLibraryInfo(home, null);
+		}
+		assertNull("Library info should be removed", LaunchingPlugin.getLibraryInfo(home));
+	}
+
 	/**
 	 * Tests the new support for {@link ILibraryLocationResolver}s asking for {@link LibraryLocation}s
 	 * using the {@link JavaRuntime#getLibraryLocations(IVMInstall)}s API
@@ -285,6 +306,21 @@ public class VMInstallTests extends AbstractDebugTest {
 		}
 	}
 
+	public void testJavaRuntimeQuerySystemPackages_index() throws CoreException {
+		IVMInstall vm = JavaRuntime.getDefaultVMInstall();
+		Set<String> packages = JavaRuntime.getProvidedVMPackages(vm, null);
+		try {
+			SystemPackagesIndex.delete(vm);
+			assertNull("Packages should not be indexed", SystemPackagesIndex.read(vm, null));
+			SystemPackagesIndex.write(vm, null, packages);
+			Set<String> indexedPackages = SystemPackagesIndex.read(vm, null);
+			assertEquals("Wrong indexed packages", List.copyOf(packages), List.copyOf(indexedPackages));
+			assertNull("Packages of another release should not be indexed", SystemPackagesIndex.read(vm, "9"));
+		} finally {
+			SystemPackagesIndex.write(vm, null, packages);
+		}
+	}
+
 	public void testLatestJavadocLocation() {
 		String latest = JavaCore.latestSupportedJavaVersion();
 		URL javadocLocation = StandardVMType.getDefaultJavadocLocation(latest);
@@ -17,6 +17,9 @@ import org.eclipse.debug.core.model.IValue;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+import com.sun.jdi.ReferenceType;
 
 public class RemoteEvaluatorTests extends AbstractDebugTest {
 	private IJavaThread javaThread;
@@ -104,6 +107,20 @@ public class RemoteEvaluatorTests extends AbstractDebugTest {
 		assertEquals("value is not false", "false", value.getValueString());
 	}
 
+	public void testEvaluate_SameLambdaTwice_ShouldReuseInjectedClass() throws Exception {
+		debugWithBreakpoint("RemoteEvaluator", 20);
+		String code = "java.util.Arrays.asList(\"a\", \"b\", \"ac\").stream().filter(v -> v.startsWith(\"a\")).count()";
+		IValue value = evaluate(code);
+		assertNotNull("result is null", value);
+		assertEquals("count is not 2", "2", value.getValueString());
+		int injected = countInjectedClasses();
+
+		value = evaluate(code);
+		assertNotNull("result is null", value);
+		assertEquals("count is not 2", "2", value.getValueString());
+		assertEquals("code snippet classes should have been reused", injected, countInjectedClasses());
+	}
+
 	@Override
 	protected IJavaProject getProjectContext() {
 		return get18Project();
@@ -119,6 +136,16 @@ public class RemoteEvaluatorTests extends AbstractDebugTest {
 		return doEval(javaThread, snippet);
 	}
 
+	private int countInjectedClasses() {
+		int count = 0;
+		for (ReferenceType type : ((JDIDebugTarget) javaThread.getDebugTarget()).getVM().allClasses()) {
+			if (type.name().contains("CodeSnippet")) {
+				count++;
+			}
+		}
+		return count;
+	}
+
 	@Override
 	protected void tearDown() throws Exception {
 		try {
@@ -22,6 +22,7 @@ import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointListener;
 import org.eclipse.debug.core.IBreakpointManager;
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaExceptionBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaWatchpoint;
@@ -195,6 +196,64 @@ public class PerfBreakpointTests extends AbstractDebugPerformanceTest implements
         }
     }
 
+    /**
+     * Tests the throughput of a program calling a method of a type many times,
+     * while a method exit breakpoint is set on another method of the type
+     */
+    public void testMethodExitBreakpointThroughput() throws Exception {
+        tagAsSummary("Run With Method Exit Breakpoint", Dimension.ELAPSED_PROCESS);
+        String typeName = "MethodExitLoop";
+        createMethodBreakpoint(typeName, "done", "()V", false, true);
+        try {
+            for (int i = 0; i < 2; i++) {
+                IJavaThread thread = launchToBreakpoint(typeName, false);
+                terminateAndRemove(thread);
+            }
+
+            for (int i = 0; i < 10; i++) {
+                startMeasuring();
+                IJavaThread thread = launchToBreakpoint(typeName, false);
+                stopMeasuring();
+                assertNotNull("Method exit breakpoint not hit", thread);
+                terminateAndRemove(thread);
+            }
+            commitMeasurements();
+            assertPerformance();
+        } finally {
+            removeAllBreakpoints();
+        }
+    }
+
+    /**
+     * Tests the throughput of a program throwing and catching many exceptions,
+     * while an exception breakpoint with class filters excluding the throwing
+     * type is set
+     */
+    public void testExceptionBreakpointThroughput() throws Exception {
+        tagAsSummary("Run With Filtered Exception Breakpoint", Dimension.ELAPSED_PROCESS);
+        String typeName = "ExceptionLoop";
+        IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.IllegalStateException", true, true);
+        ex.setExclusionFilters(new String[] {"java.*", "ExceptionLoop"});
+        IJavaLineBreakpoint bp = createLineBreakpoint(26, typeName);
+        try {
+            for (int i = 0; i < 2; i++) {
+                IJavaThread thread = launchToLineBreakpoint(typeName, bp, false);
+                terminateAndRemove(thread);
+            }
+
+            for (int i = 0; i < 10; i++) {
+                startMeasuring();
+                IJavaThread thread = launchToLineBreakpoint(typeName, bp, false);
+                stopMeasuring();
+                terminateAndRemove(thread);
+            }
+            commitMeasurements();
+            assertPerformance();
+        } finally {
+            removeAllBreakpoints();
+        }
+    }
+
     /**
      * Tests the performance of watchpoint creation
      */
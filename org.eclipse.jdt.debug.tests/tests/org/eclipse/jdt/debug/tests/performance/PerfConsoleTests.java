@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.performance;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
@@ -23,6 +26,8 @@ import org.eclipse.debug.ui.console.IConsole;
 import org.eclipse.debug.ui.console.IConsoleLineTrackerExtension;
 import org.eclipse.jdt.debug.testplugin.ConsoleLineTracker;
 import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceFormatter;
+import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceLineScanner;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.text.IRegion;
@@ -41,6 +46,16 @@ public class PerfConsoleTests extends AbstractDebugPerformanceTest implements IC
 
     protected Object fLock = new Object();
 
+    /**
+     * Number of lines scanned by the stack trace line tests
+     */
+    private static final int SCANNED_LINES = 100000;
+
+    /**
+     * Number of matches found by the stack trace line tests
+     */
+    private int fMatches;
+
     /**
      * Constructor
      */
@@ -73,6 +88,150 @@ public class PerfConsoleTests extends AbstractDebugPerformanceTest implements IC
         runVariableLength(2500, 75); // 4 lines * 2500 repeats = 10000 lines
     }
 
+    /**
+     * Tests the performance of finding the hyperlinks in 100,000 lines of stack
+     * trace output with the line scanner used by the process console
+     */
+    public void testStackTraceLineScanner() throws Exception {
+        tagAsSummary("Stack trace line scanner 100,000 lines", Dimension.ELAPSED_PROCESS);
+        String text = createStackTraceLines();
+        JavaStackTraceLineScanner scanner = new JavaStackTraceLineScanner(new String[] { "java" });
+        JavaStackTraceLineScanner.IMatchListener listener = (kind, offset, length) -> fMatches++;
+        for (int i = 0; i < 25; i++) {
+            boolean measure = i >= 5;
+            fMatches = 0;
+            if (measure) {
+                startMeasuring();
+            }
+            long start = System.nanoTime();
+            int lineStart = 0;
+            int lineEnd = text.indexOf('\n');
+            while (lineEnd >= 0) {
+                scanner.scan(text, lineStart, lineEnd, listener);
+                lineStart = lineEnd + 1;
+                lineEnd = text.indexOf('\n', lineStart);
+            }
+            if (measure) {
+                stopMeasuring();
+                printLinesPerSecond("Scanner", start);
+            }
+            assertEquals("Wrong number of matches", SCANNED_LINES, fMatches);
+        }
+        commitMeasurements();
+        assertPerformance();
+    }
+
+    /**
+     * Tests the performance of finding the hyperlinks in 100,000 lines of stack
+     * trace output with the regular expressions used by the Java stack trace
+     * console, for comparison with {@link #testStackTraceLineScanner()}
+     */
+    public void testStackTraceLineRegex() throws Exception {
+        tagAsSummary("Stack trace line regular expressions 100,000 lines", Dimension.ELAPSED_PROCESS);
+        String text = createStackTraceLines();
+        String ansi = "(\033\\[[\\d;]*[A-HJKSTfimnsu])*";
+        Pattern[] patterns = new Pattern[] {
+                Pattern.compile("\\(" + ansi + "[\\w\\.\\\\/@]*\\.java:\\S*" + ansi + "\\)", Pattern.UNICODE_CHARACTER_CLASS),
+                Pattern.compile("\\(" + ansi + "Native Method" + ansi + "\\)"),
+                Pattern.compile("\\w[^\\(\\s]+Exception[\\s|:]", Pattern.UNICODE_CHARACTER_CLASS) };
+        for (int i = 0; i < 25; i++) {
+            boolean measure = i >= 5;
+            fMatches = 0;
+            if (measure) {
+                startMeasuring();
+            }
+            long start = System.nanoTime();
+            int lineStart = 0;
+            int lineEnd = text.indexOf('\n');
+            while (lineEnd >= 0) {
+                for (Pattern pattern : patterns) {
+                    Matcher matcher = pattern.matcher(text).region(lineStart, lineEnd + 1);
+                    while (matcher.find()) {
+                        fMatches++;
+                    }
+                }
+                lineStart = lineEnd + 1;
+                lineEnd = text.indexOf('\n', lineStart);
+            }
+            if (measure) {
+                stopMeasuring();
+                printLinesPerSecond("Regular expressions", start);
+            }
+            assertEquals("Wrong number of matches", SCANNED_LINES, fMatches);
+        }
+        commitMeasurements();
+        assertPerformance();
+    }
+
+    /**
+     * Tests the performance of formatting a thread dump of several megabytes,
+     * as done by the Java stack trace console, with and without folding
+     * repeated frames and thread stacks
+     */
+    public void testStackTraceFormatter() throws Exception {
+        tagAsSummary("Stack trace formatter 2,000 threads", Dimension.ELAPSED_PROCESS);
+        String dump = createThreadDump();
+        for (int i = 0; i < 25; i++) {
+            boolean measure = i >= 5;
+            if (measure) {
+                startMeasuring();
+            }
+            long start = System.nanoTime();
+            String formatted = JavaStackTraceFormatter.format(dump, false);
+            String folded = JavaStackTraceFormatter.format(dump, true);
+            if (measure) {
+                stopMeasuring();
+                long time = System.nanoTime() - start;
+                System.out.println("Formatter: " + (2L * dump.length() * 1_000_000_000L / Math.max(1, time) / 1024) + " KB/s");
+            }
+            assertTrue("Dump not formatted", formatted.length() > dump.length());
+            assertTrue("Dump not folded", folded.length() < formatted.length() / 2);
+        }
+        commitMeasurements();
+        assertPerformance();
+    }
+
+    /**
+     * Returns a thread dump of about 2.5 MB in which most threads share their
+     * stacks, and all of them recurse
+     */
+    private String createThreadDump() {
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            buffer.append("\"Worker-").append(i).append("\" #").append(i).append(" prio=5 os_prio=0 tid=0x1 nid=0x2 waiting on condition\n");
+            buffer.append("   java.lang.Thread.State: WAITING (parking)\n");
+            buffer.append("\tat java.base@17/jdk.internal.misc.Unsafe.park(Native Method)\n");
+            for (int j = 0; j < 20; j++) {
+                buffer.append("\tat org.eclipse.example.Worker.process(Worker.java:").append(40 + i % 3).append(")\n");
+            }
+            buffer.append("\tat java.base@17/java.lang.Thread.run(Thread.java:833)\n\n");
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Returns {@link #SCANNED_LINES} lines of stack traces, each with one
+     * hyperlink
+     */
+    private String createStackTraceLines() {
+        String[] lines = new String[] {
+                "Exception in thread \"main\" java.lang.IllegalStateException: Invalid state",
+                "\tat org.eclipse.example.model.Element.validate(Element.java:123)",
+                "\tat java.base/jdk.internal.reflect.DirectMethodHandleAccessor.invoke(Native Method)",
+                "\tat \033[1morg.eclipse.example.model.Element.update(Element.java:57)\033[0m",
+                "Caused by: java.lang.NullPointerException" };
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < SCANNED_LINES; i++) {
+            buffer.append(lines[i % lines.length]).append('\n');
+        }
+        return buffer.toString();
+    }
+
+    private void printLinesPerSecond(String name, long start) {
+        long time = System.nanoTime() - start;
+        System.out.println(name + ": " + (SCANNED_LINES * 1_000_000_000L / Math.max(1, time)) + " lines/s");
+    }
+
     /**
      * @see org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest#setUp()
      */
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpString;
+import org.eclipse.jdi.internal.jdwp.JdwpStringTable;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the performance of reading the names and signatures of JDWP replies.
+ */
+public class PerfJdwpStringTableTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Signatures repeated in the reply, including non ASCII ones
+	 */
+	private static final String[] SIGNATURES = { "Ljava/lang/String;", "I", "Ljava/util/List<Ljava/lang/String;>;", "[B",
+			"Lorg/eclipse/jdt/debug/tests/\u00e9t\u00e9;", "", "Ljava/lang/Object;" };
+
+	/**
+	 * Number of times the signatures are repeated in the reply
+	 */
+	private static final int REPEATS = 20000;
+
+	/**
+	 * Constructor
+	 */
+	public PerfJdwpStringTableTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the time to read a reply of recurring signatures, which must all
+	 * be read as the Strings of the table.
+	 */
+	public void testReadRecurringSignatures() throws Exception {
+		tagAsSummary("JDWP string table: read recurring signatures", Dimension.ELAPSED_PROCESS);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		for (int i = 0; i < REPEATS; i++) {
+			for (String signature : SIGNATURES) {
+				JdwpString.write(signature, out);
+			}
+		}
+		JdwpReplyPacket reply = new JdwpReplyPacket();
+		reply.setData(bytes.toByteArray());
+		JdwpStringTable table = new JdwpStringTable();
+		String[] canonical = new String[SIGNATURES.length];
+		DataInputStream in = reply.dataInStream();
+		for (int i = 0; i < SIGNATURES.length; i++) {
+			canonical[i] = table.read(in);
+			assertEquals("Wrong signature read", SIGNATURES[i], canonical[i]);
+		}
+		for (int i = 0; i < 10; i++) {
+			in = reply.dataInStream();
+			startMeasuring();
+			for (int j = 0; j < REPEATS; j++) {
+				for (int k = 0; k < SIGNATURES.length; k++) {
+					if (table.read(in) != canonical[k]) {
+						fail("Signature should have been read from the table: " + SIGNATURES[k]);
+					}
+				}
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
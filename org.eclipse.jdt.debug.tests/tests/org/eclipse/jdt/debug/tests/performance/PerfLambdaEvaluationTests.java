@@ -0,0 +1,78 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.debug.core.model.IValue;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests performance of evaluating watch expressions containing lambdas, which
+ * are injected into the target as classes.
+ */
+public class PerfLambdaEvaluationTests extends AbstractDebugPerformanceTest {
+
+	private static final String SNIPPET = "java.util.Arrays.asList(\"a\", \"b\", \"ac\").stream().filter(v -> v.startsWith(\"a\")).count()";
+
+	/**
+	 * Constructor
+	 */
+	public PerfLambdaEvaluationTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected IJavaProject getProjectContext() {
+		return get18Project();
+	}
+
+	/**
+	 * Tests the performance of repeatedly evaluating the same lambda expression
+	 */
+	public void testLambdaEvaluation() throws Exception {
+		tagAsSummary("Evaluating a lambda expression repeatedly", Dimension.ELAPSED_PROCESS);
+		// just in case
+		removeAllBreakpoints();
+		String typeName = "RemoteEvaluator";
+		createLineBreakpoint(20, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("The program did not suspend", thread);
+
+			// warm up
+			for (int i = 0; i < 10; i++) {
+				doEval(thread, SNIPPET);
+			}
+
+			// test
+			for (int i = 0; i < 20; i++) {
+				startMeasuring();
+				for (int j = 0; j < 10; j++) {
+					IValue value = doEval(thread, SNIPPET);
+					assertEquals("count is not 2", "2", value.getValueString());
+				}
+				stopMeasuring();
+			}
+
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+}
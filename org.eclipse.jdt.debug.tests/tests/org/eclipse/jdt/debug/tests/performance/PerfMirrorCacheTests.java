@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdi.internal.MirrorCache;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the performance of the cache of JDI mirrors looked up by many threads.
+ */
+public class PerfMirrorCacheTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Number of cached mirrors
+	 */
+	private static final int MIRRORS = 100000;
+
+	/**
+	 * Number of lookups of each thread
+	 */
+	private static final int LOOKUPS = 1000000;
+
+	/**
+	 * Constructor
+	 */
+	public PerfMirrorCacheTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the time of concurrent lookups while mirrors are added and removed.
+	 */
+	public void testConcurrentLookups() throws Exception {
+		tagAsSummary("Mirror cache concurrent lookups", Dimension.ELAPSED_PROCESS);
+		MirrorCache<Object> cache = new MirrorCache<>();
+		Object[] mirrors = new Object[MIRRORS];
+		for (int i = 0; i < MIRRORS; i++) {
+			mirrors[i] = Integer.valueOf(i);
+			cache.put(id(i), mirrors[i]);
+		}
+		int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			int misses = lookUp(cache, mirrors, threads);
+			stopMeasuring();
+			assertEquals("Cached mirrors should have been found", 0, misses);
+		}
+		commitMeasurements();
+		assertPerformance();
+
+		int count = 0;
+		for (Object mirror : cache) {
+			assertNotNull("Iteration should not return collected mirrors", mirror);
+			count++;
+		}
+		assertEquals("Wrong number of cached mirrors", MIRRORS, count);
+		assertSame("Removed mirror should be returned", mirrors[42], cache.remove(id(42)));
+		assertNull("Removed mirror should not be found", cache.get(id(42)));
+		cache.clear();
+		assertNull("Cleared mirror should not be found", cache.get(id(43)));
+	}
+
+	/**
+	 * Looks up the even mirrors from the given number of threads while one
+	 * thread adds and removes odd IDs, and returns the number of mirrors which
+	 * have not been found.
+	 */
+	private int lookUp(MirrorCache<Object> cache, Object[] mirrors, int threads) throws InterruptedException {
+		AtomicInteger misses = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(threads);
+		Thread writer = new Thread(() -> {
+			long id = -1;
+			while (done.getCount() > 0) {
+				cache.put(id, mirrors[0]);
+				cache.remove(id);
+				id -= 2;
+			}
+		});
+		writer.start();
+		for (int t = 0; t < threads; t++) {
+			int seed = t;
+			new Thread(() -> {
+				int index = seed;
+				for (int i = 0; i < LOOKUPS; i++) {
+					index = (index + 2 * 7919) % MIRRORS & ~1;
+					if (cache.get(id(index)) != mirrors[index]) {
+						misses.incrementAndGet();
+					}
+				}
+				done.countDown();
+			}).start();
+		}
+		done.await();
+		writer.join();
+		return misses.get();
+	}
+
+	/**
+	 * Returns an ID spread like the object IDs of a VM.
+	 */
+	private static long id(int index) {
+		return 0x7F0000000000L + index * 8L;
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.debug.tests.performance.PerfSteppingTests.MyFilter;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+
+/**
+ * Tests performance of stepping through filtered methods, where each step
+ * costs secondary steps.
+ */
+public class PerfStepFilterTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Constructor
+	 */
+	public PerfStepFilterTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests stepping into a line calling a filtered getter and setter without
+	 * taking into account event processing in the UI.
+	 */
+	public void testBareStepIntoFilteredMethods() throws Exception {
+		String typeName = "PerfStepFilterLoop";
+		createLineBreakpoint(33, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName, false);
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			target.setFilterGetters(true);
+			target.setFilterSetters(true);
+			target.setStepThruFilters(true);
+			target.setStepFiltersEnabled(true);
+
+			// warm up
+			Object lock = new Object();
+			MyFilter filter = new MyFilter(thread, lock);
+			DebugPlugin.getDefault().addDebugEventFilter(filter);
+			thread.getTopStackFrame();
+			filter.step(true);
+			long coldRoundTrips = ((JDIThread) thread).getStepRoundTrips();
+			for (int n= 0; n < 10; n++) {
+				for (int i = 0; i < 100; i++) {
+					filter.step(true);
+				}
+			}
+			DebugPlugin.getDefault().removeDebugEventFilter(filter);
+
+			// real test
+			lock = new Object();
+			filter = new MyFilter(thread, lock);
+			DebugPlugin.getDefault().addDebugEventFilter(filter);
+
+			thread.getTopStackFrame();
+			long maxRoundTrips = 0;
+			for (int n= 0; n < 100; n++) {
+				startMeasuring();
+				for (int i = 0; i < 100; i++) {
+					filter.step(true);
+					maxRoundTrips = Math.max(maxRoundTrips, ((JDIThread) thread).getStepRoundTrips());
+				}
+				stopMeasuring();
+				System.gc();
+			}
+			commitMeasurements();
+			assertPerformance();
+
+			DebugPlugin.getDefault().removeDebugEventFilter(filter);
+			assertTrue("Round trips should have been counted", coldRoundTrips > 0);
+			assertTrue("Stepping through the filtered methods should not cost more round trips than the first time", maxRoundTrips <= coldRoundTrips);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
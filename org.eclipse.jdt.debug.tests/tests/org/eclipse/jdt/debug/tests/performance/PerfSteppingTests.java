@@ -32,7 +32,7 @@ public class PerfSteppingTests extends AbstractDebugPerformanceTest {
 		super(name);
 	}
 
-	class MyFilter implements IDebugEventFilter {
+	static class MyFilter implements IDebugEventFilter {
 
 		private IJavaThread fThread = null;
 		private final Object fLock;
@@ -69,9 +69,20 @@ public class PerfSteppingTests extends AbstractDebugPerformanceTest {
 		 * performs a step operation
 		 */
 		public void step() {
+			step(false);
+		}
+
+		/**
+		 * performs a step into or step over operation
+		 */
+		public void step(boolean into) {
 			synchronized (fLock) {
 				try {
-					fThread.stepOver();
+					if (into) {
+						fThread.stepInto();
+					} else {
+						fThread.stepOver();
+					}
 				} catch (DebugException e) {
 					fail(e.getMessage());
 				}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelChangedListener;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IModelDelta;
+import org.eclipse.debug.internal.ui.viewers.provisional.AbstractModelProxy;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.ui.threadgroups.JavaDebugTargetProxy;
+import org.eclipse.jdt.internal.debug.ui.threadgroups.JavaThreadEventHandler;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the performance of updating the Debug view when all threads of a VM
+ * are suspended at once.
+ */
+public class PerfSuspendStormTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Constructor
+	 */
+	public PerfSuspendStormTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the time to compute the delta of the suspend events of 2000 live
+	 * threads, which is fired as one delta.
+	 */
+	public void testSuspendStorm() throws Exception {
+		tagAsSummary("Debug view delta for 2000 suspended threads", Dimension.ELAPSED_PROCESS);
+		String typeName = "LiveThreads";
+		IJavaBreakpoint bp = createLineBreakpoint(34, typeName);
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("The program did not suspend", thread);
+			IThread[] threads = thread.getDebugTarget().getThreads();
+			assertTrue("The threads should be live", threads.length >= 2000);
+
+			JavaDebugTargetProxy proxy = new JavaDebugTargetProxy(thread.getDebugTarget());
+			List<IModelDelta> deltas = new CopyOnWriteArrayList<>();
+			IModelChangedListener listener = (delta, p) -> deltas.add(delta);
+			proxy.addModelChangedListener(listener);
+			StormThreadEventHandler handler = new StormThreadEventHandler(proxy);
+			try {
+				for (int i = 0; i < 10; i++) {
+					deltas.clear();
+					startMeasuring();
+					for (IThread suspended : threads) {
+						handler.handleSuspend(new DebugEvent(suspended, DebugEvent.SUSPEND, DebugEvent.CLIENT_REQUEST));
+					}
+					long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+					while (deltas.isEmpty() && System.nanoTime() < end) {
+						Thread.sleep(1);
+					}
+					stopMeasuring();
+					assertEquals("The suspends should be fired as one delta", 1, deltas.size());
+				}
+				int[] nodes = new int[1];
+				deltas.get(0).accept((delta, depth) -> {
+					if (delta.getElement() instanceof IThread) {
+						nodes[0]++;
+					}
+					return true;
+				});
+				assertEquals("Wrong number of threads in the delta", threads.length, nodes[0]);
+				commitMeasurements();
+				assertPerformance();
+			} finally {
+				handler.dispose();
+				proxy.removeModelChangedListener(listener);
+			}
+		} finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
+	static class StormThreadEventHandler extends JavaThreadEventHandler {
+
+		StormThreadEventHandler(AbstractModelProxy proxy) {
+			super(proxy);
+		}
+
+		@Override
+		public void handleSuspend(DebugEvent event) {
+			super.handleSuspend(event);
+		}
+
+		@Override
+		protected boolean isDisplayMonitors() {
+			return true;
+		}
+	}
+}
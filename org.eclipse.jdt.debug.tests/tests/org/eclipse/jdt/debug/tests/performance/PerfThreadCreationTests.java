@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.util.List;
+
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.test.performance.Dimension;
+
+import com.sun.jdi.ThreadReference;
+
+/**
+ * Tests the performance of creating the models of the threads of a VM, as
+ * done when attaching to it.
+ */
+public class PerfThreadCreationTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Constructor
+	 */
+	public PerfThreadCreationTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the time to create the models of 2000 live threads.
+	 */
+	public void testCreateThreadsAtAttach() throws Exception {
+		tagAsSummary("Creating the models of 2000 live threads", Dimension.ELAPSED_PROCESS);
+		String typeName = "LiveThreads";
+		createLineBreakpoint(34, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("The program did not suspend", thread);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			VirtualMachineImpl vm = (VirtualMachineImpl) target.getVM();
+			List<ThreadReference> threads = vm.allThreads();
+			assertTrue("The threads should be live", threads.size() >= 2000);
+
+			JDIThread[] models = new JDIThread[threads.size()];
+			for (int i = 0; i < 10; i++) {
+				startMeasuring();
+				vm.prefetchThreadInfo(threads);
+				for (int j = 0; j < models.length; j++) {
+					models[j] = new JDIThread(target, threads.get(j));
+				}
+				stopMeasuring();
+			}
+			int live = 0;
+			for (JDIThread model : models) {
+				if (!model.isSystemThread() && model.getName().startsWith("live-")) {
+					live++;
+				}
+			}
+			assertEquals("The live threads should be user threads", 2000, live);
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+}
@@ -22,6 +22,8 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.ui.DetailFormatter;
+import org.eclipse.jdt.internal.debug.ui.JavaDetailFormattersManager;
 import org.eclipse.test.performance.Dimension;
 
 /**
@@ -96,4 +98,59 @@ public class PerfVariableDetailTests extends AbstractDebugPerformanceTest implem
         	terminateAndRemove(thread);
         }
     }
+
+    /**
+     * Tests the performance of calculating details with a detail formatter, which
+     * is compiled once and then found in the cache of compiled expressions
+     */
+    public void testDetailFormatterDetails() throws Exception {
+    	tagAsSummary("Computing variable detail formatter details iteratively", Dimension.ELAPSED_PROCESS);
+        removeAllBreakpoints();
+        String typeName = "VariableDetails";
+        createLineBreakpoint(27, typeName);
+        IJavaThread thread = null;
+        JavaDetailFormattersManager jdfm = JavaDetailFormattersManager.getDefault();
+        DetailFormatter formatter = new DetailFormatter("java.util.Vector", "\"size: \" + size()", true);
+        try {
+        	jdfm.setAssociatedDetailFormatter(formatter);
+        	ILaunchConfiguration configuration = getLaunchConfiguration(typeName);
+        	thread = launchToBreakpoint(configuration, false);
+        	IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+        	assertNotNull("Missing top stack frame", frame);
+        	IJavaVariable variable = frame.findVariable("v");
+        	assertNotNull("Missing variable 'v'", variable);
+        	IDebugModelPresentation presentation = DebugUITools.newDebugModelPresentation("org.eclipse.jdt.debug");
+        	IValue value = variable.getValue();
+
+        	// warm up
+        	for (int i = 0; i < 100; i++) {
+        		synchronized (fLock) {
+        			presentation.computeDetail(value, this);
+        			fLock.wait(30000);
+        		}
+        	}
+        	long compilations = jdfm.getCacheStatistics().compilations();
+
+        	// test
+        	for (int i = 0; i < 300; i++) {
+        		startMeasuring();
+        		for (int j = 0; j < 150; j++) {
+	        		synchronized (fLock) {
+	        			presentation.computeDetail(value, this);
+	        			fLock.wait(30000);
+	        		}
+        		}
+        		stopMeasuring();
+        	}
+
+        	commitMeasurements();
+        	assertEquals("The detail formatter should not have been compiled again", compilations, jdfm.getCacheStatistics().compilations());
+        	assertPerformance();
+
+        } finally {
+        	jdfm.removeAssociatedDetailFormatter(formatter);
+        	removeAllBreakpoints();
+        	terminateAndRemove(thread);
+        }
+    }
 }
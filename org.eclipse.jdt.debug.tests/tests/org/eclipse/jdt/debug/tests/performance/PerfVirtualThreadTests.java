@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the performance of debugging a program running many virtual threads.
+ */
+public class PerfVirtualThreadTests extends AbstractDebugPerformanceTest {
+
+	private static final String TYPE_NAME = "VirtualThreadLoop";
+
+	/**
+	 * Constructor
+	 */
+	public PerfVirtualThreadTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected IJavaProject getProjectContext() {
+		return get23Project();
+	}
+
+	/**
+	 * Tests the time to reach a breakpoint in a virtual thread when all
+	 * virtual threads are tracked.
+	 */
+	public void testLaunchToBreakpointTrackingAllThreads() throws Exception {
+		tagAsSummary("Launch to breakpoint with 20000 virtual threads", Dimension.ELAPSED_PROCESS);
+		launchToBreakpoint(false);
+	}
+
+	/**
+	 * Tests the time to reach a breakpoint in a virtual thread when virtual
+	 * threads are only tracked once they report an event.
+	 */
+	public void testLaunchToBreakpointTrackingThreadsLazily() throws Exception {
+		tagAsSummary("Launch to breakpoint with 20000 lazily tracked virtual threads", Dimension.ELAPSED_PROCESS);
+		launchToBreakpoint(true);
+	}
+
+	private void launchToBreakpoint(boolean lazily) throws Exception {
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		boolean lazilyBefore = prefs.getBoolean(JDIDebugModel.PREF_TRACK_VIRTUAL_THREADS_LAZILY, false);
+		prefs.putBoolean(JDIDebugModel.PREF_TRACK_VIRTUAL_THREADS_LAZILY, lazily);
+		// just in case
+		removeAllBreakpoints();
+		createLineBreakpoint(33, "", TYPE_NAME + ".java", TYPE_NAME);
+		try {
+			for (int i = 0; i < 5; i++) {
+				IJavaThread thread = null;
+				try {
+					startMeasuring();
+					thread = launchToBreakpoint(TYPE_NAME);
+					stopMeasuring();
+					assertNotNull("The program did not suspend", thread);
+					assertTrue("The breakpoint should be hit in a virtual thread", ((JDIThread) thread).isVirtualThread());
+					JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+					assertEquals("Wrong virtual thread tracking", lazily, target.isTrackingVirtualThreadsLazily());
+					if (lazily) {
+						assertTrue("The parked virtual threads should be listed", target.getVirtualThreadCount() >= 20000);
+						assertEquals("A page of virtual threads should be materialized", 10, target.getVirtualThreads(0, 10).length);
+					}
+				} finally {
+					terminateAndRemove(thread);
+				}
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			removeAllBreakpoints();
+			prefs.putBoolean(JDIDebugModel.PREF_TRACK_VIRTUAL_THREADS_LAZILY, lazilyBefore);
+		}
+	}
+}
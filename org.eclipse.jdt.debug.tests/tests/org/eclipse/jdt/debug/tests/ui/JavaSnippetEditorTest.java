@@ -15,9 +15,15 @@
 package org.eclipse.jdt.debug.tests.ui;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.snippeteditor.JavaSnippetEditor;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.TextSelection;
@@ -69,12 +75,64 @@ public class JavaSnippetEditorTest extends AbstractDebugUiTests {
 	 * Tests if we can open scrapbook editor and evaluate 2+2 expression
 	 */
 	public void testEvaluation() throws Exception {
+		IDocument document = evaluate();
+		String newText = document.get();
+		assertEquals("Editor should show evaluation result", EXPRESSION + "(int) 4", newText);
+	}
+
+	/**
+	 * Tests that the classes of the evaluated snippet are defined in the scrapbook VM without being written to disk
+	 */
+	public void testEvaluationWithoutClassFiles() throws Exception {
+		File outputDirectory = project.getProject().getWorkingLocation(JDIDebugUIPlugin.getUniqueIdentifier()).toFile();
+		IDocument document = evaluate();
+		assertEquals("Editor should show evaluation result", EXPRESSION + "(int) 4", document.get());
+		try (Stream<Path> files = Files.walk(outputDirectory.toPath())) {
+			assertEquals("Snippet class files written", List.of(), files.filter(file -> file.toString().endsWith(".class")).toList());
+		}
+	}
+
+	/**
+	 * Tests that a second evaluation in the same scrapbook VM finds the classes shared with the first one, which the
+	 * scrapbook VM loads with a new class loader for each evaluation
+	 */
+	public void testSecondEvaluation() throws Exception {
+		File outputDirectory = project.getProject().getWorkingLocation(JDIDebugUIPlugin.getUniqueIdentifier()).toFile();
+		JavaSnippetEditor snippetEditor = openScrapbook();
+		IDocument document = evaluate(snippetEditor);
+		assertEquals("Editor should show first evaluation result", EXPRESSION + "(int) 4", document.get());
+		evaluate(snippetEditor);
+		assertEquals("Editor should show second evaluation result", EXPRESSION + "(int) 4(int) 4", document.get());
+		try (Stream<Path> files = Files.walk(outputDirectory.toPath())) {
+			assertEquals("Snippet class files written", List.of(), files.filter(file -> file.toString().endsWith(".class")).toList());
+		}
+	}
+
+	/**
+	 * Opens the scrapbook, evaluates its expression and waits for the result
+	 */
+	private IDocument evaluate() throws Exception {
+		JavaSnippetEditor snippetEditor = openScrapbook();
+		assertEquals("Unexpected content", EXPRESSION, getDocument(snippetEditor).get());
+		return evaluate(snippetEditor);
+	}
+
+	private JavaSnippetEditor openScrapbook() throws Exception {
 		JavaSnippetEditor snippetEditor = (JavaSnippetEditor) openEditor(scrapbook);
 		processUiEvents();
+		return snippetEditor;
+	}
+
+	private IDocument getDocument(JavaSnippetEditor snippetEditor) {
 		IDocumentProvider documentProvider = snippetEditor.getDocumentProvider();
-		IDocument document = documentProvider.getDocument(new FileEditorInput(scrapbook));
-		String originalText = document.get();
-		assertEquals("Unexpected content", EXPRESSION, originalText);
+		return documentProvider.getDocument(new FileEditorInput(scrapbook));
+	}
+
+	/**
+	 * Evaluates the expression at the start of the open scrapbook and waits for the result
+	 */
+	private IDocument evaluate(JavaSnippetEditor snippetEditor) throws Exception {
+		IDocument document = getDocument(snippetEditor);
 
 		// Select expression and trigger evaluation
 		sync(() -> {
@@ -95,9 +153,7 @@ public class JavaSnippetEditorTest extends AbstractDebugUiTests {
 		while (snippetEditor.isEvaluating() && System.nanoTime() < timeoutNanos) {
 			processUiEvents(1000);
 		}
-
-		String newText = document.get();
-		assertEquals("Editor should show evaluation result", EXPRESSION + "(int) 4", newText);
+		return document;
 	}
 
 }
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.variables;
 
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaObject;
@@ -22,6 +25,9 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIClassHistogram;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferencePathsValue;
 
 /**
  * Tests for instance retrieval
@@ -95,4 +101,100 @@ public class TestInstanceRetrieval extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests the search of the paths from GC roots to an element of a list
+	 * referenced by a local variable.
+	 */
+	public void testPathsToGCRoots() throws Exception {
+		String typeName = "java6.AllInstancesTests";
+		createLineBreakpoint(64, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			if (target.supportsInstanceRetrieval()) {
+				IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+				assertNotNull("missing top frame", frame);
+				IJavaVariable variable = frame.findVariable("list");
+				assertNotNull("Missing variable 'list'", variable);
+				IJavaObject list = (IJavaObject) variable.getValue();
+				IJavaArray elements = (IJavaArray) list.getField("elementData", false).getValue();
+				IJavaObject element = (IJavaObject) elements.getValue(0);
+
+				JDIReferencePathsValue paths = JDIReferencePathsValue.searchPaths(element);
+				assertSame("Paths should be remembered", paths, JDIReferencePathsValue.getPaths(element));
+				long end = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+				while (!paths.isSearchFinished() && System.currentTimeMillis() < end) {
+					Thread.sleep(50);
+				}
+				assertTrue("Search did not finish", paths.isSearchFinished());
+
+				IVariable[] found = paths.getVariables();
+				assertTrue("No path found", found.length > 0);
+				IVariable[] path = found[0].getValue().getVariables();
+				assertEquals("Path should start at the list", list, path[0].getValue());
+				assertEquals("Path should end at the element", element, path[path.length - 1].getValue());
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests the growth of instances between class histograms taken at two
+	 * suspends.
+	 */
+	public void testClassHistogram() throws Exception {
+		String typeName = "java6.AllInstancesTests";
+		createLineBreakpoint(64, typeName);
+		IJavaLineBreakpoint bp2 = createLineBreakpoint(66, typeName);
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			if (target.supportsInstanceRetrieval()) {
+				JDIClassHistogram first = JDIClassHistogram.take(target, new NullProgressMonitor());
+				assertNotNull("Histogram not taken", first);
+				assertNull("First histogram should not have a baseline", first.getBaseline());
+				int refObject = indexOf(first, "java6.AllInstancesTests$RefObject");
+				assertTrue("Missing type RefObject", refObject != -1);
+				assertEquals("Wrong instance count", 13, first.getCount(refObject));
+
+				thread = resumeToLineBreakpoint(thread, bp2);
+				JDIClassHistogram second = JDIClassHistogram.take(target, new NullProgressMonitor());
+				assertNotNull("Histogram not taken", second);
+				assertSame("Histogram should be compared to the one of the earlier suspend", first, second.getBaseline());
+				int refClass = indexOf(second, "java6.AllInstancesTests$RefClass");
+				assertTrue("Missing type RefClass", refClass != -1);
+				assertEquals("Wrong instance count", 1002, second.getCount(refClass));
+				assertEquals("Wrong growth", 1002, second.getGrowth(refClass));
+				assertEquals("Wrong growth", 0, second.getGrowth(indexOf(second, "java6.AllInstancesTests$RefObject")));
+
+				int[] top = second.getTopGrowers(100);
+				boolean found = false;
+				for (int i = 0; i < top.length; i++) {
+					if (i > 0) {
+						assertTrue("Growers should be sorted", second.getGrowth(top[i - 1]) >= second.getGrowth(top[i]));
+					}
+					found |= top[i] == refClass;
+				}
+				assertTrue("RefClass should be a top grower", found);
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private static int indexOf(JDIClassHistogram histogram, String typeName) {
+		for (int i = 0; i < histogram.size(); i++) {
+			if (typeName.equals(histogram.getTypeName(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
 }
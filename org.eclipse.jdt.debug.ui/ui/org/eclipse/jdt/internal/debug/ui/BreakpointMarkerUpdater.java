@@ -121,14 +121,13 @@ public class BreakpointMarkerUpdater implements IMarkerUpdater {
 					int length = charEnd - charStart + 1;
 					loc = new ValidBreakpointLocationLocator(unit, document.getLineOfOffset(position.getOffset())
 							+ 1, true, true, position.getOffset(), length);
-
+					unit.accept(loc);
 				} else {
-					loc = new ValidBreakpointLocationLocator(unit, document.getLineOfOffset(position.getOffset()) + 1, true, true);
+					loc = ValidBreakpointLocationLocator.locate(unit, document.getLineOfOffset(position.getOffset()) + 1, true, true);
 				}
 			} else {
-				loc = new ValidBreakpointLocationLocator(unit, document.getLineOfOffset(position.getOffset()) + 1, true, true);
+				loc = ValidBreakpointLocationLocator.locate(unit, document.getLineOfOffset(position.getOffset()) + 1, true, true);
 			}
-			unit.accept(loc);
 			if(loc.getLocationType() == ValidBreakpointLocationLocator.LOCATION_NOT_FOUND) {
 				return false;
 			}
@@ -93,6 +93,8 @@ public class DebugUIMessages extends NLS {
 
 	public static String JavaDebugPreferencePage_only_include_exported_entries;
 	public static String JavaDebugPreferencePage_filterUnrelatedBreakpoints;
+	public static String JavaDebugPreferencePage_trackVirtualThreadsLazily;
+	public static String JavaDebugPreferencePage_scrapbookWarmVM;
 	public static String JavaDebugPreferencePage_promptWhenDeletingCondidtionalBreakpoint;
 
 
@@ -263,6 +263,22 @@ public interface IJDIPreferencesConstants {
 	 */
 	public static final String PREF_AUTO_FORMAT_JSTCONSOLE = IJavaDebugUIConstants.PLUGIN_ID + ".auto_format_jstconsole"; //$NON-NLS-1$;
 
+	/**
+	 * Boolean preference controlling whether formatting the java stack trace
+	 * console folds repeated frames and thread stacks. Folding replaces them by
+	 * a summary line in the console document, so it is disabled by default.
+	 * @since 3.15
+	 */
+	public static final String PREF_FOLD_JSTCONSOLE = IJavaDebugUIConstants.PLUGIN_ID + ".fold_jstconsole"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether a scrapbook VM is launched in
+	 * advance for each open scrapbook page and kept ready for the next launch
+	 * of the page.
+	 * @since 3.15
+	 */
+	public static final String PREF_SCRAPBOOK_WARM_VM = IJavaDebugUIConstants.PLUGIN_ID + ".scrapbook_warm_vm"; //$NON-NLS-1$
+
 	/**
 	 * Boolean preference controlling whether to prompt with a dialog when deleting a conditional
 	 * breakpoint.
@@ -88,6 +88,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 	private Button fPromptDeleteConditionalBreakpoint;
 	private Button fFilterUnrelatedBreakpoints;
 	private Button fOnlyIncludeExportedEntries;
+	private Button fScrapbookWarmVM;
 	private Combo fSuspendVMorThread;
 	private Combo fWatchpoint;
 	private Combo fSuspendOnRecurringExceptionBreakpoints;
@@ -102,6 +103,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 	private Button fShowStepResultRemote;
 	private Button fAdvancedSourcelookup;
 	private Button fExceptionBreakpoint;
+	private Button fTrackVirtualThreadsLazily;
 
 	// Timeout preference widgets
 	private JavaDebugIntegerFieldEditor fTimeoutText;
@@ -189,8 +191,10 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 		fFilterUnrelatedBreakpoints = SWTFactory.createCheckButton(composite, DebugUIMessages.JavaDebugPreferencePage_filterUnrelatedBreakpoints, null, false, 1);
 
 		fExceptionBreakpoint = SWTFactory.createCheckButton(composite, DebugUIMessages.fExceptionBreakpointMsg, null, true, 1);
+		fTrackVirtualThreadsLazily = SWTFactory.createCheckButton(composite, DebugUIMessages.JavaDebugPreferencePage_trackVirtualThreadsLazily, null, false, 1);
 		SWTFactory.createVerticalSpacer(composite, 1);
 		fOnlyIncludeExportedEntries = SWTFactory.createCheckButton(composite, DebugUIMessages.JavaDebugPreferencePage_only_include_exported_entries, null, false, 1);
+		fScrapbookWarmVM = SWTFactory.createCheckButton(composite, DebugUIMessages.JavaDebugPreferencePage_scrapbookWarmVM, null, false, 1);
 
 		SWTFactory.createVerticalSpacer(composite, 1);
 		group = SWTFactory.createGroup(composite, DebugUIMessages.JavaDebugPreferencePage_ShowStepResult_1, 1, 1, GridData.FILL_HORIZONTAL);
@@ -233,6 +237,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 		store.setValue(IJDIPreferencesConstants.PREF_ALERT_UNABLE_TO_INSTALL_BREAKPOINT, fPromptUnableToInstallBreakpoint.getSelection());
 		store.setValue(IJDIPreferencesConstants.PREF_PROMPT_DELETE_CONDITIONAL_BREAKPOINT, fPromptDeleteConditionalBreakpoint.getSelection());
 		store.setValue(IJDIPreferencesConstants.PREF_OPEN_INSPECT_POPUP_ON_EXCEPTION, fOpenInspector.getSelection());
+		store.setValue(IJDIPreferencesConstants.PREF_SCRAPBOOK_WARM_VM, fScrapbookWarmVM.getSelection());
 		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
 		if(prefs != null) {
 			prefs.putBoolean(JDIDebugPlugin.PREF_ENABLE_HCR, fEnableHCRButton.getSelection());
@@ -254,6 +259,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 			prefs.putBoolean(JDIDebugModel.PREF_FILTER_BREAKPOINTS_FROM_UNRELATED_SOURCES, fFilterUnrelatedBreakpoints.getSelection());
 			prefs.putBoolean(JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, fAdvancedSourcelookup.getSelection());
 			prefs.putBoolean(JDIDebugModel.PREF_CREATE_EXCEPTION_BREAKPOINTS_ON_CLICK, fExceptionBreakpoint.getSelection());
+			prefs.putBoolean(JDIDebugModel.PREF_TRACK_VIRTUAL_THREADS_LAZILY, fTrackVirtualThreadsLazily.getSelection());
 			try {
 				prefs.flush();
 			}
@@ -287,6 +293,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 		fPromptUnableToInstallBreakpoint.setSelection(store.getDefaultBoolean(IJDIPreferencesConstants.PREF_ALERT_UNABLE_TO_INSTALL_BREAKPOINT));
 		fPromptDeleteConditionalBreakpoint.setSelection(store.getDefaultBoolean(IJDIPreferencesConstants.PREF_PROMPT_DELETE_CONDITIONAL_BREAKPOINT));
 		fOpenInspector.setSelection(store.getDefaultBoolean(IJDIPreferencesConstants.PREF_OPEN_INSPECT_POPUP_ON_EXCEPTION));
+		fScrapbookWarmVM.setSelection(store.getDefaultBoolean(IJDIPreferencesConstants.PREF_SCRAPBOOK_WARM_VM));
 		IEclipsePreferences prefs = DefaultScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
 		if(prefs != null) {
 			fEnableHCRButton.setSelection(prefs.getBoolean(JDIDebugPlugin.PREF_ENABLE_HCR, true));
@@ -304,6 +311,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 			fTimeoutText.setStringValue(Integer.toString(prefs.getInt(JDIDebugModel.PREF_REQUEST_TIMEOUT, JDIDebugModel.DEF_REQUEST_TIMEOUT)));
 			fFilterUnrelatedBreakpoints.setSelection(prefs.getBoolean(JDIDebugModel.PREF_FILTER_BREAKPOINTS_FROM_UNRELATED_SOURCES, true));
 			fExceptionBreakpoint.setSelection(prefs.getBoolean(JDIDebugModel.PREF_CREATE_EXCEPTION_BREAKPOINTS_ON_CLICK, true));
+			fTrackVirtualThreadsLazily.setSelection(prefs.getBoolean(JDIDebugModel.PREF_TRACK_VIRTUAL_THREADS_LAZILY, false));
 			fAdvancedSourcelookup.setSelection(prefs.getBoolean(JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, true));
 		}
 		prefs = DefaultScope.INSTANCE.getNode(LaunchingPlugin.ID_PLUGIN);
@@ -329,6 +337,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 		fPromptUnableToInstallBreakpoint.setSelection(store.getBoolean(IJDIPreferencesConstants.PREF_ALERT_UNABLE_TO_INSTALL_BREAKPOINT));
 		fPromptDeleteConditionalBreakpoint.setSelection(store.getBoolean(IJDIPreferencesConstants.PREF_PROMPT_DELETE_CONDITIONAL_BREAKPOINT));
 		fOpenInspector.setSelection(store.getBoolean(IJDIPreferencesConstants.PREF_OPEN_INSPECT_POPUP_ON_EXCEPTION));
+		fScrapbookWarmVM.setSelection(store.getBoolean(IJDIPreferencesConstants.PREF_SCRAPBOOK_WARM_VM));
 
 		IPreferencesService prefs = Platform.getPreferencesService();
 
@@ -348,6 +357,7 @@ public class JavaDebugPreferencePage extends PreferencePage implements IWorkbenc
 		fTimeoutText.setStringValue(Integer.toString(prefs.getInt(bundleId, JDIDebugModel.PREF_REQUEST_TIMEOUT, JDIDebugModel.DEF_REQUEST_TIMEOUT, null)));
 		fFilterUnrelatedBreakpoints.setSelection(prefs.getBoolean(bundleId, JDIDebugModel.PREF_FILTER_BREAKPOINTS_FROM_UNRELATED_SOURCES, true, null));
 		fExceptionBreakpoint.setSelection(prefs.getBoolean(bundleId, JDIDebugModel.PREF_CREATE_EXCEPTION_BREAKPOINTS_ON_CLICK, true, null));
+		fTrackVirtualThreadsLazily.setSelection(prefs.getBoolean(bundleId, JDIDebugModel.PREF_TRACK_VIRTUAL_THREADS_LAZILY, false, null));
 		fAdvancedSourcelookup.setSelection(prefs.getBoolean(bundleId, JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, true, null));
 
 		bundleId = LaunchingPlugin.ID_PLUGIN;
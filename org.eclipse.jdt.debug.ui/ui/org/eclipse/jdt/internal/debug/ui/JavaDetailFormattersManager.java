@@ -16,10 +16,17 @@ package org.eclipse.jdt.internal.debug.ui;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
@@ -90,11 +97,22 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 */
 	private HashMap<String, DetailFormatter> fDetailFormattersMap;
 
+	/**
+	 * Maximum number of compiled expressions cached per debug target
+	 */
+	private static final int MAX_CACHED_EXPRESSIONS = 256;
+
 	/**
 	 * Cache of compiled expressions.
-	 * Associate a pair type name/debug target to a compiled expression.
+	 * Associate a debug target to the compiled expressions of type names, so that the
+	 * expressions of a target can be removed at once. The expression of a type name is
+	 * compiled by the first caller asking for it, while other callers wait for it.
 	 */
-	private final HashMap<Key, Expression> fCacheMap;
+	private final Map<IJavaDebugTarget, ExpressionCache> fCacheMap = new ConcurrentHashMap<>();
+
+	private final AtomicLong fCacheHits = new AtomicLong();
+	private final AtomicLong fCacheCompilations = new AtomicLong();
+	private final AtomicLong fCacheEvictions = new AtomicLong();
 
 	/**
 	 * JavaDetailFormattersManager constructor.
@@ -105,7 +123,6 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		DebugPlugin.getDefault().getLaunchManager().addLaunchListener(this);
 		DebugPlugin.getDefault().addDebugEventListener(this);
 		DebugUITools.getPreferenceStore().addPropertyChangeListener(this);
-		fCacheMap= new HashMap<>();
 	}
 
 	/**
@@ -445,11 +462,60 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		if (type == null) {
 			return null;
 		}
+		if (debugTarget.isTerminated() || debugTarget.isDisconnected()) {
+			// the cache of the target has been removed already
+			return compileExpression(javaObject, type, debugTarget, thread);
+		}
 		String typeName = type.getName();
-		Key key = new Key(typeName, debugTarget);
-		if (fCacheMap.containsKey(key)) {
-			return fCacheMap.get(key);
+		ExpressionCache cache = fCacheMap.computeIfAbsent(debugTarget, target -> new ExpressionCache());
+		if (debugTarget.isTerminated() || debugTarget.isDisconnected()) {
+			// the target went away meanwhile, its cache may have been removed
+			// before it was added again
+			fCacheMap.remove(debugTarget, cache);
+			return compileExpression(javaObject, type, debugTarget, thread);
+		}
+		FutureTask<Expression> task;
+		boolean compile = false;
+		synchronized (cache) {
+			task = cache.get(typeName);
+			if (task == null) {
+				task = new FutureTask<>(() -> compileExpression(javaObject, type, debugTarget, thread));
+				cache.put(typeName, task);
+				compile = true;
+			}
+		}
+		if (compile) {
+			fCacheCompilations.incrementAndGet();
+			task.run();
+		} else {
+			fCacheHits.incrementAndGet();
 		}
+		try {
+			Expression expression = task.get();
+			if (expression == null) {
+				cache.remove(typeName, task);
+			}
+			return expression;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			cache.remove(typeName, task);
+			if (e.getCause() instanceof CoreException coreException) {
+				throw coreException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new CoreException(Status.error(e.getCause().getMessage(), e.getCause()));
+		}
+	}
+
+	/**
+	 * Compiles the code formatter associated with the given type of the given object, or
+	 * returns <code>null</code> if none.
+	 */
+	private Expression compileExpression(IJavaObject javaObject, IJavaType type, IJavaDebugTarget debugTarget, IJavaThread thread) throws CoreException {
 		String snippet = null;
 
 		if (type instanceof IJavaClassType) {
@@ -478,7 +544,6 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 							return null;
 						}
 					}
-					fCacheMap.put(key, exp);
 					return exp;
 				}
 			}
@@ -486,6 +551,21 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		return null;
 	}
 
+	/**
+	 * Returns statistics of the cache of compiled expressions.
+	 *
+	 * @return the statistics of the cache
+	 */
+	public CacheStatistics getCacheStatistics() {
+		int size = 0;
+		for (ExpressionCache cache : fCacheMap.values()) {
+			synchronized (cache) {
+				size += cache.size();
+			}
+		}
+		return new CacheStatistics(fCacheHits.get(), fCacheCompilations.get(), fCacheEvictions.get(), size);
+	}
+
 	/**
 	 * Return the expression which corresponds to the code formatter associated with the type of the given primitive or <code>null</code> if none.
 	 *
@@ -652,40 +732,50 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 *
 	 * @param debugTarget the target
 	 */
-	private synchronized void deleteCacheForTarget(IJavaDebugTarget debugTarget) {
-		for (Iterator<Key> iter= fCacheMap.keySet().iterator(); iter.hasNext();) {
-			Key key= iter.next();
-			if ((key).fDebugTarget == debugTarget) {
-				iter.remove();
-			}
-		}
+	private void deleteCacheForTarget(IJavaDebugTarget debugTarget) {
+		fCacheMap.remove(debugTarget);
+	}
+
+	/**
+	 * Statistics of the cache of compiled expressions
+	 *
+	 * @param hits
+	 *            number of times a compiled expression has been found in the cache
+	 * @param compilations
+	 *            number of times an expression has been compiled for the cache
+	 * @param evictions
+	 *            number of compiled expressions removed because the cache of a
+	 *            debug target was full
+	 * @param size
+	 *            number of compiled expressions in the cache
+	 */
+	public record CacheStatistics(long hits, long compilations, long evictions, int size) {
 	}
 
 	/**
-	 * Object used as the key in the cache map for associate a compiled
-	 * expression with a pair type name/debug target
+	 * Compiled expressions of a debug target by type name, least recently used
+	 * first. Guarded by itself.
 	 */
-	static private class Key {
-		private final String fTypeName;
-		private final IJavaDebugTarget fDebugTarget;
+	private class ExpressionCache extends LinkedHashMap<String, FutureTask<Expression>> {
+
+		private static final long serialVersionUID = 1L;
 
-		Key(String typeName, IJavaDebugTarget debugTarget) {
-			fTypeName= typeName;
-			fDebugTarget= debugTarget;
+		ExpressionCache() {
+			super(16, 0.75f, true);
 		}
 
 		@Override
-		public boolean equals(Object obj) {
-			if (obj instanceof Key) {
-				Key key= (Key) obj;
-				return fTypeName != null && fDebugTarget != null && fTypeName.equals(key.fTypeName) && fDebugTarget.equals(key.fDebugTarget);
+		protected boolean removeEldestEntry(Map.Entry<String, FutureTask<Expression>> eldest) {
+			if (size() > MAX_CACHED_EXPRESSIONS) {
+				fCacheEvictions.incrementAndGet();
+				return true;
 			}
 			return false;
 		}
 
 		@Override
-		public int hashCode() {
-			return fTypeName.hashCode() / 2 + fDebugTarget.hashCode() / 2;
+		public synchronized boolean remove(Object key, Object value) {
+			return super.remove(key, value);
 		}
 	}
 
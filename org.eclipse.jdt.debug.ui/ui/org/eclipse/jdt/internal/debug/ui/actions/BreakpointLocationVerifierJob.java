@@ -111,8 +111,7 @@ public class BreakpointLocationVerifierJob extends Job {
 	 */
 	@Override
 	public IStatus run(IProgressMonitor monitor) {
-		ValidBreakpointLocationLocator locator = new ValidBreakpointLocationLocator(fCunit, fLineNumber, true, fBestMatch);
-		fCunit.accept(locator);
+		ValidBreakpointLocationLocator locator = ValidBreakpointLocationLocator.locate(fCunit, fLineNumber, true, fBestMatch);
 		int lineNumber = locator.getLineLocation();
 		String typeName = locator.getFullyQualifiedTypeName();
 		if (typeName == null) {
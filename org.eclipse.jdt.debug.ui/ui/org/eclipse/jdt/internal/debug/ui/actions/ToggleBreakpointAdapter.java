@@ -354,9 +354,8 @@ public class ToggleBreakpointAdapter implements IToggleBreakpointsTargetExtensio
 			}
 			IJavaElement[] elements = unit.codeSelect(textSelection.getOffset(), textSelection.getLength());
 			if (elements == null || elements.length == 0) {
-				ValidBreakpointLocationLocator locNew = new ValidBreakpointLocationLocator(loc.getCompilationUnit(), textSelection.getStartLine()
+				ValidBreakpointLocationLocator locNew = ValidBreakpointLocationLocator.locate(loc.getCompilationUnit(), textSelection.getStartLine()
 						+ 1, true, true);
-				locNew.getCompilationUnit().accept(locNew);
 				toggleLineBreakpoints(part, selection, false, locNew);
 				return Status.OK_STATUS;
 			}
@@ -370,9 +369,8 @@ public class ToggleBreakpointAdapter implements IToggleBreakpointsTargetExtensio
 			if (method != null) {
 				doToggleMethodBreakpoint(method, loc.getLambdaMethodName(), loc.getfLambdaMethodSignature(), null, part, selection, monitor);
 			} else {
-				ValidBreakpointLocationLocator locNew = new ValidBreakpointLocationLocator(loc.getCompilationUnit(), textSelection.getStartLine()
+				ValidBreakpointLocationLocator locNew = ValidBreakpointLocationLocator.locate(loc.getCompilationUnit(), textSelection.getStartLine()
 						+ 1, true, true);
-				locNew.getCompilationUnit().accept(locNew);
 				toggleLineBreakpoints(part, selection, false, locNew);
 			}
 
@@ -541,8 +539,7 @@ public class ToggleBreakpointAdapter implements IToggleBreakpointsTargetExtensio
 			}
 			if (locator == null && BreakpointToggleUtils.isToggleTracepoint()) {
 				CompilationUnit cUnit = parseCompilationUnit(type.getTypeRoot());
-				locator = new ValidBreakpointLocationLocator(cUnit, tsel.getStartLine() + 1, true, bestMatch);
-				cUnit.accept(locator);
+				locator = ValidBreakpointLocationLocator.locate(cUnit, tsel.getStartLine() + 1, true, bestMatch);
 			}
 			String tname = null;
 			IJavaProject project = type.getJavaProject();
@@ -22,6 +22,10 @@ public class ConsoleMessages extends NLS {
 
 	public static String AutoFormatSettingAction_1;
 
+	public static String FoldSettingAction_0;
+
+	public static String FoldSettingAction_1;
+
 	public static String JavaStackTraceConsole_1;
 
 	public static String JavaStackTraceHyperlink_2;
@@ -41,6 +45,10 @@ public class ConsoleMessages extends NLS {
 	public static String JavaDebugStackTraceHyperlink_dialog_title;
 	public static String JavaDebugStackTraceHyperlink_dialog_message;
 
+	public static String JavaConsoleLineTracker_0;
+	public static String JavaStackTraceFormatter_0;
+	public static String JavaStackTraceFormatter_1;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, ConsoleMessages.class);
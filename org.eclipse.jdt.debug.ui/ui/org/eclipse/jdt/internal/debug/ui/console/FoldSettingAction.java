@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.console;
+
+import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jface.action.Action;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.swt.SWT;
+
+/**
+ * Toggles whether formatting the java stack trace console folds repeated
+ * frames and thread stacks. Takes effect the next time the console is
+ * formatted.
+ */
+public class FoldSettingAction extends Action {
+	private final IPreferenceStore fPreferenceStore;
+
+	public FoldSettingAction() {
+		super(ConsoleMessages.FoldSettingAction_0, SWT.TOGGLE);
+		setToolTipText(ConsoleMessages.FoldSettingAction_1);
+
+		fPreferenceStore = JDIDebugUIPlugin.getDefault().getPreferenceStore();
+		setChecked(fPreferenceStore.getBoolean(IJDIPreferencesConstants.PREF_FOLD_JSTCONSOLE));
+	}
+
+	@Override
+	public void run() {
+		fPreferenceStore.setValue(IJDIPreferencesConstants.PREF_FOLD_JSTCONSOLE, isChecked());
+	}
+}
@@ -0,0 +1,387 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.console;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.ui.console.IConsole;
+import org.eclipse.debug.ui.console.IConsoleLineTrackerExtension;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.ui.console.IHyperlink;
+import org.eclipse.ui.console.TextConsole;
+
+/**
+ * Adds hyperlinks to stack traces printed in the console of Java and Ant
+ * processes, using a {@link JavaStackTraceLineScanner}.
+ * <p>
+ * While a process floods its console with output, the matches are not linked
+ * right away but remembered. The remembered matches are linked when they are
+ * shown by a console page, see {@link JavaConsoleLineTrackerPageParticipant},
+ * and the remaining ones once the output stops.
+ * </p>
+ * <p>
+ * Pending matches are guarded by the console document, as the console
+ * document synchronizes on itself while it is changed.
+ * </p>
+ *
+ * @since 3.15
+ */
+public class JavaConsoleLineTracker implements IConsoleLineTrackerExtension, JavaStackTraceLineScanner.IMatchListener, IDocumentListener {
+
+	/**
+	 * Time in which the number of lines is counted to detect a flood of
+	 * output, in nanoseconds
+	 */
+	private static final long FLOOD_WINDOW = 200_000_000L;
+
+	/**
+	 * Number of lines in the flood window above which matches are not linked
+	 * right away
+	 */
+	private static final int FLOOD_LINES = 2000;
+
+	/**
+	 * Time without output after which the remaining matches are linked, in
+	 * milliseconds
+	 */
+	private static final long IDLE_DELAY = 500;
+
+	/**
+	 * Trackers of the consoles they have been initialized with
+	 */
+	private static final Map<org.eclipse.ui.console.IConsole, JavaConsoleLineTracker> fgTrackers = new ConcurrentHashMap<>();
+
+	private IConsole fConsole;
+	private TextConsole fTextConsole;
+	private IDocument fDocument;
+	private JavaStackTraceLineScanner fScanner;
+	private final DocumentText fText = new DocumentText();
+
+	/**
+	 * Matches which have not been linked yet, as triples of kind, offset and
+	 * length, in the order of their offsets
+	 */
+	private int[] fPending = new int[0];
+	private int fPendingSize;
+
+	private long fWindowStart;
+	private int fWindowLines;
+	private boolean fFlooding;
+	private volatile long fLastLine;
+
+	private final ListenerList<Runnable> fPendingListeners = new ListenerList<>();
+
+	/**
+	 * Links the pending matches once the output stops
+	 */
+	private final Job fLinkJob = new Job(ConsoleMessages.JavaConsoleLineTracker_0) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			long idle = (System.nanoTime() - fLastLine) / 1_000_000L;
+			if (idle < IDLE_DELAY) {
+				schedule(IDLE_DELAY - idle);
+			} else {
+				linkPendingMatches(0, Integer.MAX_VALUE);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	/**
+	 * Allocation free view of the console document
+	 */
+	private class DocumentText implements CharSequence {
+		@Override
+		public char charAt(int index) {
+			try {
+				return fDocument.getChar(index);
+			} catch (BadLocationException e) {
+				throw new IndexOutOfBoundsException(index);
+			}
+		}
+
+		@Override
+		public int length() {
+			return fDocument.getLength();
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			try {
+				return fDocument.get(start, end - start);
+			} catch (BadLocationException e) {
+				throw new IndexOutOfBoundsException(start);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return fDocument.get();
+		}
+	}
+
+	public JavaConsoleLineTracker() {
+		fLinkJob.setSystem(true);
+	}
+
+	/**
+	 * Returns the tracker adding hyperlinks to the given console, or
+	 * <code>null</code> if none.
+	 *
+	 * @param console
+	 *            a console
+	 * @return the tracker of the console or <code>null</code>
+	 */
+	public static JavaConsoleLineTracker getTracker(org.eclipse.ui.console.IConsole console) {
+		return fgTrackers.get(console);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.debug.ui.console.IConsoleLineTracker#init(org.eclipse.debug.ui.console.IConsole)
+	 */
+	@Override
+	public void init(IConsole console) {
+		if (!(console instanceof TextConsole)) {
+			return;
+		}
+		fConsole = console;
+		fTextConsole = (TextConsole) console;
+		fDocument = console.getDocument();
+		fScanner = new JavaStackTraceLineScanner(JavaCore.getJavaLikeExtensions());
+		fDocument.addDocumentListener(this);
+		fgTrackers.put(fTextConsole, this);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.debug.ui.console.IConsoleLineTracker#lineAppended(org.eclipse.jface.text.IRegion)
+	 */
+	@Override
+	public void lineAppended(IRegion line) {
+		if (fDocument == null) {
+			return;
+		}
+		updateFlooding();
+		synchronized (fDocument) {
+			try {
+				fScanner.scan(fText, line.getOffset(), line.getOffset() + line.getLength(), this);
+			} catch (IndexOutOfBoundsException e) {
+				// the line has been removed from the console
+			}
+		}
+		if (fFlooding) {
+			if (fLinkJob.getState() == Job.NONE) {
+				fLinkJob.schedule(IDLE_DELAY);
+			}
+			for (Runnable listener : fPendingListeners) {
+				listener.run();
+			}
+		}
+	}
+
+	/**
+	 * Counts the given line and updates whether the console is flooded with
+	 * output.
+	 */
+	private void updateFlooding() {
+		long now = System.nanoTime();
+		fLastLine = now;
+		if (now - fWindowStart > FLOOD_WINDOW) {
+			fFlooding = fWindowLines > FLOOD_LINES && now - fWindowStart < 2 * FLOOD_WINDOW;
+			fWindowStart = now;
+			fWindowLines = 0;
+		}
+		if (++fWindowLines > FLOOD_LINES) {
+			fFlooding = true;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceLineScanner.IMatchListener#matchFound(int, int, int)
+	 */
+	@Override
+	public void matchFound(int kind, int offset, int length) {
+		if (fFlooding) {
+			if (fPendingSize + 3 > fPending.length) {
+				fPending = Arrays.copyOf(fPending, Math.max(96, fPending.length * 2));
+			}
+			fPending[fPendingSize++] = kind;
+			fPending[fPendingSize++] = offset;
+			fPending[fPendingSize++] = length;
+		} else {
+			link(kind, offset, length);
+		}
+	}
+
+	/**
+	 * Adds a hyperlink for the given match.
+	 */
+	private void link(int kind, int offset, int length) {
+		IHyperlink link;
+		switch (kind) {
+			case JavaStackTraceLineScanner.STACK_FRAME:
+				link = new JavaStackTraceHyperlink(fTextConsole);
+				break;
+			case JavaStackTraceLineScanner.NATIVE_METHOD:
+				link = new JavaNativeStackTraceHyperlink(fTextConsole);
+				break;
+			default:
+				try {
+					link = new JavaExceptionHyperLink(fTextConsole, fDocument.get(offset, length));
+				} catch (BadLocationException e) {
+					return;
+				}
+				break;
+		}
+		fConsole.addLink(link, offset, length);
+	}
+
+	/**
+	 * Adds hyperlinks for the pending matches overlapping the given range of
+	 * the console document.
+	 *
+	 * @param start
+	 *            start offset of the range
+	 * @param end
+	 *            end offset of the range, exclusive
+	 */
+	public void linkPendingMatches(int start, int end) {
+		IDocument document = fDocument;
+		if (document == null) {
+			return;
+		}
+		synchronized (document) {
+			if (fPendingSize == 0) {
+				return;
+			}
+			// first match ending after the start of the range
+			int low = 0;
+			int high = fPendingSize / 3;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				int index = middle * 3;
+				if (fPending[index + 1] + fPending[index + 2] <= start) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			int from = low * 3;
+			int to = from;
+			while (to < fPendingSize && fPending[to + 1] < end) {
+				link(fPending[to], fPending[to + 1], fPending[to + 2]);
+				to += 3;
+			}
+			System.arraycopy(fPending, to, fPending, from, fPendingSize - to);
+			fPendingSize -= to - from;
+		}
+	}
+
+	/**
+	 * Adds a runnable which is run when matches have not been linked right
+	 * away.
+	 *
+	 * @param listener
+	 *            the runnable
+	 */
+	public void addPendingMatchesListener(Runnable listener) {
+		fPendingListeners.add(listener);
+	}
+
+	/**
+	 * Removes a runnable added with
+	 * {@link #addPendingMatchesListener(Runnable)}.
+	 *
+	 * @param listener
+	 *            the runnable
+	 */
+	public void removePendingMatchesListener(Runnable listener) {
+		fPendingListeners.remove(listener);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jface.text.IDocumentListener#documentAboutToBeChanged(org.eclipse.jface.text.DocumentEvent)
+	 */
+	@Override
+	public void documentAboutToBeChanged(DocumentEvent event) {
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jface.text.IDocumentListener#documentChanged(org.eclipse.jface.text.DocumentEvent)
+	 */
+	@Override
+	public void documentChanged(DocumentEvent event) {
+		synchronized (event.getDocument()) {
+			int offset = event.getOffset();
+			int length = event.getLength();
+			if (fPendingSize == 0 || (length == 0 && offset >= fPending[fPendingSize - 2] + fPending[fPendingSize - 1])) {
+				// output appended
+				return;
+			}
+			// drop the matches overlapping the replaced text and move the ones following it
+			int delta = (event.getText() == null ? 0 : event.getText().length()) - length;
+			int size = 0;
+			for (int i = 0; i < fPendingSize; i += 3) {
+				int matchOffset = fPending[i + 1];
+				if (matchOffset + fPending[i + 2] <= offset) {
+					size += 3;
+				} else if (matchOffset >= offset + length) {
+					fPending[size++] = fPending[i];
+					fPending[size++] = matchOffset + delta;
+					fPending[size++] = fPending[i + 2];
+				}
+			}
+			fPendingSize = size;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.debug.ui.console.IConsoleLineTrackerExtension#consoleClosed()
+	 */
+	@Override
+	public void consoleClosed() {
+		fLastLine = 0;
+		if (fPendingSize > 0) {
+			fLinkJob.schedule();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.debug.ui.console.IConsoleLineTracker#dispose()
+	 */
+	@Override
+	public void dispose() {
+		fLinkJob.cancel();
+		fPendingListeners.clear();
+		if (fDocument != null) {
+			fgTrackers.remove(fTextConsole);
+			fDocument.removeDocumentListener(this);
+			synchronized (fDocument) {
+				fPendingSize = 0;
+			}
+			fDocument = null;
+		}
+	}
+}
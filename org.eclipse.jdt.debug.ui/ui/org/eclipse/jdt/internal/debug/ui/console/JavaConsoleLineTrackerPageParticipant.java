@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.console;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jface.text.ITextListener;
+import org.eclipse.jface.text.IViewportListener;
+import org.eclipse.jface.text.TextEvent;
+import org.eclipse.jface.text.TextViewer;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.ui.console.IConsole;
+import org.eclipse.ui.console.IConsolePageParticipant;
+import org.eclipse.ui.console.TextConsolePage;
+import org.eclipse.ui.part.IPageBookViewPage;
+
+/**
+ * Links the matches of a {@link JavaConsoleLineTracker} which have not been
+ * linked yet as soon as they are shown by a console page.
+ *
+ * @since 3.15
+ */
+public class JavaConsoleLineTrackerPageParticipant implements IConsolePageParticipant, IViewportListener, ITextListener, Runnable {
+
+	private IConsole fConsole;
+	private TextViewer fViewer;
+	private JavaConsoleLineTracker fTracker;
+
+	/**
+	 * Whether linking the shown matches has been scheduled
+	 */
+	private final AtomicBoolean fScheduled = new AtomicBoolean();
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.ui.console.IConsolePageParticipant#init(org.eclipse.ui.part.IPageBookViewPage, org.eclipse.ui.console.IConsole)
+	 */
+	@Override
+	public void init(IPageBookViewPage page, IConsole console) {
+		if (!(page instanceof TextConsolePage)) {
+			return;
+		}
+		fConsole = console;
+		fViewer = ((TextConsolePage) page).getViewer();
+		if (fViewer != null) {
+			fViewer.addViewportListener(this);
+			fViewer.addTextListener(this);
+			update();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.ui.console.IConsolePageParticipant#dispose()
+	 */
+	@Override
+	public void dispose() {
+		if (fTracker != null) {
+			fTracker.removePendingMatchesListener(this);
+			fTracker = null;
+		}
+		if (fViewer != null) {
+			fViewer.removeViewportListener(this);
+			fViewer.removeTextListener(this);
+			fViewer = null;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.core.runtime.IAdaptable#getAdapter(java.lang.Class)
+	 */
+	@Override
+	public <T> T getAdapter(Class<T> adapter) {
+		return null;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.ui.console.IConsolePageParticipant#activated()
+	 */
+	@Override
+	public void activated() {
+		update();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.ui.console.IConsolePageParticipant#deactivated()
+	 */
+	@Override
+	public void deactivated() {
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jface.text.IViewportListener#viewportChanged(int)
+	 */
+	@Override
+	public void viewportChanged(int verticalOffset) {
+		update();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jface.text.ITextListener#textChanged(org.eclipse.jface.text.TextEvent)
+	 */
+	@Override
+	public void textChanged(TextEvent event) {
+		update();
+	}
+
+	/**
+	 * Schedules linking the shown matches, unless it is scheduled already.
+	 */
+	private void update() {
+		Control control = fViewer == null ? null : fViewer.getControl();
+		if (control != null && !control.isDisposed() && fScheduled.compareAndSet(false, true)) {
+			control.getDisplay().asyncExec(this::linkShownMatches);
+		}
+	}
+
+	/**
+	 * Links the pending matches in the lines shown by the viewer.
+	 */
+	private void linkShownMatches() {
+		fScheduled.set(false);
+		TextViewer viewer = fViewer;
+		if (viewer == null || viewer.getControl().isDisposed()) {
+			return;
+		}
+		if (fTracker == null) {
+			// the tracker is initialized once the process writes to the console
+			fTracker = JavaConsoleLineTracker.getTracker(fConsole);
+			if (fTracker == null) {
+				return;
+			}
+			fTracker.addPendingMatchesListener(this);
+		}
+		fTracker.linkPendingMatches(viewer.getTopIndexStartOffset(), viewer.getBottomIndexEndOffset());
+	}
+
+	/**
+	 * Notification that the tracker has not linked matches right away.
+	 */
+	@Override
+	public void run() {
+		update();
+	}
+}
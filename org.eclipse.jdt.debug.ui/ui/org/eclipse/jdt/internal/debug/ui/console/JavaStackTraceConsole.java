@@ -20,20 +20,21 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.StringTokenizer;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.ui.IDebugUIConstants;
+import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
 import org.eclipse.jdt.internal.debug.ui.IJavaDebugHelpContextIds;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.JavaDebugImages;
 import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.rules.FastPartitioner;
 import org.eclipse.jface.text.rules.RuleBasedPartitionScanner;
@@ -42,11 +43,11 @@ import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.custom.StyleRange;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.console.IConsoleDocumentPartitioner;
 import org.eclipse.ui.console.IConsoleView;
 import org.eclipse.ui.console.TextConsole;
 import org.eclipse.ui.part.IPageBookViewPage;
-import org.eclipse.ui.progress.WorkbenchJob;
 
 /**
  * Provides a stack trace console for Java stack traces
@@ -78,9 +79,11 @@ public class JavaStackTraceConsole extends TextConsole {
     public final static String CONSOLE_TYPE = "javaStackTraceConsole"; //$NON-NLS-1$
     public final static String FILE_NAME = JDIDebugUIPlugin.getDefault().getStateLocation().toOSString() + File.separator + "stackTraceConsole.txt"; //$NON-NLS-1$
 
-	private static final String NL = "\n"; //$NON-NLS-1$
-	private static final String INDENT_STR = "    "; //$NON-NLS-1$
-	private static final int INDENT_WIDTH = 4;
+	/**
+	 * Number of characters formatted before the formatted text is applied to
+	 * the document
+	 */
+	private static final int FORMAT_CHUNK_SIZE = 64 * 1024;
 
     private final JavaStackTraceConsolePartitioner partitioner = new JavaStackTraceConsolePartitioner();
     private final IPropertyChangeListener propertyListener = new IPropertyChangeListener() {
@@ -105,6 +108,18 @@ public class JavaStackTraceConsole extends TextConsole {
 			showsUsageHint = false;
 		}
 	};
+	private final IDocumentListener prefetchListener = new IDocumentListener() {
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+		}
+		@Override
+		public void documentChanged(DocumentEvent event) {
+			// search the types of pasted or formatted stack traces before their links are followed
+			JavaStackTraceTypeCache.getCache(JavaStackTraceConsole.this).schedulePrefetch();
+		}
+	};
+	/** Job formatting the document, if any. */
+	private volatile FormatJob fFormatJob;
 
 	/**
 	 * Constructor
@@ -114,6 +129,7 @@ public class JavaStackTraceConsole extends TextConsole {
         Font font = JFaceResources.getFont(IDebugUIConstants.PREF_CONSOLE_FONT);
         setFont(font);
         partitioner.connect(getDocument());
+		getDocument().addDocumentListener(prefetchListener);
     }
 
 	/**
@@ -149,6 +165,14 @@ public class JavaStackTraceConsole extends TextConsole {
     @Override
 	protected void dispose() {
         saveDocument();
+		synchronized (this) {
+			if (fFormatJob != null) {
+				fFormatJob.cancel();
+				fFormatJob = null;
+			}
+		}
+		getDocument().removeDocumentListener(prefetchListener);
+		JavaStackTraceTypeCache.getCache(this).cancelPrefetch();
         JFaceResources.getFontRegistry().removeListener(propertyListener);
         super.dispose();
     }
@@ -200,154 +224,90 @@ public class JavaStackTraceConsole extends TextConsole {
     /**
      * performs the formatting of the stacktrace console
      */
-    public void format() {
-    	WorkbenchJob job = new WorkbenchJob(ConsoleMessages.JavaStackTraceConsole_1) {
-			@Override
-			public IStatus runInUIThread(IProgressMonitor monitor) {
-	            IDocument document = getDocument();
-	            String orig = document.get();
-	            if (orig != null && orig.length() > 0) {
-	                document.set(format(orig));
-				}
-
-				return Status.OK_STATUS;
-			}
-		};
-		job.setSystem(true);
-		job.schedule();
-
-    }
+	public synchronized void format() {
+		if (fFormatJob != null) {
+			fFormatJob.cancel();
+		}
+		fFormatJob = new FormatJob(JDIDebugUIPlugin.getDefault().getPreferenceStore().getBoolean(IJDIPreferencesConstants.PREF_FOLD_JSTCONSOLE));
+		fFormatJob.schedule();
+	}
 
 	/**
-	 * Underlying format operation
-	 *
-	 * @param trace
-	 *            the stack trace to format
-	 * @return the formatted stack trace for this console
+	 * Formats the document in the background and replaces its text chunk by
+	 * chunk, so that large stack traces and thread dumps neither block the UI
+	 * nor need to be formatted before anything is shown. Stops when the
+	 * document is changed by someone else.
 	 */
-	private String format(String trace) {
-		StringTokenizer tokenizer = new StringTokenizer(trace, " \t\n\r\f", true); //$NON-NLS-1$
-		StringBuilder formattedTrace = new StringBuilder(trace.length());
+	private class FormatJob extends Job {
 
-		boolean insideAt = false;
-		boolean newLine = true;
-		int pendingSpaces = 0;
-		boolean antTrace = false;
-		int depth = 1;
-		// Block depth map is used to find the most likely indentation for a Caused.
-		// In combination with Suppressed the correct indentation can be ambiguous.
-		// Map has indentation in number of spaces of a previous block as key and formated
-		// indentation depth used for this block as value.
-		Map<Integer, Integer> blockDepth = new HashMap<>(3);
+		private final boolean fFold;
+		private long fStamp;
 
-		while (tokenizer.hasMoreTokens()) {
-			String token = tokenizer.nextToken();
-			if (token.isEmpty()) {
-				continue; // paranoid
-			}
-			char c = token.charAt(0);
-			// handle delimiters
-			switch (c) {
-				case ' ':
-					if (newLine) {
-						pendingSpaces++;
-					} else {
-						pendingSpaces = 1;
-					}
-					continue;
-				case '\t':
-					if (newLine) {
-						pendingSpaces += INDENT_WIDTH;
-					} else {
-						pendingSpaces = 1;
-					}
-					continue;
-				case '\n':
-				case '\r':
-				case '\f':
-					if (insideAt) {
-						pendingSpaces = 1;
-					} else {
-						pendingSpaces = 0;
-						newLine = true;
-					}
-					continue;
+		FormatJob(boolean fold) {
+			super(ConsoleMessages.JavaStackTraceConsole_1);
+			fFold = fold;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			Display display = JDIDebugUIPlugin.getStandardDisplay();
+			String[] text = new String[1];
+			display.syncExec(() -> {
+				IDocument document = getDocument();
+				text[0] = document.get();
+				fStamp = ((IDocumentExtension4) document).getModificationStamp();
+			});
+			String trace = text[0];
+			if (trace == null || trace.isEmpty()) {
+				return Status.OK_STATUS;
 			}
-			// consider newlines only before token starting with char '\"' or
-			// token "at", "-", "...", "Caused by:", "Suppressed:" and "[CIRCULAR".
-			if (newLine) {
-				if (c == '\"') { // leading thread name, e.g. "Worker-124" prio=5
-					formattedTrace.append(NL + NL); // print 2 lines to break between threads
-				} else if (c == '-' // - locked <address>
-						|| "...".equals(token)) { //$NON-NLS-1$ ... xx more
-					applyIndentedToken(formattedTrace, depth, token, antTrace);
-					pendingSpaces = 0;
-					continue;
-				} else if ("at".equals(token)) { //$NON-NLS-1$ at method
-					insideAt = true;
-					applyIndentedToken(formattedTrace, depth, token, antTrace);
-					pendingSpaces = 0;
-					continue;
-				} else if (c == '[') {
-					if ("[CIRCULAR".equals(token)) { //$NON-NLS-1$ [CIRCULAR REFERENCE:toString()]
-						applyIndentedToken(formattedTrace, depth, token, antTrace);
-						pendingSpaces = 0;
-					} else {
-						if (antTrace) {
-							formattedTrace.append(NL);
-						}
-						formattedTrace.append(token);
-						pendingSpaces = 0;
-						antTrace = true;
-					}
-					continue;
-				} else if ("Caused".equals(token)) { //$NON-NLS-1$ Caused by: reason
-					// Guess depth for Cause block. This can be interpreted as if the Caused
-					// block is moved to the left until it aligns with a previous Suppressed
-					// block or hit the line begin.
-					depth = 0;
-					for (Map.Entry<Integer, Integer> block : blockDepth.entrySet()) {
-						if (block.getKey() <= pendingSpaces && block.getValue() > depth) {
-							depth = block.getValue();
-						}
-					}
-					applyIndentedToken(formattedTrace, depth, token, antTrace);
-					depth++;
-					pendingSpaces = 0;
-					continue;
-				} else if ("Suppressed:".equals(token)) { //$NON-NLS-1$ Suppressed: reason
-					if (depth >= 2) {
-						depth--;
-					}
-					blockDepth.put(pendingSpaces, depth);
-					applyIndentedToken(formattedTrace, depth, token, antTrace);
-					depth = 2;
-					pendingSpaces = 0;
-					continue;
+			JavaStackTraceFormatter formatter = new JavaStackTraceFormatter(fFold);
+			StringBuilder formatted = new StringBuilder(FORMAT_CHUNK_SIZE);
+			// the unformatted text starts at offset in the document
+			int offset = 0;
+			int start = 0;
+			while (start < trace.length()) {
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
 				}
-				newLine = false;
-			}
-			if (pendingSpaces > 0) {
-				for (int i = 0; i < pendingSpaces; i++) {
-					formattedTrace.append(' ');
+				int end = Math.min(start + FORMAT_CHUNK_SIZE, trace.length());
+				formatter.append(trace, start, end, formatted);
+				if (end == trace.length()) {
+					formatter.finish(formatted);
+				}
+				if (!replace(display, offset, end - start, formatted.toString())) {
+					return Status.CANCEL_STATUS;
 				}
-				pendingSpaces = 0;
+				offset += formatted.length();
+				formatted.setLength(0);
+				start = end;
 			}
-			formattedTrace.append(token);
-			insideAt = false;
+			return Status.OK_STATUS;
 		}
-		return formattedTrace.toString();
-	}
 
-	private void applyIndentedToken(StringBuilder formattedTrace, int depth, String token, boolean antTrace) {
-		if (antTrace) {
-			formattedTrace.append(' ');
-		} else {
-			formattedTrace.append(NL);
-		}
-		for (int i = 0; i < depth; i++) {
-			formattedTrace.append(INDENT_STR);
+		/**
+		 * Replaces the given range of the document, unless the document has
+		 * been changed since the last replacement.
+		 *
+		 * @return whether the range has been replaced
+		 */
+		private boolean replace(Display display, int offset, int length, String formatted) {
+			boolean[] replaced = new boolean[1];
+			display.syncExec(() -> {
+				IDocumentExtension4 document = (IDocumentExtension4) getDocument();
+				if (document.getModificationStamp() != fStamp || fFormatJob != this) {
+					return;
+				}
+				try {
+					getDocument().replace(offset, length, formatted);
+					fStamp = document.getModificationStamp();
+					replaced[0] = true;
+				} catch (BadLocationException e) {
+					JDIDebugUIPlugin.log(e);
+				}
+			});
+			return replaced[0];
 		}
-		formattedTrace.append(token);
 	}
 }
@@ -25,6 +25,7 @@ import org.eclipse.ui.console.TextConsoleViewer;
 public class JavaStackTraceConsolePage extends TextConsolePage {
 
 	private AutoFormatSettingAction fAutoFormat;
+	private FoldSettingAction fFold;
 
 	public JavaStackTraceConsolePage(TextConsole console, IConsoleView view) {
 		super(console, view);
@@ -38,6 +39,8 @@ public class JavaStackTraceConsolePage extends TextConsolePage {
 		fAutoFormat = new AutoFormatSettingAction(this);
 		IToolBarManager toolBarManager = actionBars.getToolBarManager();
 		toolBarManager.appendToGroup(IConsoleConstants.OUTPUT_GROUP, fAutoFormat);
+		fFold = new FoldSettingAction();
+		actionBars.getMenuManager().add(fFold);
 	}
 
 	@Override
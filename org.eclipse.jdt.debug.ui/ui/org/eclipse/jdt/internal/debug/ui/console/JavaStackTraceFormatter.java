@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.console;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Formats stack traces and thread dumps incrementally: the text is appended
+ * piece by piece and the formatted text is written as soon as it is known.
+ * <p>
+ * Stack frames are put on lines of their own and indented according to the
+ * nesting of causes and suppressed exceptions. Optionally, runs of identical
+ * frames, e.g. of a deep recursion, and thread stacks identical to the stack
+ * of a previous thread of a thread dump are folded.
+ * </p>
+ *
+ * @since 3.15
+ */
+public class JavaStackTraceFormatter {
+
+	private static final String NL = "\n"; //$NON-NLS-1$
+	private static final String INDENT_STR = "    "; //$NON-NLS-1$
+	private static final int INDENT_WIDTH = 4;
+
+	private final boolean fFold;
+
+	/**
+	 * Receives the formatted text
+	 */
+	private StringBuilder fOut;
+
+	/**
+	 * Token being read
+	 */
+	private final StringBuilder fToken = new StringBuilder();
+
+	private boolean fInsideAt = false;
+	private boolean fNewLine = true;
+	private int fPendingSpaces = 0;
+	private boolean fAntTrace = false;
+	private int fDepth = 1;
+	/**
+	 * Block depth map is used to find the most likely indentation for a Caused.
+	 * In combination with Suppressed the correct indentation can be ambiguous.
+	 * Map has indentation in number of spaces of a previous block as key and
+	 * formated indentation depth used for this block as value.
+	 */
+	private final Map<Integer, Integer> fBlockDepth = new HashMap<>(3);
+
+	/**
+	 * Formatted line being written, when folding
+	 */
+	private final StringBuilder fLine = new StringBuilder();
+	private boolean fFirstLine = true;
+	private String fLastFrame;
+	private int fRepeatedFrames;
+
+	/**
+	 * Header and stack of the thread of a thread dump being written, when
+	 * folding
+	 */
+	private String fThreadName;
+	private final StringBuilder fThreadStack = new StringBuilder();
+
+	/**
+	 * Names of the threads by their stacks
+	 */
+	private final Map<String, String> fThreadStacks = new HashMap<>();
+
+	/**
+	 * Creates a formatter.
+	 *
+	 * @param fold
+	 *            whether to fold repeated frames and thread stacks
+	 */
+	public JavaStackTraceFormatter(boolean fold) {
+		fFold = fold;
+	}
+
+	/**
+	 * Formats the given text at once.
+	 *
+	 * @param trace
+	 *            the text to format
+	 * @param fold
+	 *            whether to fold repeated frames and thread stacks
+	 * @return the formatted text
+	 */
+	public static String format(String trace, boolean fold) {
+		StringBuilder formattedTrace = new StringBuilder(trace.length());
+		JavaStackTraceFormatter formatter = new JavaStackTraceFormatter(fold);
+		formatter.append(trace, 0, trace.length(), formattedTrace);
+		formatter.finish(formattedTrace);
+		return formattedTrace.toString();
+	}
+
+	/**
+	 * Formats the next piece of text. The formatted text may lag behind the
+	 * appended text, until {@link #finish(StringBuilder)} is called.
+	 *
+	 * @param text
+	 *            text containing the piece to format
+	 * @param start
+	 *            start offset of the piece
+	 * @param end
+	 *            end offset of the piece, exclusive
+	 * @param out
+	 *            receives the formatted text
+	 */
+	public void append(CharSequence text, int start, int end, StringBuilder out) {
+		fOut = out;
+		int tokenStart = start;
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (isDelimiter(c)) {
+				if (fToken.length() > 0) {
+					fToken.append(text, tokenStart, i);
+					token(fToken.toString());
+					fToken.setLength(0);
+				} else if (tokenStart < i) {
+					token(text.subSequence(tokenStart, i).toString());
+				}
+				delimiter(c);
+				tokenStart = i + 1;
+			}
+		}
+		// the last token may continue in the next piece
+		fToken.append(text, tokenStart, end);
+		fOut = null;
+	}
+
+	private static boolean isDelimiter(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+	}
+
+	/**
+	 * Writes the rest of the formatted text, once all text has been appended.
+	 *
+	 * @param out
+	 *            receives the formatted text
+	 */
+	public void finish(StringBuilder out) {
+		fOut = out;
+		if (fToken.length() > 0) {
+			token(fToken.toString());
+			fToken.setLength(0);
+		}
+		if (fFold) {
+			line(fLine.toString());
+			fLine.setLength(0);
+			flushRepeatedFrames();
+			flushThread();
+		}
+		fOut = null;
+	}
+
+	private void delimiter(char c) {
+		switch (c) {
+			case ' ':
+				if (fNewLine) {
+					fPendingSpaces++;
+				} else {
+					fPendingSpaces = 1;
+				}
+				break;
+			case '\t':
+				if (fNewLine) {
+					fPendingSpaces += INDENT_WIDTH;
+				} else {
+					fPendingSpaces = 1;
+				}
+				break;
+			default:
+				if (fInsideAt) {
+					fPendingSpaces = 1;
+				} else {
+					fPendingSpaces = 0;
+					fNewLine = true;
+				}
+		}
+	}
+
+	private void token(String token) {
+		char c = token.charAt(0);
+		// consider newlines only before token starting with char '\"' or
+		// token "at", "-", "...", "Caused by:", "Suppressed:" and "[CIRCULAR".
+		if (fNewLine) {
+			if (c == '\"') { // leading thread name, e.g. "Worker-124" prio=5
+				write(NL + NL); // print 2 lines to break between threads
+			} else if (c == '-' // - locked <address>
+					|| "...".equals(token)) { //$NON-NLS-1$ ... xx more
+				applyIndentedToken(token);
+				fPendingSpaces = 0;
+				return;
+			} else if ("at".equals(token)) { //$NON-NLS-1$ at method
+				fInsideAt = true;
+				applyIndentedToken(token);
+				fPendingSpaces = 0;
+				return;
+			} else if (c == '[') {
+				if ("[CIRCULAR".equals(token)) { //$NON-NLS-1$ [CIRCULAR REFERENCE:toString()]
+					applyIndentedToken(token);
+					fPendingSpaces = 0;
+				} else {
+					if (fAntTrace) {
+						write(NL);
+					}
+					write(token);
+					fPendingSpaces = 0;
+					fAntTrace = true;
+				}
+				return;
+			} else if ("Caused".equals(token)) { //$NON-NLS-1$ Caused by: reason
+				// Guess depth for Cause block. This can be interpreted as if the Caused
+				// block is moved to the left until it aligns with a previous Suppressed
+				// block or hit the line begin.
+				fDepth = 0;
+				for (Map.Entry<Integer, Integer> block : fBlockDepth.entrySet()) {
+					if (block.getKey() <= fPendingSpaces && block.getValue() > fDepth) {
+						fDepth = block.getValue();
+					}
+				}
+				applyIndentedToken(token);
+				fDepth++;
+				fPendingSpaces = 0;
+				return;
+			} else if ("Suppressed:".equals(token)) { //$NON-NLS-1$ Suppressed: reason
+				if (fDepth >= 2) {
+					fDepth--;
+				}
+				fBlockDepth.put(fPendingSpaces, fDepth);
+				applyIndentedToken(token);
+				fDepth = 2;
+				fPendingSpaces = 0;
+				return;
+			}
+			fNewLine = false;
+		}
+		if (fPendingSpaces > 0) {
+			for (int i = 0; i < fPendingSpaces; i++) {
+				write(" "); //$NON-NLS-1$
+			}
+			fPendingSpaces = 0;
+		}
+		write(token);
+		fInsideAt = false;
+	}
+
+	private void applyIndentedToken(String token) {
+		if (fAntTrace) {
+			write(" "); //$NON-NLS-1$
+		} else {
+			write(NL);
+		}
+		for (int i = 0; i < fDepth; i++) {
+			write(INDENT_STR);
+		}
+		write(token);
+	}
+
+	/**
+	 * Writes formatted text, line by line when folding.
+	 */
+	private void write(String text) {
+		if (!fFold) {
+			fOut.append(text);
+			return;
+		}
+		int start = 0;
+		int newLine = text.indexOf('\n');
+		while (newLine >= 0) {
+			fLine.append(text, start, newLine);
+			line(fLine.toString());
+			fLine.setLength(0);
+			start = newLine + 1;
+			newLine = text.indexOf('\n', start);
+		}
+		fLine.append(text, start, text.length());
+	}
+
+	/**
+	 * Folds the given formatted line into the previous one if they are
+	 * identical frames.
+	 */
+	private void line(String line) {
+		if (line.equals(fLastFrame)) {
+			fRepeatedFrames++;
+			return;
+		}
+		flushRepeatedFrames();
+		fLastFrame = line.trim().startsWith("at ") ? line : null; //$NON-NLS-1$
+		threadLine(line);
+	}
+
+	private void flushRepeatedFrames() {
+		if (fRepeatedFrames == 1) {
+			threadLine(fLastFrame);
+		} else if (fRepeatedFrames > 1) {
+			String indent = fLastFrame.substring(0, fLastFrame.length() - fLastFrame.stripLeading().length());
+			threadLine(indent + NLS.bind(ConsoleMessages.JavaStackTraceFormatter_0, Integer.toString(fRepeatedFrames)));
+		}
+		fRepeatedFrames = 0;
+	}
+
+	/**
+	 * Folds the stack of a thread of a thread dump into a reference to a
+	 * previous thread with the same stack.
+	 */
+	private void threadLine(String line) {
+		if (line.isEmpty() || line.charAt(0) == '"') {
+			flushThread();
+			if (!line.isEmpty()) {
+				int end = line.indexOf('"', 1);
+				fThreadName = end > 0 ? line.substring(0, end + 1) : line;
+			}
+			emit(line);
+		} else if (fThreadName != null) {
+			fThreadStack.append(line).append('\n');
+		} else {
+			emit(line);
+		}
+	}
+
+	private void flushThread() {
+		if (fThreadName == null) {
+			return;
+		}
+		String stack = fThreadStack.toString();
+		String thread = stack.contains("at ") ? fThreadStacks.putIfAbsent(stack, fThreadName) : null; //$NON-NLS-1$
+		int start = 0;
+		int end = stack.indexOf('\n');
+		while (end >= 0) {
+			String line = stack.substring(start, end);
+			if (thread != null && line.trim().startsWith("at ")) { //$NON-NLS-1$
+				emit(INDENT_STR + NLS.bind(ConsoleMessages.JavaStackTraceFormatter_1, thread));
+				break;
+			}
+			emit(line);
+			start = end + 1;
+			end = stack.indexOf('\n', start);
+		}
+		fThreadName = null;
+		fThreadStack.setLength(0);
+	}
+
+	private void emit(String line) {
+		if (!fFirstLine) {
+			fOut.append('\n');
+		}
+		fFirstLine = false;
+		fOut.append(line);
+	}
+}
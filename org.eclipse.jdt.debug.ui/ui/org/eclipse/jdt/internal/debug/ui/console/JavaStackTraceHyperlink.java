@@ -34,14 +34,9 @@ import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.search.IJavaSearchConstants;
-import org.eclipse.jdt.core.search.SearchEngine;
-import org.eclipse.jdt.core.search.TypeNameMatch;
-import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.actions.OpenFromClipboardAction;
-import org.eclipse.jdt.internal.debug.ui.actions.OpenTypeAction;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jface.dialogs.ErrorDialog;
@@ -65,12 +60,13 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 	final static String ANSI_ESCAPE_REGEX = "\033\\[[\\d;]*[A-HJKSTfimnsu]"; //$NON-NLS-1$
 	private final TextConsole fConsole;
 	private final AtomicReference<String> generatedLink;
-	private static final String REGEX_FOR_NORMAL = "([a-zA-Z0-9\\$]+)\\.([a-zA-Z0-9]+)\\(([^)]*)\\)"; //$NON-NLS-1$
-	private static final String REGEX_FOR_GENERICS = "([a-zA-Z0-9\\$]+(?:<[a-zA-Z0-9,<>]+>)?)\\.([a-zA-Z0-9]+)\\(([^)]*)\\)"; //$NON-NLS-1$
-	private static final String REGEX_FOR_INNER_CLASS = "([a-zA-Z0-9\\$]+(?:\\([a-zA-Z0-9]+\\))?)\\.([a-zA-Z0-9]+)\\(([^)]*)\\)"; //$NON-NLS-1$
-	private static final String METHOD_SIGNATURE_REGEX = "\\w+\\([^)]*\\)"; //$NON-NLS-1$
-	private static final String METHOD_ARGUMENTS_REGEX = "\\(([^)]*)\\)"; //$NON-NLS-1$
-	private static final String INNER_CLASS_ARGUMENTS_REGEX = "\\(([^)]+)\\)"; //$NON-NLS-1$
+	private static final Pattern REGEX_FOR_NORMAL = Pattern.compile("([a-zA-Z0-9\\$]+)\\.([a-zA-Z0-9]+)\\(([^)]*)\\)"); //$NON-NLS-1$
+	private static final Pattern REGEX_FOR_GENERICS = Pattern.compile("([a-zA-Z0-9\\$]+(?:<[a-zA-Z0-9,<>]+>)?)\\.([a-zA-Z0-9]+)\\(([^)]*)\\)"); //$NON-NLS-1$
+	private static final Pattern REGEX_FOR_INNER_CLASS = Pattern.compile("([a-zA-Z0-9\\$]+(?:\\([a-zA-Z0-9]+\\))?)\\.([a-zA-Z0-9]+)\\(([^)]*)\\)"); //$NON-NLS-1$
+	private static final Pattern METHOD_SIGNATURE_REGEX = Pattern.compile("\\w+\\([^)]*\\)"); //$NON-NLS-1$
+	private static final Pattern METHOD_ARGUMENTS_REGEX = Pattern.compile("\\(([^)]*)\\)"); //$NON-NLS-1$
+	private static final Pattern INNER_CLASS_ARGUMENTS_REGEX = Pattern.compile("\\(([^)]+)\\)"); //$NON-NLS-1$
+	private static final Pattern JDK_VERSION_REGEX = Pattern.compile("@(.*?)\\/"); //$NON-NLS-1$
 	/**
 	 * Constructor
 	 *
@@ -136,23 +132,16 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 				ILaunch launch = getLaunch();
 				Object result = null;
 				try {
-					// search for the type in the workspace
-					result = OpenTypeAction.findTypeInWorkspace(typeName, true);
+					// search for the type in the workspace, or look up the types found before
+					List<IType> types = JavaStackTraceTypeCache.getCache(getConsole()).getTypes(typeName);
+					if (types.size() == 1) {
+						result = types.get(0);
+					}
 					if (result == null && launch != null) {
 						result = JavaDebugUtils.resolveSourceElement(JavaDebugUtils.generateSourceName(typeName), getLaunch());
 					}
-					if (result == null) {
-						// search for all types in the workspace
-						List<IType> types = findTypesInWorkspace(typeName);
-						if (types.isEmpty()) {
-							result = null;
-						} else {
-							if (types.size() == 1) {
-								result = types.get(0);
-							} else {
-								result = types;
-							}
-						}
+					if (result == null && !types.isEmpty()) {
+						result = new ArrayList<Object>(types);
 					}
 					searchCompleted(result, typeName, lineNumber, null);
 				} catch (CoreException e) {
@@ -165,30 +154,6 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 		search.schedule();
 	}
 
-	private static List<IType> findTypesInWorkspace(String typeName) throws CoreException {
-		int dot = typeName.lastIndexOf('.');
-		char[][] qualifications;
-		String simpleName;
-		if (dot != -1) {
-			qualifications = new char[][] { typeName.substring(0, dot).toCharArray() };
-			simpleName = typeName.substring(dot + 1);
-		} else {
-			qualifications = null;
-			simpleName = typeName;
-		}
-		char[][] typeNames = new char[][] { simpleName.toCharArray() };
-		List<IType> matchingTypes = new ArrayList<>();
-		TypeNameMatchRequestor requestor = new TypeNameMatchRequestor() {
-			@Override
-			public void acceptTypeNameMatch(TypeNameMatch match) {
-				matchingTypes.add(match.getType());
-			}
-		};
-		SearchEngine searchEngine = new SearchEngine();
-		searchEngine.searchAllTypeNames(qualifications, typeNames, SearchEngine.createWorkspaceScope(), requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
-		return matchingTypes;
-	}
-
 	/**
 	 * Reported back to from {@link JavaStackTraceHyperlink#startSourceSearch(String, int)} when results are found
 	 *
@@ -258,22 +223,19 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 	 */
 	public IStatus processAmbiguousResults(List<Object> matches, String typeName, int line, String link) {
 		List<Object> exactMatchesFiltered = new ArrayList<>();
-		Pattern pattern = Pattern.compile(REGEX_FOR_NORMAL);
-		Matcher matcher = pattern.matcher(link);
+		Matcher matcher = REGEX_FOR_NORMAL.matcher(link);
 		String methodSignature = null;
 		if (matcher.find()) {
 			methodSignature = matcher.group(2) + "(" + matcher.group(3) + ")"; //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		if (methodSignature == null) {
-			pattern = Pattern.compile(REGEX_FOR_GENERICS);
-			matcher = pattern.matcher(link);
+			matcher = REGEX_FOR_GENERICS.matcher(link);
 			if (matcher.find()) {
 				methodSignature = matcher.group(2) + "(" + matcher.group(3) + ")"; //$NON-NLS-1$ //$NON-NLS-2$
 			}
 		}
 		if (methodSignature == null) {
-			pattern = Pattern.compile(REGEX_FOR_INNER_CLASS);
-			matcher = pattern.matcher(link);
+			matcher = REGEX_FOR_INNER_CLASS.matcher(link);
 			if (matcher.find()) {
 				methodSignature = matcher.group(2) + "(" + matcher.group(3) + ")"; //$NON-NLS-1$ //$NON-NLS-2$
 			}
@@ -433,15 +395,13 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 					return true;
 				}
 				String methodDetails = method.toString();
-				Pattern pattern = Pattern.compile(METHOD_SIGNATURE_REGEX);
-				Matcher matcher = pattern.matcher(methodDetails);
+				Matcher matcher = METHOD_SIGNATURE_REGEX.matcher(methodDetails);
 				if (!matcher.find()) {
 					return false;
 				}
 				String methodName = matcher.group();
 				methodName = methodName.replace(" ", ""); //$NON-NLS-1$//$NON-NLS-2$
-				pattern = Pattern.compile(METHOD_ARGUMENTS_REGEX);
-				matcher = pattern.matcher(methodSignature);
+				matcher = METHOD_ARGUMENTS_REGEX.matcher(methodSignature);
 				if (!matcher.find()) {
 					return false;
 				}
@@ -487,8 +447,7 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 	 */
 	private String innerClassMethodSignatureGen(String extractedMethodName, String methodSignature) {
 		StringBuilder newSignature = new StringBuilder(extractedMethodName + "("); //$NON-NLS-1$
-		Pattern pattern = Pattern.compile(INNER_CLASS_ARGUMENTS_REGEX);
-		Matcher matcher = pattern.matcher(methodSignature);
+		Matcher matcher = INNER_CLASS_ARGUMENTS_REGEX.matcher(methodSignature);
 		matcher.find();
 		String paramsExtracted = matcher.group(1);
 		if (paramsExtracted.indexOf(',') != -1) {
@@ -718,33 +677,43 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 			IRegion lineInformation = document.getLineInformation(lineNumber);
 			int lineOffset = lineInformation.getOffset();
 			String line = document.get(lineOffset, lineInformation.getLength());
-
-			int regionOffsetInLine = regionOffset - lineOffset;
-
-			int linkEnd = line.indexOf(')', regionOffsetInLine);
-			int linkStart = line.lastIndexOf(' ', regionOffsetInLine);
-			if (linkStart == -1) {
-				linkStart = line.lastIndexOf('\t', regionOffsetInLine);
-			}
-			String extractedTrace = line.substring(linkStart == -1 ? 0 : linkStart + 1, linkEnd + 1).trim();
-			if (extractedTrace.charAt(0) == '(' && line.startsWith("at")) { //$NON-NLS-1$
-				int lastOpen = line.lastIndexOf('(');
-				if (lastOpen > 0) {
-					if (Character.isWhitespace(line.charAt(lastOpen - 1))) {
-						extractedTrace = line.substring(0, lastOpen - 1).trim() + line.substring(lastOpen);
-						linkStart = extractedTrace.lastIndexOf(' ', regionOffsetInLine);
-						linkEnd = extractedTrace.indexOf(')', linkStart);
-						return extractedTrace.substring(linkStart == -1 ? 0 : linkStart + 1, linkEnd + 1).trim();
-					}
-				}
-			}
-			return line.substring(linkStart == -1 ? 0 : linkStart + 1, linkEnd + 1).trim();
+			return getLinkText(line, regionOffset - lineOffset);
 		} catch (BadLocationException e) {
 			IStatus status = new Status(IStatus.ERROR, JDIDebugUIPlugin.getUniqueIdentifier(), 0, ConsoleMessages.JavaStackTraceHyperlink_Unable_to_retrieve_hyperlink_text__8, e);
 			throw new CoreException(status);
 		}
 	}
 
+	/**
+	 * Returns the text of the link at the given offset of a line
+	 *
+	 * @param line
+	 *            the line containing the link
+	 * @param regionOffsetInLine
+	 *            offset of the link in the line
+	 * @return the complete text of the link
+	 */
+	static String getLinkText(String line, int regionOffsetInLine) {
+		int linkEnd = line.indexOf(')', regionOffsetInLine);
+		int linkStart = line.lastIndexOf(' ', regionOffsetInLine);
+		if (linkStart == -1) {
+			linkStart = line.lastIndexOf('\t', regionOffsetInLine);
+		}
+		String extractedTrace = line.substring(linkStart == -1 ? 0 : linkStart + 1, linkEnd + 1).trim();
+		if (extractedTrace.charAt(0) == '(' && line.startsWith("at")) { //$NON-NLS-1$
+			int lastOpen = line.lastIndexOf('(');
+			if (lastOpen > 0) {
+				if (Character.isWhitespace(line.charAt(lastOpen - 1))) {
+					extractedTrace = line.substring(0, lastOpen - 1).trim() + line.substring(lastOpen);
+					linkStart = extractedTrace.lastIndexOf(' ', regionOffsetInLine);
+					linkEnd = extractedTrace.indexOf(')', linkStart);
+					return extractedTrace.substring(linkStart == -1 ? 0 : linkStart + 1, linkEnd + 1).trim();
+				}
+			}
+		}
+		return line.substring(linkStart == -1 ? 0 : linkStart + 1, linkEnd + 1).trim();
+	}
+
 	/**
 	 * {@code jstack} can produce stack trace lines such as:
 	 *
@@ -777,8 +746,7 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 			List<Object> filteredResults = new ArrayList<>();
 			int binaryInserted = 0;
 			try {
-				Pattern pattern = Pattern.compile("@(.*?)\\/"); //$NON-NLS-1$
-				Matcher match = pattern.matcher(link);
+				Matcher match = JDK_VERSION_REGEX.matcher(link);
 				if (match.find()) {
 					String jdkVersion = match.group(1);
 					for (Object ob : extracted) {
@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.console;
+
+/**
+ * Recognizes the parts of console output lines which get hyperlinks: stack
+ * frame locations like <code>(Type.java:12)</code>, <code>(Native Method)</code>
+ * and exception names like <code>java.lang.NullPointerException:</code>.
+ * <p>
+ * The scanner finds the same matches as the regular expressions of the
+ * {@link JavaConsoleTracker}, {@link JavaNativeConsoleTracker} and
+ * {@link JavaExceptionConsoleTracker} pattern match listeners, including ANSI
+ * escape sequences around locations, but visits each character of a line
+ * once and does not allocate.
+ * </p>
+ *
+ * @since 3.15
+ */
+public class JavaStackTraceLineScanner {
+
+	/**
+	 * Kind of match - a stack frame location, e.g. <code>Type.java:12</code>
+	 */
+	public static final int STACK_FRAME = 0;
+
+	/**
+	 * Kind of match - a native method, i.e. <code>Native Method</code>
+	 */
+	public static final int NATIVE_METHOD = 1;
+
+	/**
+	 * Kind of match - an exception name, e.g.
+	 * <code>java.lang.NullPointerException</code>
+	 */
+	public static final int EXCEPTION = 2;
+
+	/**
+	 * Receives the matches found by the scanner.
+	 */
+	public interface IMatchListener {
+
+		/**
+		 * Notification that a match has been found.
+		 *
+		 * @param kind
+		 *            one of {@link #STACK_FRAME}, {@link #NATIVE_METHOD} or
+		 *            {@link #EXCEPTION}
+		 * @param offset
+		 *            offset of the text to link
+		 * @param length
+		 *            length of the text to link
+		 */
+		void matchFound(int kind, int offset, int length);
+	}
+
+	private static final String NATIVE_METHOD_TEXT = "Native Method"; //$NON-NLS-1$
+
+	private static final String EXCEPTION_TEXT = "Exception"; //$NON-NLS-1$
+
+	/**
+	 * Java-like file extensions, e.g. <code>java</code>
+	 */
+	private final char[][] fExtensions;
+
+	/**
+	 * Creates a scanner recognizing locations in files with the given
+	 * extensions.
+	 *
+	 * @param javaLikeExtensions
+	 *            Java-like file extensions without the dot, e.g.
+	 *            <code>java</code>
+	 */
+	public JavaStackTraceLineScanner(String[] javaLikeExtensions) {
+		fExtensions = new char[javaLikeExtensions.length][];
+		for (int i = 0; i < javaLikeExtensions.length; i++) {
+			fExtensions[i] = javaLikeExtensions[i].toCharArray();
+		}
+	}
+
+	/**
+	 * Scans a single line of text.
+	 *
+	 * @param text
+	 *            the text containing the line
+	 * @param start
+	 *            offset of the line in the text
+	 * @param end
+	 *            offset of the end of the line in the text, excluding the line
+	 *            delimiter
+	 * @param listener
+	 *            receives the matches, with offsets in the text
+	 */
+	public void scan(CharSequence text, int start, int end, IMatchListener listener) {
+		// offset before which locations are not searched, as they are part of a location found already
+		int locationsFrom = start;
+		// current run of characters which are neither white space nor '('
+		int segmentStart = start;
+		// first word character of the segment, -1 if none
+		int exceptionStart = -1;
+		// end of the last exception name in the segment followed by '|' or ':', -1 if none
+		int exceptionEnd = -1;
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (c == '(' || isWhitespace(c)) {
+				if (c != '(' && isExceptionAt(text, exceptionStart, i)) {
+					listener.matchFound(EXCEPTION, exceptionStart, i - exceptionStart);
+				} else {
+					reportException(exceptionStart, exceptionEnd, listener);
+				}
+				segmentStart = i + 1;
+				exceptionStart = -1;
+				exceptionEnd = -1;
+				if (c == '(' && i >= locationsFrom) {
+					int locationEnd = scanLocation(text, i, end, listener);
+					if (locationEnd > 0) {
+						locationsFrom = locationEnd;
+					}
+				}
+				continue;
+			}
+			if (exceptionStart < 0) {
+				if (isWordCharacter(c)) {
+					exceptionStart = i;
+				}
+			} else if ((c == ':' || c == '|') && isExceptionAt(text, exceptionStart, i)) {
+				exceptionEnd = i;
+			}
+		}
+		// the line delimiter terminates an exception name as white space does
+		if (segmentStart < end && isExceptionAt(text, exceptionStart, end)) {
+			listener.matchFound(EXCEPTION, exceptionStart, end - exceptionStart);
+		} else {
+			reportException(exceptionStart, exceptionEnd, listener);
+		}
+	}
+
+	/**
+	 * Reports the exception name of a segment which ends with a character
+	 * which cannot terminate an exception name, if any.
+	 */
+	private static void reportException(int exceptionStart, int exceptionEnd, IMatchListener listener) {
+		if (exceptionEnd > 0) {
+			listener.matchFound(EXCEPTION, exceptionStart, exceptionEnd - exceptionStart);
+		}
+	}
+
+	/**
+	 * Returns whether the given range is an exception name, i.e. a word
+	 * character, at least one more character and <code>Exception</code>.
+	 */
+	private static boolean isExceptionAt(CharSequence text, int start, int end) {
+		int exceptionStart = end - EXCEPTION_TEXT.length();
+		return start >= 0 && exceptionStart >= start + 2 && regionMatches(text, exceptionStart, EXCEPTION_TEXT);
+	}
+
+	/**
+	 * Scans a location in parentheses starting at the given <code>'('</code>.
+	 *
+	 * @return the offset following the closing <code>')'</code>, or
+	 *         <code>-1</code> if there is no location
+	 */
+	private int scanLocation(CharSequence text, int open, int end, IMatchListener listener) {
+		int nameStart = skipAnsiEscapes(text, open + 1, end);
+		if (regionMatches(text, nameStart, end, NATIVE_METHOD_TEXT)) {
+			int close = skipAnsiEscapes(text, nameStart + NATIVE_METHOD_TEXT.length(), end);
+			if (close < end && text.charAt(close) == ')') {
+				listener.matchFound(NATIVE_METHOD, open + 1, close - open - 1);
+				return close + 1;
+			}
+		}
+		int colon = nameStart;
+		while (colon < end && isPathCharacter(text.charAt(colon))) {
+			colon++;
+		}
+		if (colon >= end || text.charAt(colon) != ':' || !endsWithExtension(text, nameStart, colon)) {
+			return -1;
+		}
+		// the location ends with the last ')' before white space
+		int close = -1;
+		int i = colon + 1;
+		while (i < end) {
+			char c = text.charAt(i);
+			if (isWhitespace(c)) {
+				break;
+			}
+			if (c == ')') {
+				close = i;
+			}
+			i++;
+		}
+		if (close < 0) {
+			return -1;
+		}
+		// link the text without the ANSI escape sequences at its end, unless
+		// there are escape sequences in its middle
+		int linkEnd = nameStart;
+		boolean escaped = false;
+		i = nameStart;
+		while (i < close) {
+			int next = skipAnsiEscape(text, i, close);
+			if (next > i) {
+				escaped = true;
+				i = next;
+			} else {
+				if (escaped) {
+					listener.matchFound(STACK_FRAME, open + 1, close - open - 1);
+					return close + 1;
+				}
+				i++;
+				linkEnd = i;
+			}
+		}
+		listener.matchFound(STACK_FRAME, nameStart, linkEnd - nameStart);
+		return close + 1;
+	}
+
+	/**
+	 * Returns whether the given range ends with a dot and a Java-like
+	 * extension.
+	 */
+	private boolean endsWithExtension(CharSequence text, int start, int end) {
+		for (char[] extension : fExtensions) {
+			int dot = end - extension.length - 1;
+			if (dot >= start && text.charAt(dot) == '.') {
+				boolean matches = true;
+				for (int i = 0; i < extension.length && matches; i++) {
+					matches = text.charAt(dot + 1 + i) == extension[i];
+				}
+				if (matches) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the offset following the ANSI escape sequences starting at the
+	 * given offset.
+	 */
+	private static int skipAnsiEscapes(CharSequence text, int offset, int end) {
+		int next = skipAnsiEscape(text, offset, end);
+		while (next > offset) {
+			offset = next;
+			next = skipAnsiEscape(text, offset, end);
+		}
+		return offset;
+	}
+
+	/**
+	 * Returns the offset following the ANSI escape sequence starting at the
+	 * given offset, i.e. <code>ESC [ [\d;]* [A-HJKSTfimnsu]</code>, or the
+	 * given offset if there is none.
+	 */
+	private static int skipAnsiEscape(CharSequence text, int offset, int end) {
+		if (offset + 2 >= end || text.charAt(offset) != '\033' || text.charAt(offset + 1) != '[') {
+			return offset;
+		}
+		int i = offset + 2;
+		while (i < end) {
+			char c = text.charAt(i);
+			if ((c >= '0' && c <= '9') || c == ';') {
+				i++;
+			} else if ((c >= 'A' && c <= 'H') || "JKSTfimnsu".indexOf(c) >= 0) { //$NON-NLS-1$
+				return i + 1;
+			} else {
+				return offset;
+			}
+		}
+		return offset;
+	}
+
+	private static boolean regionMatches(CharSequence text, int offset, int end, String string) {
+		return offset + string.length() <= end && regionMatches(text, offset, string);
+	}
+
+	private static boolean regionMatches(CharSequence text, int offset, String string) {
+		for (int i = 0; i < string.length(); i++) {
+			if (text.charAt(offset + i) != string.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the given character is a word character, i.e.
+	 * <code>\w</code> with Unicode character classes.
+	 */
+	private static boolean isWordCharacter(char c) {
+		if (c < 128) {
+			return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+		}
+		if (Character.isAlphabetic(c) || Character.isDigit(c)) {
+			return true;
+		}
+		switch (Character.getType(c)) {
+			case Character.NON_SPACING_MARK:
+			case Character.ENCLOSING_MARK:
+			case Character.COMBINING_SPACING_MARK:
+			case Character.CONNECTOR_PUNCTUATION:
+				return true;
+			default:
+				return c == '\u200c' || c == '\u200d';
+		}
+	}
+
+	/**
+	 * Returns whether the given character may be part of the file name of a
+	 * location, i.e. <code>[\w\.\\/@]</code>.
+	 */
+	private static boolean isPathCharacter(char c) {
+		return c == '.' || c == '/' || c == '\\' || c == '@' || isWordCharacter(c);
+	}
+
+	/**
+	 * Returns whether the given character is white space, i.e.
+	 * <code>\s</code> with Unicode character classes.
+	 */
+	private static boolean isWhitespace(char c) {
+		if (c < 128) {
+			return c == ' ' || (c >= '\t' && c <= '\r');
+		}
+		return Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '\u0085';
+	}
+}
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.console;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.ui.console.TextConsole;
+
+/**
+ * Caches the types found in the workspace for the type names of the stack
+ * trace hyperlinks of a console, so that following a link does not search the
+ * workspace again.
+ * <p>
+ * The types of all stack frames of a document can be searched in advance. The
+ * caches of all consoles are cleared when Java elements are added or removed,
+ * or when class paths change.
+ * </p>
+ *
+ * @since 3.15
+ */
+public class JavaStackTraceTypeCache {
+
+	/**
+	 * Console attribute holding the cache of a console
+	 */
+	private static final String ATTR_TYPE_CACHE = JavaStackTraceTypeCache.class.getName();
+
+	/**
+	 * Delay after the last change of a document before its types are searched,
+	 * in milliseconds
+	 */
+	private static final long PREFETCH_DELAY = 300;
+
+	/**
+	 * Delta flags telling that types may have been added or removed
+	 */
+	private static final int TYPES_CHANGED = IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_MOVED_FROM | IJavaElementDelta.F_MOVED_TO;
+
+	/**
+	 * Incremented whenever the cached types may be out of date
+	 */
+	private static final AtomicInteger fgGeneration = new AtomicInteger();
+
+	private static IElementChangedListener fgListener;
+
+	private final Map<String, List<IType>> fTypes = new ConcurrentHashMap<>();
+	private int fGeneration = fgGeneration.get();
+	private final TextConsole fConsole;
+
+	/**
+	 * Searches the types of the stack frames of the console document
+	 */
+	private final Job fPrefetchJob = new Job(ConsoleMessages.JavaStackTraceHyperlink_2) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			IDocument document = fConsole.getDocument();
+			if (document != null) {
+				prefetch(document.get(), monitor);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	private JavaStackTraceTypeCache(TextConsole console) {
+		fConsole = console;
+		fPrefetchJob.setSystem(true);
+	}
+
+	/**
+	 * Returns the cache of the given console.
+	 *
+	 * @param console
+	 *            a console
+	 * @return the cache of the console
+	 */
+	public static synchronized JavaStackTraceTypeCache getCache(TextConsole console) {
+		JavaStackTraceTypeCache cache = (JavaStackTraceTypeCache) console.getAttribute(ATTR_TYPE_CACHE);
+		if (cache == null) {
+			cache = new JavaStackTraceTypeCache(console);
+			console.setAttribute(ATTR_TYPE_CACHE, cache);
+			if (fgListener == null) {
+				fgListener = JavaStackTraceTypeCache::elementChanged;
+				JavaCore.addElementChangedListener(fgListener, ElementChangedEvent.POST_CHANGE);
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Stops listening to Java element changes.
+	 */
+	public static synchronized void shutdown() {
+		if (fgListener != null) {
+			JavaCore.removeElementChangedListener(fgListener);
+			fgListener = null;
+		}
+	}
+
+	/**
+	 * Returns the types in the workspace with the given name.
+	 *
+	 * @param typeName
+	 *            a fully qualified or simple type name
+	 * @return the types with the given name, possibly empty
+	 * @throws CoreException
+	 *             if the search failed
+	 */
+	public List<IType> getTypes(String typeName) throws CoreException {
+		int generation = validate();
+		List<IType> types = fTypes.get(typeName);
+		if (types == null) {
+			types = findTypesInWorkspace(typeName);
+			if (generation == fgGeneration.get()) {
+				fTypes.put(typeName, types);
+			}
+		}
+		return types;
+	}
+
+	/**
+	 * Returns the types cached for the given name, or <code>null</code> if the
+	 * workspace has not been searched for them yet.
+	 *
+	 * @param typeName
+	 *            a fully qualified or simple type name
+	 * @return the cached types or <code>null</code>
+	 */
+	public List<IType> getCachedTypes(String typeName) {
+		validate();
+		return fTypes.get(typeName);
+	}
+
+	/**
+	 * Searches the types of the stack frames in the console document in the
+	 * background, once the document has not changed for a moment.
+	 */
+	public void schedulePrefetch() {
+		fPrefetchJob.cancel();
+		fPrefetchJob.schedule(PREFETCH_DELAY);
+	}
+
+	/**
+	 * Cancels searching the types of the stack frames in advance.
+	 */
+	public void cancelPrefetch() {
+		fPrefetchJob.cancel();
+	}
+
+	/**
+	 * Searches the types of the stack frames in the given text.
+	 */
+	private void prefetch(String text, IProgressMonitor monitor) {
+		JavaStackTraceHyperlink parser = new JavaStackTraceHyperlink(fConsole);
+		List<Integer> frames = new ArrayList<>();
+		JavaStackTraceLineScanner scanner = new JavaStackTraceLineScanner(JavaCore.getJavaLikeExtensions());
+		int lineStart = 0;
+		while (lineStart < text.length() && !monitor.isCanceled()) {
+			int lineEnd = lineStart;
+			while (lineEnd < text.length() && text.charAt(lineEnd) != '\n' && text.charAt(lineEnd) != '\r') {
+				lineEnd++;
+			}
+			int start = lineStart;
+			frames.clear();
+			scanner.scan(text, lineStart, lineEnd, (kind, offset, length) -> {
+				if (kind == JavaStackTraceLineScanner.STACK_FRAME) {
+					frames.add(Integer.valueOf(offset - start));
+				}
+			});
+			if (!frames.isEmpty()) {
+				String line = text.substring(lineStart, lineEnd);
+				for (Integer frame : frames) {
+					try {
+						String linkText = JavaStackTraceHyperlink.getLinkText(line, frame.intValue());
+						linkText = linkText.replaceAll(JavaStackTraceHyperlink.ANSI_ESCAPE_REGEX, ""); //$NON-NLS-1$
+						getTypes(parser.getTypeName(linkText));
+					} catch (CoreException | RuntimeException e) {
+						// not a stack frame the hyperlink can follow
+					}
+				}
+			}
+			lineStart = lineEnd + 1;
+		}
+	}
+
+	/**
+	 * Clears the cache if the types may be out of date.
+	 *
+	 * @return the generation of the cached types
+	 */
+	private synchronized int validate() {
+		int generation = fgGeneration.get();
+		if (generation != fGeneration) {
+			fTypes.clear();
+			fGeneration = generation;
+		}
+		return generation;
+	}
+
+	private static List<IType> findTypesInWorkspace(String typeName) throws CoreException {
+		int dot = typeName.lastIndexOf('.');
+		char[][] qualifications;
+		String simpleName;
+		if (dot != -1) {
+			qualifications = new char[][] { typeName.substring(0, dot).toCharArray() };
+			simpleName = typeName.substring(dot + 1);
+		} else {
+			qualifications = null;
+			simpleName = typeName;
+		}
+		char[][] typeNames = new char[][] { simpleName.toCharArray() };
+		List<IType> matchingTypes = new ArrayList<>();
+		TypeNameMatchRequestor requestor = new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				matchingTypes.add(match.getType());
+			}
+		};
+		SearchEngine searchEngine = new SearchEngine();
+		searchEngine.searchAllTypeNames(qualifications, typeNames, SearchEngine.createWorkspaceScope(), requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+		return Collections.unmodifiableList(matchingTypes);
+	}
+
+	private static void elementChanged(ElementChangedEvent event) {
+		if (typesChanged(event.getDelta())) {
+			fgGeneration.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns whether types may have been added or removed according to the
+	 * given delta.
+	 */
+	private static boolean typesChanged(IJavaElementDelta delta) {
+		if (delta.getElement().getElementType() > IJavaElement.TYPE) {
+			// members other than types
+			return false;
+		}
+		if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & TYPES_CHANGED) != 0) {
+			return true;
+		}
+		if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT && (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0
+				&& (delta.getFlags() & IJavaElementDelta.F_CONTENT) != 0) {
+			// the compilation unit changed without telling which of its types
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (typesChanged(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
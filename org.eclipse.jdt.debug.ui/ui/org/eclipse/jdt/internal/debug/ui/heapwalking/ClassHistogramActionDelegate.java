@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.heapwalking;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.ui.InspectPopupDialog;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIClassHistogramValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIClassHistogram;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jdt.internal.debug.ui.actions.ObjectActionDelegate;
+import org.eclipse.jdt.internal.debug.ui.actions.PopupInspectAction;
+import org.eclipse.jdt.internal.debug.ui.display.JavaInspectExpression;
+import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Action to count the instances of all types loaded in the target of the
+ * selected element in the background, and to display the types whose instances
+ * grew the most since the class histogram taken at an earlier suspend.
+ *
+ * @since 3.15
+ */
+public class ClassHistogramActionDelegate extends ObjectActionDelegate {
+
+	/**
+	 * Maximum number of types displayed
+	 */
+	private static final int MAX_TYPES = 100;
+
+	@Override
+	public void run(IAction action) {
+		IStructuredSelection currentSelection = getCurrentSelection();
+		if (currentSelection != null && currentSelection.getFirstElement() instanceof IDebugElement element
+				&& element.getDebugTarget() instanceof JDIDebugTarget target && target.isSuspended() && target.supportsInstanceRetrieval()) {
+			Job job = new Job(Messages.ClassHistogramActionDelegate_1) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					JDIClassHistogram histogram;
+					try {
+						histogram = JDIClassHistogram.take(target, monitor);
+					} catch (DebugException e) {
+						return e.getStatus();
+					}
+					if (histogram == null) {
+						return Status.CANCEL_STATUS;
+					}
+					JDIClassHistogramValue value = new JDIClassHistogramValue(histogram, MAX_TYPES);
+					JDIDebugUIPlugin.getStandardDisplay().asyncExec(() -> displayPopup(target, value));
+					return Status.OK_STATUS;
+				}
+			};
+			job.setUser(true);
+			job.schedule();
+			return;
+		}
+		JDIDebugUIPlugin.statusDialog(new Status(IStatus.WARNING, JDIDebugUIPlugin.getUniqueIdentifier(), Messages.ClassHistogramActionDelegate_0));
+	}
+
+	private void displayPopup(JDIDebugTarget target, JDIClassHistogramValue value) {
+		String name;
+		try {
+			name = target.getName();
+		} catch (DebugException e) {
+			name = target.toString();
+		}
+		InspectPopupDialog ipd = new InspectPopupDialog(JDIDebugUIPlugin.getActiveWorkbenchShell(), null, PopupInspectAction.ACTION_DEFININITION_ID, new JavaInspectExpression(NLS.bind(Messages.ClassHistogramActionDelegate_2, name), value));
+		ipd.open();
+	}
+}
@@ -31,6 +31,10 @@ public class Messages extends NLS {
 	public static String AllReferencesInViewActionDelegate_0;
 	public static String AllReferencesInViewActionDelegate_1;
 
+	public static String ClassHistogramActionDelegate_0;
+	public static String ClassHistogramActionDelegate_1;
+	public static String ClassHistogramActionDelegate_2;
+
 	public static String InstanceCountActionDelegate_0;
 
 	public static String InstanceCountActionDelegate_1;
@@ -39,6 +43,8 @@ public class Messages extends NLS {
 
 	public static String InstanceCountActionDelegate_3;
 
+	public static String PathsToGCRootsActionDelegate_0;
+
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
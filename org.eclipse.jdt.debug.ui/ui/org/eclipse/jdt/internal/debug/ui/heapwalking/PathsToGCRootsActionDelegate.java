@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.heapwalking;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferencePathsValue;
+import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jdt.internal.debug.ui.actions.ObjectActionDelegate;
+import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.viewers.IStructuredSelection;
+
+/**
+ * Action to search the paths from GC roots to the selected object in the
+ * background. The paths are shown as a child of the selected variable as they
+ * are found.
+ *
+ * @since 3.15
+ */
+public class PathsToGCRootsActionDelegate extends ObjectActionDelegate {
+
+	@Override
+	public void run(IAction action) {
+		IStructuredSelection currentSelection = getCurrentSelection();
+		if (currentSelection != null && currentSelection.getFirstElement() instanceof IJavaVariable var) {
+			try {
+				if (var.getValue() instanceof IJavaObject object && !object.isNull()) {
+					JDIReferencePathsValue.searchPaths(object);
+					return;
+				}
+			} catch (DebugException e) {
+				JDIDebugUIPlugin.statusDialog(e.getStatus());
+				return;
+			}
+		}
+		JDIDebugUIPlugin.statusDialog(new Status(IStatus.WARNING, JDIDebugUIPlugin.getUniqueIdentifier(), Messages.PathsToGCRootsActionDelegate_0));
+	}
+}
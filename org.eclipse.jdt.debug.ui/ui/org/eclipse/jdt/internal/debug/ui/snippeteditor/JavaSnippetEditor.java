@@ -337,6 +337,10 @@ public class JavaSnippetEditor extends AbstractDecoratedTextEditor implements ID
 	@Override
 	public void dispose() {
 		shutDownVM();
+		IFile file = getFile();
+		if (file != null) {
+			ScrapbookLauncher.getDefault().discardWarmLaunch(file);
+		}
 		this.fPresentation.dispose();
 		this.fSnippetStateListeners = null;
 		ISourceViewer viewer = getSourceViewer();
@@ -23,7 +23,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -32,11 +34,14 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunch;
@@ -58,6 +63,7 @@ import org.eclipse.jdt.core.util.IMethodInfo;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
+import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.launching.JavaMigrationDelegate;
 import org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants;
@@ -65,13 +71,15 @@ import org.eclipse.jdt.launching.IRuntimeClasspathEntry;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.osgi.util.NLS;
 
 /**
  * Support for launching scrapbook using launch configurations.
  */
 
-public class ScrapbookLauncher implements IDebugEventSetListener {
+public class ScrapbookLauncher implements IDebugEventSetListener, IPropertyChangeListener {
 
 	public static final String SCRAPBOOK_LAUNCH = IJavaDebugUIConstants.PLUGIN_ID + ".scrapbook_launch"; //$NON-NLS-1$
 
@@ -90,10 +98,34 @@ public class ScrapbookLauncher implements IDebugEventSetListener {
 	private final HashMap<IDebugTarget, IBreakpoint> fVMsToBreakpoints = new HashMap<>(10);
 	private final HashMap<IDebugTarget, IFile> fVMsToScrapbooks = new HashMap<>(10);
 
+	/**
+	 * A scrapbook VM launched in advance for a page, along with the key of the
+	 * configuration it is launched with
+	 */
+	private static class WarmLaunch {
+		final String key;
+		/**
+		 * The launch, <code>null</code> while the VM is launched
+		 */
+		ILaunch launch;
+
+		WarmLaunch(String key) {
+			this.key = key;
+		}
+	}
+
+	/**
+	 * Scrapbook VMs launched in advance, not registered with the launch manager
+	 * until used, by the open scrapbook page they have been launched for. There
+	 * is at most one per page, and it is terminated when the page is closed.
+	 */
+	private final HashMap<IFile, WarmLaunch> fWarmLaunches = new HashMap<>(5);
+
 	private static ScrapbookLauncher fgDefault = null;
 
 	private ScrapbookLauncher() {
 		//see getDefault()
+		JDIDebugUIPlugin.getDefault().getPreferenceStore().addPropertyChangeListener(this);
 	}
 
 	public static ScrapbookLauncher getDefault() {
@@ -230,7 +262,14 @@ public class ScrapbookLauncher implements IDebugEventSetListener {
 
 			config = wc.doSave();
 
-			ILaunch launch = config.launch(ILaunchManager.DEBUG_MODE, null);
+			String key = getWarmLaunchKey(config);
+			ILaunch launch = takeWarmLaunch(page, key);
+			if (launch == null) {
+				launch = config.launch(ILaunchManager.DEBUG_MODE, null);
+			}
+			if (JDIDebugUIPlugin.getDefault().getPreferenceStore().getBoolean(IJDIPreferencesConstants.PREF_SCRAPBOOK_WARM_VM)) {
+				launchWarmVM(page, config, key);
+			}
 			if (launch != null) {
 				IDebugTarget dt = launch.getDebugTarget();
 				IBreakpoint magicBreakpoint = createMagicBreakpoint(jarFile);
@@ -247,6 +286,147 @@ public class ScrapbookLauncher implements IDebugEventSetListener {
 		return null;
 	}
 
+	/**
+	 * Returns the key of the given scrapbook launch configuration, which is
+	 * equal for configurations launching the same JRE with the same class path
+	 * and arguments.
+	 */
+	private String getWarmLaunchKey(ILaunchConfiguration config) throws CoreException {
+		Map<String, Object> attributes = new TreeMap<>(config.getAttributes());
+		IVMInstall vm = JavaRuntime.computeVMInstall(config);
+		return (vm == null ? "" : vm.getId()) + attributes; //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the running scrapbook VM launched in advance for the given page,
+	 * registered with the launch manager, or <code>null</code> if none or if it
+	 * has been launched with a configuration of another key, in which case it
+	 * is terminated.
+	 */
+	private ILaunch takeWarmLaunch(IFile page, String key) {
+		WarmLaunch warmLaunch;
+		synchronized (fWarmLaunches) {
+			warmLaunch = fWarmLaunches.remove(page);
+		}
+		if (warmLaunch == null || warmLaunch.launch == null) {
+			// none, or still launching and terminated once launched
+			return null;
+		}
+		if (!warmLaunch.key.equals(key) || warmLaunch.launch.isTerminated()) {
+			terminate(warmLaunch.launch);
+			return null;
+		}
+		getLaunchManager().addLaunch(warmLaunch.launch);
+		return warmLaunch.launch;
+	}
+
+	/**
+	 * Launches a scrapbook VM with the configuration of the given page in the
+	 * background and keeps it ready for the next launch of the page, unless
+	 * there is one already.
+	 */
+	private void launchWarmVM(final IFile page, final ILaunchConfiguration config, final String key) {
+		final WarmLaunch warmLaunch = new WarmLaunch(key);
+		synchronized (fWarmLaunches) {
+			if (fWarmLaunches.containsKey(page)) {
+				return;
+			}
+			fWarmLaunches.put(page, warmLaunch);
+		}
+		Job job = new Job(SnippetMessages.getString("ScrapbookLauncher.18")) { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				ILaunch launch = null;
+				try {
+					// registered once the scrapbook page uses it
+					launch = config.launch(ILaunchManager.DEBUG_MODE, monitor, false, false);
+				} catch (CoreException e) {
+					JDIDebugUIPlugin.log(e);
+				}
+				synchronized (fWarmLaunches) {
+					if (launch != null && fWarmLaunches.get(page) == warmLaunch) {
+						warmLaunch.launch = launch;
+						return Status.OK_STATUS;
+					}
+					if (fWarmLaunches.get(page) == warmLaunch) {
+						fWarmLaunches.remove(page);
+					}
+				}
+				// the page has been closed or launched meanwhile
+				terminate(launch);
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	/**
+	 * Terminates the scrapbook VM launched in advance for the given page, if
+	 * any. Called when the page is closed.
+	 *
+	 * @param page the scrapbook page file
+	 */
+	public void discardWarmLaunch(IFile page) {
+		WarmLaunch warmLaunch;
+		synchronized (fWarmLaunches) {
+			warmLaunch = fWarmLaunches.remove(page);
+		}
+		if (warmLaunch != null) {
+			terminate(warmLaunch.launch);
+		}
+	}
+
+	/**
+	 * Terminates the scrapbook VMs launched in advance.
+	 */
+	private void terminateWarmLaunches() {
+		List<WarmLaunch> launches;
+		synchronized (fWarmLaunches) {
+			if (fWarmLaunches.isEmpty()) {
+				return;
+			}
+			launches = new ArrayList<>(fWarmLaunches.values());
+			fWarmLaunches.clear();
+		}
+		for (WarmLaunch warmLaunch : launches) {
+			terminate(warmLaunch.launch);
+		}
+	}
+
+	private void terminate(ILaunch launch) {
+		if (launch != null && !launch.isTerminated()) {
+			try {
+				launch.terminate();
+			} catch (DebugException e) {
+				JDIDebugUIPlugin.log(e);
+			}
+		}
+	}
+
+	/**
+	 * Terminates the scrapbook VMs launched in advance when the preference
+	 * to keep them is turned off.
+	 */
+	@Override
+	public void propertyChange(PropertyChangeEvent event) {
+		if (IJDIPreferencesConstants.PREF_SCRAPBOOK_WARM_VM.equals(event.getProperty())
+				&& !JDIDebugUIPlugin.getDefault().getPreferenceStore().getBoolean(IJDIPreferencesConstants.PREF_SCRAPBOOK_WARM_VM)) {
+			terminateWarmLaunches();
+		}
+	}
+
+	/**
+	 * Terminates the scrapbook VMs launched in advance, which are not known to
+	 * the launch manager.
+	 */
+	public static void shutdown() {
+		if (fgDefault != null) {
+			JDIDebugUIPlugin.getDefault().getPreferenceStore().removePropertyChangeListener(fgDefault);
+			fgDefault.terminateWarmLaunches();
+		}
+	}
+
 	/**
 	 * Creates an "invisible" line breakpoint.
 	 *
@@ -13,12 +13,19 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui.threadgroups;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.internal.ui.model.elements.DebugTargetContentProvider;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.ui.monitors.JavaElementContentProvider;
 
 /**
@@ -32,13 +39,14 @@ public class JavaDebugTargetContentProvider extends DebugTargetContentProvider {
 	@Override
 	protected int getChildCount(Object element, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
 		if (IDebugUIConstants.ID_DEBUG_VIEW.equals(context.getId())) {
+			IJavaDebugTarget debugTarget = (IJavaDebugTarget)element;
 			if (JavaElementContentProvider.isDisplayThreadGroups()) {
-				IJavaDebugTarget debugTarget = (IJavaDebugTarget)element;
 				if (debugTarget.isDisconnected() || debugTarget.isTerminated()) {
 					return 0;
 				}
-				return debugTarget.getRootThreadGroups().length;
+				return debugTarget.getRootThreadGroups().length + getVirtualThreads(debugTarget).length;
 			}
+			return getThreads(debugTarget).length + getVirtualThreads(debugTarget).length;
 		}
 		return super.getChildCount(element, context, monitor);
 	}
@@ -49,11 +57,61 @@ public class JavaDebugTargetContentProvider extends DebugTargetContentProvider {
 	@Override
 	protected Object[] getChildren(Object parent, int index, int length, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
 		if (IDebugUIConstants.ID_DEBUG_VIEW.equals(context.getId())) {
+			IJavaDebugTarget debugTarget = (IJavaDebugTarget)parent;
+			Object[] children;
 			if (JavaElementContentProvider.isDisplayThreadGroups()) {
-				return getElements(((IJavaDebugTarget)parent).getRootThreadGroups(), index, length);
+				children = debugTarget.getRootThreadGroups();
+			} else {
+				children = getThreads(debugTarget);
+			}
+			Object[] virtualThreads = getVirtualThreads(debugTarget);
+			if (virtualThreads.length > 0) {
+				Object[] all = new Object[children.length + virtualThreads.length];
+				System.arraycopy(children, 0, all, 0, children.length);
+				System.arraycopy(virtualThreads, 0, all, children.length, virtualThreads.length);
+				children = all;
 			}
+			return getElements(children, index, length);
 		}
 		return super.getChildren(parent, index, length, context, monitor);
 	}
 
+	/**
+	 * Returns the threads displayed as children of the given target when
+	 * thread groups are not displayed. The virtual threads of a target that
+	 * tracks them lazily are children of its {@link JavaVirtualThreads} group
+	 * instead.
+	 *
+	 * @param target
+	 *            a debug target
+	 * @return the threads displayed as children of the target
+	 * @throws DebugException
+	 *             if the threads cannot be retrieved
+	 */
+	static IThread[] getThreads(IJavaDebugTarget target) throws DebugException {
+		IThread[] threads = target.getThreads();
+		if (!(target instanceof JDIDebugTarget jdiTarget && jdiTarget.isTrackingVirtualThreadsLazily())) {
+			return threads;
+		}
+		List<IThread> platformThreads = new ArrayList<>(threads.length);
+		for (IThread thread : threads) {
+			if (!(thread instanceof JDIThread jdiThread && jdiThread.isVirtualThread())) {
+				platformThreads.add(thread);
+			}
+		}
+		return platformThreads.toArray(new IThread[platformThreads.size()]);
+	}
+
+	/**
+	 * Returns the group of the virtual threads of the given target if it
+	 * tracks virtual threads lazily, as they are not all children of the
+	 * target then.
+	 */
+	private Object[] getVirtualThreads(IJavaDebugTarget target) {
+		if (target instanceof JDIDebugTarget jdiTarget && jdiTarget.isTrackingVirtualThreadsLazily() && !jdiTarget.isDisconnected() && !jdiTarget.isTerminated()) {
+			return new Object[] { new JavaVirtualThreads(jdiTarget) };
+		}
+		return EMPTY;
+	}
+
 }
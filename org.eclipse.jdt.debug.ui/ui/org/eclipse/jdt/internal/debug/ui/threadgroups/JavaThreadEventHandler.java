@@ -14,10 +14,19 @@
 package org.eclipse.jdt.internal.debug.ui.threadgroups;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
@@ -33,6 +42,7 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaThreadGroup;
 import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPreferenceInitializer;
@@ -54,9 +64,74 @@ import org.eclipse.swt.widgets.Widget;
  */
 public class JavaThreadEventHandler extends ThreadEventHandler implements IPropertyChangeListener, TreeListener {
 
+	/**
+	 * Delay after which queued events are handled, about one UI frame
+	 */
+	private static final long BATCH_DELAY = 16;
+
 	private boolean fDisplayMonitors;
 	private Tree fTree;
 
+	/**
+	 * Thread events queued to be handled as a batch
+	 */
+	private final List<DebugEvent> fQueuedEvents = new ArrayList<>();
+
+	/**
+	 * Whether this handler has been disposed, after which the batch job does
+	 * not fire deltas anymore. Guarded by the lock of {@link #fQueuedEvents}.
+	 */
+	private boolean fDisposed;
+
+	/**
+	 * Handles the queued events, so that suspending or resuming many threads
+	 * at once results in one delta
+	 */
+	private final Job fBatchJob = new Job("Update Java Threads") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			synchronized (fBatchLock) {
+				handleQueuedEvents();
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	/**
+	 * Lock held while events are handled
+	 */
+	private final Object fBatchLock = new Object();
+
+	/**
+	 * Whether queued events are being handled, and deltas are collected in
+	 * {@link #fBatchDeltas} rather than fired
+	 */
+	private volatile boolean fBatching;
+
+	/**
+	 * The deltas of the batch of events being handled
+	 */
+	private final List<IModelDelta> fBatchDeltas = new ArrayList<>();
+
+	/**
+	 * Index of each thread by parent, target or thread group, while handling
+	 * a batch of events
+	 */
+	private final Map<Object, Map<IThread, Integer>> fThreadIndexes = new HashMap<>();
+
+	/**
+	 * Threads and thread groups by thread group, while handling a batch of
+	 * events
+	 */
+	private final Map<IJavaThreadGroup, IJavaThread[]> fGroupThreads = new HashMap<>();
+	private final Map<IJavaThreadGroup, IJavaThreadGroup[]> fGroupGroups = new HashMap<>();
+
+	/**
+	 * Number of frames, owned monitors and contended monitors of the threads
+	 * suspended by a batch of events, fetched in bulk
+	 */
+	private final Map<IThread, int[]> fFrameAndMonitorCounts = new HashMap<>();
+
 	/**
 	 * Constructs and event handler for a Java thread.
 	 */
@@ -65,6 +140,7 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 		IPreferenceStore preferenceStore = JDIDebugUIPlugin.getDefault().getPreferenceStore();
 		preferenceStore.addPropertyChangeListener(this);
 		fDisplayMonitors= preferenceStore.getBoolean(IJavaDebugUIConstants.PREF_SHOW_MONITOR_THREAD_INFO);
+		fBatchJob.setSystem(true);
 	}
 
 	protected void init(Viewer viewer) {
@@ -85,6 +161,12 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 	 */
 	@Override
 	public synchronized void dispose() {
+		synchronized (fQueuedEvents) {
+			// a running batch job may not fire its delta anymore
+			fDisposed = true;
+			fQueuedEvents.clear();
+		}
+		fBatchJob.cancel();
 		if (fTree != null) {
 			fTree.removeTreeListener(this);
 		}
@@ -116,24 +198,53 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 					int index = -1;
 					IJavaThreadGroup parent = group.getThreadGroup();
 					if (parent != null) {
-						index = indexOf(parent.getThreadGroups(), group);
+						index = indexOf(getThreadGroups(parent), group);
 						if (index >= 0) {
 							// threads are displayed first
-							index += parent.getThreads().length;
+							index += getThreads(parent).length;
 						}
 					} else {
 						index = indexOf(debugTarget.getRootThreadGroups(), group);
 					}
-					delta = delta.addNode(group, index, IModelDelta.NO_CHANGE, group.getThreadGroups().length + group.getThreads().length);
+					delta = delta.addNode(group, index, IModelDelta.NO_CHANGE, getThreadGroups(group).length + getThreads(group).length);
 				}
 				} catch (DebugException e) {
 					JDIDebugUIPlugin.log(e);
 				}
 			return delta;
 		}
+		if (thread.getDebugTarget() instanceof JDIDebugTarget target && target.isTrackingVirtualThreadsLazily()) {
+			ILaunch launch = thread.getLaunch();
+			ILaunch[] launches = DebugPlugin.getDefault().getLaunchManager().getLaunches();
+			Object[] launchChildren = launch.getChildren();
+			delta = delta.addNode(launch, indexOf(launches, launch), IModelDelta.NO_CHANGE, launchChildren.length);
+			int threads = -1;
+			try {
+				threads = JavaDebugTargetContentProvider.getThreads(target).length;
+			} catch (DebugException e) {
+				JDIDebugUIPlugin.log(e);
+			}
+			// the platform threads are followed by the group of the virtual threads
+			delta = delta.addNode(target, indexOf(launchChildren, target), IModelDelta.NO_CHANGE, threads == -1 ? -1 : threads + 1);
+			if (isVirtualThread(thread)) {
+				delta = delta.addNode(new JavaVirtualThreads(target), threads, IModelDelta.NO_CHANGE, -1);
+			}
+			return delta;
+		}
 		return super.addPathToThread(delta, thread);
 	}
 
+	/**
+	 * Returns whether the given thread is a virtual thread of a target that
+	 * tracks virtual threads lazily, which is displayed in the
+	 * {@link JavaVirtualThreads} group of the target when thread groups are
+	 * not displayed.
+	 */
+	private static boolean isVirtualThread(IThread thread) {
+		return thread instanceof JDIThread jdiThread && jdiThread.isVirtualThread()
+				&& jdiThread.getDebugTarget() instanceof JDIDebugTarget target && target.isTrackingVirtualThreadsLazily();
+	}
+
 	@Override
 	public void propertyChange(PropertyChangeEvent event) {
 		if (event.getProperty().equals(IJavaDebugUIConstants.PREF_SHOW_MONITOR_THREAD_INFO)) {
@@ -151,12 +262,17 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 		if (isDisplayMonitors()) {
 			if (((IJavaDebugTarget) frame.getDebugTarget()).supportsMonitorInformation()) {
 				IJavaThread thread = (IJavaThread) frame.getThread();
-				try {
-					index = thread.getOwnedMonitors().length;
-					if (thread.getContendedMonitor() != null) {
-						index++;
+				int[] counts = fBatching ? fFrameAndMonitorCounts.get(thread) : null;
+				if (counts != null && counts[1] >= 0) {
+					index = counts[1] + counts[2];
+				} else {
+					try {
+						index = thread.getOwnedMonitors().length;
+						if (thread.getContendedMonitor() != null) {
+							index++;
+						}
+					} catch (DebugException e) {
 					}
-				} catch (DebugException e) {
 				}
 			} else {
 				// make room for the 'no monitor info' element
@@ -205,12 +321,17 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 	protected int childCount(IThread thread) {
 		try {
 			IJavaThread jThread = (IJavaThread) thread;
-			int count = jThread.getFrameCount();
+			int[] counts = fBatching ? fFrameAndMonitorCounts.get(thread) : null;
+			int count = counts != null ? counts[0] : jThread.getFrameCount();
 			if (isDisplayMonitors()) {
 				if (((IJavaDebugTarget)thread.getDebugTarget()).supportsMonitorInformation()) {
-					count += jThread.getOwnedMonitors().length;
-					if (jThread.getContendedMonitor() != null) {
-						count++;
+					if (counts != null && counts[1] >= 0) {
+						count += counts[1] + counts[2];
+					} else {
+						count += jThread.getOwnedMonitors().length;
+						if (jThread.getContendedMonitor() != null) {
+							count++;
+						}
 					}
 				} else {
 					// make room for the 'no monitor info' element
@@ -229,15 +350,78 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 	 */
 	@Override
 	protected int indexOf(IThread thread) {
-		if (JavaElementContentProvider.isDisplayThreadGroups()) {
-			IJavaThread javaThread = (IJavaThread) thread;
-			try {
-				return indexOf(javaThread.getThreadGroup().getThreads(), javaThread);
-			} catch (CoreException e) {
+		try {
+			if (JavaElementContentProvider.isDisplayThreadGroups()) {
+				IJavaThreadGroup group = ((IJavaThread) thread).getThreadGroup();
+				return indexOf(group, getThreads(group), thread);
+			}
+			if (isVirtualThread(thread)) {
+				// the index among the virtual threads listed by page is not known
 				return -1;
 			}
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			return indexOf(target, fBatching && fThreadIndexes.containsKey(target) ? null : JavaDebugTargetContentProvider.getThreads(target), thread);
+		} catch (CoreException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Returns the index of the given thread among the threads of the given
+	 * parent, remembered while handling a batch of events.
+	 *
+	 * @param parent
+	 *            target or thread group
+	 * @param threads
+	 *            the threads of the parent, or <code>null</code> if remembered
+	 * @param thread
+	 *            a thread of the parent
+	 * @return the index or -1
+	 */
+	private int indexOf(Object parent, IThread[] threads, IThread thread) {
+		if (!fBatching) {
+			return indexOf(threads, thread);
+		}
+		Map<IThread, Integer> indexes = fThreadIndexes.get(parent);
+		if (indexes == null) {
+			indexes = new HashMap<>();
+			for (int i = 0; i < threads.length; i++) {
+				indexes.put(threads[i], Integer.valueOf(i));
+			}
+			fThreadIndexes.put(parent, indexes);
+		}
+		Integer index = indexes.get(thread);
+		return index == null ? -1 : index.intValue();
+	}
+
+	/**
+	 * Returns the threads of the given group, remembered while handling a
+	 * batch of events as asking for them is a request to the VM.
+	 */
+	private IJavaThread[] getThreads(IJavaThreadGroup group) throws DebugException {
+		IJavaThread[] threads = fBatching ? fGroupThreads.get(group) : null;
+		if (threads == null) {
+			threads = group.getThreads();
+			if (fBatching) {
+				fGroupThreads.put(group, threads);
+			}
 		}
-		return super.indexOf(thread);
+		return threads;
+	}
+
+	/**
+	 * Returns the thread groups of the given group, remembered while handling
+	 * a batch of events as asking for them is a request to the VM.
+	 */
+	private IJavaThreadGroup[] getThreadGroups(IJavaThreadGroup group) throws DebugException {
+		IJavaThreadGroup[] groups = fBatching ? fGroupGroups.get(group) : null;
+		if (groups == null) {
+			groups = group.getThreadGroups();
+			if (fBatching) {
+				fGroupGroups.put(group, groups);
+			}
+		}
+		return groups;
 	}
 
 	/* (non-Javadoc)
@@ -306,6 +490,174 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 		queueSuspendedThread(thread);
 	}
 
+	/**
+	 * Queues the given event to be handled along with the events fired about
+	 * at the same time.
+	 */
+	private void queueEvent(DebugEvent event) {
+		synchronized (fQueuedEvents) {
+			if (fDisposed) {
+				return;
+			}
+			fQueuedEvents.add(event);
+		}
+		fBatchJob.schedule(BATCH_DELAY);
+	}
+
+	/**
+	 * Handles the queued events and fires their deltas as one delta. The
+	 * number of frames and monitors of the threads they suspend is fetched
+	 * with one request to the VM, and thread indexes are only computed once.
+	 * Called with the batch lock held.
+	 */
+	private void handleQueuedEvents() {
+		List<DebugEvent> events;
+		synchronized (fQueuedEvents) {
+			if (fQueuedEvents.isEmpty()) {
+				return;
+			}
+			events = new ArrayList<>(fQueuedEvents);
+			fQueuedEvents.clear();
+		}
+		fBatching = true;
+		try {
+			fetchFrameAndMonitorCounts(events);
+			for (DebugEvent event : events) {
+				switch (event.getKind()) {
+					case DebugEvent.CREATE:
+						doHandleCreate(event);
+						break;
+					case DebugEvent.TERMINATE:
+						doHandleTerminate(event);
+						break;
+					case DebugEvent.SUSPEND:
+						super.handleSuspend(event);
+						break;
+					case DebugEvent.RESUME:
+						// forget what the thread was doing
+						fFrameAndMonitorCounts.remove(event.getSource());
+						super.handleResume(event);
+						break;
+					default:
+						break;
+				}
+			}
+		} finally {
+			fBatching = false;
+			fThreadIndexes.clear();
+			fGroupThreads.clear();
+			fGroupGroups.clear();
+			fFrameAndMonitorCounts.clear();
+		}
+		IModelDelta delta = mergeDeltas(fBatchDeltas);
+		fBatchDeltas.clear();
+		if (delta != null) {
+			synchronized (fQueuedEvents) {
+				if (!fDisposed) {
+					super.fireDelta(delta);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fetches the number of frames and monitors of all threads suspended by
+	 * the given events at once, with one batch per debug target.
+	 */
+	private void fetchFrameAndMonitorCounts(List<DebugEvent> events) {
+		Map<JDIDebugTarget, Set<JDIThread>> suspended = new LinkedHashMap<>();
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.SUSPEND && !event.isEvaluation() && event.getSource() instanceof JDIThread thread
+					&& thread.isSuspended() && !thread.isPerformingEvaluation()) {
+				suspended.computeIfAbsent(thread.getJavaDebugTarget(), target -> new LinkedHashSet<>()).add(thread);
+			}
+		}
+		for (Map.Entry<JDIDebugTarget, Set<JDIThread>> entry : suspended.entrySet()) {
+			if (entry.getValue().size() < 2) {
+				// not worth a batch
+				continue;
+			}
+			List<JDIThread> threads = new ArrayList<>(entry.getValue());
+			int[][] counts = entry.getKey().getFrameAndMonitorCounts(threads);
+			for (int i = 0; i < counts.length; i++) {
+				if (counts[i] != null) {
+					fFrameAndMonitorCounts.put(threads.get(i), counts[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Merges the given deltas into one delta, or returns <code>null</code> if
+	 * there are none. The flags of the nodes of the same element are combined
+	 * and their index and child count are taken from the last delta.
+	 */
+	private static IModelDelta mergeDeltas(List<IModelDelta> deltas) {
+		if (deltas.isEmpty()) {
+			return null;
+		}
+		if (deltas.size() == 1) {
+			return deltas.get(0);
+		}
+		IModelDelta first = deltas.get(0);
+		ModelDelta root = new ModelDelta(first.getElement(), first.getFlags());
+		for (IModelDelta delta : deltas) {
+			root.setFlags(root.getFlags() | delta.getFlags());
+			mergeChildDeltas(root, delta);
+		}
+		return root;
+	}
+
+	private static void mergeChildDeltas(ModelDelta node, IModelDelta delta) {
+		for (IModelDelta child : delta.getChildDeltas()) {
+			ModelDelta childNode = node.getChildDelta(child.getElement());
+			if (childNode == null) {
+				childNode = node.addNode(child.getElement(), child.getIndex(), child.getFlags(), child.getChildCount());
+			} else {
+				childNode.setFlags(childNode.getFlags() | child.getFlags());
+				childNode.setIndex(child.getIndex());
+				childNode.setChildCount(child.getChildCount());
+			}
+			mergeChildDeltas(childNode, child);
+		}
+	}
+
+	@Override
+	protected void fireDelta(IModelDelta delta) {
+		if (fBatching) {
+			fBatchDeltas.add(delta);
+			return;
+		}
+		super.fireDelta(delta);
+	}
+
+	/**
+	 * Suspends are handled in batches, as suspending the VM suspends all
+	 * threads at once.
+	 */
+	@Override
+	protected void handleSuspend(DebugEvent event) {
+		queueEvent(event);
+	}
+
+	/**
+	 * Resumes are handled in batches, as resuming the VM resumes all threads
+	 * at once.
+	 */
+	@Override
+	protected void handleResume(DebugEvent event) {
+		queueEvent(event);
+	}
+
+	@Override
+	protected void handleChange(DebugEvent event) {
+		synchronized (fBatchLock) {
+			// keep the order of the events
+			handleQueuedEvents();
+			super.handleChange(event);
+		}
+	}
+
 	/**
 	 * Do not update for quiet resume/suspend
 	 */
@@ -314,7 +666,11 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 		if (event.getDetail() == JDIThread.SUSPEND_QUIET || event.getDetail() == JDIThread.RESUME_QUIET) {
 			return;
 		}
-		super.handleOther(event);
+		synchronized (fBatchLock) {
+			// keep the order of the events
+			handleQueuedEvents();
+			super.handleOther(event);
+		}
 	}
 
 	/**
@@ -349,10 +705,18 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 	 */
 	@Override
 	protected void handleCreate(DebugEvent event) {
+		// thread indexes change, keep the order of the events
+		queueEvent(event);
+	}
+
+	private void doHandleCreate(DebugEvent event) {
 		if (isMissingRequiredThreadGroup(event)) {
 			// don't bother adding/removing thread missing thread group
 			return;
 		}
+		fThreadIndexes.clear();
+		fGroupThreads.clear();
+		fGroupGroups.clear();
 		super.handleCreate(event);
 	}
 
@@ -361,10 +725,18 @@ public class JavaThreadEventHandler extends ThreadEventHandler implements IPrope
 	 */
 	@Override
 	protected void handleTerminate(DebugEvent event) {
+		// thread indexes change, keep the order of the events
+		queueEvent(event);
+	}
+
+	private void doHandleTerminate(DebugEvent event) {
 		if (isMissingRequiredThreadGroup(event)) {
 			// don't bother adding/removing thread missing thread group
 			return;
 		}
+		fThreadIndexes.clear();
+		fGroupThreads.clear();
+		fGroupGroups.clear();
 		super.handleTerminate(event);
 	}
 }
@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.threadgroups;
+
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+/**
+ * Groups the virtual threads of a debug target that tracks virtual threads
+ * lazily in the debug view. The threads are listed when the group is expanded,
+ * one page at a time.
+ *
+ * @since 3.15
+ */
+public class JavaVirtualThreads {
+
+	private final JDIDebugTarget fTarget;
+
+	/**
+	 * Constructor
+	 *
+	 * @param target
+	 *            a target that tracks virtual threads lazily
+	 */
+	public JavaVirtualThreads(JDIDebugTarget target) {
+		fTarget = target;
+	}
+
+	/**
+	 * @return the debug target of the virtual threads
+	 */
+	public JDIDebugTarget getDebugTarget() {
+		return fTarget;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof JavaVirtualThreads other && fTarget.equals(other.fTarget);
+	}
+
+	@Override
+	public int hashCode() {
+		return fTarget.hashCode();
+	}
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui.threadgroups;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
+import org.eclipse.debug.internal.ui.viewers.model.provisional.IViewerUpdate;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.ui.monitors.JavaElementContentProvider;
+
+/**
+ * Lists the virtual threads of a {@link JavaVirtualThreads} group. The
+ * threads are counted with one request, and the models of the threads are
+ * only created for the pages the viewer asks for.
+ *
+ * @since 3.15
+ */
+public class JavaVirtualThreadsContentProvider extends JavaElementContentProvider {
+
+	@Override
+	protected int getChildCount(Object element, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
+		JDIDebugTarget target = ((JavaVirtualThreads) element).getDebugTarget();
+		if (isAvailable(target)) {
+			return target.getVirtualThreadCount();
+		}
+		return 0;
+	}
+
+	@Override
+	protected boolean hasChildren(Object element, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
+		// asked on every refresh, do not list the threads
+		JDIDebugTarget target = ((JavaVirtualThreads) element).getDebugTarget();
+		return isAvailable(target) && target.hasVirtualThreads();
+	}
+
+	@Override
+	protected Object[] getChildren(Object parent, int index, int length, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
+		JDIDebugTarget target = ((JavaVirtualThreads) parent).getDebugTarget();
+		if (isAvailable(target)) {
+			return target.getVirtualThreads(index, length);
+		}
+		return EMPTY;
+	}
+
+	private boolean isAvailable(JDIDebugTarget target) {
+		return !(target.isTerminated() || target.isDisconnected());
+	}
+}
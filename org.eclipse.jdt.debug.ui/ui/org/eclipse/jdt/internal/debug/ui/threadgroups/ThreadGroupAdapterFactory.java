@@ -26,6 +26,8 @@ public class ThreadGroupAdapterFactory implements IAdapterFactory{
 
 	private static IElementContentProvider fgCPThreadGroup = new JavaThreadGroupContentProvider();
 	private static IElementLabelProvider fgLPThreadGroup = new JavaThreadGroupLabelProvider();
+	private static IElementContentProvider fgCPVirtualThreads = new JavaVirtualThreadsContentProvider();
+	private static IElementLabelProvider fgLPVirtualThreads = new JavaVirtualThreadsLabelProvider();
 
 	/* (non-Javadoc)
 	 * @see org.eclipse.core.runtime.IAdapterFactory#getAdapter(java.lang.Object, java.lang.Class)
@@ -38,11 +40,17 @@ public class ThreadGroupAdapterFactory implements IAdapterFactory{
 			if (adaptableObject instanceof IJavaThreadGroup) {
 				return (T) fgCPThreadGroup;
 			}
+			if (adaptableObject instanceof JavaVirtualThreads) {
+				return (T) fgCPVirtualThreads;
+			}
 		}
 		if (adapterType.equals(IElementLabelProvider.class)) {
 			if (adaptableObject instanceof IJavaThreadGroup) {
 				return (T) fgLPThreadGroup;
 			}
+			if (adaptableObject instanceof JavaVirtualThreads) {
+				return (T) fgLPVirtualThreads;
+			}
 		}
 		return null;
 	}
@@ -30,4 +30,5 @@ public class ThreadGroupMessages extends NLS {
 	}
 
 	public static String AsyncThreadGroupLabelAdapter_0;
+	public static String JavaVirtualThreadsLabelProvider_0;
 }
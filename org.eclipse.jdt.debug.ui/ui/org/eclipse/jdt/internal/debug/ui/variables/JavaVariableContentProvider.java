@@ -27,6 +27,7 @@ import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.internal.debug.core.HeapWalkingManager;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugModelMessages;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListVariable;
+import org.eclipse.jdt.internal.debug.core.model.JDIReferencePathsValue;
 import org.eclipse.osgi.util.NLS;
 
 /**
@@ -46,14 +47,23 @@ public class JavaVariableContentProvider extends VariableContentProvider {
 	protected Object[] getChildren(Object parent, int index, int length, IPresentationContext context, IViewerUpdate monitor) throws CoreException {
 		try {
 			Object[] variables = getAllChildren(parent, context);
-	        if (displayReferencesAsChild(parent)){
-	        	Object[] moreVariables = new Object[variables.length+1];
-	        	System.arraycopy(variables, 0, moreVariables, 1, variables.length);
-	        	IValue value = ((IVariable)parent).getValue();
-				moreVariables[0] = new JDIReferenceListVariable(NLS.bind(JDIDebugModelMessages.JDIReferenceListValue_6, ((IVariable) parent).getName()), (IJavaObject) value);
-	        	return getElements(moreVariables, index, length);
-	        }
-	        return getElements(variables, index, length);
+			boolean references = displayReferencesAsChild(parent);
+			JDIReferencePathsValue paths = getPathsToGCRoots(parent);
+			if (references || paths != null) {
+				int extra = (references ? 1 : 0) + (paths != null ? 1 : 0);
+				Object[] moreVariables = new Object[variables.length + extra];
+				System.arraycopy(variables, 0, moreVariables, extra, variables.length);
+				IValue value = ((IVariable) parent).getValue();
+				int next = 0;
+				if (references) {
+					moreVariables[next++] = new JDIReferenceListVariable(NLS.bind(JDIDebugModelMessages.JDIReferenceListValue_6, ((IVariable) parent).getName()), (IJavaObject) value);
+				}
+				if (paths != null) {
+					moreVariables[next++] = new JDIReferenceListVariable(NLS.bind(JDIDebugModelMessages.JDIReferencePathsValue_6, ((IVariable) parent).getName()), paths);
+				}
+				return getElements(moreVariables, index, length);
+			}
+			return getElements(variables, index, length);
 		} catch (CoreException e) {
 			if (e.getStatus().getCode() == IJavaThread.ERR_THREAD_NOT_SUSPENDED) {
 				monitor.cancel();
@@ -73,6 +83,9 @@ public class JavaVariableContentProvider extends VariableContentProvider {
 			if (displayReferencesAsChild(element)){
 				count++;
 			}
+			if (getPathsToGCRoots(element) != null) {
+				count++;
+			}
 			return count;
 		} catch (CoreException e) {
 			if (e.getStatus().getCode() == IJavaThread.ERR_THREAD_NOT_SUSPENDED) {
@@ -89,7 +102,7 @@ public class JavaVariableContentProvider extends VariableContentProvider {
 	@Override
 	protected boolean hasChildren(Object element, IPresentationContext context,	IViewerUpdate monitor) throws CoreException {
 		try {
-			if (displayReferencesAsChild(element)){
+			if (displayReferencesAsChild(element) || getPathsToGCRoots(element) != null) {
 				return true;
 			}
 			return super.hasChildren(element, context, monitor);
@@ -134,6 +147,22 @@ public class JavaVariableContentProvider extends VariableContentProvider {
 		return false;
 	}
 
+	/**
+	 * Returns the paths to GC roots searched for the object of the given
+	 * variable, which are added as a child of the variable.
+	 *
+	 * @param parent element to display the paths as a child for
+	 * @return the paths searched for the object of the variable, or <code>null</code>
+	 */
+	private static JDIReferencePathsValue getPathsToGCRoots(Object parent) throws DebugException {
+		if (parent instanceof IVariable variable && !(parent instanceof JDIReferenceListVariable)) {
+			if (variable.getValue() instanceof IJavaObject object && !object.isNull()) {
+				return JDIReferencePathsValue.getPaths(object);
+			}
+		}
+		return null;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.debug.internal.ui.model.elements.VariableContentProvider#getAllChildren(java.lang.Object, org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext)
 	 */
@@ -21,7 +21,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.CoreException;
@@ -37,10 +39,13 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.eval.ICodeSnippetRequestor;
 import org.eclipse.jdt.core.eval.IEvaluationContext;
 import org.eclipse.jdt.debug.core.IEvaluationRunnable;
+import org.eclipse.jdt.debug.core.IJavaArray;
+import org.eclipse.jdt.debug.core.IJavaArrayType;
 import org.eclipse.jdt.debug.core.IJavaClassObject;
 import org.eclipse.jdt.debug.core.IJavaClassType;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaType;
@@ -52,6 +57,7 @@ import org.eclipse.jdt.debug.eval.IEvaluationEngine;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 
@@ -59,7 +65,10 @@ import com.sun.jdi.InvocationException;
 import com.sun.jdi.ObjectReference;
 
 /**
- * An evaluation engine that deploys class files locally
+ * An evaluation engine that deploys class files locally. Class files are
+ * defined directly in the class loader of the type in which the evaluation
+ * thread is suspended, and only written to the output directory when that is
+ * not possible.
  */
 
 public class LocalEvaluationEngine implements IClassFileEvaluationEngine,
@@ -115,6 +124,21 @@ public class LocalEvaluationEngine implements IClassFileEvaluationEngine,
 	 */
 	private List<File> fDirectories;
 
+	/**
+	 * Class files accepted but not deployed yet, and their compound names
+	 */
+	private final List<byte[]> fPendingClassFiles = new ArrayList<>();
+	private final List<String[]> fPendingClassFileNames = new ArrayList<>();
+
+	/**
+	 * Class files deployed by previous evaluations which are used by later
+	 * ones, like the code snippet super class and the classes of global
+	 * variables, by fully qualified name. The evaluation context compiles them
+	 * only once, but the scrapbook creates a new class loader for every
+	 * evaluation, so they are defined again in each one.
+	 */
+	private final Map<String, byte[]> fSharedClassFiles = new LinkedHashMap<>();
+
 	/**
 	 * Evaluation context for the Java project associated with this evaluation
 	 * engine.
@@ -178,9 +202,10 @@ public class LocalEvaluationEngine implements IClassFileEvaluationEngine,
 
 	/**
 	 * Constructs a new evaluation engine for the given VM in the context of the
-	 * specified project. Class files required for the evaluation will be
-	 * deployed to the specified directory (which must be on the class path of
-	 * the VM in order for evaluation to work).
+	 * specified project. Class files required for the evaluation which cannot
+	 * be defined in the VM directly will be deployed to the specified directory
+	 * (which must be on the class path of the VM in order for evaluation to
+	 * work).
 	 *
 	 * @param project
 	 *            context in which to compile snippets
@@ -204,12 +229,9 @@ public class LocalEvaluationEngine implements IClassFileEvaluationEngine,
 	@Override
 	public boolean acceptClassFiles(byte[][] classFileBytes,
 			String[][] classFileCompoundNames, String codeSnippetClassName) {
-		try {
-			deploy(classFileBytes, classFileCompoundNames);
-		} catch (DebugException e) {
-			getResult().setException(e);
-			return false;
-		}
+		// deployed when the code snippet is run
+		fPendingClassFiles.addAll(Arrays.asList(classFileBytes));
+		fPendingClassFileNames.addAll(Arrays.asList(classFileCompoundNames));
 		if (codeSnippetClassName != null) {
 			setCodeSnippetClassName(codeSnippetClassName);
 			try {
@@ -226,6 +248,7 @@ public class LocalEvaluationEngine implements IClassFileEvaluationEngine,
 	public void run(IJavaThread thread, IProgressMonitor monitor) {
 		IJavaObject codeSnippetInstance = null;
 		try {
+			deployPendingClassFiles();
 			codeSnippetInstance = newInstance(getCodeSnippetClassName());
 			initializeLocals(codeSnippetInstance);
 			codeSnippetInstance.sendMessage(RUN_METHOD,	"()V", null, getThread(), false); //$NON-NLS-1$
@@ -760,6 +783,9 @@ public class LocalEvaluationEngine implements IClassFileEvaluationEngine,
 			}
 			i--;
 		}
+		fPendingClassFiles.clear();
+		fPendingClassFileNames.clear();
+		fSharedClassFiles.clear();
 		reset();
 		setJavaProject(null);
 		setDebugTarget(null);
@@ -854,6 +880,163 @@ public class LocalEvaluationEngine implements IClassFileEvaluationEngine,
 		fResult = result;
 	}
 
+	/**
+	 * Deploys the class files accepted since the last evaluation along with
+	 * the shared class files of previous evaluations, defining them in the
+	 * target if possible and writing them to the output location otherwise.
+	 *
+	 * @exception DebugException
+	 *                if this fails due to a lower level exception.
+	 */
+	private void deployPendingClassFiles() throws DebugException {
+		if (fPendingClassFiles.isEmpty()) {
+			return;
+		}
+		// shared classes first, as the snippet classes extend them
+		Map<String, byte[]> classFiles = new LinkedHashMap<>(fSharedClassFiles);
+		for (int i = 0; i < fPendingClassFiles.size(); i++) {
+			String name = String.join(".", fPendingClassFileNames.get(i)); //$NON-NLS-1$
+			byte[] bytes = fPendingClassFiles.get(i);
+			classFiles.put(name, bytes);
+			if (!isSnippetClass(name)) {
+				fSharedClassFiles.put(name, bytes);
+			}
+		}
+		fPendingClassFiles.clear();
+		fPendingClassFileNames.clear();
+		byte[][] bytes = classFiles.values().toArray(new byte[classFiles.size()][]);
+		String[][] names = new String[classFiles.size()][];
+		int i = 0;
+		for (String name : classFiles.keySet()) {
+			names[i++] = name.split("\\."); //$NON-NLS-1$
+		}
+		if (!define(bytes, names)) {
+			// write all of them, so that the class loader finds the shared
+			// classes it did not define
+			deploy(bytes, names);
+		}
+	}
+
+	/**
+	 * Returns whether the class with the given fully qualified name is the
+	 * code snippet class of the current evaluation or one of its nested
+	 * classes, which are not used by later evaluations.
+	 */
+	private boolean isSnippetClass(String name) {
+		String snippetClassName = getCodeSnippetClassName();
+		return snippetClassName != null && (name.equals(snippetClassName) || name.startsWith(snippetClassName + '$'));
+	}
+
+	/**
+	 * Defines the given classes in the class loader of the type in which the
+	 * evaluation thread is suspended, so that they can be instantiated without
+	 * being written to the output location. Classes already defined by that
+	 * class loader, like the code snippet class shared by all engines, are
+	 * skipped.
+	 *
+	 * @return whether all classes have been defined
+	 * @exception DebugException
+	 *                if this fails due to a lower level exception.
+	 */
+	protected boolean define(byte[][] classFiles, String[][] classFileNames)
+			throws DebugException {
+		IJavaStackFrame frame = (IJavaStackFrame) getThread().getTopStackFrame();
+		if (frame == null) {
+			return false;
+		}
+		IJavaObject classLoader = frame.getReferenceType().getClassLoaderObject();
+		IJavaType[] types = getDebugTarget().getJavaTypes("byte[]"); //$NON-NLS-1$
+		if (classLoader == null || types == null || types.length == 0) {
+			// classes cannot be defined by the bootstrap class loader
+			return false;
+		}
+		IJavaArrayType byteArrayType = (IJavaArrayType) types[0];
+		List<Integer> pending = new ArrayList<>(classFiles.length);
+		for (int i = 0; i < classFiles.length; i++) {
+			pending.add(Integer.valueOf(i));
+		}
+		// the names and bytes of the classes, uploaded once and kept from
+		// being collected until all classes are defined
+		IJavaObject[] names = new IJavaObject[classFiles.length];
+		IJavaArray[] bytes = new IJavaArray[classFiles.length];
+		try {
+			// a class can only be defined once the classes it extends are, retry until no more progress is made
+			boolean defined = true;
+			while (!pending.isEmpty() && defined) {
+				defined = false;
+				Iterator<Integer> iter = pending.iterator();
+				while (iter.hasNext()) {
+					int i = iter.next().intValue();
+					String name = String.join(".", classFileNames[i]); //$NON-NLS-1$
+					if (isDefined(name, classLoader)) {
+						iter.remove();
+						defined = true;
+						continue;
+					}
+					if (bytes[i] == null) {
+						names[i] = (IJavaObject) getDebugTarget().newValue(name);
+						names[i].disableCollection();
+						bytes[i] = byteArrayType.newInstance(classFiles[i].length);
+						bytes[i].disableCollection();
+						((JDIArrayValue) bytes[i]).setValues(0, classFiles[i]);
+					}
+					if (defineClass(classLoader, names[i], bytes[i], classFiles[i].length)) {
+						iter.remove();
+						defined = true;
+					}
+				}
+			}
+		} finally {
+			for (int i = 0; i < classFiles.length; i++) {
+				if (names[i] != null) {
+					names[i].enableCollection();
+				}
+				if (bytes[i] != null) {
+					bytes[i].enableCollection();
+				}
+			}
+		}
+		return pending.isEmpty();
+	}
+
+	/**
+	 * Returns whether the given class loader has defined a class with the
+	 * given name.
+	 */
+	private boolean isDefined(String name, IJavaObject classLoader) throws DebugException {
+		IJavaType[] types = getDebugTarget().getJavaTypes(name);
+		if (types != null) {
+			for (IJavaType type : types) {
+				if (type instanceof IJavaReferenceType && classLoader.equals(((IJavaReferenceType) type).getClassLoaderObject())) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Defines a class with the given class loader from the given bytes,
+	 * already uploaded to the target.
+	 *
+	 * @return whether the class has been defined
+	 */
+	private boolean defineClass(IJavaObject classLoader, IJavaObject name, IJavaArray classFile, int length) throws DebugException {
+		IJavaDebugTarget target = getDebugTarget();
+		try {
+			IJavaValue[] args = new IJavaValue[] { name, classFile,
+					target.newValue(0), target.newValue(length) };
+			classLoader.sendMessage("defineClass", "(Ljava/lang/String;[BII)Ljava/lang/Class;", args, getThread(), false); //$NON-NLS-1$ //$NON-NLS-2$
+			return true;
+		} catch (DebugException e) {
+			if (e.getStatus().getException() instanceof InvocationException) {
+				// a class it depends on is not defined yet, or the class loader refuses it
+				return false;
+			}
+			throw e;
+		}
+	}
+
 	/**
 	 * Deploys the given class files to this engine's output location, and adds
 	 * the files to this engines list of temporary files to be deleted when
@@ -912,7 +1095,9 @@ public class LocalEvaluationEngine implements IClassFileEvaluationEngine,
 		if (fSnippetFiles == null) {
 			fSnippetFiles = new ArrayList<>();
 		}
-		fSnippetFiles.add(file);
+		if (!fSnippetFiles.contains(file)) {
+			fSnippetFiles.add(file);
+		}
 	}
 
 	/**
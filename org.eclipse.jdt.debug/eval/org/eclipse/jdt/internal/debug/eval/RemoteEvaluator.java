@@ -1,6 +1,6 @@
 /*******************************************************************************
 
- * Copyright (c) 2019, 2020 Jesper Steen Møller and others.
+ * Copyright (c) 2019, 2026 Jesper Steen Møller and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,15 +17,26 @@ package org.eclipse.jdt.internal.debug.eval;
 
 import static org.eclipse.jdt.core.eval.ICodeSnippetRequestor.LOCAL_VAR_PREFIX;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.core.eval.ICodeSnippetRequestor;
+import org.eclipse.jdt.core.util.IConstantPoolConstant;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaArrayType;
 import org.eclipse.jdt.debug.core.IJavaClassObject;
@@ -39,6 +50,7 @@ import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 
@@ -61,6 +73,14 @@ public class RemoteEvaluator {
 
 	private final String enclosingTypeName;
 
+	/**
+	 * Names of the code snippet classes injected into each target, keyed by the
+	 * defining class loader and the digest of the injected class files. Code
+	 * snippets which only differ by their generated class name are defined once
+	 * per class loader and reused afterwards.
+	 */
+	private static final Map<IJavaDebugTarget, Map<String, String>> INJECTED_CLASSES = Collections.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Constructs a new evaluation engine for the given VM in the context of the specified project. Class files required for the evaluation will be
 	 * deployed to the specified directory (which must be on the class path of the VM in order for evaluation to work).
@@ -84,6 +104,19 @@ public class RemoteEvaluator {
 		IJavaReferenceType surroundingClass = findType(this.enclosingTypeName, debugTarget);
 		classloader = surroundingClass.getClassLoaderObject();
 
+		String contentKey = getContentKey(classloader);
+		Map<String, String> injectedClasses = INJECTED_CLASSES.computeIfAbsent(debugTarget, t -> new ConcurrentHashMap<>());
+		if (contentKey != null) {
+			String injectedName = injectedClasses.get(contentKey);
+			if (injectedName != null) {
+				IJavaClassObject injectedClass = findInjectedClass(injectedName, classloader, debugTarget);
+				if (injectedClass != null) {
+					return injectedClass;
+				}
+				injectedClasses.remove(contentKey);
+			}
+		}
+
 		for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
 			String className = entry.getKey();
 
@@ -93,7 +126,7 @@ public class RemoteEvaluator {
 					theMainClass = existingClass.getClassObject();
 				}
 			} else {
-				IJavaArray byteArray = createClassBytes(theThread, debugTarget, entry);
+				IJavaArray byteArray = createClassBytes(debugTarget, entry);
 				IJavaValue[] defineClassArgs = new IJavaValue[] { // args for defineClass
 						debugTarget.newValue(className.replaceAll("/", ".")), // class name //$NON-NLS-1$ //$NON-NLS-2$
 						byteArray, // classBytes,
@@ -108,19 +141,169 @@ public class RemoteEvaluator {
 				}
 			}
 		}
+		if (contentKey != null && theMainClass != null) {
+			injectedClasses.put(contentKey, codeSnippetClassName.replace('/', '.'));
+		}
 		return theMainClass;
 	}
 
-	private IJavaArray createClassBytes(IJavaThread theThread, JDIDebugTarget debugTarget, Map.Entry<String, byte[]> entry) throws DebugException {
+	/**
+	 * Returns the class object of the previously injected class with the given
+	 * name if it is still loaded by the given class loader, or <code>null</code>.
+	 */
+	private IJavaClassObject findInjectedClass(String className, IJavaObject classloader, IJavaDebugTarget debugTarget) throws DebugException {
+		IJavaType[] types = debugTarget.getJavaTypes(className);
+		if (types != null) {
+			for (IJavaType type : types) {
+				IJavaReferenceType referenceType = (IJavaReferenceType) type;
+				if (Objects.equals(classloader, referenceType.getClassLoaderObject())) {
+					return referenceType.getClassObject();
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a key identifying the given class loader and the contents of the
+	 * class files of this evaluator, ignoring the generated name of the code
+	 * snippet class. Returns <code>null</code> if no key can be computed.
+	 */
+	private String getContentKey(IJavaObject classloader) throws DebugException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		String snippetName = codeSnippetClassName.substring(codeSnippetClassName.lastIndexOf('/') + 1);
+		if (snippetName.isEmpty()) {
+			return null;
+		}
+		byte[] name = snippetName.getBytes(StandardCharsets.UTF_8);
+		for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
+			digest.update(entry.getKey().replace(snippetName, "").getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			if (!updateWithoutName(digest, entry.getValue(), name)) {
+				return null;
+			}
+		}
+		long loaderId = classloader == null ? -1 : classloader.getUniqueId();
+		return loaderId + ":" + HexFormat.of().formatHex(digest.digest()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Feeds the given class file to the digest, leaving out all occurrences of
+	 * the given name from the UTF8 entries of its constant pool. The length of
+	 * each UTF8 entry is fed without the name as well, so that names of
+	 * different lengths (e.g. <code>CodeSnippet_9</code> and
+	 * <code>CodeSnippet_10</code>) give the same digest. Returns whether the
+	 * class file could be read.
+	 */
+	private static boolean updateWithoutName(MessageDigest digest, byte[] bytes, byte[] name) {
+		if (bytes.length < 10) {
+			return false;
+		}
+		// magic, version and constant_pool_count
+		digest.update(bytes, 0, 10);
+		int count = u2(bytes, 8);
+		int pos = 10;
+		for (int i = 1; i < count; i++) {
+			if (pos + 3 > bytes.length) {
+				return false;
+			}
+			int tag = bytes[pos] & 0xFF;
+			int size;
+			switch (tag) {
+				case IConstantPoolConstant.CONSTANT_Utf8:
+					int end = pos + 3 + u2(bytes, pos + 1);
+					if (end > bytes.length) {
+						return false;
+					}
+					byte[] value = withoutName(bytes, pos + 3, end, name);
+					digest.update((byte) tag);
+					digest.update((byte) (value.length >>> 8));
+					digest.update((byte) value.length);
+					digest.update(value);
+					pos = end;
+					continue;
+				case IConstantPoolConstant.CONSTANT_Integer:
+				case IConstantPoolConstant.CONSTANT_Float:
+				case IConstantPoolConstant.CONSTANT_Fieldref:
+				case IConstantPoolConstant.CONSTANT_Methodref:
+				case IConstantPoolConstant.CONSTANT_InterfaceMethodref:
+				case IConstantPoolConstant.CONSTANT_NameAndType:
+				case IConstantPoolConstant.CONSTANT_Dynamic:
+				case IConstantPoolConstant.CONSTANT_InvokeDynamic:
+					size = 5;
+					break;
+				case IConstantPoolConstant.CONSTANT_Long:
+				case IConstantPoolConstant.CONSTANT_Double:
+					size = 9;
+					i++; // takes two entries
+					break;
+				case IConstantPoolConstant.CONSTANT_Class:
+				case IConstantPoolConstant.CONSTANT_String:
+				case IConstantPoolConstant.CONSTANT_MethodType:
+				case IConstantPoolConstant.CONSTANT_Module:
+				case IConstantPoolConstant.CONSTANT_Package:
+					size = 3;
+					break;
+				case IConstantPoolConstant.CONSTANT_MethodHandle:
+					size = 4;
+					break;
+				default:
+					return false;
+			}
+			if (pos + size > bytes.length) {
+				return false;
+			}
+			digest.update(bytes, pos, size);
+			pos += size;
+		}
+		// the rest of the class file only refers to the constant pool
+		digest.update(bytes, pos, bytes.length - pos);
+		return true;
+	}
+
+	/**
+	 * Returns the given range of bytes, leaving out all occurrences of the
+	 * given name.
+	 */
+	private static byte[] withoutName(byte[] bytes, int from, int to, byte[] name) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(to - from);
+		int start = from;
+		int i = from;
+		while (i <= to - name.length) {
+			if (Arrays.equals(bytes, i, i + name.length, name, 0, name.length)) {
+				out.write(bytes, start, i - start);
+				i += name.length;
+				start = i;
+			} else {
+				i++;
+			}
+		}
+		out.write(bytes, start, to - start);
+		return out.toByteArray();
+	}
+
+	private static int u2(byte[] bytes, int pos) {
+		return (bytes[pos] & 0xFF) << 8 | bytes[pos + 1] & 0xFF;
+	}
+
+	private IJavaArray createClassBytes(JDIDebugTarget debugTarget, Map.Entry<String, byte[]> entry) throws DebugException {
 		IJavaReferenceType byteArrayType = findType("byte[]", debugTarget);//$NON-NLS-1$
 		byte[] classBytes = entry.getValue();
 		IJavaArray byteArray = ((IJavaArrayType) byteArrayType).newInstance(classBytes.length);
-
-		IJavaValue[] debugClassBytes = new IJavaValue[classBytes.length];
-		for (int ix = 0; ix < classBytes.length; ++ix) {
-			debugClassBytes[ix] = ((JDIDebugTarget) theThread.getDebugTarget()).newValue(classBytes[ix]);
+		if (byteArray instanceof JDIArrayValue) {
+			// upload the bytes as they are, instead of one value per byte
+			((JDIArrayValue) byteArray).setValues(0, classBytes);
+		} else {
+			IJavaValue[] debugClassBytes = new IJavaValue[classBytes.length];
+			for (int ix = 0; ix < classBytes.length; ++ix) {
+				debugClassBytes[ix] = debugTarget.newValue(classBytes[ix]);
+			}
+			byteArray.setValues(debugClassBytes);
 		}
-		byteArray.setValues(debugClassBytes);
 		return byteArray;
 	}
 
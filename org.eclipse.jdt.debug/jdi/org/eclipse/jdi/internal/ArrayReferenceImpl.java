@@ -380,6 +380,67 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Replaces a range of components of a <code>byte[]</code> with the given
+	 * bytes. Unlike {@link #setValues(int, List, int, int)} the bytes are
+	 * written to the request as they are, without creating a mirror for each
+	 * value.
+	 *
+	 * @param index
+	 *            offset in this array to start replacing values at
+	 * @param values
+	 *            replacement values
+	 * @throws InvalidTypeException
+	 *             thrown if this array is not a <code>byte[]</code>
+	 * @throws ClassNotLoadedException
+	 *             thrown if the class type for the {@link ArrayReference} is
+	 *             not loaded or has been GC'd
+	 */
+	public void setValues(int index, byte[] values) throws InvalidTypeException,
+			ClassNotLoadedException {
+		if (values.length == 0) {
+			// trying to set nothing should do no work
+			return;
+		}
+		int arrayLength = length();
+		if (index < 0 || index >= arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_1);
+		}
+		if (index + values.length > arrayLength) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Attempted_to_set_more_values_in_array_than_length_of_array_3);
+		}
+		if (!"B".equals(((ArrayTypeImpl) referenceType()).componentSignature())) { //$NON-NLS-1$
+			throw new InvalidTypeException();
+		}
+
+		// Note that this information should not be cached.
+		initJdwpRequest();
+		try {
+			ByteArrayOutputStream outBytes = new ByteArrayOutputStream(values.length + 32);
+			DataOutputStream outData = new DataOutputStream(outBytes);
+			write(this, outData);
+			writeInt(index, "index", outData); //$NON-NLS-1$
+			writeInt(values.length, "length", outData); //$NON-NLS-1$
+			outData.write(values);
+
+			JdwpReplyPacket replyPacket = requestVM(
+					JdwpCommandPacket.AR_SET_VALUES, outBytes);
+			switch (replyPacket.errorCode()) {
+			case JdwpReplyPacket.TYPE_MISMATCH:
+				throw new InvalidTypeException();
+			case JdwpReplyPacket.INVALID_CLASS:
+				throw new ClassNotLoadedException(type().name());
+			}
+			defaultReplyErrorHandler(replyPacket.errorCode());
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
 	/**
 	 * Check the type and the VM of the values. If the given type is a primitive
 	 * type, the values may be converted to match this type.
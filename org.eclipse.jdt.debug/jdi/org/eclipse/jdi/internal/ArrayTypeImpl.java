@@ -260,10 +260,10 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 		if (target.fVerboseWriter != null)
 			target.fVerboseWriter.println("arrayType", ID.value()); //$NON-NLS-1$
 
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String signature = target.readSymbol("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readSymbol("generic signature", in); //$NON-NLS-1$
 		}
 		if (ID.isNull())
 			return null;
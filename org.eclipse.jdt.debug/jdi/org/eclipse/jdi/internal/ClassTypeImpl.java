@@ -94,9 +94,9 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 
 		// For all classes that have this class cached as superclass, this cache
 		// must be undone.
-		Iterator<Object> itr = virtualMachineImpl().allCachedRefTypes();
+		Iterator<ReferenceTypeImpl> itr = virtualMachineImpl().allCachedRefTypes();
 		while (itr.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) itr.next();
+			ReferenceTypeImpl refType = itr.next();
 			if (refType instanceof ClassTypeImpl classType) {
 				if (classType.fSuperclass != null && classType.fSuperclass.equals(this)) {
 					classType.flushStoredJdwpResults();
@@ -197,6 +197,8 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.CT_NEW_INSTANCE, outBytes);
+			// threads are resumed during the invocation
+			virtualMachineImpl().newSuspendGeneration();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.INVALID_METHODID:
 				throw new IllegalArgumentException();
@@ -353,10 +355,10 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 		if (target.fVerboseWriter != null)
 			target.fVerboseWriter.println("classType", ID.value()); //$NON-NLS-1$
 
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String signature = target.readSymbol("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readSymbol("generic signature", in); //$NON-NLS-1$
 		}
 		if (ID.isNull())
 			return null;
@@ -206,11 +206,11 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 
 		if (ID.isNull())
 			return null;
-		String name = target.readString("name", in); //$NON-NLS-1$
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String name = target.readSymbol("name", in); //$NON-NLS-1$
+		String signature = target.readSymbol("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readSymbol("generic signature", in); //$NON-NLS-1$
 			if ("".equals(genericSignature)) { //$NON-NLS-1$
 				genericSignature = null;
 			}
@@ -89,9 +89,9 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 
 		// For all reference types that have this interface cached, this cache must be
 		// undone.
-		Iterator<Object> itr = virtualMachineImpl().allCachedRefTypes();
+		Iterator<ReferenceTypeImpl> itr = virtualMachineImpl().allCachedRefTypes();
 		while (itr.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) itr.next();
+			ReferenceTypeImpl refType = itr.next();
 			if (refType.fInterfaces != null
 					&& refType.fInterfaces.contains(this)) {
 				refType.flushStoredJdwpResults();
@@ -250,10 +250,10 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 			target.fVerboseWriter.println("interfaceType", ID.value()); //$NON-NLS-1$
 		}
 
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String signature = target.readSymbol("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readSymbol("generic signature", in); //$NON-NLS-1$
 		}
 		if (ID.isNull()) {
 			return null;
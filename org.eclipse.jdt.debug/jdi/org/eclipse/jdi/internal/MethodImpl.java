@@ -548,11 +548,11 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			List<LocalVariable> variables = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
 				long codeIndex = readLong("code index", replyData); //$NON-NLS-1$
-				String name = readString("name", replyData); //$NON-NLS-1$
-				String signature = readString("signature", replyData); //$NON-NLS-1$
+				String name = readSymbol("name", replyData); //$NON-NLS-1$
+				String signature = readSymbol("signature", replyData); //$NON-NLS-1$
 				String genericSignature = null;
 				if (withGenericSignature) {
-					genericSignature = readString("generic signature", replyData); //$NON-NLS-1$
+					genericSignature = readSymbol("generic signature", replyData); //$NON-NLS-1$
 					if ("".equals(genericSignature)) { //$NON-NLS-1$
 						genericSignature = null;
 					}
@@ -736,11 +736,11 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		if (ID.isNull()) {
 			return null;
 		}
-		String name = target.readString("name", in); //$NON-NLS-1$
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String name = target.readSymbol("name", in); //$NON-NLS-1$
+		String signature = target.readSymbol("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readSymbol("generic signature", in); //$NON-NLS-1$
 			if ("".equals(genericSignature)) { //$NON-NLS-1$
 				genericSignature = null;
 			}
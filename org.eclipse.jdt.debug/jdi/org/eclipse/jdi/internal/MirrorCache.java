@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Cache of mirrors by the value of their JDWP ID. The mirrors are softly
+ * referenced, and the entries of garbage collected mirrors are removed on the
+ * next invocation of {@link #put(long, Object)} or {@link #remove(long)}.
+ * <p>
+ * The cache is split into segments, each one an open addressing table of
+ * entries keyed by the primitive ID. Lookups and iteration do not lock and do
+ * not allocate, updates lock the segment of the ID only. Iteration is weakly
+ * consistent: it returns the mirrors cached when it reaches them, without
+ * copying the cache.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the cached mirrors
+ */
+public class MirrorCache<T> implements Iterable<T> {
+
+	private static final int SEGMENT_COUNT = 16;
+	private static final int SEGMENT_SHIFT = 28;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Entry[].class);
+
+	/**
+	 * Marks the slot of a removed entry, so that lookups probe past it
+	 */
+	private static final Entry REMOVED = new Entry(0, null, null);
+
+	/**
+	 * Soft reference to a mirror, remembering the ID of the mirror to remove
+	 * its entry once the mirror is garbage collected.
+	 */
+	private static final class Entry extends SoftReference<Object> {
+		final long fId;
+
+		Entry(long id, Object mirror, ReferenceQueue<Object> queue) {
+			super(mirror, queue);
+			fId = id;
+		}
+	}
+
+	private static final class Segment {
+		/**
+		 * Slots of the entries, replaced as a whole when the segment grows
+		 */
+		volatile Entry[] fSlots = new Entry[INITIAL_CAPACITY];
+		/**
+		 * Number of entries
+		 */
+		int fSize;
+		/**
+		 * Number of slots which are not empty, including removed entries
+		 */
+		int fUsed;
+	}
+
+	private final Segment[] fSegments = new Segment[SEGMENT_COUNT];
+
+	/**
+	 * The garbage collector enqueues the entries of collected mirrors
+	 */
+	private final ReferenceQueue<Object> fQueue = new ReferenceQueue<>();
+
+	public MirrorCache() {
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			fSegments[i] = new Segment();
+		}
+	}
+
+	private static int hash(long id) {
+		long h = id * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ h >>> 32);
+	}
+
+	private Segment segmentFor(int hash) {
+		return fSegments[hash >>> SEGMENT_SHIFT];
+	}
+
+	private static Entry slot(Entry[] slots, int index) {
+		return (Entry) SLOTS.getAcquire(slots, index);
+	}
+
+	private static void setSlot(Entry[] slots, int index, Entry entry) {
+		SLOTS.setRelease(slots, index, entry);
+	}
+
+	/**
+	 * Returns the index of the slot of the entry with the given ID, or
+	 * <code>-1</code> if there is none. Must be called with the lock of the
+	 * segment held, as the slot may be reused otherwise.
+	 */
+	private static int indexOf(Entry[] slots, long id, int hash) {
+		int mask = slots.length - 1;
+		int index = hash & mask;
+		Entry entry;
+		while ((entry = slot(slots, index)) != null) {
+			if (entry != REMOVED && entry.fId == id) {
+				return index;
+			}
+			index = index + 1 & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the mirror cached for the given ID.
+	 *
+	 * @param id
+	 *            value of a JDWP ID
+	 * @return the cached mirror, or <code>null</code> if none has been cached
+	 *         or if it has been garbage collected
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(long id) {
+		int hash = hash(id);
+		Entry[] slots = segmentFor(hash).fSlots;
+		int mask = slots.length - 1;
+		int index = hash & mask;
+		Entry entry;
+		// check the ID of the entry read, as its slot may be reused for another
+		// ID by concurrent updates
+		while ((entry = slot(slots, index)) != null) {
+			if (entry != REMOVED && entry.fId == id) {
+				return (T) entry.get();
+			}
+			index = index + 1 & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Caches the given mirror under the given ID, replacing the mirror cached
+	 * under it before.
+	 *
+	 * @param id
+	 *            value of a JDWP ID
+	 * @param mirror
+	 *            the mirror to cache
+	 */
+	public void put(long id, T mirror) {
+		expunge();
+		int hash = hash(id);
+		Segment segment = segmentFor(hash);
+		synchronized (segment) {
+			Entry entry = new Entry(id, mirror, fQueue);
+			Entry[] slots = segment.fSlots;
+			int index = indexOf(slots, id, hash);
+			if (index != -1) {
+				setSlot(slots, index, entry);
+				return;
+			}
+			if ((segment.fUsed + 1) * 4 > slots.length * 3) {
+				slots = rehash(segment);
+			}
+			int mask = slots.length - 1;
+			index = hash & mask;
+			Entry slot;
+			while ((slot = slots[index]) != null && slot != REMOVED) {
+				index = index + 1 & mask;
+			}
+			if (slot == null) {
+				segment.fUsed++;
+			}
+			segment.fSize++;
+			setSlot(slots, index, entry);
+		}
+	}
+
+	/**
+	 * Copies the entries of the given segment into new slots, sized for the
+	 * entries which have not been removed, and publishes them.
+	 */
+	private static Entry[] rehash(Segment segment) {
+		Entry[] old = segment.fSlots;
+		int capacity = INITIAL_CAPACITY;
+		while ((segment.fSize + 1) * 2 > capacity) {
+			capacity <<= 1;
+		}
+		Entry[] slots = new Entry[capacity];
+		int mask = capacity - 1;
+		for (Entry entry : old) {
+			if (entry != null && entry != REMOVED) {
+				int index = hash(entry.fId) & mask;
+				while (slots[index] != null) {
+					index = index + 1 & mask;
+				}
+				slots[index] = entry;
+			}
+		}
+		segment.fUsed = segment.fSize;
+		segment.fSlots = slots;
+		return slots;
+	}
+
+	/**
+	 * Removes the mirror cached under the given ID.
+	 *
+	 * @param id
+	 *            value of a JDWP ID
+	 * @return the mirror which had been cached, or <code>null</code> if none
+	 */
+	@SuppressWarnings("unchecked")
+	public T remove(long id) {
+		expunge();
+		int hash = hash(id);
+		Segment segment = segmentFor(hash);
+		synchronized (segment) {
+			Entry[] slots = segment.fSlots;
+			int index = indexOf(slots, id, hash);
+			if (index == -1) {
+				return null;
+			}
+			Entry entry = slots[index];
+			setSlot(slots, index, REMOVED);
+			segment.fSize--;
+			return (T) entry.get();
+		}
+	}
+
+	/**
+	 * Removes all cached mirrors.
+	 */
+	public void clear() {
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				segment.fSlots = new Entry[INITIAL_CAPACITY];
+				segment.fSize = 0;
+				segment.fUsed = 0;
+			}
+		}
+		while (fQueue.poll() != null) {
+			// entries of the old slots
+		}
+	}
+
+	/**
+	 * Removes the entries of the mirrors which have been garbage collected.
+	 */
+	private void expunge() {
+		Reference<?> reference;
+		while ((reference = fQueue.poll()) != null) {
+			Entry entry = (Entry) reference;
+			int hash = hash(entry.fId);
+			Segment segment = segmentFor(hash);
+			synchronized (segment) {
+				Entry[] slots = segment.fSlots;
+				int index = indexOf(slots, entry.fId, hash);
+				if (index != -1 && slots[index] == entry) {
+					setSlot(slots, index, REMOVED);
+					segment.fSize--;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a weakly consistent iterator over the cached mirrors, which does
+	 * not support removal.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private int fSegment = 0;
+			private Entry[] fSlots = fSegments[0].fSlots;
+			private int fIndex = 0;
+			private T fNext;
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public boolean hasNext() {
+				while (fNext == null) {
+					if (fIndex == fSlots.length) {
+						if (++fSegment == SEGMENT_COUNT) {
+							return false;
+						}
+						fSlots = fSegments[fSegment].fSlots;
+						fIndex = 0;
+						continue;
+					}
+					Entry entry = slot(fSlots, fIndex++);
+					if (entry != null && entry != REMOVED) {
+						fNext = (T) entry.get();
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				T next = fNext;
+				fNext = null;
+				return next;
+			}
+		};
+	}
+}
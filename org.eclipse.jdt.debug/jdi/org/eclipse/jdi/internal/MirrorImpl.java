@@ -19,10 +19,13 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.TimeoutException;
+import org.eclipse.jdi.internal.connect.PacketReceiveManager;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
@@ -196,13 +199,114 @@ public class MirrorImpl implements Mirror {
 	 * @return Returns reply data.
 	 */
 	public JdwpReplyPacket requestVM(int command, byte[] outData) {
+		fVirtualMachineImpl.roundTrip();
+		long sent = System.currentTimeMillis();
+		JdwpCommandPacket commandPacket = sendRequest(command, outData);
+		return receiveReply(commandPacket, sent);
+	}
+
+	/**
+	 * Performs several VM requests at once. All commands are sent before the
+	 * first reply is awaited, so the requests cost a single round trip to the
+	 * VM instead of one round trip each.
+	 *
+	 * @param commands
+	 *            the commands to send
+	 * @param outData
+	 *            the data of each command, corresponding to the commands on a
+	 *            one-to-one basis. Entries may be <code>null</code>.
+	 * @return Returns the reply data of each command, in the order of the
+	 *         commands.
+	 * @since 3.26
+	 */
+	public JdwpReplyPacket[] requestVM(int[] commands, byte[][] outData) {
+		JdwpReplyPacket[] replies = new JdwpReplyPacket[commands.length];
+		if (fVerboseWriter != null) {
+			// keep verbose output of each command next to its reply
+			for (int i = 0; i < commands.length; i++) {
+				replies[i] = requestVM(commands[i], outData[i]);
+			}
+			return replies;
+		}
+		fVirtualMachineImpl.roundTrip();
+		JdwpCommandPacket[] commandPackets = new JdwpCommandPacket[commands.length];
+		long[] sent = new long[commands.length];
+		int awaited = -1;
+		try {
+			for (int i = 0; i < commands.length; i++) {
+				sent[i] = System.currentTimeMillis();
+				commandPackets[i] = sendRequest(commands[i], outData[i]);
+			}
+			// the VM handles the commands in order, so each reply is given the
+			// full request timeout once the previous reply has been received
+			for (awaited = 0; awaited < commands.length; awaited++) {
+				replies[awaited] = receiveReply(commandPackets[awaited], sent[awaited]);
+			}
+			return replies;
+		} finally {
+			// nobody awaits the replies to the commands following a failed
+			// one, make sure they are not kept
+			PacketReceiveManager receiveManager = fVirtualMachineImpl.packetReceiveManager();
+			for (int i = awaited + 1; i < commands.length; i++) {
+				if (commandPackets[i] != null) {
+					receiveManager.discardReply(commandPackets[i].getId());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs the same VM request for each of the specified objects at once.
+	 *
+	 * @return Returns the reply data for each object, in the order of the
+	 *         objects.
+	 * @see #requestVM(int[], byte[][])
+	 * @since 3.26
+	 */
+	public JdwpReplyPacket[] requestVM(int command, List<? extends ObjectReferenceImpl> objects) {
+		int[] commands = new int[objects.size()];
+		Arrays.fill(commands, command);
+		return requestVM(commands, objects);
+	}
+
+	/**
+	 * Performs a VM request for each of the specified objects at once.
+	 *
+	 * @param commands
+	 *            the commands to send
+	 * @param objects
+	 *            the object of each command, corresponding to the commands on
+	 *            a one-to-one basis
+	 * @return Returns the reply data of each command, in the order of the
+	 *         commands.
+	 * @see #requestVM(int[], byte[][])
+	 * @since 3.26
+	 */
+	public JdwpReplyPacket[] requestVM(int[] commands, List<? extends ObjectReferenceImpl> objects) {
+		byte[][] outData = new byte[commands.length][];
+		for (int i = 0; i < commands.length; i++) {
+			ByteArrayOutputStream byteOutStream = new ByteArrayOutputStream();
+			DataOutputStream dataOutStream = new DataOutputStream(byteOutStream);
+			try {
+				objects.get(i).write(this, dataOutStream);
+			} catch (IOException e) {
+				defaultIOExceptionHandler(e);
+			}
+			outData[i] = byteOutStream.toByteArray();
+		}
+		return requestVM(commands, outData);
+	}
+
+	private JdwpCommandPacket sendRequest(int command, byte[] outData) {
 		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
 		commandPacket.setData(outData);
-		long sent = System.currentTimeMillis();
 		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
 		fPendingJdwpRequest = true;
 		writeVerboseCommandPacketHeader(commandPacket);
+		return commandPacket;
+	}
 
+	private JdwpReplyPacket receiveReply(JdwpCommandPacket commandPacket, long sent) {
 		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
 				.getReply(commandPacket);
 		long recieved = System.currentTimeMillis();
@@ -472,6 +576,22 @@ public class MirrorImpl implements Mirror {
 		return result;
 	}
 
+	/**
+	 * Reads Jdwp data which recurs in many replies, like a name or a signature,
+	 * and, if verbose is on, outputs verbose info.
+	 *
+	 * @return Returns the String of the string table of the VM equal to the
+	 *         value that has been read.
+	 */
+	public String readSymbol(String description, DataInputStream in)
+			throws IOException {
+		String result = fVirtualMachineImpl.stringTable().read(in);
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
 	/**
 	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
 	 *
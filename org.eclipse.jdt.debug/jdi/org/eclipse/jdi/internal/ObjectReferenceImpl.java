@@ -438,6 +438,8 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.OR_INVOKE_METHOD, outBytes);
+			// threads are resumed during the invocation
+			virtualMachineImpl().newSuspendGeneration();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.TYPE_MISMATCH:
 				throw new InvalidTypeException();
@@ -527,10 +529,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		try {
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.OR_REFERENCE_TYPE, this);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fReferenceType = ReferenceTypeImpl.readWithTypeTag(this, replyData);
-			return fReferenceType;
+			return readReferenceType(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -539,6 +538,25 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Reads and caches the reference type of this object from a reference type
+	 * reply.
+	 */
+	ReferenceType readReferenceType(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		fReferenceType = ReferenceTypeImpl.readWithTypeTag(this, replyData);
+		return fReferenceType;
+	}
+
+	/**
+	 * @return Returns whether the reference type of this object is known
+	 *         without a request to the VM.
+	 */
+	boolean isReferenceTypeCached() {
+		return fReferenceType != null;
+	}
+
 	/**
 	 * @return Returns the Type that mirrors the type of this object.
 	 */
@@ -1217,7 +1217,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					JdwpCommandPacket.RT_SIGNATURE, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 			DataInputStream replyData = replyPacket.dataInStream();
-			setSignature(readString("signature", replyData)); //$NON-NLS-1$
+			setSignature(readSymbol("signature", replyData)); //$NON-NLS-1$
 			return fSignature;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -2109,8 +2109,8 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 						JdwpCommandPacket.RT_SIGNATURE_WITH_GENERIC, this);
 				defaultReplyErrorHandler(replyPacket.errorCode());
 				DataInputStream replyData = replyPacket.dataInStream();
-				setSignature(readString("signature", replyData)); //$NON-NLS-1$
-				fGenericSignature = readString("generic signature", replyData); //$NON-NLS-1$
+				setSignature(readSymbol("signature", replyData)); //$NON-NLS-1$
+				fGenericSignature = readSymbol("generic signature", replyData); //$NON-NLS-1$
 				if (fGenericSignature.length() == 0) {
 					fGenericSignature = null;
 				}
@@ -2437,6 +2437,8 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 
 			JdwpReplyPacket replyPacket = requestVM(
 					command, outBytes);
+			// threads are resumed during the invocation
+			virtualMachineImpl().newSuspendGeneration();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.INVALID_METHODID:
 				throw new IllegalArgumentException();
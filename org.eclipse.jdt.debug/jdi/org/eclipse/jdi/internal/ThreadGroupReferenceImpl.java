@@ -76,10 +76,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.TGR_NAME,
 					this);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fName = readString("name", replyData); //$NON-NLS-1$
-			return fName;
+			return readName(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -100,10 +97,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 		try {
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.TGR_PARENT, this);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fParent = ThreadGroupReferenceImpl.read(this, replyData);
-			return fParent;
+			return readParent(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -112,6 +106,34 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Reads and caches the name of this thread group from a name reply.
+	 */
+	String readName(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		fName = readString("name", replyData); //$NON-NLS-1$
+		return fName;
+	}
+
+	/**
+	 * Reads and caches the parent of this thread group from a parent reply.
+	 */
+	ThreadGroupReference readParent(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		fParent = ThreadGroupReferenceImpl.read(this, replyData);
+		return fParent;
+	}
+
+	/**
+	 * @return Returns whether the name and parent of this thread group are
+	 *         known without a request to the VM.
+	 */
+	boolean isNameAndParentCached() {
+		return fName != null && fParent != fgUnsetParent;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.ThreadGroupReference#resume()
 	 */
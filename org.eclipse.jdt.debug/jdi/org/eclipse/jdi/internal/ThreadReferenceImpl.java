@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdi.OpaqueFrameException;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
@@ -40,6 +41,7 @@ import com.sun.jdi.InvalidTypeException;
 import com.sun.jdi.NativeMethodException;
 import com.sun.jdi.ObjectCollectedException;
 import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StackFrame;
 import com.sun.jdi.ThreadGroupReference;
 import com.sun.jdi.ThreadReference;
@@ -83,6 +85,38 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	private volatile boolean isVirtual;
 	private volatile boolean isVirtualCached;
 
+	/**
+	 * Whether this thread is a daemon thread. A thread cannot be made a daemon
+	 * thread once started.
+	 */
+	private volatile Boolean fIsDaemon;
+
+	/**
+	 * The status and suspend state of a thread fetched along with other
+	 * information by {@link VirtualMachineImpl#prefetchThreadInfo(List)}. They
+	 * are returned once by {@link #status()} and {@link #isSuspended()}, and
+	 * only in the suspend generation in which they have been fetched, see
+	 * {@link VirtualMachineImpl#suspendGeneration()}.
+	 */
+	private static final class PrefetchedStatus {
+		final int generation;
+		final int status;
+		final boolean suspended;
+		final AtomicBoolean statusReturned = new AtomicBoolean();
+		final AtomicBoolean suspendedReturned = new AtomicBoolean();
+
+		PrefetchedStatus(int generation, int status, boolean suspended) {
+			this.generation = generation;
+			this.status = status;
+			this.suspended = suspended;
+		}
+	}
+
+	/**
+	 * The prefetched status of this thread, or <code>null</code>
+	 */
+	private volatile PrefetchedStatus fPrefetchedStatus;
+
 	/**
 	 * Creates new ThreadReferenceImpl.
 	 */
@@ -102,6 +136,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	 */
 	public void resetEventFlags() {
 		fIsAtBreakpoint = false;
+		forgetPrefetchedStatus();
 	}
 
 	/**
@@ -332,6 +367,10 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	@Override
 	public boolean isSuspended() {
 		// Note that this information should not be cached.
+		PrefetchedStatus prefetched = getPrefetchedStatus();
+		if (prefetched != null && !prefetched.suspendedReturned.getAndSet(true)) {
+			return prefetched.suspended;
+		}
 		initJdwpRequest();
 		try {
 			JdwpReplyPacket replyPacket = requestVM(
@@ -519,6 +558,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			defaultReplyErrorHandler(replyPacket.errorCode());
 			resetEventFlags();
 		} finally {
+			virtualMachineImpl().newSuspendGeneration();
 			handledJdwpRequest();
 		}
 	}
@@ -529,6 +569,10 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	@Override
 	public int status() {
 		// Note that this information should not be cached.
+		PrefetchedStatus prefetched = getPrefetchedStatus();
+		if (prefetched != null && !prefetched.statusReturned.getAndSet(true)) {
+			return prefetched.status;
+		}
 		initJdwpRequest();
 		try {
 			JdwpReplyPacket replyPacket = requestVM(
@@ -544,23 +588,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			int threadStatus = readInt(
 					"thread status", threadStatusMap(), replyData); //$NON-NLS-1$
 			readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
-			switch (threadStatus) {
-			case JDWP_THREAD_STATUS_ZOMBIE:
-				return THREAD_STATUS_ZOMBIE;
-			case JDWP_THREAD_STATUS_RUNNING:
-				return THREAD_STATUS_RUNNING;
-			case JDWP_THREAD_STATUS_SLEEPING:
-				return THREAD_STATUS_SLEEPING;
-			case JDWP_THREAD_STATUS_MONITOR:
-				return THREAD_STATUS_MONITOR;
-			case JDWP_THREAD_STATUS_WAIT:
-				return THREAD_STATUS_WAIT;
-			case -1: // see bug 30816
-				return THREAD_STATUS_UNKNOWN;
-			}
-			throw new InternalException(
-					JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
-							+ threadStatus);
+			return toStatus(threadStatus);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return 0;
@@ -569,6 +597,134 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		}
 	}
 
+	/**
+	 * Maps a JDWP thread status to a JDI thread status.
+	 */
+	private static int toStatus(int threadStatus) {
+		switch (threadStatus) {
+		case JDWP_THREAD_STATUS_ZOMBIE:
+			return THREAD_STATUS_ZOMBIE;
+		case JDWP_THREAD_STATUS_RUNNING:
+			return THREAD_STATUS_RUNNING;
+		case JDWP_THREAD_STATUS_SLEEPING:
+			return THREAD_STATUS_SLEEPING;
+		case JDWP_THREAD_STATUS_MONITOR:
+			return THREAD_STATUS_MONITOR;
+		case JDWP_THREAD_STATUS_WAIT:
+			return THREAD_STATUS_WAIT;
+		case -1: // see bug 30816
+			return THREAD_STATUS_UNKNOWN;
+		}
+		throw new InternalException(
+				JDIMessages.ThreadReferenceImpl_Unknown_thread_status_received___6
+						+ threadStatus);
+	}
+
+	/**
+	 * Reads the status and the suspend state of this thread from a status
+	 * reply requested in the given suspend generation, to be returned once by
+	 * {@link #status()} and {@link #isSuspended()}. Error replies are left to
+	 * these methods.
+	 */
+	void readPrefetchedStatus(JdwpReplyPacket replyPacket, int generation) throws IOException {
+		if (replyPacket.errorCode() != JdwpReplyPacket.NONE) {
+			return;
+		}
+		DataInputStream replyData = replyPacket.dataInStream();
+		int threadStatus = readInt("thread status", threadStatusMap(), replyData); //$NON-NLS-1$
+		int suspendStatus = readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
+		fPrefetchedStatus = new PrefetchedStatus(generation, toStatus(threadStatus), suspendStatus == SUSPEND_STATUS_SUSPENDED);
+	}
+
+	/**
+	 * @return Returns whether a status fetched along with other information
+	 *         in the current suspend generation has not been returned yet.
+	 */
+	boolean isStatusPrefetched() {
+		PrefetchedStatus prefetched = getPrefetchedStatus();
+		return prefetched != null && !prefetched.statusReturned.get();
+	}
+
+	/**
+	 * Returns the prefetched status of this thread if it has been fetched in
+	 * the current suspend generation, forgetting it otherwise.
+	 */
+	private PrefetchedStatus getPrefetchedStatus() {
+		PrefetchedStatus prefetched = fPrefetchedStatus;
+		if (prefetched != null && prefetched.generation != virtualMachineImpl().suspendGeneration()) {
+			fPrefetchedStatus = null;
+			return null;
+		}
+		return prefetched;
+	}
+
+	/**
+	 * Forgets the status and suspend state of this thread fetched along with
+	 * other information, when they are not asked for anymore.
+	 *
+	 * @since 3.26
+	 */
+	public void forgetPrefetchedStatus() {
+		fPrefetchedStatus = null;
+	}
+
+	/**
+	 * Returns whether this thread is a daemon thread, as told by the
+	 * <code>daemon</code> field of its type. This is cached as a started thread
+	 * cannot become a daemon thread.
+	 *
+	 * @return whether this thread is a daemon thread, <code>false</code> if its
+	 *         type has no daemon field
+	 * @since 3.26
+	 */
+	public boolean isDaemon() {
+		Boolean daemon = fIsDaemon;
+		if (daemon == null) {
+			FieldImpl field = daemonField();
+			daemon = Boolean.valueOf(field != null && getValue(field) instanceof BooleanValueImpl value && value.booleanValue());
+			fIsDaemon = daemon;
+		}
+		return daemon.booleanValue();
+	}
+
+	/**
+	 * Returns the field telling whether this thread is a daemon thread or
+	 * <code>null</code> if its type has none.
+	 */
+	FieldImpl daemonField() {
+		ReferenceType type = referenceType();
+		com.sun.jdi.Field field = type.fieldByName("daemon"); //$NON-NLS-1$
+		if (field == null) {
+			field = type.fieldByName("isDaemon"); //$NON-NLS-1$
+		}
+		if (field != null && "Z".equals(field.signature())) { //$NON-NLS-1$
+			return (FieldImpl) field;
+		}
+		return null;
+	}
+
+	/**
+	 * Reads whether this thread is a daemon thread from the reply to a request
+	 * of the value of its daemon field.
+	 */
+	void readDaemon(JdwpReplyPacket replyPacket) throws IOException {
+		if (replyPacket.errorCode() != JdwpReplyPacket.NONE) {
+			return;
+		}
+		DataInputStream replyData = replyPacket.dataInStream();
+		if (readInt("elements", replyData) == 1 && ValueImpl.readWithTag(this, replyData) instanceof BooleanValueImpl value) { //$NON-NLS-1$
+			fIsDaemon = Boolean.valueOf(value.booleanValue());
+		}
+	}
+
+	/**
+	 * @return Returns whether it is known without a request to the VM whether
+	 *         this thread is a daemon thread.
+	 */
+	boolean isDaemonCached() {
+		return fIsDaemon != null;
+	}
+
 	/**
 	 * Stops this thread with an asynchronous exception.
 	 *
@@ -620,6 +776,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 		} finally {
+			virtualMachineImpl().newSuspendGeneration();
 			handledJdwpRequest();
 		}
 	}
@@ -658,14 +815,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		try {
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.TR_THREAD_GROUP, this);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.INVALID_THREAD:
-				throw new ObjectCollectedException();
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fThreadGroup = ThreadGroupReferenceImpl.read(this, replyData);
-			return fThreadGroup;
+			return readThreadGroup(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -674,6 +824,29 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		}
 	}
 
+	/**
+	 * Reads and caches the thread group of this thread from a thread group
+	 * reply.
+	 */
+	ThreadGroupReference readThreadGroup(JdwpReplyPacket replyPacket) throws IOException {
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.INVALID_THREAD:
+			throw new ObjectCollectedException();
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		fThreadGroup = ThreadGroupReferenceImpl.read(this, replyData);
+		return fThreadGroup;
+	}
+
+	/**
+	 * @return Returns whether the thread group of this thread is known
+	 *         without a request to the VM.
+	 */
+	boolean isThreadGroupCached() {
+		return fThreadGroup != null;
+	}
+
 	/**
 	 * Simulate the execution of a return instruction instead of executing the
 	 * next byte code in a method.
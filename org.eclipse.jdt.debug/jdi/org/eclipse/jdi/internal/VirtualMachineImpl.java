@@ -21,10 +21,13 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.internal.connect.PacketReceiveManager;
@@ -34,6 +37,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpStringTable;
 import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
 import org.eclipse.osgi.util.NLS;
 
@@ -95,8 +99,11 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * optional: their only purpose is to speed up the debugger by being able to
 	 * use the stored results of JDWP calls.
 	 */
-	private final ValueCache fCachedReftypes = new ValueCache();
-	private final ValueCache fCachedObjects = new ValueCache();
+	private final MirrorCache<ReferenceTypeImpl> fCachedReftypes = new MirrorCache<>();
+	private final MirrorCache<ObjectReferenceImpl> fCachedObjects = new MirrorCache<>();
+
+	/** Names and signatures read from the VM. */
+	private final JdwpStringTable fStringTable = new JdwpStringTable();
 
 	/** The following are the stored results of JDWP calls. */
 	private String fVersionDescription = null; // Text information on the VM
@@ -161,6 +168,17 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	private final PacketReceiveManager fPacketReceiveManager;
 	private final PacketSendManager fPacketSendManager;
 
+	/**
+	 * Number of round trips to the VM performed so far
+	 */
+	private final AtomicLong fRoundTrips = new AtomicLong();
+
+	/**
+	 * Incremented whenever threads may have been suspended or resumed, see
+	 * {@link #suspendGeneration()}
+	 */
+	private final AtomicInteger fSuspendGeneration = new AtomicInteger();
+
 	/**
 	 * Creates a new Virtual Machine.
 	 */
@@ -225,21 +243,21 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ReferenceTypeImpl getCachedMirror(JdwpReferenceTypeID ID) {
-		return (ReferenceTypeImpl) fCachedReftypes.get(ID);
+		return fCachedReftypes.get(ID.value());
 	}
 
 	/**
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ObjectReferenceImpl getCachedMirror(JdwpObjectID ID) {
-		return (ObjectReferenceImpl) fCachedObjects.get(ID);
+		return fCachedObjects.get(ID.value());
 	}
 
 	/**
 	 * Adds mirror object to cache.
 	 */
 	public void addCachedMirror(ReferenceTypeImpl mirror) {
-		fCachedReftypes.put(mirror.getRefTypeID(), mirror);
+		fCachedReftypes.put(mirror.getRefTypeID().value(), mirror);
 		// TBD: It is now yet possible to only ask for unload events for
 		// classes that we know of due to a limitation in the J9 VM.
 		// eventRequestManagerImpl().enableInternalClasUnloadEvent(mirror);
@@ -249,7 +267,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * Adds mirror object to cache.
 	 */
 	public void addCachedMirror(ObjectReferenceImpl mirror) {
-		fCachedObjects.put(mirror.getObjectID(), mirror);
+		fCachedObjects.put(mirror.getObjectID().value(), mirror);
 	}
 
 	/**
@@ -257,9 +275,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 */
 	public void flushStoredJdwpResults() {
 		// All known classes also become invalid.
-		Iterator<Object> iter = fCachedReftypes.values().iterator();
-		while (iter.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) iter.next();
+		for (ReferenceTypeImpl refType : fCachedReftypes) {
 			refType.flushStoredJdwpResults();
 		}
 
@@ -285,7 +301,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		if (refTypeList.size() == 1) {
 			ReferenceTypeImpl refType = (ReferenceTypeImpl) refTypeList.get(0);
 			refType.flushStoredJdwpResults();
-			fCachedReftypes.remove(refType.getRefTypeID());
+			fCachedReftypes.remove(refType.getRefTypeID().value());
 			return;
 		}
 
@@ -303,7 +319,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			if (!prepared) {
 				refType.flushStoredJdwpResults();
 				iter.remove();
-				fCachedReftypes.remove(refType.getRefTypeID());
+				fCachedReftypes.remove(refType.getRefTypeID().value());
 			}
 		}
 	}
@@ -326,6 +342,47 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		return name().equals("j9"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Notification that a round trip to the VM is about to be performed, i.e.
+	 * that one or more commands are sent before their replies are awaited.
+	 */
+	void roundTrip() {
+		fRoundTrips.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of round trips to the VM performed so far. Commands
+	 * sent at once, before the first of their replies is awaited, count as a
+	 * single round trip.
+	 *
+	 * @return Returns the number of round trips to the VM.
+	 * @since 3.26
+	 */
+	public long roundTripCount() {
+		return fRoundTrips.get();
+	}
+
+	/**
+	 * Returns the current suspend generation of this VM. The generation changes
+	 * whenever threads may have been suspended or resumed, by a command or by
+	 * an event, so that thread states fetched in an older generation are not
+	 * used anymore.
+	 *
+	 * @return Returns the current suspend generation.
+	 */
+	int suspendGeneration() {
+		return fSuspendGeneration.get();
+	}
+
+	/**
+	 * Notification that threads of this VM may have been suspended or resumed.
+	 *
+	 * @since 3.26
+	 */
+	public void newSuspendGeneration() {
+		fSuspendGeneration.incrementAndGet();
+	}
+
 	/*
 	 * @return Returns Manager for receiving packets from the Virtual Machine.
 	 */
@@ -333,6 +390,13 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		return fPacketReceiveManager;
 	}
 
+	/**
+	 * @return Returns the table of names and signatures read from the VM.
+	 */
+	public final JdwpStringTable stringTable() {
+		return fStringTable;
+	}
+
 	/*
 	 * @return Returns Manager for sending packets to the Virtual Machine.
 	 */
@@ -409,8 +473,8 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	/**
 	 * @return Returns an iterator over all cached classes.
 	 */
-	protected final Iterator<Object> allCachedRefTypes() {
-		return fCachedReftypes.values().iterator();
+	protected final Iterator<ReferenceTypeImpl> allCachedRefTypes() {
+		return fCachedReftypes.iterator();
 	}
 
 	/**
@@ -445,6 +509,212 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Fetches and caches the thread group, the type, the status and whether
+	 * each of the given threads is a daemon thread, and the name and parent of
+	 * their thread groups up to the top level thread groups. The requests are
+	 * sent at once for all threads, so this costs one round trip to the VM for
+	 * the threads, one for their daemon fields and the first level of the
+	 * thread group tree and one for each further level, instead of several
+	 * round trips per thread. The status of a thread is only kept until it is
+	 * asked for once, and until any thread is suspended or resumed.
+	 * Information that cannot be fetched, for example for
+	 * threads that have died in the meantime, is left to be fetched on demand.
+	 *
+	 * @param threads
+	 *            the threads to fetch information for
+	 * @since 3.26
+	 */
+	public void prefetchThreadInfo(List<ThreadReference> threads) {
+		List<Integer> commands = new ArrayList<>();
+		List<ThreadReferenceImpl> requested = new ArrayList<>();
+		for (ThreadReference thread : threads) {
+			if (thread instanceof ThreadReferenceImpl threadImpl) {
+				if (!threadImpl.isThreadGroupCached()) {
+					commands.add(Integer.valueOf(JdwpCommandPacket.TR_THREAD_GROUP));
+					requested.add(threadImpl);
+				}
+				if (!threadImpl.isReferenceTypeCached()) {
+					commands.add(Integer.valueOf(JdwpCommandPacket.OR_REFERENCE_TYPE));
+					requested.add(threadImpl);
+				}
+				if (!threadImpl.isStatusPrefetched()) {
+					commands.add(Integer.valueOf(JdwpCommandPacket.TR_STATUS));
+					requested.add(threadImpl);
+				}
+			}
+		}
+		initJdwpRequest();
+		try {
+			if (!requested.isEmpty()) {
+				// states fetched while threads are suspended or resumed are not used
+				int generation = suspendGeneration();
+				JdwpReplyPacket[] replies = requestVM(commands.stream().mapToInt(Integer::intValue).toArray(), requested);
+				for (int i = 0; i < replies.length; i++) {
+					if (replies[i].errorCode() != JdwpReplyPacket.NONE) {
+						continue;
+					}
+					switch (commands.get(i).intValue()) {
+						case JdwpCommandPacket.TR_THREAD_GROUP:
+							requested.get(i).readThreadGroup(replies[i]);
+							break;
+						case JdwpCommandPacket.OR_REFERENCE_TYPE:
+							requested.get(i).readReferenceType(replies[i]);
+							break;
+						default:
+							requested.get(i).readPrefetchedStatus(replies[i], generation);
+							break;
+					}
+				}
+			}
+
+			// the daemon fields of the threads need their types
+			List<ThreadReferenceImpl> daemonRequested = new ArrayList<>();
+			List<byte[]> daemonData = new ArrayList<>();
+			for (ThreadReference thread : threads) {
+				if (thread instanceof ThreadReferenceImpl threadImpl && threadImpl.isReferenceTypeCached() && !threadImpl.isDaemonCached()) {
+					FieldImpl field;
+					try {
+						field = threadImpl.daemonField();
+					} catch (ObjectCollectedException e) {
+						continue;
+					}
+					if (field != null) {
+						ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+						DataOutputStream outData = new DataOutputStream(outBytes);
+						threadImpl.write(this, outData);
+						writeInt(1, "size", outData); //$NON-NLS-1$
+						field.write(this, outData);
+						daemonRequested.add(threadImpl);
+						daemonData.add(outBytes.toByteArray());
+					}
+				}
+			}
+
+			// walk up the thread group tree one level per round trip
+			Set<ThreadGroupReferenceImpl> visited = new HashSet<>();
+			List<ThreadGroupReferenceImpl> groups = new ArrayList<>();
+			for (ThreadReference thread : threads) {
+				if (thread instanceof ThreadReferenceImpl threadImpl && threadImpl.isThreadGroupCached()) {
+					addThreadGroupToPrefetch((ThreadGroupReferenceImpl) threadImpl.threadGroup(), visited, groups);
+				}
+			}
+			while (!groups.isEmpty() || !daemonRequested.isEmpty()) {
+				int daemons = daemonRequested.size();
+				int[] levelCommands = new int[daemons + groups.size() * 2];
+				byte[][] levelData = new byte[levelCommands.length][];
+				for (int i = 0; i < daemons; i++) {
+					levelCommands[i] = JdwpCommandPacket.OR_GET_VALUES;
+					levelData[i] = daemonData.get(i);
+				}
+				for (int i = 0; i < groups.size(); i++) {
+					ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+					groups.get(i).write(this, new DataOutputStream(outBytes));
+					levelCommands[daemons + 2 * i] = JdwpCommandPacket.TGR_NAME;
+					levelCommands[daemons + 2 * i + 1] = JdwpCommandPacket.TGR_PARENT;
+					levelData[daemons + 2 * i] = levelData[daemons + 2 * i + 1] = outBytes.toByteArray();
+				}
+				JdwpReplyPacket[] replies = requestVM(levelCommands, levelData);
+				for (int i = 0; i < daemons; i++) {
+					daemonRequested.get(i).readDaemon(replies[i]);
+				}
+				daemonRequested = List.of();
+				List<ThreadGroupReferenceImpl> parents = new ArrayList<>();
+				for (int i = 0; i < groups.size(); i++) {
+					ThreadGroupReferenceImpl group = groups.get(i);
+					JdwpReplyPacket name = replies[daemons + 2 * i];
+					JdwpReplyPacket parent = replies[daemons + 2 * i + 1];
+					if (name.errorCode() == JdwpReplyPacket.NONE) {
+						group.readName(name);
+					}
+					if (parent.errorCode() == JdwpReplyPacket.NONE) {
+						addThreadGroupToPrefetch((ThreadGroupReferenceImpl) group.readParent(parent), visited, parents);
+					}
+				}
+				groups = parents;
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Fetches the number of stack frames of each of the given suspended
+	 * threads, and optionally the number of monitors they own and whether they
+	 * wait to enter a monitor. The requests are sent at once for all threads,
+	 * so this costs one round trip to the VM. Nothing is cached, as this
+	 * changes whenever a thread runs.
+	 *
+	 * @param threads
+	 *            suspended threads
+	 * @param monitors
+	 *            whether to fetch the monitor information
+	 * @return for each thread, its number of frames, its number of owned
+	 *         monitors and 1 if it waits to enter a monitor or 0, the last two
+	 *         being -1 if not fetched, or <code>null</code> if the thread is not
+	 *         suspended or has died
+	 * @since 3.26
+	 */
+	public int[][] fetchFrameAndMonitorCounts(List<ThreadReference> threads, boolean monitors) {
+		int perThread = monitors ? 3 : 1;
+		int[] commands = new int[threads.size() * perThread];
+		List<ThreadReferenceImpl> requested = new ArrayList<>(commands.length);
+		for (int i = 0; i < threads.size(); i++) {
+			ThreadReferenceImpl thread = (ThreadReferenceImpl) threads.get(i);
+			commands[i * perThread] = JdwpCommandPacket.TR_FRAME_COUNT;
+			requested.add(thread);
+			if (monitors) {
+				commands[i * perThread + 1] = JdwpCommandPacket.TR_OWNED_MONITORS;
+				commands[i * perThread + 2] = JdwpCommandPacket.TR_CURRENT_CONTENDED_MONITOR;
+				requested.add(thread);
+				requested.add(thread);
+			}
+		}
+		int[][] counts = new int[threads.size()][];
+		if (commands.length == 0) {
+			return counts;
+		}
+		initJdwpRequest();
+		try {
+			JdwpReplyPacket[] replies = requestVM(commands, requested);
+			for (int i = 0; i < counts.length; i++) {
+				int[] count = { -1, -1, -1 };
+				for (int j = 0; j < perThread && count != null; j++) {
+					JdwpReplyPacket reply = replies[i * perThread + j];
+					if (reply.errorCode() != JdwpReplyPacket.NONE) {
+						// not suspended or died
+						count = null;
+					} else if (j < 2) {
+						count[j] = readInt("count", reply.dataInStream()); //$NON-NLS-1$
+					} else {
+						count[j] = ObjectReferenceImpl.readObjectRefWithTag(this, reply.dataInStream()) == null ? 0 : 1;
+					}
+				}
+				counts[i] = count;
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+		return counts;
+	}
+
+	private void addThreadGroupToPrefetch(ThreadGroupReferenceImpl group, Set<ThreadGroupReferenceImpl> visited,
+			List<ThreadGroupReferenceImpl> groups) {
+		if (group == null || !visited.add(group)) {
+			return;
+		}
+		if (group.isNameAndParentCached()) {
+			// the parents may still be unknown
+			addThreadGroupToPrefetch((ThreadGroupReferenceImpl) group.parent(), visited, groups);
+		} else {
+			groups.add(group);
+		}
+	}
+
 	/**
 	 * Retrieve this VM's capabilities.
 	 */
@@ -462,59 +732,8 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		try {
 			JdwpReplyPacket replyPacket = requestVM(command);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-
-			fCanWatchFieldModification = readBoolean(
-					"watch field modification", replyData); //$NON-NLS-1$
-			fCanWatchFieldAccess = readBoolean("watch field access", replyData); //$NON-NLS-1$
-			fCanGetBytecodes = readBoolean("get bytecodes", replyData); //$NON-NLS-1$
-			fCanGetSyntheticAttribute = readBoolean("synth. attr", replyData); //$NON-NLS-1$
-			fCanGetOwnedMonitorInfo = readBoolean(
-					"owned monitor info", replyData); //$NON-NLS-1$
-			fCanGetCurrentContendedMonitor = readBoolean(
-					"curr. contended monitor", replyData); //$NON-NLS-1$
-			fCanGetMonitorInfo = readBoolean("monitor info", replyData); //$NON-NLS-1$
-			if (command == JdwpCommandPacket.VM_CAPABILITIES_NEW) {
-				// extended capabilities
-				fCanRedefineClasses = readBoolean("redefine classes", replyData); //$NON-NLS-1$
-				fCanAddMethod = readBoolean("add method", replyData); //$NON-NLS-1$
-				fCanUnrestrictedlyRedefineClasses = readBoolean(
-						"unrestrictedly redefine classes", replyData); //$NON-NLS-1$
-				fCanPopFrames = readBoolean("pop frames", replyData); //$NON-NLS-1$
-				fCanUseInstanceFilters = readBoolean(
-						"use instance filters", replyData); //$NON-NLS-1$
-				fCanGetSourceDebugExtension = readBoolean(
-						"get source debug extension", replyData); //$NON-NLS-1$
-				fCanRequestVMDeathEvent = readBoolean(
-						"request vm death", replyData); //$NON-NLS-1$
-				fCanSetDefaultStratum = readBoolean(
-						"set default stratum", replyData); //$NON-NLS-1$
-				fCanGetInstanceInfo = readBoolean("instance info", replyData); //$NON-NLS-1$
-				fCanRequestMonitorEvents = readBoolean(
-						"request monitor events", replyData); //$NON-NLS-1$
-				fCanGetMonitorFrameInfo = readBoolean(
-						"monitor frame info", replyData); //$NON-NLS-1$
-				fCanUseSourceNameFilters = readBoolean(
-						"source name filters", replyData); //$NON-NLS-1$
-				fCanGetConstantPool = readBoolean("constant pool", replyData); //$NON-NLS-1$
-				fCanForceEarlyReturn = readBoolean(
-						"force early return", replyData); //$NON-NLS-1$
-			} else {
-				fCanRedefineClasses = false;
-				fCanAddMethod = false;
-				fCanUnrestrictedlyRedefineClasses = false;
-				fCanPopFrames = false;
-				fCanUseInstanceFilters = false;
-				fCanGetSourceDebugExtension = false;
-				fCanRequestVMDeathEvent = false;
-				fCanSetDefaultStratum = false;
-				fCanGetInstanceInfo = false;
-				fCanGetConstantPool = false;
-				fCanUseSourceNameFilters = false;
-				fCanForceEarlyReturn = false;
-				fCanRequestMonitorEvents = false;
-				fCanGetMonitorFrameInfo = false;
-			}
+			readCapabilities(command == JdwpCommandPacket.VM_CAPABILITIES_NEW,
+					replyPacket.dataInStream());
 			fGotCapabilities = true;
 		} catch (IOException e) {
 			fGotIDSizes = false;
@@ -524,6 +743,67 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Reads the capabilities of this VM from a capabilities reply.
+	 *
+	 * @param extended
+	 *            whether the reply is the reply to the new, extended
+	 *            capabilities command
+	 */
+	private void readCapabilities(boolean extended, DataInputStream replyData) throws IOException {
+		fCanWatchFieldModification = readBoolean(
+				"watch field modification", replyData); //$NON-NLS-1$
+		fCanWatchFieldAccess = readBoolean("watch field access", replyData); //$NON-NLS-1$
+		fCanGetBytecodes = readBoolean("get bytecodes", replyData); //$NON-NLS-1$
+		fCanGetSyntheticAttribute = readBoolean("synth. attr", replyData); //$NON-NLS-1$
+		fCanGetOwnedMonitorInfo = readBoolean(
+				"owned monitor info", replyData); //$NON-NLS-1$
+		fCanGetCurrentContendedMonitor = readBoolean(
+				"curr. contended monitor", replyData); //$NON-NLS-1$
+		fCanGetMonitorInfo = readBoolean("monitor info", replyData); //$NON-NLS-1$
+		if (extended) {
+			// extended capabilities
+			fCanRedefineClasses = readBoolean("redefine classes", replyData); //$NON-NLS-1$
+			fCanAddMethod = readBoolean("add method", replyData); //$NON-NLS-1$
+			fCanUnrestrictedlyRedefineClasses = readBoolean(
+					"unrestrictedly redefine classes", replyData); //$NON-NLS-1$
+			fCanPopFrames = readBoolean("pop frames", replyData); //$NON-NLS-1$
+			fCanUseInstanceFilters = readBoolean(
+					"use instance filters", replyData); //$NON-NLS-1$
+			fCanGetSourceDebugExtension = readBoolean(
+					"get source debug extension", replyData); //$NON-NLS-1$
+			fCanRequestVMDeathEvent = readBoolean(
+					"request vm death", replyData); //$NON-NLS-1$
+			fCanSetDefaultStratum = readBoolean(
+					"set default stratum", replyData); //$NON-NLS-1$
+			fCanGetInstanceInfo = readBoolean("instance info", replyData); //$NON-NLS-1$
+			fCanRequestMonitorEvents = readBoolean(
+					"request monitor events", replyData); //$NON-NLS-1$
+			fCanGetMonitorFrameInfo = readBoolean(
+					"monitor frame info", replyData); //$NON-NLS-1$
+			fCanUseSourceNameFilters = readBoolean(
+					"source name filters", replyData); //$NON-NLS-1$
+			fCanGetConstantPool = readBoolean("constant pool", replyData); //$NON-NLS-1$
+			fCanForceEarlyReturn = readBoolean(
+					"force early return", replyData); //$NON-NLS-1$
+		} else {
+			fCanRedefineClasses = false;
+			fCanAddMethod = false;
+			fCanUnrestrictedlyRedefineClasses = false;
+			fCanPopFrames = false;
+			fCanUseInstanceFilters = false;
+			fCanGetSourceDebugExtension = false;
+			fCanRequestVMDeathEvent = false;
+			fCanSetDefaultStratum = false;
+			fCanGetInstanceInfo = false;
+			fCanGetConstantPool = false;
+			fCanUseSourceNameFilters = false;
+			fCanForceEarlyReturn = false;
+			fCanRequestMonitorEvents = false;
+			fCanGetMonitorFrameInfo = false;
+		}
+	}
+
 	/**
 	 * @see com.sun.jdi.VirtualMachine#canForceEarlyReturn()
 	 * @since 3.3
@@ -874,6 +1154,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_RESUME);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 		} finally {
+			newSuspendGeneration();
 			handledJdwpRequest();
 		}
 	}
@@ -896,6 +1177,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_SUSPEND);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 		} finally {
+			newSuspendGeneration();
 			handledJdwpRequest();
 		}
 	}
@@ -966,6 +1248,68 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Fetches the ID sizes, version info and capabilities of this VM. The
+	 * requests are sent together so that the handshake costs a single round
+	 * trip to the VM. Anything that cannot be determined from the replies, for
+	 * example the capabilities of a VM that does not support the new
+	 * capabilities command, is fetched on demand as before.
+	 * <p>
+	 * The HCR capabilities are only fetched on demand: VMs that do not support
+	 * HCR may not cope with a command from the HCR command set.
+	 * </p>
+	 *
+	 * @since 3.26
+	 */
+	public void initializeVMInfo() {
+		if (fGotIDSizes) {
+			return;
+		}
+
+		/*
+		 * As in getIDSizes(), fGotIDSizes must first be assigned true to
+		 * prevent packetSendManager() from requesting the ID sizes on its own.
+		 */
+		fGotIDSizes = true;
+		MirrorImpl mirror = new VoidValueImpl(this);
+
+		// The new capabilities command is sent before the JDWP version is
+		// known, VMs older than JDWP 1.4 reply with an error which is ignored.
+		int[] commands = new int[] { JdwpCommandPacket.VM_ID_SIZES,
+				JdwpCommandPacket.VM_VERSION,
+				JdwpCommandPacket.VM_CAPABILITIES_NEW };
+		mirror.initJdwpRequest();
+		try {
+			JdwpReplyPacket[] replies = mirror.requestVM(commands, new byte[commands.length][]);
+			if (replies[0].errorCode() != JdwpReplyPacket.NONE) {
+				fGotIDSizes = false;
+			} else {
+				readIDSizes(mirror, replies[0].dataInStream());
+				if (replies[1].errorCode() == JdwpReplyPacket.NONE) {
+					readVersionInfo(replies[1].dataInStream());
+					if (replies[2].errorCode() == JdwpReplyPacket.NONE
+							&& isJdwpVersionGreaterOrEqual(1, 4)) {
+						readCapabilities(true, replies[2].dataInStream());
+						fGotCapabilities = true;
+					}
+				}
+			}
+		} catch (IOException e) {
+			fVersionDescription = null;
+			fGotCapabilities = false;
+			fGotIDSizes = false;
+		} finally {
+			mirror.handledJdwpRequest();
+		}
+		if (!fGotIDSizes) { // We can't do much without them.
+			disconnectVM();
+			throw new VMDisconnectedException(
+					JDIMessages.VirtualMachineImpl_Failed_to_get_ID_sizes_2);
+		}
+		// as in packetSendManager() once the ID sizes are known
+		eventRequestManagerImpl().enableInternalClasUnloadEvent();
+	}
+
 	/**
 	 * Request and fetch ID sizes of Virtual Machine.
 	 */
@@ -989,13 +1333,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = mirror
 					.requestVM(JdwpCommandPacket.VM_ID_SIZES);
 			mirror.defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-
-			fFieldIDSize = mirror.readInt("field ID size", replyData); //$NON-NLS-1$
-			fMethodIDSize = mirror.readInt("method ID size", replyData); //$NON-NLS-1$
-			fObjectIDSize = mirror.readInt("object ID size", replyData); //$NON-NLS-1$
-			fReferenceTypeIDSize = mirror.readInt("refType ID size", replyData); //$NON-NLS-1$
-			fFrameIDSize = mirror.readInt("frame ID size", replyData); //$NON-NLS-1$
+			readIDSizes(mirror, replyPacket.dataInStream());
 		} catch (IOException e) {
 			fGotIDSizes = false;
 			mirror.defaultIOExceptionHandler(e);
@@ -1004,6 +1342,17 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Reads the ID sizes of this VM from an ID sizes reply.
+	 */
+	private void readIDSizes(MirrorImpl mirror, DataInputStream replyData) throws IOException {
+		fFieldIDSize = mirror.readInt("field ID size", replyData); //$NON-NLS-1$
+		fMethodIDSize = mirror.readInt("method ID size", replyData); //$NON-NLS-1$
+		fObjectIDSize = mirror.readInt("object ID size", replyData); //$NON-NLS-1$
+		fReferenceTypeIDSize = mirror.readInt("refType ID size", replyData); //$NON-NLS-1$
+		fFrameIDSize = mirror.readInt("frame ID size", replyData); //$NON-NLS-1$
+	}
+
 	/**
 	 * Retrieves version info of the VM.
 	 */
@@ -1016,20 +1365,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_VERSION);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-
-			fVersionDescription = readString("version descr.", replyData); //$NON-NLS-1$
-			fJdwpMajorVersion = readInt("major version", replyData); //$NON-NLS-1$
-			fJdwpMinorVersion = readInt("minor version", replyData); //$NON-NLS-1$
-			fVMVersion = readString("version", replyData); //$NON-NLS-1$
-			fVMName = readString("name", replyData); //$NON-NLS-1$
-
-			if ((fVMName != null) && fVMName.equals("KVM")) { //$NON-NLS-1$
-				// KVM requires class preparation events in order
-				// to resolve things correctly
-				eventRequestManagerImpl().enableInternalClassPrepareEvent();
-			}
-
+			readVersionInfo(replyPacket.dataInStream());
 		} catch (IOException e) {
 			fVersionDescription = null;
 			defaultIOExceptionHandler(e);
@@ -1038,6 +1374,23 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Reads the version info of this VM from a version reply.
+	 */
+	private void readVersionInfo(DataInputStream replyData) throws IOException {
+		fVersionDescription = readString("version descr.", replyData); //$NON-NLS-1$
+		fJdwpMajorVersion = readInt("major version", replyData); //$NON-NLS-1$
+		fJdwpMinorVersion = readInt("minor version", replyData); //$NON-NLS-1$
+		fVMVersion = readString("version", replyData); //$NON-NLS-1$
+		fVMName = readString("name", replyData); //$NON-NLS-1$
+
+		if ((fVMName != null) && fVMName.equals("KVM")) { //$NON-NLS-1$
+			// KVM requires class preparation events in order
+			// to resolve things correctly
+			eventRequestManagerImpl().enableInternalClassPrepareEvent();
+		}
+	}
+
 	/**
 	 * Retrieves the HCR capabilities of the VM.
 	 */
@@ -1276,7 +1629,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 				for (byte b : bytes) {
 					writeByte(b, "classByte", outData); //$NON-NLS-1$
 				}
-				fCachedReftypes.remove(type.getRefTypeID()); // flush local
+				fCachedReftypes.remove(type.getRefTypeID().value()); // flush local
 																// cache of
 																// redefined
 																// types
@@ -1517,6 +1870,11 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 */
 	public synchronized void setDisconnected(boolean disconnected) {
 		fIsDisconnected = disconnected;
+		if (disconnected) {
+			// the mirrors of a disconnected VM are not looked up anymore
+			fCachedReftypes.clear();
+			fCachedObjects.clear();
+		}
 	}
 
 	/**
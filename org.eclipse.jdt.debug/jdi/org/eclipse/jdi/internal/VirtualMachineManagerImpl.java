@@ -241,6 +241,7 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 	@Override
 	public VirtualMachine createVirtualMachine(Connection connection) throws IOException {
 		VirtualMachineImpl vmImpl = new VirtualMachineImpl(connection);
+		vmImpl.initializeVMInfo();
 		return vmImpl;
 	}
 
@@ -251,6 +252,7 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 	public VirtualMachine createVirtualMachine(Connection connection, Process process) throws IOException {
 		VirtualMachineImpl vmImpl = new VirtualMachineImpl(connection);
 		vmImpl.setLaunchedProcess(process);
+		vmImpl.initializeVMInfo();
 		return vmImpl;
 	}
 }
@@ -205,6 +205,31 @@ public class PacketReceiveManager extends PacketManager {
 		return getReply(commandPacket.getId(), fVM.getRequestTimeout());
 	}
 
+	/**
+	 * Discards the reply to the specified command, which is not awaited
+	 * anymore. The reply is removed if it has already been received, and
+	 * dropped when it is received later on.
+	 *
+	 * @param id
+	 *            the id of the command whose reply is discarded
+	 * @since 3.26
+	 */
+	public void discardReply(int id) {
+		Integer timedOut = Integer.valueOf(id);
+		synchronized (fTimedOutPackets) {
+			fTimedOutPackets.add(timedOut);
+		}
+		JdwpReplyPacket packet;
+		synchronized (fReplyPackets) {
+			packet = removeReplyPacket(id);
+		}
+		if (packet != null) {
+			synchronized (fTimedOutPackets) {
+				fTimedOutPackets.remove(timedOut);
+			}
+		}
+	}
+
 	/**
 	 * Wait for an available packet from the Virtual Machine.
 	 */
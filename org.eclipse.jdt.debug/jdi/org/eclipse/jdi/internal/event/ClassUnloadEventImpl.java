@@ -50,7 +50,7 @@ public class ClassUnloadEventImpl extends EventImpl implements ClassUnloadEvent
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		ClassUnloadEventImpl event = new ClassUnloadEventImpl(vmImpl, requestID);
-		event.fSignature = target.readString("signature", dataInStream); //$NON-NLS-1$
+		event.fSignature = target.readSymbol("signature", dataInStream); //$NON-NLS-1$
 		// Remove the class from classes that are known by the application to be
 		// loaded in the VM.
 		vmImpl.removeKnownRefType(event.fSignature);
@@ -160,6 +160,10 @@ public class EventSetImpl extends MirrorImpl implements EventSet {
 		// Read suspend policy.
 		eventSet.fSuspendPolicy = target.readByte(
 				"suspendPolicy", EventRequestImpl.suspendPolicyMap(), in); //$NON-NLS-1$
+		if (eventSet.fSuspendPolicy != EventRequestImpl.SUSPENDPOL_NONE_JDWP) {
+			// the thread states fetched before the threads were suspended are outdated
+			vmImpl.newSuspendGeneration();
+		}
 		// Read size.
 		int size = target.readInt("size", in); //$NON-NLS-1$
 		// Create event list.
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+
+/**
+ * Data input stream of the data of a JDWP packet, which gives access to the
+ * bytes of the packet so that they can be decoded without copying them.
+ */
+class JdwpDataInputStream extends DataInputStream {
+
+	private static final class Buffer extends ByteArrayInputStream {
+		Buffer(byte[] data) {
+			super(data);
+		}
+
+		byte[] bytes() {
+			return buf;
+		}
+
+		int position() {
+			return pos;
+		}
+	}
+
+	private final Buffer fBuffer;
+
+	JdwpDataInputStream(byte[] data) {
+		this(new Buffer(data));
+	}
+
+	private JdwpDataInputStream(Buffer buffer) {
+		super(buffer);
+		fBuffer = buffer;
+	}
+
+	/**
+	 * @return Returns the bytes of the packet data, which must not be modified.
+	 */
+	byte[] bytes() {
+		return fBuffer.bytes();
+	}
+
+	/**
+	 * @return Returns the index in the bytes of the next byte to read.
+	 */
+	int position() {
+		return fBuffer.position();
+	}
+}
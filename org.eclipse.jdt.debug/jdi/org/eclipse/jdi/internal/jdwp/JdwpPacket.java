@@ -13,7 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.jdwp;
 
-import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -91,10 +90,10 @@ public abstract class JdwpPacket {
 	 */
 	public DataInputStream dataInStream() {
 		if (fDataBuf != null) {
-			return new DataInputStream(new ByteArrayInputStream(fDataBuf));
+			return new JdwpDataInputStream(fDataBuf);
 		}
 
-		return new DataInputStream(new ByteArrayInputStream(new byte[0]));
+		return new JdwpDataInputStream(new byte[0]);
 	}
 
 	/**
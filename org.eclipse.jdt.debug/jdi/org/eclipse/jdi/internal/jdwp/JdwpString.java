@@ -17,6 +17,7 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class implements the corresponding Java Debug Wire Protocol (JDWP) ID
@@ -31,9 +32,21 @@ public class JdwpString {
 		int utfSize = in.readInt();
 		byte utfBytes[] = new byte[utfSize];
 		in.readFully(utfBytes);
+		return decode(utfBytes, 0, utfSize);
+	}
+
+	/**
+	 * Decodes a String from the given UTF bytes. Strings of ASCII characters
+	 * only are copied from the bytes at once.
+	 */
+	static String decode(byte[] utfBytes, int offset, int utfSize) throws UTFDataFormatException {
+		if (isAscii(utfBytes, offset, utfSize)) {
+			return new String(utfBytes, offset, utfSize, StandardCharsets.ISO_8859_1);
+		}
+		int end = offset + utfSize;
 		/* Guess at buffer size */
 		StringBuilder strBuffer = new StringBuilder(utfSize / 3 * 2);
-		for (int i = 0; i < utfSize;) {
+		for (int i = offset; i < end;) {
 			int a = utfBytes[i] & 0xFF;
 			if ((a >> 4) < 12) {
 				strBuffer.append((char) a);
@@ -67,6 +80,19 @@ public class JdwpString {
 		return strBuffer.toString();
 	}
 
+	/**
+	 * Returns whether the given UTF bytes encode ASCII characters only, other
+	 * than the null character.
+	 */
+	static boolean isAscii(byte[] utfBytes, int offset, int utfSize) {
+		for (int i = offset, end = offset + utfSize; i < end; i++) {
+			if (utfBytes[i] <= 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Writes String to Jdwp stream. Write a UTF where length has 4 bytes, and
 	 * not just 2. This code was based on OTI Retsin source for writeUTF.
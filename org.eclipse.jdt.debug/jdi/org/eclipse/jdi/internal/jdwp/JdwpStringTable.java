@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Table of the Strings read from Jdwp streams which recur in many replies,
+ * like names and signatures. Reading a String which is in the table returns
+ * the String of the table, and decodes and copies nothing. Strings are only
+ * decoded when they are added to the table.
+ */
+public class JdwpStringTable {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * Open addressing table of the Strings, with the hashes of their UTF bytes
+	 */
+	private String[] fStrings = new String[INITIAL_CAPACITY];
+	private int[] fHashes = new int[INITIAL_CAPACITY];
+	/**
+	 * The UTF bytes of the non ASCII Strings, <code>null</code> for the ASCII
+	 * Strings which are compared with the bytes read directly
+	 */
+	private byte[][] fUtfBytes = new byte[INITIAL_CAPACITY][];
+	private int fSize;
+
+	/**
+	 * Reads String from Jdwp stream, see {@link JdwpString#read(DataInputStream)},
+	 * and returns the equal String of this table.
+	 */
+	public String read(DataInputStream in) throws IOException {
+		int utfSize = in.readInt();
+		byte[] utfBytes;
+		int offset;
+		if (in instanceof JdwpDataInputStream data && utfSize >= 0 && utfSize <= data.available()) {
+			utfBytes = data.bytes();
+			offset = data.position();
+			data.skipBytes(utfSize);
+		} else {
+			utfBytes = new byte[utfSize];
+			in.readFully(utfBytes);
+			offset = 0;
+		}
+		return intern(utfBytes, offset, utfSize);
+	}
+
+	private synchronized String intern(byte[] utfBytes, int offset, int utfSize) throws IOException {
+		int hash = 1;
+		for (int i = offset, end = offset + utfSize; i < end; i++) {
+			hash = 31 * hash + utfBytes[i];
+		}
+		int mask = fStrings.length - 1;
+		int index = spread(hash) & mask;
+		String string;
+		while ((string = fStrings[index]) != null) {
+			if (fHashes[index] == hash && equals(string, fUtfBytes[index], utfBytes, offset, utfSize)) {
+				return string;
+			}
+			index = index + 1 & mask;
+		}
+		if (JdwpString.isAscii(utfBytes, offset, utfSize)) {
+			string = new String(utfBytes, offset, utfSize, StandardCharsets.ISO_8859_1);
+		} else {
+			string = JdwpString.decode(utfBytes, offset, utfSize);
+			fUtfBytes[index] = Arrays.copyOfRange(utfBytes, offset, offset + utfSize);
+		}
+		fStrings[index] = string;
+		fHashes[index] = hash;
+		if (++fSize * 2 > fStrings.length) {
+			rehash();
+		}
+		return string;
+	}
+
+	private static int spread(int hash) {
+		return hash ^ hash >>> 16;
+	}
+
+	/**
+	 * Returns whether the given String of the table, with the given UTF bytes
+	 * if it is not ASCII, is the String of the given UTF bytes read.
+	 */
+	private static boolean equals(String string, byte[] stringUtfBytes, byte[] utfBytes, int offset, int utfSize) {
+		if (stringUtfBytes != null) {
+			return Arrays.equals(stringUtfBytes, 0, stringUtfBytes.length, utfBytes, offset, offset + utfSize);
+		}
+		// bytes of non ASCII characters are negative and differ from the chars
+		return equalsAscii(string, utfBytes, offset, utfSize);
+	}
+
+	private static boolean equalsAscii(String string, byte[] utfBytes, int offset, int utfSize) {
+		if (string.length() != utfSize) {
+			return false;
+		}
+		for (int i = 0; i < utfSize; i++) {
+			if (string.charAt(i) != utfBytes[offset + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void rehash() {
+		String[] strings = new String[fStrings.length * 2];
+		int[] hashes = new int[strings.length];
+		byte[][] utfBytes = new byte[strings.length][];
+		int mask = strings.length - 1;
+		for (int i = 0; i < fStrings.length; i++) {
+			if (fStrings[i] != null) {
+				int index = spread(fHashes[i]) & mask;
+				while (strings[index] != null) {
+					index = index + 1 & mask;
+				}
+				strings[index] = fStrings[i];
+				hashes[index] = fHashes[i];
+				utfBytes[index] = fUtfBytes[i];
+			}
+		}
+		fStrings = strings;
+		fHashes = hashes;
+		fUtfBytes = utfBytes;
+	}
+}
@@ -232,23 +232,9 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeByte(eventKind(),
-					"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
-			fRequestID.write(this, outData);
-
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_CLEAR,
-					outBytes);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.NOT_FOUND:
-				throw new InvalidRequestStateException();
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			virtualMachineImpl().eventRequestManagerImpl()
-					.removeRequestIDMapping(this);
-			fRequestID = null;
+					clearCommandData());
+			cleared(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 		} finally {
@@ -267,22 +253,9 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeByte(eventKind(),
-					"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
-			writeByte(
-					suspendPolicyJDWP(),
-					"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
-			writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
-			writeModifiers(outData);
-
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_SET,
-					outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fRequestID = RequestID.read(this, replyData);
-			virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+					setCommandData());
+			set(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 		} finally {
@@ -290,6 +263,63 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 		}
 	}
 
+	/**
+	 * @return Returns the data of the <code>ER_CLEAR</code> command disabling
+	 *         this request.
+	 */
+	synchronized byte[] clearCommandData() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		fRequestID.write(this, outData);
+		return outBytes.toByteArray();
+	}
+
+	/**
+	 * Handles the reply to the <code>ER_CLEAR</code> command disabling this
+	 * request.
+	 */
+	synchronized void cleared(JdwpReplyPacket replyPacket) {
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.NOT_FOUND:
+			throw new InvalidRequestStateException();
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
+
+		virtualMachineImpl().eventRequestManagerImpl()
+				.removeRequestIDMapping(this);
+		fRequestID = null;
+	}
+
+	/**
+	 * @return Returns the data of the <code>ER_SET</code> command enabling
+	 *         this request.
+	 */
+	synchronized byte[] setCommandData() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		writeByte(
+				suspendPolicyJDWP(),
+				"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
+		writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
+		writeModifiers(outData);
+		return outBytes.toByteArray();
+	}
+
+	/**
+	 * Handles the reply to the <code>ER_SET</code> command enabling this
+	 * request.
+	 */
+	synchronized void set(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		DataInputStream replyData = replyPacket.dataInStream();
+		fRequestID = RequestID.read(this, replyData);
+		virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+	}
+
 	/**
 	 * Clear all breakpoints (used by EventRequestManager).
 	 */
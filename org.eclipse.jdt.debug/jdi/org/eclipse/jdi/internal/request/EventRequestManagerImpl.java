@@ -14,11 +14,11 @@
 package org.eclipse.jdi.internal.request;
 
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Hashtable;
-import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.jdi.internal.FieldImpl;
@@ -44,6 +44,8 @@ import org.eclipse.jdi.internal.event.StepEventImpl;
 import org.eclipse.jdi.internal.event.ThreadDeathEventImpl;
 import org.eclipse.jdi.internal.event.ThreadStartEventImpl;
 import org.eclipse.jdi.internal.event.VMDeathEventImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.Field;
@@ -390,6 +392,13 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		} catch (InvalidRequestStateException exception) {
 			// The event has already been removed from the VM.
 		}
+		removeEventRequest(req);
+	}
+
+	/**
+	 * Removes the given disabled request from the list of requests of its type.
+	 */
+	private void removeEventRequest(EventRequest req) {
 		if (req instanceof AccessWatchpointRequestImpl) {
 			deleteEventRequest(ACCESS_WATCHPOINT_TYPE, (AccessWatchpointRequestImpl) req);
 		} else if (req instanceof BreakpointRequestImpl) {
@@ -430,10 +439,89 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	@Override
 	public void deleteEventRequests(List<? extends EventRequest> requests) throws VMMismatchException {
-		Iterator<? extends EventRequest> iter = requests.iterator();
-		while(iter.hasNext()) {
-			Object obj = iter.next();
-			deleteEventRequest((EventRequest)obj);
+		replaceEventRequests(requests, Collections.emptyList());
+	}
+
+	/**
+	 * Deletes the given event requests and enables the other given event
+	 * requests at once. All commands are sent to the VM before the first reply
+	 * is awaited, so that the requests cost a single round trip to the VM. The
+	 * VM handles the commands in order, i.e. deletes the requests before
+	 * enabling the others.
+	 *
+	 * @param delete
+	 *            the requests to delete
+	 * @param enable
+	 *            the requests to enable, requests which are already enabled
+	 *            are ignored
+	 * @throws VMMismatchException
+	 *             if a request does not belong to this VM
+	 * @since 3.26
+	 */
+	public void replaceEventRequests(List<? extends EventRequest> delete, List<? extends EventRequest> enable) throws VMMismatchException {
+		List<EventRequestImpl> clear = new ArrayList<>(delete.size());
+		for (EventRequest req : delete) {
+			checkVM(req);
+			if (req.isEnabled()) {
+				clear.add((EventRequestImpl) req);
+			}
+		}
+		List<EventRequestImpl> set = new ArrayList<>(enable.size());
+		for (EventRequest req : enable) {
+			checkVM(req);
+			if (!req.isEnabled()) {
+				set.add((EventRequestImpl) req);
+			}
+		}
+		if (!clear.isEmpty() || !set.isEmpty()) {
+			initJdwpRequest();
+			try {
+				int count = clear.size() + set.size();
+				int[] commands = new int[count];
+				byte[][] outData = new byte[count][];
+				for (int i = 0; i < clear.size(); i++) {
+					commands[i] = JdwpCommandPacket.ER_CLEAR;
+					outData[i] = clear.get(i).clearCommandData();
+				}
+				for (int i = 0; i < set.size(); i++) {
+					commands[clear.size() + i] = JdwpCommandPacket.ER_SET;
+					outData[clear.size() + i] = set.get(i).setCommandData();
+				}
+				JdwpReplyPacket[] replies = requestVM(commands, outData);
+				// handle all replies before reporting the first failure, so
+				// that the mapping of request IDs matches the VM
+				RuntimeException failure = null;
+				for (int i = 0; i < clear.size(); i++) {
+					try {
+						clear.get(i).cleared(replies[i]);
+					} catch (InvalidRequestStateException exception) {
+						// The event has already been removed from the VM.
+					} catch (RuntimeException e) {
+						if (failure == null) {
+							failure = e;
+						}
+					}
+				}
+				for (int i = 0; i < set.size(); i++) {
+					try {
+						set.get(i).set(replies[clear.size() + i]);
+					} catch (RuntimeException e) {
+						if (failure == null) {
+							failure = e;
+						}
+					}
+				}
+				if (failure != null) {
+					throw failure;
+				}
+			} catch (IOException e) {
+				defaultIOExceptionHandler(e);
+			} finally {
+				handledJdwpRequest();
+			}
+		}
+		for (EventRequest req : delete) {
+			removeEventRequest(req);
 		}
 	}
 
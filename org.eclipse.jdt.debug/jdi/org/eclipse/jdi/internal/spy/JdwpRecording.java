@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.spy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the JDWP packets exchanged between a debugger and a VM, so that the
+ * session can be replayed later on by {@link JdwpReplay}.
+ * <p>
+ * Each packet is written as the time at which it was read by the spy, in
+ * nanoseconds since the start of the recording, a flag telling whether the
+ * packet was sent by the VM and the packet itself, as it is sent on the wire.
+ * </p>
+ */
+public class JdwpRecording {
+
+	/**
+	 * A recorded packet
+	 */
+	public static class RecordedPacket {
+		private final long fTime;
+		private final boolean fFromVM;
+		private final JdwpPacket fPacket;
+
+		RecordedPacket(long time, boolean fromVM, JdwpPacket packet) {
+			fTime = time;
+			fFromVM = fromVM;
+			fPacket = packet;
+		}
+
+		/**
+		 * @return Returns the time at which the packet was recorded, in
+		 *         nanoseconds since the start of the recording.
+		 */
+		public long getTime() {
+			return fTime;
+		}
+
+		/**
+		 * @return Returns whether the packet was sent by the VM.
+		 */
+		public boolean isFromVM() {
+			return fFromVM;
+		}
+
+		/**
+		 * @return Returns the packet.
+		 */
+		public JdwpPacket getPacket() {
+			return fPacket;
+		}
+	}
+
+	private final DataOutputStream fOut;
+	private final long fStart = System.nanoTime();
+	private boolean fClosed;
+
+	/**
+	 * Creates a recording written to the given stream.
+	 *
+	 * @param out
+	 *            the stream to write packets to
+	 */
+	public JdwpRecording(OutputStream out) {
+		fOut = new DataOutputStream(new BufferedOutputStream(out));
+	}
+
+	/**
+	 * Records the given packet, unless the recording has been closed.
+	 *
+	 * @param packet
+	 *            the packet
+	 * @param fromVM
+	 *            whether the packet was sent by the VM
+	 * @throws IOException
+	 *             if the packet cannot be written
+	 */
+	public synchronized void record(JdwpPacket packet, boolean fromVM) throws IOException {
+		if (fClosed) {
+			return;
+		}
+		fOut.writeLong(System.nanoTime() - fStart);
+		fOut.writeBoolean(fromVM);
+		packet.write(fOut);
+	}
+
+	/**
+	 * Writes the packets recorded so far and closes the underlying stream.
+	 *
+	 * @throws IOException
+	 *             if the stream cannot be closed
+	 */
+	public synchronized void close() throws IOException {
+		fClosed = true;
+		fOut.close();
+	}
+
+	/**
+	 * Reads the packets of a recording.
+	 *
+	 * @param in
+	 *            the stream to read the recording from
+	 * @return the recorded packets, in the order in which they were recorded
+	 * @throws IOException
+	 *             if the recording cannot be read
+	 */
+	public static List<RecordedPacket> read(InputStream in) throws IOException {
+		DataInputStream dataIn = new DataInputStream(new BufferedInputStream(in));
+		List<RecordedPacket> packets = new ArrayList<>();
+		while (true) {
+			long time;
+			try {
+				time = dataIn.readLong();
+			} catch (EOFException e) {
+				break;
+			}
+			boolean fromVM = dataIn.readBoolean();
+			packets.add(new RecordedPacket(time, fromVM, JdwpPacket.read(dataIn)));
+		}
+		return packets;
+	}
+}
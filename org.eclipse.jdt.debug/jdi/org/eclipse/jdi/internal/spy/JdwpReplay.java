@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.spy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.spy.JdwpRecording.RecordedPacket;
+
+/**
+ * Replays a session recorded by the spy (see {@link JdwpRecording}) by acting
+ * as the VM: the debugger connects to the replay, which answers each command
+ * with the reply the VM gave to the same command in the recorded session.
+ * <p>
+ * Commands are matched by type and data, falling back to the next recorded
+ * command of the same type when the data differs, and are answered with
+ * <code>NOT_IMPLEMENTED</code> when there is no such command left. Events are
+ * sent once as many replies have been sent as had been before the event in
+ * the recorded session. Since the replay answers without delay, latency can be
+ * added by connecting the debugger to the replay through the spy.
+ * </p>
+ * <p>
+ * A replay serves a single debugger session.
+ * </p>
+ */
+public class JdwpReplay {
+
+	private static final byte[] handshakeBytes = "JDWP-Handshake".getBytes(); //$NON-NLS-1$
+
+	/**
+	 * An event sent by the VM in the recorded session
+	 */
+	private static class RecordedEvent {
+		final JdwpCommandPacket fEvent;
+		final int fReplies;
+
+		RecordedEvent(JdwpCommandPacket event, int replies) {
+			fEvent = event;
+			fReplies = replies;
+		}
+	}
+
+	/**
+	 * Recorded conversations not replayed yet, by command, in the order in
+	 * which the commands were recorded
+	 */
+	private final Map<Integer, List<JdwpConversation>> fConversations = new HashMap<>();
+
+	/**
+	 * Recorded events, in the order in which they were recorded
+	 */
+	private final List<RecordedEvent> fEvents = new ArrayList<>();
+
+	private int fReplies;
+	private int fNextEvent;
+
+	/**
+	 * Creates a replay of the given recorded packets.
+	 *
+	 * @param packets
+	 *            the recorded packets, as read by
+	 *            {@link JdwpRecording#read(InputStream)}
+	 */
+	public JdwpReplay(List<RecordedPacket> packets) {
+		Map<Integer, JdwpConversation> pending = new HashMap<>();
+		int replies = 0;
+		for (RecordedPacket recorded : packets) {
+			JdwpPacket packet = recorded.getPacket();
+			Integer id = Integer.valueOf(packet.getId());
+			if ((packet.getFlags() & JdwpPacket.FLAG_REPLY_PACKET) != 0) {
+				JdwpConversation conversation = pending.remove(id);
+				if (recorded.isFromVM() && conversation != null) {
+					conversation.setReply((JdwpReplyPacket) packet);
+					replies++;
+				}
+			} else if (recorded.isFromVM()) {
+				fEvents.add(new RecordedEvent((JdwpCommandPacket) packet, replies));
+			} else {
+				JdwpCommandPacket command = (JdwpCommandPacket) packet;
+				JdwpConversation conversation = new JdwpConversation(command.getId());
+				conversation.setCommand(command);
+				pending.put(id, conversation);
+				fConversations.computeIfAbsent(Integer.valueOf(command.getCommand()), c -> new LinkedList<>()).add(conversation);
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		String recordingFile = null;
+		int port = 0;
+		try {
+			recordingFile = args[0];
+			port = Integer.parseInt(args[1]);
+		} catch (Exception e) {
+			System.out.println("usage: JdwpReplay <recording file> <port>"); //$NON-NLS-1$
+			System.exit(-1);
+		}
+
+		try (InputStream in = new FileInputStream(recordingFile); ServerSocket serverSock = new ServerSocket(port)) {
+			JdwpReplay replay = new JdwpReplay(JdwpRecording.read(in));
+			try (Socket socket = serverSock.accept()) {
+				replay.replay(socket);
+			}
+		} catch (IOException e) {
+			System.out.println(e);
+		}
+	}
+
+	/**
+	 * Answers the commands sent by the debugger connected to the given socket
+	 * until it disconnects.
+	 *
+	 * @param debuggerSocket
+	 *            the socket connected to the debugger
+	 * @throws IOException
+	 *             if communicating with the debugger fails
+	 */
+	public void replay(Socket debuggerSocket) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(debuggerSocket.getInputStream()));
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(debuggerSocket.getOutputStream()));
+		byte[] handshake = new byte[handshakeBytes.length];
+		in.readFully(handshake);
+		out.write(handshakeBytes);
+		sendEvents(out);
+		out.flush();
+
+		try {
+			while (true) {
+				JdwpPacket packet = JdwpPacket.read(in);
+				if ((packet.getFlags() & JdwpPacket.FLAG_REPLY_PACKET) != 0) {
+					continue;
+				}
+				JdwpCommandPacket command = (JdwpCommandPacket) packet;
+				JdwpReplyPacket reply = new JdwpReplyPacket();
+				reply.setId(command.getId());
+				reply.setFlags(JdwpPacket.FLAG_REPLY_PACKET);
+				JdwpConversation conversation = takeConversation(command);
+				if (conversation == null || conversation.getReply() == null) {
+					reply.setErrorCode(JdwpReplyPacket.NOT_IMPLEMENTED);
+				} else {
+					reply.setErrorCode(conversation.getReply().errorCode());
+					reply.setData(conversation.getReply().data());
+				}
+				reply.write(out);
+				fReplies++;
+				sendEvents(out);
+				out.flush();
+			}
+		} catch (EOFException e) {
+		} catch (SocketException e) {
+		}
+	}
+
+	/**
+	 * Sends the events which the VM had sent after as many replies as have been
+	 * sent so far.
+	 */
+	private void sendEvents(DataOutputStream out) throws IOException {
+		while (fNextEvent < fEvents.size() && fEvents.get(fNextEvent).fReplies <= fReplies) {
+			fEvents.get(fNextEvent++).fEvent.write(out);
+		}
+	}
+
+	/**
+	 * Returns and removes the recorded conversation which best matches the
+	 * given command, or <code>null</code> if none.
+	 */
+	private JdwpConversation takeConversation(JdwpCommandPacket command) {
+		List<JdwpConversation> conversations = fConversations.get(Integer.valueOf(command.getCommand()));
+		if (conversations == null || conversations.isEmpty()) {
+			return null;
+		}
+		Iterator<JdwpConversation> iterator = conversations.iterator();
+		while (iterator.hasNext()) {
+			JdwpConversation conversation = iterator.next();
+			if (Arrays.equals(conversation.getCommand().data(), command.data())) {
+				iterator.remove();
+				return conversation;
+			}
+		}
+		return conversations.remove(0);
+	}
+}
@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.spy;
+
+import java.io.PrintStream;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects statistics about the JDWP traffic seen by the spy: the number of
+ * commands sent by the debugger by type, their round trip times and the number
+ * of round trips the debugger had to wait for.
+ * <p>
+ * A round trip starts when the debugger sends a command while no other command
+ * is waiting for its reply, so that commands which are sent without waiting
+ * for the previous replies count as a single round trip.
+ * </p>
+ */
+public class JdwpStatistics {
+
+	/**
+	 * Number of buckets of the round trip time histograms. Bucket <code>0</code>
+	 * counts the round trips shorter than 1ms, bucket <code>i</code> the ones
+	 * shorter than 2^i ms and the last bucket all longer ones.
+	 */
+	public static final int HISTOGRAM_BUCKETS = 16;
+
+	/**
+	 * Statistics of a single type of command
+	 */
+	public static class CommandStatistics {
+		private final int fCommand;
+		private int fCount;
+		private long fBytesSent;
+		private long fBytesReceived;
+		private long fTotalTime;
+		private long fMaxTime;
+		private final int[] fHistogram = new int[HISTOGRAM_BUCKETS];
+
+		CommandStatistics(int command) {
+			fCommand = command;
+		}
+
+		CommandStatistics(CommandStatistics statistics) {
+			fCommand = statistics.fCommand;
+			fCount = statistics.fCount;
+			fBytesSent = statistics.fBytesSent;
+			fBytesReceived = statistics.fBytesReceived;
+			fTotalTime = statistics.fTotalTime;
+			fMaxTime = statistics.fMaxTime;
+			System.arraycopy(statistics.fHistogram, 0, fHistogram, 0, HISTOGRAM_BUCKETS);
+		}
+
+		void replyReceived(long time, int bytesSent, int bytesReceived) {
+			fCount++;
+			fBytesSent += bytesSent;
+			fBytesReceived += bytesReceived;
+			fTotalTime += time;
+			fMaxTime = Math.max(fMaxTime, time);
+			fHistogram[getBucket(time)]++;
+		}
+
+		/**
+		 * @return Returns the command and command set, as defined by
+		 *         {@link JdwpCommandPacket}.
+		 */
+		public int getCommand() {
+			return fCommand;
+		}
+
+		/**
+		 * @return Returns the number of commands which have been answered.
+		 */
+		public int getCount() {
+			return fCount;
+		}
+
+		/**
+		 * @return Returns the number of bytes sent in commands.
+		 */
+		public long getBytesSent() {
+			return fBytesSent;
+		}
+
+		/**
+		 * @return Returns the number of bytes received in replies.
+		 */
+		public long getBytesReceived() {
+			return fBytesReceived;
+		}
+
+		/**
+		 * @return Returns the sum of the round trip times, in nanoseconds.
+		 */
+		public long getTotalTime() {
+			return fTotalTime;
+		}
+
+		/**
+		 * @return Returns the longest round trip time, in nanoseconds.
+		 */
+		public long getMaxTime() {
+			return fMaxTime;
+		}
+
+		/**
+		 * @return Returns the round trip time histogram, see
+		 *         {@link JdwpStatistics#HISTOGRAM_BUCKETS}.
+		 */
+		public int[] getHistogram() {
+			return fHistogram.clone();
+		}
+	}
+
+	/**
+	 * A command waiting for its reply
+	 */
+	private static class PendingCommand {
+		final int fCommand;
+		final int fLength;
+		final long fSent;
+
+		PendingCommand(int command, int length, long sent) {
+			fCommand = command;
+			fLength = length;
+			fSent = sent;
+		}
+	}
+
+	private final Map<Integer, PendingCommand> fPending = new HashMap<>();
+	private final Map<Integer, CommandStatistics> fCommands = new TreeMap<>();
+	private int fRoundTrips;
+	private int fEvents;
+
+	/**
+	 * Returns the histogram bucket of the given round trip time.
+	 *
+	 * @param time
+	 *            round trip time in nanoseconds
+	 * @return the bucket counting this time
+	 */
+	public static int getBucket(long time) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(time);
+		int bucket = 64 - Long.numberOfLeadingZeros(millis);
+		return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+	}
+
+	/**
+	 * Notification that the debugger sent a command.
+	 *
+	 * @param command
+	 *            the command
+	 * @param time
+	 *            the time at which it was sent, see {@link System#nanoTime()}
+	 */
+	public synchronized void commandSent(JdwpCommandPacket command, long time) {
+		if (fPending.isEmpty()) {
+			fRoundTrips++;
+		}
+		fPending.put(Integer.valueOf(command.getId()), new PendingCommand(command.getCommand(), command.getLength(), time));
+	}
+
+	/**
+	 * Notification that a reply has been delivered to the debugger. Replies
+	 * to commands which were sent before the last reset are ignored.
+	 *
+	 * @param reply
+	 *            the reply
+	 * @param time
+	 *            the time at which it was delivered, see
+	 *            {@link System#nanoTime()}
+	 */
+	public synchronized void replyReceived(JdwpReplyPacket reply, long time) {
+		PendingCommand pending = fPending.remove(Integer.valueOf(reply.getId()));
+		if (pending == null) {
+			return;
+		}
+		Integer key = Integer.valueOf(pending.fCommand);
+		CommandStatistics statistics = fCommands.get(key);
+		if (statistics == null) {
+			statistics = new CommandStatistics(pending.fCommand);
+			fCommands.put(key, statistics);
+		}
+		statistics.replyReceived(time - pending.fSent, pending.fLength, reply.getLength());
+	}
+
+	/**
+	 * Notification that the VM sent a command, i.e. an event, to the debugger.
+	 */
+	public synchronized void eventReceived() {
+		fEvents++;
+	}
+
+	/**
+	 * Clears all statistics. Commands waiting for their reply are not counted
+	 * any more.
+	 */
+	public synchronized void reset() {
+		fPending.clear();
+		fCommands.clear();
+		fRoundTrips = 0;
+		fEvents = 0;
+	}
+
+	/**
+	 * @return Returns the number of commands which have been answered.
+	 */
+	public synchronized int getCommandCount() {
+		int count = 0;
+		for (CommandStatistics statistics : fCommands.values()) {
+			count += statistics.fCount;
+		}
+		return count;
+	}
+
+	/**
+	 * @return Returns the number of round trips the debugger waited for.
+	 */
+	public synchronized int getRoundTripCount() {
+		return fRoundTrips;
+	}
+
+	/**
+	 * @return Returns the number of events sent by the VM.
+	 */
+	public synchronized int getEventCount() {
+		return fEvents;
+	}
+
+	/**
+	 * Returns the statistics of the given type of command.
+	 *
+	 * @param command
+	 *            the command and command set, as defined by
+	 *            {@link JdwpCommandPacket}
+	 * @return a copy of the statistics, or <code>null</code> if no such command
+	 *         has been answered
+	 */
+	public synchronized CommandStatistics getCommandStatistics(int command) {
+		CommandStatistics statistics = fCommands.get(Integer.valueOf(command));
+		return statistics == null ? null : new CommandStatistics(statistics);
+	}
+
+	/**
+	 * Prints the statistics of each type of command, with the mean and maximum
+	 * round trip times in milliseconds and the non empty histogram buckets.
+	 *
+	 * @param out
+	 *            the stream to print to
+	 */
+	public synchronized void print(PrintStream out) {
+		out.println(MessageFormat.format("{0} commands in {1} round trips, {2} events", //$NON-NLS-1$
+				new Object[] { Integer.valueOf(getCommandCount()), Integer.valueOf(fRoundTrips), Integer.valueOf(fEvents) }));
+		for (CommandStatistics statistics : fCommands.values()) {
+			StringBuilder line = new StringBuilder();
+			line.append(MessageFormat.format("  {0}: {1} x, {2} bytes sent, {3} bytes received, mean {4} ms, max {5} ms", //$NON-NLS-1$
+					new Object[] { JdwpCommandPacket.commandMap().get(Integer.valueOf(statistics.fCommand)),
+							Integer.valueOf(statistics.fCount), Long.valueOf(statistics.fBytesSent),
+							Long.valueOf(statistics.fBytesReceived),
+							Long.valueOf(TimeUnit.NANOSECONDS.toMillis(statistics.fTotalTime / statistics.fCount)),
+							Long.valueOf(TimeUnit.NANOSECONDS.toMillis(statistics.fMaxTime)) }));
+			for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+				if (statistics.fHistogram[i] == 0) {
+					continue;
+				}
+				line.append(i == HISTOGRAM_BUCKETS - 1 ? " >=" : " <"); //$NON-NLS-1$ //$NON-NLS-2$
+				line.append(1L << (i == HISTOGRAM_BUCKETS - 1 ? i - 1 : i));
+				line.append("ms:"); //$NON-NLS-1$
+				line.append(statistics.fHistogram[i]);
+			}
+			out.println(line.toString());
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,8 +29,9 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
 import java.text.MessageFormat;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -41,6 +42,21 @@ import java.util.Map;
  * connection; 3) The port number on which the VM or proxy waits for a JDWP
  * connection; 4) The file where the trace is written to.
  *
+ * The spy can also delay every packet by a fixed latency with the
+ * <code>-latency</code> option, to simulate a debugger connected to a remote VM
+ * over a slow network. Packets are delayed independently of each other, so
+ * that requests which are sent without waiting for the previous reply are
+ * answered within a single round trip, as they would be on a real network.
+ * The <code>-bandwidth</code> option limits the number of bytes per second
+ * sent in each direction, delaying packets while the previous ones are being
+ * transmitted.
+ *
+ * The traffic can be measured with {@link #getStatistics()}, which are printed
+ * at the end of the session with the <code>-statistics</code> option, and can
+ * be recorded with the <code>-record</code> option, to be replayed later on by
+ * {@link JdwpReplay}. The two spies of a session, one for each direction,
+ * share the output, the statistics and the recording of the session.
+ *
  * Note that if this program is used for tracing JDWP activity of Leapfrog, the
  * 'debug remote program' option must be used, and the J9 proxy must first be
  * started up by hand on the port to which Leapfrog will connect. The J9 proxy
@@ -53,21 +69,88 @@ public class TcpipSpy extends Thread {
 	private final DataInputStream fDataIn;
 	private final DataOutputStream fDataOut;
 
-	private static VerbosePacketStream out = new VerbosePacketStream(System.out);
-	private static Map<Integer, JdwpConversation> fPackets = new HashMap<>();
+	/**
+	 * Latency in milliseconds by which each packet is delayed, 0 for none
+	 */
+	private final long fLatency;
+
+	/**
+	 * Bandwidth in bytes per second, 0 for unlimited
+	 */
+	private final long fBandwidth;
+
+	/**
+	 * Time at which the packets read so far will have been transmitted, see
+	 * {@link System#nanoTime()}
+	 */
+	private long fTransmitted;
+
+	/**
+	 * Thread forwarding the delayed packets, if any
+	 */
+	private Thread fForwarder;
+
+	/**
+	 * Packets read but not forwarded yet, used when packets are delayed
+	 */
+	private final BlockingQueue<DelayedPacket> fDelayedPackets = new LinkedBlockingQueue<>();
+
+	/**
+	 * Marks the end of the stream in the queue of delayed packets
+	 */
+	private static final DelayedPacket END_OF_STREAM = new DelayedPacket(null, 0);
+
+	/**
+	 * Stream to which the packets of the session are printed
+	 */
+	private final VerbosePacketStream fOut;
+
+	/**
+	 * Statistics of the session
+	 */
+	private final JdwpStatistics fStatistics;
 
-	private static int fFieldIDSize;
-	private static int fMethodIDSize;
-	private static int fObjectIDSize;
-	private static int fReferenceTypeIDSize;
-	private static int fFrameIDSize;
-	private static boolean fHasSizes;
+	/**
+	 * Recording of the session, <code>null</code> if none
+	 */
+	private final JdwpRecording fRecording;
 
 	public TcpipSpy(boolean VMtoDebugger, InputStream in, OutputStream out) {
+		this(VMtoDebugger, in, out, 0, 0, new VerbosePacketStream(System.out), new JdwpStatistics(), null);
+	}
+
+	/**
+	 * Creates a spy which forwards packets read from the given input stream to
+	 * the given output stream.
+	 *
+	 * @param VMtoDebugger
+	 *            whether the packets are sent by the VM to the debugger
+	 * @param in
+	 *            the stream to read packets from
+	 * @param out
+	 *            the stream to forward packets to
+	 * @param latency
+	 *            latency in milliseconds by which each packet is delayed, 0 for
+	 *            none
+	 * @param bandwidth
+	 *            bandwidth in bytes per second, 0 for unlimited
+	 * @param output
+	 *            the stream to print the packets to, shared by the spies of
+	 *            a session
+	 * @param statistics
+	 *            the statistics of the session
+	 * @param recording
+	 *            the recording of the session or <code>null</code>
+	 */
+	public TcpipSpy(boolean VMtoDebugger, InputStream in, OutputStream out, long latency, long bandwidth, VerbosePacketStream output, JdwpStatistics statistics, JdwpRecording recording) {
 		fVMtoDebugger = VMtoDebugger;
 		fDataIn = new DataInputStream(new BufferedInputStream(in));
 		fDataOut = new DataOutputStream(new BufferedOutputStream(out));
-		fHasSizes = false;
+		fLatency = latency;
+		fBandwidth = bandwidth;
+		fOut = output;
+		fStatistics = statistics;
+		fRecording = recording;
 	}
 
 	public static void main(String[] args) {
@@ -75,15 +158,40 @@ public class TcpipSpy extends Thread {
 		String serverHost = null;
 		int outPort = 0;
 		String outputFile = null;
+		long latency = 0;
+		long bandwidth = 0;
+		String recordFile = null;
+		boolean printStatistics = false;
+		VerbosePacketStream out = new VerbosePacketStream(System.out);
 		try {
-			inPort = Integer.parseInt(args[0]);
-			serverHost = args[1];
-			outPort = Integer.parseInt(args[2]);
-			if (args.length > 3) {
-				outputFile = args[3];
+			int index = 0;
+			while (args[index].startsWith("-")) { //$NON-NLS-1$
+				switch (args[index]) {
+					case "-latency": //$NON-NLS-1$
+						latency = Long.parseLong(args[++index]);
+						break;
+					case "-bandwidth": //$NON-NLS-1$
+						bandwidth = Long.parseLong(args[++index]);
+						break;
+					case "-record": //$NON-NLS-1$
+						recordFile = args[++index];
+						break;
+					case "-statistics": //$NON-NLS-1$
+						printStatistics = true;
+						break;
+					default:
+						throw new IllegalArgumentException(args[index]);
+				}
+				index++;
+			}
+			inPort = Integer.parseInt(args[index]);
+			serverHost = args[index + 1];
+			outPort = Integer.parseInt(args[index + 2]);
+			if (args.length > index + 3) {
+				outputFile = args[index + 3];
 			}
 		} catch (Exception e) {
-			out.println("usage: TcpipSpy <client port> <server host> <server port> [<output file>]"); //$NON-NLS-1$
+			out.println("usage: TcpipSpy [-latency <milliseconds>] [-bandwidth <bytes per second>] [-record <recording file>] [-statistics] <client port> <server host> <server port> [<output file>]"); //$NON-NLS-1$
 			System.exit(-1);
 		}
 
@@ -100,19 +208,72 @@ public class TcpipSpy extends Thread {
 			}
 		}
 		out.println();
-		try (ServerSocket serverSock = new ServerSocket(inPort);
+		try (ServerSocket serverSock = new ServerSocket(inPort)) {
+			JdwpRecording recording = null;
+			if (recordFile != null) {
+				recording = new JdwpRecording(new FileOutputStream(recordFile));
+			}
 			Socket inSock = serverSock.accept();
 			Socket outSock = new Socket(InetAddress.getByName(serverHost),
-					outPort);){
-			new TcpipSpy(false, inSock.getInputStream(),
-					outSock.getOutputStream()).start();
-			new TcpipSpy(true, outSock.getInputStream(),
-					inSock.getOutputStream()).start();
+					outPort);
+			TcpipSpy[] spies = spy(inSock, outSock, latency, bandwidth, out, recording);
+			for (TcpipSpy spy : spies) {
+				spy.join();
+			}
+			if (recording != null) {
+				recording.close();
+			}
+			if (printStatistics) {
+				spies[0].getStatistics().print(out);
+				out.flush();
+			}
 		} catch (Exception e) {
 			out.println(e);
 		}
 	}
 
+	/**
+	 * Starts spying the packets exchanged between a debugger and a VM. The
+	 * sockets are closed when either side closes the connection.
+	 *
+	 * @param debuggerSocket
+	 *            the socket connected to the debugger
+	 * @param vmSocket
+	 *            the socket connected to the VM
+	 * @param latency
+	 *            latency in milliseconds by which each packet is delayed, 0 for
+	 *            none
+	 * @param bandwidth
+	 *            bandwidth in bytes per second in each direction, 0 for
+	 *            unlimited
+	 * @param output
+	 *            the stream to print the packets to
+	 * @param recording
+	 *            the recording to write the packets to or <code>null</code>
+	 * @return the started spies, from the debugger to the VM and from the VM
+	 *         to the debugger
+	 * @throws IOException
+	 *             if the streams of the sockets cannot be opened
+	 */
+	public static TcpipSpy[] spy(Socket debuggerSocket, Socket vmSocket, long latency, long bandwidth, OutputStream output, JdwpRecording recording) throws IOException {
+		VerbosePacketStream out = output instanceof VerbosePacketStream stream ? stream : new VerbosePacketStream(output);
+		JdwpStatistics statistics = new JdwpStatistics();
+		TcpipSpy[] spies = new TcpipSpy[] {
+				new TcpipSpy(false, debuggerSocket.getInputStream(), vmSocket.getOutputStream(), latency, bandwidth, out, statistics, recording),
+				new TcpipSpy(true, vmSocket.getInputStream(), debuggerSocket.getOutputStream(), latency, bandwidth, out, statistics, recording) };
+		for (TcpipSpy spy : spies) {
+			spy.start();
+		}
+		return spies;
+	}
+
+	/**
+	 * @return Returns the statistics of the spied session.
+	 */
+	public JdwpStatistics getStatistics() {
+		return fStatistics;
+	}
+
 	@Override
 	public void run() {
 		try {
@@ -126,121 +287,148 @@ public class TcpipSpy extends Thread {
 			}
 			fDataOut.flush();
 
+			if (isDelaying()) {
+				fForwarder = new Thread(this::forwardDelayedPackets, getName() + " forwarder"); //$NON-NLS-1$
+				fForwarder.setDaemon(true);
+				fForwarder.start();
+			}
+
 			// Print all packages.
 			while (true) {
 				JdwpPacket p = JdwpPacket.read(fDataIn);
-				// we need to store conversation only for command send by the
-				// debugger,
-				// as there is no answer from the debugger to VM commands.
-				if (!(fVMtoDebugger && (p.getFlags() & JdwpPacket.FLAG_REPLY_PACKET) == 0)) {
-					store(p);
+				long read = System.nanoTime();
+				boolean isCommand = (p.getFlags() & JdwpPacket.FLAG_REPLY_PACKET) == 0;
+				if (isCommand) {
+					if (fVMtoDebugger) {
+						fStatistics.eventReceived();
+					} else {
+						fStatistics.commandSent((JdwpCommandPacket) p, read);
+					}
+				}
+				if (fRecording != null) {
+					fRecording.record(p, fVMtoDebugger);
+				}
+				try {
+					fOut.print(p, fVMtoDebugger);
+				} catch (RuntimeException e) {
+					// packets which cannot be decoded are forwarded anyway
+					fOut.println(MessageFormat.format(
+							"Caught exception: {0}", new Object[] { e.toString() })); //$NON-NLS-1$
+				}
+				fOut.flush();
+				if (isDelaying()) {
+					fDelayedPackets.add(new DelayedPacket(p, getDueTime(p, read)));
+				} else {
+					forwarding(p);
+					p.write(fDataOut);
+					fDataOut.flush();
 				}
-				out.print(p, fVMtoDebugger);
-				out.flush();
-				p.write(fDataOut);
-				fDataOut.flush();
 			}
 		} catch (EOFException e) {
 		} catch (SocketException e) {
 		} catch (IOException e) {
-			out.println(MessageFormat.format(
+			fOut.println(MessageFormat.format(
 					"Caught exception: {0}", new Object[] { e.toString() })); //$NON-NLS-1$
-			e.printStackTrace(out);
+			e.printStackTrace(fOut);
 		} finally {
 			try {
 				fDataIn.close();
-				fDataOut.close();
+				if (fForwarder != null) {
+					// the forwarder closes the output once the queue is drained
+					fDelayedPackets.add(END_OF_STREAM);
+					fForwarder.join();
+				} else {
+					fDataOut.close();
+				}
 			} catch (IOException e) {
+			} catch (InterruptedException e) {
 			}
-			out.flush();
+			fOut.flush();
 		}
 	}
 
-	public static JdwpCommandPacket getCommand(int id) {
-		JdwpConversation conversation = fPackets
-				.get(Integer.valueOf(id));
-		if (conversation != null) {
-			return conversation.getCommand();
-		}
-		return null;
+	/**
+	 * Answers whether packets are delayed before being forwarded.
+	 */
+	private boolean isDelaying() {
+		return fLatency > 0 || fBandwidth > 0;
 	}
 
-	protected static void store(JdwpPacket packet) {
-		int id = packet.getId();
-		JdwpConversation conversation = fPackets
-				.get(Integer.valueOf(id));
-		if (conversation == null) {
-			conversation = new JdwpConversation(id);
-			fPackets.put(Integer.valueOf(id), conversation);
+	/**
+	 * Returns the time at which the given packet is forwarded: after the
+	 * packets read before it and the packet itself have been transmitted at
+	 * the configured bandwidth, and the latency has elapsed.
+	 *
+	 * @param packet
+	 *            the packet
+	 * @param read
+	 *            the time at which the packet was read, see
+	 *            {@link System#nanoTime()}
+	 * @return the time at which the packet is due, see {@link System#nanoTime()}
+	 */
+	private long getDueTime(JdwpPacket packet, long read) {
+		long transmitted = read;
+		if (fBandwidth > 0) {
+			transmitted = Math.max(read, fTransmitted) + TimeUnit.SECONDS.toNanos(packet.getLength()) / fBandwidth;
+			fTransmitted = transmitted;
 		}
+		return transmitted + TimeUnit.MILLISECONDS.toNanos(fLatency);
+	}
 
-		if ((packet.getFlags() & JdwpPacket.FLAG_REPLY_PACKET) != 0) {
-			conversation.setReply((JdwpReplyPacket) packet);
-		} else {
-			conversation.setCommand((JdwpCommandPacket) packet);
+	/**
+	 * Notification that the given packet is about to be forwarded. Replies are
+	 * counted before the debugger can receive them, so that the next command
+	 * cannot be seen first.
+	 */
+	private void forwarding(JdwpPacket packet) {
+		if (fVMtoDebugger && (packet.getFlags() & JdwpPacket.FLAG_REPLY_PACKET) != 0) {
+			fStatistics.replyReceived((JdwpReplyPacket) packet, System.nanoTime());
 		}
 	}
 
-	public static int getCommand(JdwpPacket packet)
-			throws UnableToParseDataException {
-		JdwpCommandPacket command = null;
-		if (packet instanceof JdwpCommandPacket) {
-			command = (JdwpCommandPacket) packet;
-		} else {
-			command = getCommand(packet.getId());
-			if (command == null) {
-				throw new UnableToParseDataException(
-						"This packet is marked as reply, but there is no command with the same id.", null); //$NON-NLS-1$
+	/**
+	 * Forwards the delayed packets once their latency has elapsed, in the order
+	 * in which they were read.
+	 */
+	private void forwardDelayedPackets() {
+		try {
+			while (true) {
+				DelayedPacket delayed = fDelayedPackets.take();
+				if (delayed == END_OF_STREAM) {
+					break;
+				}
+				long wait = delayed.fDue - System.nanoTime();
+				if (wait > 0) {
+					TimeUnit.NANOSECONDS.sleep(wait);
+				}
+				forwarding(delayed.fPacket);
+				delayed.fPacket.write(fDataOut);
+				// packets due at once are sent together
+				DelayedPacket next = fDelayedPackets.peek();
+				if (next == null || next == END_OF_STREAM || next.fDue > System.nanoTime()) {
+					fDataOut.flush();
+				}
+			}
+		} catch (InterruptedException e) {
+		} catch (IOException e) {
+		} finally {
+			try {
+				fDataOut.close();
+			} catch (IOException e) {
 			}
 		}
-		return command.getCommand();
-	}
-
-	public static boolean hasSizes() {
-		return fHasSizes;
 	}
 
-	public static void setHasSizes(boolean value) {
-		fHasSizes = value;
-	}
-
-	public static void setFieldIDSize(int fieldIDSize) {
-		fFieldIDSize = fieldIDSize;
-	}
+	/**
+	 * A packet waiting to be forwarded
+	 */
+	private static class DelayedPacket {
+		final JdwpPacket fPacket;
+		final long fDue;
 
-	public static int getFieldIDSize() {
-		return fFieldIDSize;
-	}
-
-	public static void setMethodIDSize(int methodIDSize) {
-		fMethodIDSize = methodIDSize;
-	}
-
-	public static int getMethodIDSize() {
-		return fMethodIDSize;
-	}
-
-	public static void setObjectIDSize(int objectIDSize) {
-		fObjectIDSize = objectIDSize;
-	}
-
-	public static int getObjectIDSize() {
-		return fObjectIDSize;
-	}
-
-	public static void setReferenceTypeIDSize(int referenceTypeIDSize) {
-		fReferenceTypeIDSize = referenceTypeIDSize;
-	}
-
-	public static int getReferenceTypeIDSize() {
-		return fReferenceTypeIDSize;
-	}
-
-	public static void setFrameIDSize(int frameIDSize) {
-		fFrameIDSize = frameIDSize;
-	}
-
-	public static int getFrameIDSize() {
-		return fFrameIDSize;
+		DelayedPacket(JdwpPacket packet, long due) {
+			fPacket = packet;
+			fDue = due;
+		}
 	}
 }
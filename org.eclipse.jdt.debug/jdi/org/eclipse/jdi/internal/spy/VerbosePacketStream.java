@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ import java.io.PrintStream;
 import java.io.UTFDataFormatException;
 import java.text.MessageFormat;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 
 /**
@@ -150,6 +152,32 @@ public class VerbosePacketStream extends PrintStream {
 
 	private static final String shift = new String(padding, 0, 32);
 
+	/**
+	 * Maximum number of commands awaiting their reply which are remembered,
+	 * the oldest ones are forgotten first
+	 */
+	private static final int MAX_PENDING_COMMANDS = 1024;
+
+	/**
+	 * Commands sent by the debugger which await their reply, by id, to decode
+	 * the replies
+	 */
+	private final Map<Integer, JdwpCommandPacket> fPendingCommands = new LinkedHashMap<>() {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, JdwpCommandPacket> eldest) {
+			return size() > MAX_PENDING_COMMANDS;
+		}
+	};
+
+	private int fFieldIDSize;
+	private int fMethodIDSize;
+	private int fObjectIDSize;
+	private int fReferenceTypeIDSize;
+	private int fFrameIDSize;
+	private boolean fHasSizes;
+
 	public VerbosePacketStream(OutputStream out) {
 		super(out);
 	}
@@ -162,6 +190,12 @@ public class VerbosePacketStream extends PrintStream {
 
 	public synchronized void print(JdwpPacket packet, boolean fromVM)
 			throws IOException {
+		Integer id = Integer.valueOf(packet.getId());
+		boolean isReply = (packet.getFlags() & JdwpPacket.FLAG_REPLY_PACKET) != 0;
+		if (!fromVM && !isReply) {
+			// there is no reply to the commands sent by the VM
+			fPendingCommands.put(id, (JdwpCommandPacket) packet);
+		}
 		try {
 			printHeader(packet, fromVM);
 			printData(packet);
@@ -176,9 +210,29 @@ public class VerbosePacketStream extends PrintStream {
 				printHex(e.getRemainingData());
 			}
 			println();
+		} finally {
+			if (isReply) {
+				fPendingCommands.remove(id);
+			}
 		}
 	}
 
+	/**
+	 * Returns the command to which the given packet replies, or the packet
+	 * itself if it is a command.
+	 */
+	private JdwpCommandPacket getCommand(JdwpPacket packet) throws UnableToParseDataException {
+		if (packet instanceof JdwpCommandPacket command) {
+			return command;
+		}
+		JdwpCommandPacket command = fPendingCommands.get(Integer.valueOf(packet.getId()));
+		if (command == null) {
+			throw new UnableToParseDataException(
+					"This packet is marked as reply, but there is no command with the same id.", null); //$NON-NLS-1$
+		}
+		return command;
+	}
+
 	protected void printHeader(JdwpPacket packet, boolean fromVM)
 			throws UnableToParseDataException {
 		if (fromVM) {
@@ -200,7 +254,7 @@ public class VerbosePacketStream extends PrintStream {
 		printHex(flags);
 		if ((flags & JdwpPacket.FLAG_REPLY_PACKET) != 0) {
 			print(MessageFormat
-					.format(" (REPLY to {0})", new Object[] { JdwpCommandPacket.commandMap().get(Integer.valueOf(TcpipSpy.getCommand(packet))) })); //$NON-NLS-1$
+					.format(" (REPLY to {0})", new Object[] { JdwpCommandPacket.commandMap().get(Integer.valueOf(getCommand(packet).getCommand())) })); //$NON-NLS-1$
 		} else {
 			print(" (COMMAND)"); //$NON-NLS-1$
 		}
@@ -565,11 +619,12 @@ public class VerbosePacketStream extends PrintStream {
 	private void printReplyData(JdwpReplyPacket reply) throws IOException,
 			UnableToParseDataException {
 		byte[] data = reply.data();
-		if (data == null) {
+		if (data == null || reply.errorCode() != JdwpReplyPacket.NONE) {
+			// replies reporting an error carry no data
 			return;
 		}
 		DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
-		JdwpCommandPacket command = TcpipSpy.getCommand(reply.getId());
+		JdwpCommandPacket command = getCommand(reply);
 		int commandId = command.getCommand();
 		switch (commandId) {
 		/** Commands VirtualMachine. */
@@ -1442,12 +1497,12 @@ public class VerbosePacketStream extends PrintStream {
 		println("Object ID size:", objectIDSize); //$NON-NLS-1$
 		println("Reference type ID size:", referenceTypeIDSize); //$NON-NLS-1$
 		println("Frame ID size:", frameIDSize); //$NON-NLS-1$
-		TcpipSpy.setFieldIDSize(fieldIDSize);
-		TcpipSpy.setMethodIDSize(methodIDSize);
-		TcpipSpy.setObjectIDSize(objectIDSize);
-		TcpipSpy.setReferenceTypeIDSize(referenceTypeIDSize);
-		TcpipSpy.setFrameIDSize(frameIDSize);
-		TcpipSpy.setHasSizes(true);
+		fFieldIDSize = fieldIDSize;
+		fMethodIDSize = methodIDSize;
+		fObjectIDSize = objectIDSize;
+		fReferenceTypeIDSize = referenceTypeIDSize;
+		fFrameIDSize = frameIDSize;
+		fHasSizes = true;
 	}
 
 	private void printVmExitCommand(DataInputStream in) throws IOException {
@@ -1761,12 +1816,12 @@ public class VerbosePacketStream extends PrintStream {
 		for (int i = 0; i < methodsCount; i++) {
 			long methodId = readMethodID(in);
 			String name = readString(in);
+			String signature = readString(in);
 			String genericSignature = readString(in);
 			int modifiers = in.readInt();
 			printlnMethodId("Method id:", methodId); //$NON-NLS-1$
 			println("Name:", name); //$NON-NLS-1$
-			// println(TcpIpSpyMessages.VerbosePacketStream_Signature__106,
-			// signature);
+			println("Signature:", signature); //$NON-NLS-1$
 			println("Generic signature:", genericSignature); //$NON-NLS-1$
 			printMethodModifiers(modifiers);
 		}
@@ -2519,47 +2574,47 @@ public class VerbosePacketStream extends PrintStream {
 
 	private long readObjectID(DataInputStream in) throws IOException,
 			UnableToParseDataException {
-		if (!TcpipSpy.hasSizes()) {
+		if (!fHasSizes) {
 			throw new UnableToParseDataException(
 					"Unable to parse remaining data", remainderData(in)); //$NON-NLS-1$
 		}
-		return readID(in, TcpipSpy.getObjectIDSize());
+		return readID(in, fObjectIDSize);
 	}
 
 	private long readReferenceTypeID(DataInputStream in) throws IOException,
 			UnableToParseDataException {
-		if (!TcpipSpy.hasSizes()) {
+		if (!fHasSizes) {
 			throw new UnableToParseDataException(
 					"Unable to parse remaining data", remainderData(in)); //$NON-NLS-1$
 		}
-		return readID(in, TcpipSpy.getReferenceTypeIDSize());
+		return readID(in, fReferenceTypeIDSize);
 	}
 
 	private long readFieldID(DataInputStream in) throws IOException,
 			UnableToParseDataException {
-		if (!TcpipSpy.hasSizes()) {
+		if (!fHasSizes) {
 			throw new UnableToParseDataException(
 					"Unable to parse remaining data", remainderData(in)); //$NON-NLS-1$
 		}
-		return readID(in, TcpipSpy.getFieldIDSize());
+		return readID(in, fFieldIDSize);
 	}
 
 	private long readMethodID(DataInputStream in) throws IOException,
 			UnableToParseDataException {
-		if (!TcpipSpy.hasSizes()) {
+		if (!fHasSizes) {
 			throw new UnableToParseDataException(
 					"Unable to parse remaining data", remainderData(in)); //$NON-NLS-1$
 		}
-		return readID(in, TcpipSpy.getMethodIDSize());
+		return readID(in, fMethodIDSize);
 	}
 
 	private long readFrameID(DataInputStream in) throws IOException,
 			UnableToParseDataException {
-		if (!TcpipSpy.hasSizes()) {
+		if (!fHasSizes) {
 			throw new UnableToParseDataException(
 					"Unable to parse remaining data", remainderData(in)); //$NON-NLS-1$
 		}
-		return readID(in, TcpipSpy.getFrameIDSize());
+		return readID(in, fFrameIDSize);
 	}
 
 	private long readID(DataInputStream in, int size) throws IOException {
@@ -2622,11 +2677,11 @@ public class VerbosePacketStream extends PrintStream {
 		case THREAD_GROUP_TAG:
 		case CLASS_LOADER_TAG:
 		case CLASS_OBJECT_TAG:
-			if (!TcpipSpy.hasSizes()) {
+			if (!fHasSizes) {
 				throw new UnableToParseDataException(
 						"Unable to parse remaining data", remainderData(in)); //$NON-NLS-1$
 			}
-			size = TcpipSpy.getObjectIDSize();
+			size = fObjectIDSize;
 			isId = true;
 			break;
 		default:
@@ -2816,7 +2871,7 @@ public class VerbosePacketStream extends PrintStream {
 	}
 
 	protected void printlnReferenceTypeId(String description, long value) {
-		println(description, value, TcpipSpy.getReferenceTypeIDSize());
+		println(description, value, fReferenceTypeIDSize);
 	}
 
 	protected void printlnReferenceTypeIdWithTypeTag(String description,
@@ -2824,14 +2879,14 @@ public class VerbosePacketStream extends PrintStream {
 		printDescription(description);
 		printRefTypeTagValue(typeTag);
 		print(" - "); //$NON-NLS-1$
-		printHex(value, TcpipSpy.getReferenceTypeIDSize());
+		printHex(value, fReferenceTypeIDSize);
 		printParanthetical(value);
 		println();
 	}
 
 	protected void printlnObjectId(String description, long value) {
 		printDescription(description);
-		printHex(value, TcpipSpy.getObjectIDSize());
+		printHex(value, fObjectIDSize);
 		if (value == 0) {
 			println(" (NULL)"); //$NON-NLS-1$
 		} else {
@@ -2845,7 +2900,7 @@ public class VerbosePacketStream extends PrintStream {
 		printDescription(description);
 		printSignatureByte(signatureByte, true);
 		print(' ');
-		printHex(value, TcpipSpy.getReferenceTypeIDSize());
+		printHex(value, fReferenceTypeIDSize);
 		if (value == 0) {
 			println(" (NULL)"); //$NON-NLS-1$
 		} else {
@@ -2855,15 +2910,15 @@ public class VerbosePacketStream extends PrintStream {
 	}
 
 	protected void printlnFieldId(String description, long value) {
-		println(description, value, TcpipSpy.getFieldIDSize());
+		println(description, value, fFieldIDSize);
 	}
 
 	protected void printlnMethodId(String description, long value) {
-		println(description, value, TcpipSpy.getMethodIDSize());
+		println(description, value, fMethodIDSize);
 	}
 
 	protected void printlnFrameId(String description, long value) {
-		println(description, value, TcpipSpy.getFrameIDSize());
+		println(description, value, fFrameIDSize);
 	}
 
 	protected void println(String description, long value, int size) {
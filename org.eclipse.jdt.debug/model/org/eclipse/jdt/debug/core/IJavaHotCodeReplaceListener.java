@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,10 @@ import org.eclipse.debug.core.DebugException;
  * modified in the workspace, targets that support hot code replace are updated
  * with new class files.
  * <p>
+ * Listeners are notified in the thread updating the target, which is not the
+ * same for all targets, but never concurrently.
+ * </p>
+ * <p>
  * Clients may implement this interface
  * </p>
  *
@@ -49,6 +53,25 @@ public interface IJavaHotCodeReplaceListener {
 	 */
 	public void hotCodeReplaceSucceeded(IJavaDebugTarget target);
 
+	/**
+	 * Notification that a hot code replace attempt succeeded in the given
+	 * target, along with the time it took. By default this method calls
+	 * {@link #hotCodeReplaceSucceeded(IJavaDebugTarget)}.
+	 *
+	 * @param target
+	 *            the target in which the hot code replace succeeded
+	 * @param redefineTime
+	 *            the time in milliseconds the target VM took to redefine the
+	 *            changed types
+	 * @param totalTime
+	 *            the time in milliseconds taken by the whole hot code replace
+	 *            in the given target, including dropping frames
+	 * @since 3.26
+	 */
+	public default void hotCodeReplaceSucceeded(IJavaDebugTarget target, long redefineTime, long totalTime) {
+		hotCodeReplaceSucceeded(target);
+	}
+
 	/**
 	 * Notification that obsolete methods remain on the stack in one or more
 	 * threads in the given target after a hot code replace.
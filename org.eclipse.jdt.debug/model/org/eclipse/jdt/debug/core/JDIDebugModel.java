@@ -150,6 +150,15 @@ public class JDIDebugModel {
 	 */
 	public static final String PREF_SUSPEND_ON_RECURRENCE_STRATEGY = getPluginIdentifier() + ".PREF_SUSPEND_ON_RECURRENCE_STRATEGY"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling whether virtual threads are only tracked once they report an event, such as a breakpoint hit, or are asked
+	 * for. When set, the starts and ends of virtual threads are not reported to the debugger, which keeps targets running many virtual threads
+	 * debuggable. Read when a debug target is created.
+	 *
+	 * @since 3.26
+	 */
+	public static final String PREF_TRACK_VIRTUAL_THREADS_LAZILY = getPluginIdentifier() + ".track_virtual_threads_lazily"; //$NON-NLS-1$
+
 	/**
 	 * Launch attribute, use ILaunch.setAttribute to set it to "true", to disable hot code replace for an individual launch.
 	 *
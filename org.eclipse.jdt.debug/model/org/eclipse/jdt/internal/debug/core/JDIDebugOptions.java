@@ -36,6 +36,7 @@ public class JDIDebugOptions implements DebugOptionsListener {
 	public static final String DEBUG_FLAG = "org.eclipse.jdt.debug/debug"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_VERBOSE_FLAG = "org.eclipse.jdt.debug/debug/jdi/verbose"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_VERBOSE_FILE = "org.eclipse.jdt.debug/debug/jdi/verbose/file"; //$NON-NLS-1$
+	public static final String DEBUG_HCR_FLAG = "org.eclipse.jdt.debug/debug/hcr"; //$NON-NLS-1$
 
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_JDI_EVENTS = false;
@@ -44,6 +45,7 @@ public class JDIDebugOptions implements DebugOptionsListener {
 	public static boolean DEBUG_AST_EVAL_THREAD_TRACE = false;
 	public static boolean DEBUG_JDI_VEBOSE;
 	public static String DEBUG_JDI_VEBOSE_FILE;
+	public static boolean DEBUG_HCR = false;
 
 	/**
 	 * The {@link DebugTrace} object to print to OSGi tracing
@@ -75,6 +77,7 @@ public class JDIDebugOptions implements DebugOptionsListener {
 		DEBUG_AST_EVAL = DEBUG && options.getBooleanOption(DEBUG_AST_EVALUATIONS_FLAG, false);
 		DEBUG_AST_EVAL_THREAD_TRACE = DEBUG && options.getBooleanOption(DEBUG_AST_EVALUATIONS_CALLING_THREADS_FLAG, false);
 		DEBUG_JDI_VEBOSE = DEBUG && options.getBooleanOption(DEBUG_JDI_VERBOSE_FLAG, false);
+		DEBUG_HCR = DEBUG && options.getBooleanOption(DEBUG_HCR_FLAG, false);
 		if (DEBUG && DEBUG_JDI_VEBOSE) {
 			DEBUG_JDI_VEBOSE_FILE = options.getOption(DEBUG_JDI_VERBOSE_FILE);
 		}
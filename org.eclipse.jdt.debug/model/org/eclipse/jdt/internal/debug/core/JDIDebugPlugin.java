@@ -47,6 +47,7 @@ import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.internal.debug.core.breakpoints.BreakpointListenerManager;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaExceptionBreakpoint;
 import org.eclipse.jdt.internal.debug.core.hcr.JavaHotCodeReplaceManager;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
@@ -372,6 +373,7 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 				node.removePreferenceChangeListener(this);
 			}
 			JavaHotCodeReplaceManager.getDefault().shutdown();
+			JavaExceptionBreakpoint.shutdown();
 			ILaunchManager launchManager = DebugPlugin.getDefault()
 					.getLaunchManager();
 			IDebugTarget[] targets = launchManager.getDebugTargets();
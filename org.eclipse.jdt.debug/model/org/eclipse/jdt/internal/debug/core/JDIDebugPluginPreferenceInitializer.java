@@ -51,5 +51,6 @@ public class JDIDebugPluginPreferenceInitializer extends
 		node.putInt(JDIDebugModel.PREF_SHOW_STEP_TIMEOUT, JDIDebugModel.DEF_SHOW_STEP_TIMEOUT);
 		node.putBoolean(JDIDebugPlugin.PREF_ENABLE_ADVANCED_SOURCELOOKUP, true);
 		node.putBoolean(JDIDebugModel.PREF_CREATE_EXCEPTION_BREAKPOINTS_ON_CLICK, true);
+		node.putBoolean(JDIDebugModel.PREF_TRACK_VIRTUAL_THREADS_LAZILY, false);
 	}
 }
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.jdi.ReferenceType;
+
+/**
+ * Compiled inclusion and exclusion class filters of an exception breakpoint.
+ * <p>
+ * A filter matches a type name if the parts of the filter separated by
+ * <code>*</code> occur in the type name in that order, like the regular
+ * expression of the filter with <code>*</code> standing for <code>.*</code> is
+ * found in the type name. The empty filter, standing for the default package,
+ * matches all type names. A type is filtered in if it matches an inclusion
+ * filter or if there are none, and if it does not match any exclusion filter.
+ * The verdicts are remembered per type.
+ * </p>
+ */
+public class ClassFilterMatcher {
+
+	private final String[][] fInclusionFilters;
+	private final String[][] fExclusionFilters;
+
+	/**
+	 * Verdicts of the types matched so far
+	 */
+	private final Map<ReferenceType, Boolean> fVerdicts = new ConcurrentHashMap<>();
+
+	/**
+	 * Compiles the given filters.
+	 *
+	 * @param inclusionFilters
+	 *            inclusion filters, possibly empty
+	 * @param exclusionFilters
+	 *            exclusion filters, possibly empty
+	 */
+	public ClassFilterMatcher(String[] inclusionFilters, String[] exclusionFilters) {
+		fInclusionFilters = compile(inclusionFilters);
+		fExclusionFilters = compile(exclusionFilters);
+	}
+
+	private static String[][] compile(String[] filters) {
+		String[][] compiled = new String[filters.length][];
+		for (int i = 0; i < filters.length; i++) {
+			List<String> parts = new ArrayList<>(2);
+			for (String part : filters[i].split("\\*")) { //$NON-NLS-1$
+				if (!part.isEmpty()) {
+					parts.add(part);
+				}
+			}
+			compiled[i] = parts.toArray(new String[parts.size()]);
+		}
+		return compiled;
+	}
+
+	/**
+	 * Returns whether there are no filters at all.
+	 *
+	 * @return whether all types are filtered in
+	 */
+	public boolean isEmpty() {
+		return fInclusionFilters.length == 0 && fExclusionFilters.length == 0;
+	}
+
+	/**
+	 * Returns whether the given type is filtered in.
+	 *
+	 * @param type
+	 *            a type
+	 * @return whether the type is filtered in
+	 */
+	public boolean matches(ReferenceType type) {
+		Boolean verdict = fVerdicts.get(type);
+		if (verdict == null) {
+			verdict = Boolean.valueOf(matches(type.name()));
+			fVerdicts.put(type, verdict);
+		}
+		return verdict.booleanValue();
+	}
+
+	/**
+	 * Returns whether the type with the given name is filtered in.
+	 *
+	 * @param typeName
+	 *            a fully qualified type name
+	 * @return whether the type is filtered in
+	 */
+	public boolean matches(String typeName) {
+		if (fInclusionFilters.length > 0 && !matchesAny(fInclusionFilters, typeName)) {
+			return false;
+		}
+		return !matchesAny(fExclusionFilters, typeName);
+	}
+
+	private static boolean matchesAny(String[][] filters, String typeName) {
+		for (String[] parts : filters) {
+			int from = 0;
+			int i = 0;
+			while (i < parts.length) {
+				int index = typeName.indexOf(parts[i], from);
+				if (index == -1) {
+					break;
+				}
+				from = index + parts[i].length();
+				i++;
+			}
+			if (i == parts.length) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the given filter is a class pattern an event request can
+	 * filter by, i.e. a type name which may begin or end with <code>*</code>.
+	 *
+	 * @param filter
+	 *            a class filter
+	 * @return whether the filter can be added to an event request
+	 */
+	public static boolean isRequestPattern(String filter) {
+		int length = filter.length();
+		if (length == 0 || "*".equals(filter)) { //$NON-NLS-1$
+			return false;
+		}
+		int wildcard = filter.indexOf('*');
+		if (wildcard == -1) {
+			return true;
+		}
+		if (filter.indexOf('*', wildcard + 1) != -1) {
+			return false;
+		}
+		return wildcard == 0 || wildcard == length - 1;
+	}
+
+	/**
+	 * Returns a class pattern an event request can filter by which matches all
+	 * types matching one of the given inclusion filters, or <code>null</code>
+	 * if there is none other than matching all types. For several filters, the
+	 * pattern matches the packages the filters have in common.
+	 *
+	 * @param inclusionFilters
+	 *            inclusion filters
+	 * @return a class pattern or <code>null</code>
+	 */
+	public static String getRequestInclusionPattern(String[] inclusionFilters) {
+		if (inclusionFilters.length == 0) {
+			return null;
+		}
+		if (inclusionFilters.length == 1) {
+			return isRequestPattern(inclusionFilters[0]) ? inclusionFilters[0] : null;
+		}
+		String prefix = null;
+		for (String filter : inclusionFilters) {
+			if (!isRequestPattern(filter) || filter.charAt(0) == '*') {
+				return null;
+			}
+			String literal = filter.endsWith("*") ? filter.substring(0, filter.length() - 1) : filter; //$NON-NLS-1$
+			if (prefix == null) {
+				prefix = literal;
+			} else {
+				int length = 0;
+				int max = Math.min(prefix.length(), literal.length());
+				while (length < max && prefix.charAt(length) == literal.charAt(length)) {
+					length++;
+				}
+				prefix = prefix.substring(0, length);
+			}
+		}
+		int dot = prefix.lastIndexOf('.');
+		if (dot <= 0) {
+			return null;
+		}
+		return prefix.substring(0, dot + 1) + '*';
+	}
+}
@@ -307,10 +307,7 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 					suspendVote);
 		}
 		ThreadReference threadRef = ((LocatableEvent) event).thread();
-		JDIThread thread = target.findThread(threadRef);
-		if (thread == null) {
-			thread = target.findThread(threadRef);
-		}
+		JDIThread thread = target.findOrCreateThread(threadRef);
 		if (thread == null || thread.isIgnoringBreakpoints()) {
 			return true;
 		}
@@ -562,9 +562,8 @@ public class JavaBreakpointImportParticipant implements
 				// line breakpoint use the ValidBreakpointLocationLocator to
 				// (re)place it
 				int currentline = bp.getLineNumber();
-				ValidBreakpointLocationLocator locator = new ValidBreakpointLocationLocator(
+				ValidBreakpointLocationLocator locator = ValidBreakpointLocationLocator.locate(
 						unit, currentline, true, true);
-				unit.accept(locator);
 				int newline = locator.getLineLocation();
 				if (locator.getLocationType() == ValidBreakpointLocationLocator.LOCATION_LINE) {
 					if (currentline != newline) {
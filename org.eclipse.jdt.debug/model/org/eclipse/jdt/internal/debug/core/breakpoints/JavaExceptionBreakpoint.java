@@ -14,13 +14,15 @@
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.core.resources.IMarkerDelta;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.runtime.CoreException;
@@ -30,6 +32,8 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IBreakpointManager;
+import org.eclipse.debug.core.IBreakpointsListener;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaExceptionBreakpoint;
@@ -136,6 +140,25 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	private ObjectReference fLastException;
 	private JDIDebugTarget fLastTarget;
 
+	/**
+	 * Compiled class filters, or <code>null</code> if the filters have changed
+	 */
+	private volatile ClassFilterMatcher fClassFilterMatcher;
+
+	/**
+	 * Whether the thrown types are subclasses of the type of this breakpoint
+	 */
+	private final Map<ReferenceType, Boolean> fSubclasses = new ConcurrentHashMap<>();
+
+	/**
+	 * Exception breakpoints of the breakpoint manager by type name, or
+	 * <code>null</code> if breakpoints have been added, removed or changed
+	 * since they were indexed
+	 */
+	private static volatile Map<String, List<JavaExceptionBreakpoint>> fgBreakpointsByType;
+
+	private static IBreakpointsListener fgBreakpointsListener;
+
 	public JavaExceptionBreakpoint() {
 	}
 
@@ -382,10 +405,11 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 			fLastException = ex;
 			String name = null;
 			try {
-				name = ex.type().name();
+				ReferenceType type = ex.type();
+				name = type.name();
 				if (!name.equals(getTypeName())) {
 					if (!isSuspendOnSubclasses()
-							& isSubclass((ClassType) ex.type(), getTypeName())) {
+							& isSubclass((ClassType) type, getTypeName())) {
 						return true;
 					}
 				}
@@ -403,41 +427,16 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 			}
 			setExceptionName(name);
 			disableTriggerPoint(event);
-			IBreakpoint[] allBreakpoints = DebugPlugin.getDefault().getBreakpointManager().getBreakpoints();
-			for (IBreakpoint iBreakpoint : allBreakpoints) {
-				if (iBreakpoint instanceof JavaExceptionBreakpoint) {
-					JavaExceptionBreakpoint jExceptionBreakpoint = (JavaExceptionBreakpoint)iBreakpoint;
-					try {
-						//This Java Exception breakpoint is the  breakpoint created for catching compilation and Uncaught exception in JavaDebugOptionsManagaer initialization
-						// This does not have scope defined
-						if (jExceptionBreakpoint.getTypeName().equals(name)) {
-							if (jExceptionBreakpoint.getExclusionClassFilters().length >= 1
-						|| jExceptionBreakpoint.getInclusionClassFilters().length >= 1
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fInclusionClassFilters)
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fExclusionClassFilters)) {
-							Location location = ((ExceptionEvent) event).location();
-							String typeName = location.declaringType().name();
-							boolean defaultPackage = typeName.indexOf('.') == -1;
-							boolean included = true;
-							String[] filters = jExceptionBreakpoint.getInclusionClassFilters();
-							if (filters.length > 0) {
-								included = matchesFilters(filters, typeName, defaultPackage);
-							}
-							boolean excluded = false;
-							filters = jExceptionBreakpoint.getExclusionClassFilters();
-							if (filters.length > 0) {
-								excluded = matchesFilters(filters, typeName, defaultPackage);
-							}
-							if (included && !excluded) {
-								return !suspend(thread, suspendVote);
-							}
-							return true;
-							}
-						}
-					}
-					catch (CoreException e) {
-						e.printStackTrace();
+			for (JavaExceptionBreakpoint jExceptionBreakpoint : getBreakpoints(name)) {
+				//This Java Exception breakpoint is the  breakpoint created for catching compilation and Uncaught exception in JavaDebugOptionsManagaer initialization
+				// This does not have scope defined
+				ClassFilterMatcher matcher = jExceptionBreakpoint.getClassFilterMatcher();
+				if (!matcher.isEmpty()) {
+					Location location = ((ExceptionEvent) event).location();
+					if (matcher.matches(location.declaringType())) {
+						return !suspend(thread, suspendVote);
 					}
+					return true;
 				}
 			}
 
@@ -446,6 +445,77 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 		return true;
 	}
 
+	/**
+	 * Returns the exception breakpoints of the breakpoint manager for the
+	 * exception type with the given name, in the order of the breakpoint
+	 * manager.
+	 */
+	private static List<JavaExceptionBreakpoint> getBreakpoints(String typeName) {
+		Map<String, List<JavaExceptionBreakpoint>> breakpoints = fgBreakpointsByType;
+		if (breakpoints == null) {
+			breakpoints = indexBreakpoints();
+		}
+		List<JavaExceptionBreakpoint> list = breakpoints.get(typeName);
+		return list == null ? List.of() : list;
+	}
+
+	private static synchronized Map<String, List<JavaExceptionBreakpoint>> indexBreakpoints() {
+		Map<String, List<JavaExceptionBreakpoint>> breakpoints = fgBreakpointsByType;
+		if (breakpoints != null) {
+			return breakpoints;
+		}
+		IBreakpointManager manager = DebugPlugin.getDefault().getBreakpointManager();
+		if (fgBreakpointsListener == null) {
+			fgBreakpointsListener = new IBreakpointsListener() {
+				@Override
+				public void breakpointsAdded(IBreakpoint[] added) {
+					invalidateBreakpoints();
+				}
+
+				@Override
+				public void breakpointsRemoved(IBreakpoint[] removed, IMarkerDelta[] deltas) {
+					invalidateBreakpoints();
+				}
+
+				@Override
+				public void breakpointsChanged(IBreakpoint[] changed, IMarkerDelta[] deltas) {
+					invalidateBreakpoints();
+				}
+			};
+			manager.addBreakpointListener(fgBreakpointsListener);
+		}
+		breakpoints = new HashMap<>();
+		for (IBreakpoint breakpoint : manager.getBreakpoints()) {
+			if (breakpoint instanceof JavaExceptionBreakpoint exceptionBreakpoint) {
+				try {
+					String typeName = exceptionBreakpoint.getTypeName();
+					if (typeName != null) {
+						breakpoints.computeIfAbsent(typeName, name -> new ArrayList<>(1)).add(exceptionBreakpoint);
+					}
+				} catch (CoreException e) {
+					// the marker has been deleted
+				}
+			}
+		}
+		fgBreakpointsByType = breakpoints;
+		return breakpoints;
+	}
+
+	private static synchronized void invalidateBreakpoints() {
+		fgBreakpointsByType = null;
+	}
+
+	/**
+	 * Stops indexing the exception breakpoints of the breakpoint manager.
+	 */
+	public static synchronized void shutdown() {
+		if (fgBreakpointsListener != null) {
+			DebugPlugin.getDefault().getBreakpointManager().removeBreakpointListener(fgBreakpointsListener);
+			fgBreakpointsListener = null;
+		}
+		fgBreakpointsByType = null;
+	}
+
 	/**
 	 * Returns whether the given class type is a subclass of the classes with the
 	 * given name.
@@ -457,14 +527,32 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 * @since 3.2
 	 */
 	private boolean isSubclass(ClassType type, String typeName) {
-		type = type.superclass();
-		while (type != null) {
-			if (type.name().equals(typeName)) {
-				return true;
+		Boolean subclass = fSubclasses.get(type);
+		if (subclass == null) {
+			subclass = Boolean.FALSE;
+			ClassType superclass = type.superclass();
+			while (superclass != null) {
+				if (superclass.name().equals(typeName)) {
+					subclass = Boolean.TRUE;
+					break;
+				}
+				superclass = superclass.superclass();
 			}
-			type = type.superclass();
+			fSubclasses.put(type, subclass);
 		}
-		return false;
+		return subclass.booleanValue();
+	}
+
+	/**
+	 * Returns the compiled class filters of this breakpoint.
+	 */
+	private ClassFilterMatcher getClassFilterMatcher() {
+		ClassFilterMatcher matcher = fClassFilterMatcher;
+		if (matcher == null) {
+			matcher = new ClassFilterMatcher(getInclusionClassFilters(), getExclusionClassFilters());
+			fClassFilterMatcher = matcher;
+		}
+		return matcher;
 	}
 
 	/*
@@ -478,6 +566,11 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	protected void setInstalledIn(IJavaDebugTarget target, boolean installed) {
 		fLastException = null;
 		fLastTarget = null;
+		if (!installed) {
+			// forget the types of the target
+			fSubclasses.clear();
+			fClassFilterMatcher = null;
+		}
 		super.setInstalledIn(target, installed);
 	}
 
@@ -512,20 +605,7 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 */
 	protected boolean matchesFilters(String[] filters, String typeName,
 			boolean defaultPackage) {
-		for (String filter2 : filters) {
-			String filter = filter2;
-			if (defaultPackage && filter.length() == 0) {
-				return true;
-			}
-
-			filter = filter.replaceAll("\\.", "\\\\."); //$NON-NLS-1$//$NON-NLS-2$
-			filter = filter.replaceAll("\\*", "\\.\\*"); //$NON-NLS-1$//$NON-NLS-2$
-			Pattern pattern = Pattern.compile(filter);
-			if (pattern.matcher(typeName).find()) {
-				return true;
-			}
-		}
-		return false;
+		return new ClassFilterMatcher(filters, new String[0]).matches(typeName);
 	}
 
 	/**
@@ -596,13 +676,15 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 
 		ExceptionRequest request = (ExceptionRequest) eRequest;
 
-		if (iFilters.length == 1) {
-			if (eFilters.length == 0) {
-				request.addClassFilter(iFilters[0]);
-			}
-		} else if (eFilters.length == 1) {
-			if (iFilters.length == 0) {
-				request.addClassExclusionFilter(eFilters[0]);
+		// let the VM filter out as many exceptions as possible, the filters
+		// are matched again when an exception is reported
+		String inclusionPattern = ClassFilterMatcher.getRequestInclusionPattern(iFilters);
+		if (inclusionPattern != null) {
+			request.addClassFilter(inclusionPattern);
+		}
+		for (String filter : eFilters) {
+			if (ClassFilterMatcher.isRequestPattern(filter)) {
+				request.addClassExclusionFilter(filter);
 			}
 		}
 
@@ -678,6 +760,7 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 
 	protected void setInclusionClassFilters(String[] filters) {
 		fInclusionClassFilters = filters;
+		fClassFilterMatcher = null;
 	}
 
 	protected String[] getExclusionClassFilters() {
@@ -694,6 +777,7 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 
 	protected void setExclusionClassFilters(String[] filters) {
 		fExclusionClassFilters = filters;
+		fClassFilterMatcher = null;
 	}
 
 	/**
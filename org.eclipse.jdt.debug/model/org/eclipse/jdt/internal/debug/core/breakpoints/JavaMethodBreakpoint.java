@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.debug.core.breakpoints;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -28,6 +29,7 @@ import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaMethodBreakpoint;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.hcr.MethodBytecodeDigests;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.core.model.LambdaUtils;
@@ -35,10 +37,13 @@ import org.eclipse.jdt.internal.debug.core.model.MethodResult;
 import org.eclipse.jdt.internal.debug.core.model.MethodResult.ResultType;
 
 import com.sun.jdi.ClassType;
+import com.sun.jdi.IncompatibleThreadStateException;
+import com.sun.jdi.InterfaceType;
 import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
 import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.event.BreakpointEvent;
@@ -111,6 +116,18 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	 */
 	protected static final String LAMBDA_INLINE_POSITION = "org.eclipse.jdt.debug.core.lambdaPosition"; //$NON-NLS-1$
 
+	/**
+	 * Property of the breakpoint requests installed at the start of a method to
+	 * request its exit for the entering threads only, holding the method.
+	 */
+	private static final String EXIT_TRIGGER = "org.eclipse.jdt.debug.core.exitTrigger"; //$NON-NLS-1$
+
+	/**
+	 * Property of the method exit requests scoped to a thread, holding their
+	 * {@link ScopedExit} key.
+	 */
+	private static final String SCOPED_EXIT = "org.eclipse.jdt.debug.core.scopedExit"; //$NON-NLS-1$
+
 	/**
 	 * Cache of method name attribute
 	 */
@@ -143,6 +160,18 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	 */
 	private final Map<IDebugTarget, Integer> fLastEventTypes = new HashMap<>(10);
 
+	/**
+	 * Method exit requests scoped to the threads executing the method of this
+	 * breakpoint, see {@link #EXIT_TRIGGER}
+	 */
+	private final Map<ScopedExit, MethodExitRequest> fScopedExitRequests = new ConcurrentHashMap<>();
+
+	/**
+	 * Key of a method exit request scoped to a thread
+	 */
+	private record ScopedExit(ThreadReference thread, Method method) {
+	}
+
 	/**
 	 * Used to match type names
 	 */
@@ -295,7 +324,9 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	 *
 	 *      Returns a <code>MethodEntryRequest</code> or
 	 *      <code>BreakpointRequest</code> if entry is <code>true</code>, a
-	 *      <code>MethodExitRequest</code> if entry is <code>false</code>.
+	 *      <code>MethodExitRequest</code> or a <code>BreakpointRequest</code>
+	 *      triggering a method exit request scoped to the entering thread if
+	 *      entry is <code>false</code>.
 	 *
 	 * @param target
 	 *            the debug target in which to create the request
@@ -314,24 +345,11 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		if (manager != null) {
 			try {
 				if (entry) {
-					if (classFilter instanceof ClassType && getMethodName() != null
-							&& getMethodSignature() != null) {
-						// use a line breakpoint if possible for better performance
-						ClassType clazz = (ClassType) classFilter;
-						if (clazz.name().equals(getTypeName())) {
-							// only use line breakpoint when there is an exact match
-							Method method = clazz.concreteMethodByName(
-									getMethodName(), getMethodSignature());
-							if (method != null && !method.isNative()) {
-								Location location = method.location();
-								if (location != null && location.codeIndex() != -1) {
-									request = manager
-											.createBreakpointRequest(location);
-								}
-							}
-						}
-					}
-					if (request == null) {
+					// use a line breakpoint if possible for better performance
+					Method method = getLocatableMethod(classFilter);
+					if (method != null) {
+						request = manager.createBreakpointRequest(method.location());
+					} else {
 						request = manager.createMethodEntryRequest();
 						if (classFilter instanceof String) {
 							((MethodEntryRequest) request)
@@ -341,17 +359,34 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 									.addClassFilter((ReferenceType) classFilter);
 						}
 					}
+					configureRequest(request, target);
 				} else {
-					request = manager.createMethodExitRequest();
-					if (classFilter instanceof String) {
-						((MethodExitRequest) request)
-								.addClassFilter((String) classFilter);
-					} else if (classFilter instanceof ReferenceType) {
-						((MethodExitRequest) request)
-								.addClassFilter((ReferenceType) classFilter);
+					// notice the entry of the method with a line breakpoint if possible,
+					// so that the exits of the other methods of the type are not reported
+					// by the VM, see #requestScopedExit(BreakpointEvent, JDIThread)
+					Method method = null;
+					if (getHitCount() == 0 && !isNativeOnly() && !isLambdaBreakpoint()) {
+						method = getLocatableMethod(classFilter);
+					}
+					if (method != null && method.declaringType().equals(classFilter) && !isLoopHead(method)) {
+						request = manager.createBreakpointRequest(method.location());
+						request.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+						request.putProperty(EXIT_TRIGGER, method);
+						configureRequestThreadFilter(request, target);
+						configureInstanceFilters(request, target);
+						updateEnabledState(request, target);
+					} else {
+						request = manager.createMethodExitRequest();
+						if (classFilter instanceof String) {
+							((MethodExitRequest) request)
+									.addClassFilter((String) classFilter);
+						} else if (classFilter instanceof ReferenceType) {
+							((MethodExitRequest) request)
+									.addClassFilter((ReferenceType) classFilter);
+						}
+						configureRequest(request, target);
 					}
 				}
-				configureRequest(request, target);
 			} catch (VMDisconnectedException e) {
 				if (!target.isAvailable()) {
 					return null;
@@ -368,6 +403,145 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		return null;
 	}
 
+	/**
+	 * Returns the method of this breakpoint if it is declared by the given
+	 * class filter and has a location at which a line breakpoint can be
+	 * installed, or <code>null</code> otherwise.
+	 */
+	private Method getLocatableMethod(Object classFilter) throws CoreException {
+		if (!(classFilter instanceof ReferenceType type) || getMethodName() == null
+				|| getMethodSignature() == null) {
+			return null;
+		}
+		if (!type.name().equals(getTypeName())) {
+			// only use a line breakpoint when there is an exact match
+			return null;
+		}
+		Method method = null;
+		if (type instanceof ClassType clazz) {
+			method = clazz.concreteMethodByName(getMethodName(), getMethodSignature());
+		} else if (type instanceof InterfaceType) {
+			for (Method candidate : type.methodsByName(getMethodName(), getMethodSignature())) {
+				if (!candidate.isAbstract() && candidate.declaringType().equals(type)) {
+					method = candidate;
+				}
+			}
+		}
+		if (method == null || method.isNative()) {
+			return null;
+		}
+		Location location = method.location();
+		if (location == null || location.codeIndex() == -1) {
+			return null;
+		}
+		return method;
+	}
+
+	/**
+	 * Returns whether the first location of the given method is the target of
+	 * a branch, e.g. when the method begins with a loop. A line breakpoint at
+	 * that location is hit on each iteration as well as on each entry, so it
+	 * cannot be used to count the entries of the method. Returns
+	 * <code>true</code> when the byte code is not available.
+	 */
+	private boolean isLoopHead(Method method) {
+		try {
+			return MethodBytecodeDigests.isBranchTarget(method.bytecodes(), (int) method.location().codeIndex());
+		} catch (UnsupportedOperationException | IllegalArgumentException | IndexOutOfBoundsException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Requests the exit of the method entered in the given event of an
+	 * {@link #EXIT_TRIGGER} request, for the entering thread only. The request
+	 * is deleted once the method is not on the stack of the thread anymore.
+	 */
+	private void requestScopedExit(BreakpointEvent event, JDIThread thread) {
+		JDIDebugTarget target = thread.getJavaDebugTarget();
+		ScopedExit key = new ScopedExit(event.thread(), (Method) event.request().getProperty(EXIT_TRIGGER));
+		if (fScopedExitRequests.containsKey(key)) {
+			return;
+		}
+		EventRequestManager manager = target.getEventRequestManager();
+		if (manager == null) {
+			return;
+		}
+		try {
+			MethodExitRequest request = manager.createMethodExitRequest();
+			request.addClassFilter(key.method().declaringType());
+			request.addThreadFilter(key.thread());
+			request.putProperty(SCOPED_EXIT, key);
+			fScopedExitRequests.put(key, request);
+			target.addJDIEventListener(this, request);
+			configureRequest(request, target);
+		} catch (CoreException e) {
+			JDIDebugPlugin.log(e);
+		} catch (VMDisconnectedException e) {
+			// the exit cannot happen anymore
+		} catch (RuntimeException e) {
+			target.internalError(e);
+		}
+	}
+
+	/**
+	 * Returns whether the given event of a method exit request scoped to a
+	 * thread is an exit of the method of this breakpoint.
+	 * <p>
+	 * The VM does not report the exits caused by exceptions, so the request is
+	 * deleted once the method is not on the stack of the suspended thread
+	 * anymore, rather than after as many exits as entries.
+	 * </p>
+	 */
+	private boolean isScopedExit(MethodExitEvent event, JDIThread thread) {
+		ScopedExit key = (ScopedExit) event.request().getProperty(SCOPED_EXIT);
+		boolean exit = key.method().equals(event.method());
+		if (fScopedExitRequests.get(key) != event.request()) {
+			// deleted meanwhile
+			return exit;
+		}
+		int invocations = 0;
+		try {
+			for (StackFrame frame : event.thread().frames()) {
+				if (key.method().equals(frame.location().method())) {
+					invocations++;
+				}
+			}
+		} catch (IncompatibleThreadStateException e) {
+			// keep the request until the next exit
+			return exit;
+		}
+		if (exit) {
+			// the exiting frame is still on the stack
+			invocations--;
+		}
+		if (invocations <= 0) {
+			deleteScopedExitRequest(key, thread.getJavaDebugTarget());
+		}
+		return exit;
+	}
+
+	/**
+	 * Deletes the method exit request scoped to a thread with the given key.
+	 */
+	private void deleteScopedExitRequest(ScopedExit key, JDIDebugTarget target) {
+		MethodExitRequest request = fScopedExitRequests.remove(key);
+		if (request == null) {
+			return;
+		}
+		target.removeJDIEventListener(this, request);
+		try {
+			EventRequestManager manager = target.getEventRequestManager();
+			if (manager != null && target.isAvailable()) {
+				manager.deleteEventRequest(request);
+			}
+		} catch (VMDisconnectedException e) {
+			// the request is gone with the VM
+		} catch (RuntimeException e) {
+			target.internalError(e);
+		}
+	}
+
 	/**
 	 * @see JavaBreakpoint#setRequestThreadFilter(EventRequest, ThreadReference)
 	 */
@@ -408,7 +582,9 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	protected void updateEnabledState(EventRequest request,
 			JDIDebugTarget target) throws CoreException {
 		boolean enabled = isEnabled();
-		if (request instanceof MethodEntryRequest
+		if (request.getProperty(EXIT_TRIGGER) != null) {
+			enabled = enabled && isExit();
+		} else if (request instanceof MethodEntryRequest
 				|| request instanceof BreakpointRequest) {
 			enabled = enabled && isEntry();
 		} else if (request instanceof MethodExitRequest) {
@@ -462,6 +638,16 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 					suspendVote);
 		} else if (event instanceof MethodExitEvent) {
 			MethodExitEvent exitEvent = (MethodExitEvent) event;
+			if (event.request().getProperty(SCOPED_EXIT) != null) {
+				try {
+					if (!isScopedExit(exitEvent, thread) || !isEnabled() || !isExit()) {
+						return true;
+					}
+				} catch (CoreException e) {
+					JDIDebugPlugin.log(e);
+					return true;
+				}
+			}
 			fLastEventTypes.put(thread.getDebugTarget(), EXIT_EVENT);
 			//inActivateTriggerPoint(event);
 			boolean result = handleMethodEvent(exitEvent, exitEvent.method(), thread,
@@ -472,6 +658,10 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			}
 			return result;
 		} else if (event instanceof BreakpointEvent) {
+			if (event.request().getProperty(EXIT_TRIGGER) != null) {
+				requestScopedExit((BreakpointEvent) event, thread);
+				return true;
+			}
 			fLastEventTypes.put(thread.getDebugTarget(), ENTRY_EVENT);
 			return super.handleBreakpointEvent(event, thread, suspendVote);
 		}
@@ -756,6 +946,32 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 		super.removeFromTarget(target);
 	}
 
+	/**
+	 * @see org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint#removeRequests(JDIDebugTarget)
+	 */
+	@Override
+	protected void removeRequests(JDIDebugTarget target) throws CoreException {
+		for (ScopedExit key : fScopedExitRequests.keySet()) {
+			if (key.thread().virtualMachine().equals(target.getVM())) {
+				deleteScopedExitRequest(key, target);
+			}
+		}
+		super.removeRequests(target);
+	}
+
+	/**
+	 * @see org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint#cleanupForThreadTermination(JDIThread)
+	 */
+	@Override
+	protected void cleanupForThreadTermination(JDIThread thread) {
+		for (ScopedExit key : fScopedExitRequests.keySet()) {
+			if (key.thread().equals(thread.getUnderlyingThread())) {
+				deleteScopedExitRequest(key, thread.getJavaDebugTarget());
+			}
+		}
+		super.cleanupForThreadTermination(thread);
+	}
+
 	/**
 	 * Returns whether this breakpoint uses type name pattern matching.
 	 *
@@ -14,8 +14,11 @@
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -130,6 +133,18 @@ public class ValidBreakpointLocationLocator extends ASTVisitor {
 	public static final int LOCATION_LAMBDA_METHOD = 4;
 	public static boolean LOCATION_METHOD_CLOSE = false;
 
+	/**
+	 * Valid locations found in compilation units, by compilation unit and then by
+	 * line number and kind of search, see {@link #locate(CompilationUnit, int, boolean, boolean)}
+	 */
+	private static final Map<CompilationUnit, Map<Integer, Location>> fgLocations = new WeakHashMap<>();
+
+	/**
+	 * Valid location found for a line of a compilation unit
+	 */
+	private record Location(int type, int line, String typeName, int memberOffset, int nodeLength, String lambdaMethodName,
+			String lambdaMethodSignature, boolean needBindings) {
+	}
 
 	private final CompilationUnit fCompilationUnit;
 	private final int fLineNumber;
@@ -221,6 +236,59 @@ public class ValidBreakpointLocationLocator extends ASTVisitor {
 		fThroughToggle = throughToggle;
 	}
 
+	/**
+	 * Returns a locator which has found the valid location for a breakpoint on the
+	 * given line of the given compilation unit.
+	 * <p>
+	 * The locations found in a compilation unit are remembered as long as the
+	 * compilation unit is referenced, so that locating a line again is a lookup.
+	 * Compilation units are shared until their source changes, e.g. by the editors
+	 * of the source, thus toggling or validating the breakpoints of a source one
+	 * after the other does not visit its compilation unit for every breakpoint. The
+	 * given compilation unit must not be modified afterwards.
+	 * </p>
+	 *
+	 * @param compilationUnit
+	 *            the JDOM CompilationUnit of the source code.
+	 * @param lineNumber
+	 *            the line number in the source code where to put the
+	 *            breakpoint.
+	 * @param bindingsResolved
+	 *            indicates whether bindings are resolved in the compilation unit.
+	 * @param bestMatch
+	 *            if <code>true</code> look for the best match, otherwise look
+	 *            only for a valid line
+	 * @return a locator which has visited the compilation unit
+	 */
+	public static ValidBreakpointLocationLocator locate(CompilationUnit compilationUnit, int lineNumber, boolean bindingsResolved, boolean bestMatch) {
+		ValidBreakpointLocationLocator locator = new ValidBreakpointLocationLocator(compilationUnit, lineNumber, bindingsResolved, bestMatch);
+		Integer key = Integer.valueOf(lineNumber << 2 | (bindingsResolved ? 2 : 0) | (bestMatch ? 1 : 0));
+		Location location;
+		synchronized (fgLocations) {
+			Map<Integer, Location> locations = fgLocations.get(compilationUnit);
+			location = locations == null ? null : locations.get(key);
+		}
+		if (location == null) {
+			compilationUnit.accept(locator);
+			location = new Location(locator.fLocationType, locator.fLineLocation, locator.fTypeName, locator.fMemberOffset, locator.fNodeLength,
+					locator.fLambdaMethodName, locator.fLambdaMethodSignature, locator.fNeedBindings);
+			synchronized (fgLocations) {
+				fgLocations.computeIfAbsent(compilationUnit, unit -> new HashMap<>()).put(key, location);
+			}
+		} else {
+			locator.fLocationType = location.type();
+			locator.fLocationFound = location.type() != LOCATION_NOT_FOUND;
+			locator.fLineLocation = location.line();
+			locator.fTypeName = location.typeName();
+			locator.fMemberOffset = location.memberOffset();
+			locator.fNodeLength = location.nodeLength();
+			locator.fLambdaMethodName = location.lambdaMethodName();
+			locator.fLambdaMethodSignature = location.lambdaMethodSignature();
+			locator.fNeedBindings = location.needBindings();
+		}
+		return locator;
+	}
+
 	/**
 	 * Returns whether binding information would be helpful in validating a
 	 * breakpoint location. If this locator makes a pass of the tree and
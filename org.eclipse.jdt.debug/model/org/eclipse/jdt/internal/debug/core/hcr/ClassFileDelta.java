@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.hcr;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+
+import com.sun.jdi.ReferenceType;
+
+/**
+ * A <code>ClassFileDelta</code> represents the method level changes between
+ * the types a debug target currently runs and the class files which are about
+ * to replace them.
+ * <p>
+ * Changes are computed by comparing method byte code digests (see
+ * {@link MethodBytecodeDigests}), so unlike {@link CompilationUnitDelta} no
+ * source or local history is required. The digests of the previous version of a
+ * type come from the digests recorded the last time the type was replaced in
+ * the target, or from the VM itself while the types have not been redefined yet.
+ * </p>
+ */
+public class ClassFileDelta {
+
+	/**
+	 * The target in which types are replaced
+	 */
+	private final JDIDebugTarget fTarget;
+
+	/**
+	 * The new class file bytes, by qualified type name
+	 */
+	private final Map<String, byte[]> fClassFiles;
+
+	/**
+	 * Method digests recorded for the target, by qualified type name
+	 */
+	private final Map<String, Map<String, byte[]>> fRecordedDigests;
+
+	/**
+	 * Method digests of the previous and new versions of the types, by
+	 * qualified type name. A <code>null</code> value means the digests are not
+	 * available.
+	 */
+	private final Map<String, Map<String, byte[]>> fPreviousDigests = new HashMap<>();
+	private final Map<String, Map<String, byte[]>> fNewDigests = new HashMap<>();
+
+	/**
+	 * Whether the types have been redefined in the target, after which the VM
+	 * can no longer provide the previous byte code.
+	 */
+	private boolean fRedefined = false;
+
+	/**
+	 * Creates a delta for the given class files.
+	 *
+	 * @param target
+	 *            the target in which the types are replaced
+	 * @param qualifiedNames
+	 *            the qualified names of the replaced types
+	 * @param classFiles
+	 *            the new class file bytes, corresponding to the qualified
+	 *            names on a one-to-one basis. Entries may be <code>null</code>.
+	 * @param recordedDigests
+	 *            the method digests recorded for the target by qualified type
+	 *            name, updated by {@link #typesRedefined()}
+	 */
+	public ClassFileDelta(JDIDebugTarget target, List<String> qualifiedNames, List<byte[]> classFiles,
+			Map<String, Map<String, byte[]>> recordedDigests) {
+		fTarget = target;
+		fClassFiles = new HashMap<>(qualifiedNames.size());
+		for (int i = 0; i < qualifiedNames.size(); i++) {
+			fClassFiles.put(qualifiedNames.get(i), classFiles.get(i));
+		}
+		fRecordedDigests = recordedDigests;
+	}
+
+	/**
+	 * Answers whether the method with the given name and signature in the
+	 * given type has changed, or <code>null</code> if this cannot be determined
+	 * from the byte code.
+	 *
+	 * @param typeName
+	 *            qualified name of the declaring type, '$' delimited for
+	 *            nested types
+	 * @param methodName
+	 *            method name
+	 * @param signature
+	 *            method signature
+	 * @return whether the method has changed or <code>null</code> if unknown
+	 */
+	public synchronized Boolean hasChanged(String typeName, String methodName, String signature) {
+		if (!fClassFiles.containsKey(typeName)) {
+			return null;
+		}
+		Map<String, byte[]> previous = getPreviousDigests(typeName);
+		Map<String, byte[]> current = getNewDigests(typeName);
+		if (previous == null || current == null) {
+			return null;
+		}
+		String key = MethodBytecodeDigests.getKey(methodName, signature);
+		return Boolean.valueOf(!Arrays.equals(previous.get(key), current.get(key)));
+	}
+
+	/**
+	 * Notification that the types have been redefined in the target. Records
+	 * the method digests of the new class files for the next replace.
+	 */
+	public synchronized void typesRedefined() {
+		for (String typeName : fClassFiles.keySet()) {
+			// the VM only knows the new byte code from now on
+			if (!fPreviousDigests.containsKey(typeName)) {
+				fPreviousDigests.put(typeName, fRecordedDigests.get(typeName));
+			}
+			Map<String, byte[]> digests = getNewDigests(typeName);
+			if (digests == null) {
+				fRecordedDigests.remove(typeName);
+			} else {
+				fRecordedDigests.put(typeName, digests);
+			}
+		}
+		fRedefined = true;
+	}
+
+	private Map<String, byte[]> getPreviousDigests(String typeName) {
+		if (fPreviousDigests.containsKey(typeName)) {
+			return fPreviousDigests.get(typeName);
+		}
+		Map<String, byte[]> digests = fRecordedDigests.get(typeName);
+		if (digests == null && !fRedefined) {
+			List<ReferenceType> types = fTarget.jdiClassesByName(typeName);
+			if (!types.isEmpty()) {
+				digests = MethodBytecodeDigests.compute(types.get(0));
+			}
+		}
+		fPreviousDigests.put(typeName, digests);
+		return digests;
+	}
+
+	private Map<String, byte[]> getNewDigests(String typeName) {
+		if (fNewDigests.containsKey(typeName)) {
+			return fNewDigests.get(typeName);
+		}
+		byte[] bytes = fClassFiles.get(typeName);
+		Map<String, byte[]> digests = bytes == null ? null : MethodBytecodeDigests.compute(bytes);
+		fNewDigests.put(typeName, digests);
+		return digests;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.hcr;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -23,6 +25,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -44,6 +47,7 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
@@ -71,6 +75,7 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.core.util.Util;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
@@ -105,6 +110,13 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 */
 	private ListenerList<IJavaHotCodeReplaceListener> fHotCodeReplaceListeners = new ListenerList<>();
 
+	/**
+	 * Lock serializing the notifications of hot code replace listeners, which
+	 * are notified from a job per target when several targets are updated at
+	 * once. Listeners are thus never notified concurrently.
+	 */
+	private final Object fNotificationLock = new Object();
+
 	/**
 	 * The lists of hot swap targets which support HCR and those which don't
 	 */
@@ -126,6 +138,20 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 */
 	private final Map<ICompilationUnit, CompilationUnitDelta> fDeltaCache = new HashMap<>();
 
+	/**
+	 * Digests of the class files last pushed to each target, by qualified type
+	 * name. Used to skip redefinition of class files which were rewritten with
+	 * identical bytes.
+	 */
+	private final Map<JDIDebugTarget, Map<String, byte[]>> fPushedDigests = new ConcurrentHashMap<>();
+
+	/**
+	 * Method byte code digests of the class files last pushed to each target,
+	 * by qualified type name. Used to determine which frames are affected by a
+	 * replace without comparing sources.
+	 */
+	private final Map<JDIDebugTarget, Map<String, Map<String, byte[]>>> fMethodDigests = new ConcurrentHashMap<>();
+
 	/**
 	 * Utility object used for tracking build times of projects. The HCR manager
 	 * receives notification of builds AFTER the build has occurred but BEFORE
@@ -278,7 +304,7 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * If the given event contains a build notification, update the last build
 	 * time of the corresponding project
 	 */
-	private void updateProjectBuildTime(List<IProject> projects) {
+	private synchronized void updateProjectBuildTime(List<IProject> projects) {
 		Date currentDate = new Date();
 		ProjectBuildTime buildTime = null;
 		for(IProject project : projects) {
@@ -296,7 +322,7 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * is known for the given project, the last known build time for the project
 	 * is set to the hot code replace manager's startup time.
 	 */
-	protected long getLastProjectBuildTime(IProject project) {
+	protected synchronized long getLastProjectBuildTime(IProject project) {
 		ProjectBuildTime time = fProjectBuildTimes
 				.get(project);
 		if (time == null) {
@@ -418,6 +444,7 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 				JDIDebugPlugin.getUniqueIdentifier(),
 				DebugException.TARGET_REQUEST_FAILED,
 				"At least one target failed to drop to frame after successful hot code replace.", null); //$NON-NLS-1$
+		List<JDIDebugTarget> replaceTargets = new ArrayList<>(targets.size());
 		Iterator<JDIDebugTarget> iter = targets.iterator();
 		while (iter.hasNext()) {
 			JDIDebugTarget target = iter.next();
@@ -428,87 +455,253 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 			if (!isHCREnabled(target)) {
 				continue;
 			}
-			// Make a local copy of the resources/names to swap so we can filter
-			// unloaded types on a per-target basis.
-			List<IResource> resourcesToReplace = new ArrayList<>(resources);
-			List<String> qualifiedNamesToReplace = new ArrayList<>(qualifiedNames);
-
-			// Make sure we only try to replace types from related projects
-			target.filterUnrelatedResources(resourcesToReplace, qualifiedNamesToReplace);
-			if (qualifiedNamesToReplace.isEmpty()) {
-				// If none of the changed types are related to our target, do nothing.
-				continue;
+			replaceTargets.add(target);
+		}
+		// Read each changed class file once, the bytes are shared by all targets
+		Map<IResource, byte[]> classFileBytes = replaceTargets.isEmpty() ? Collections.emptyMap() : readClassFiles(resources);
+		if (replaceTargets.size() == 1) {
+			doHotCodeReplace(replaceTargets.get(0), resources, qualifiedNames, classFileBytes, ms);
+		} else if (!replaceTargets.isEmpty()) {
+			// Targets are independent of each other, so redefine in all of them
+			// concurrently rather than stalling every target on the slowest one
+			List<Job> jobs = new ArrayList<>(replaceTargets.size());
+			for (JDIDebugTarget target : replaceTargets) {
+				Job job = Job.create("Hot Code Replace", monitor -> { //$NON-NLS-1$
+					doHotCodeReplace(target, resources, qualifiedNames, classFileBytes, ms);
+				});
+				job.setSystem(true);
+				jobs.add(job);
+				job.schedule();
 			}
-
-			target.filterNotLoadedTypes(resourcesToReplace, qualifiedNamesToReplace);
-			if (qualifiedNamesToReplace.isEmpty()) {
-				// If none of the changed types are loaded, do nothing.
-				continue;
+			for (Job job : jobs) {
+				try {
+					job.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
 			}
+		}
+		if (!ms.isOK()) {
+			JDIDebugPlugin.log(ms);
+		}
+		synchronized (fDeltaCache) {
+			fDeltaCache.clear();
+		}
+	}
 
-			List<IThread> poppedThreads = new ArrayList<>();
-			target.setIsPerformingHotCodeReplace(true);
-			try {
-				boolean framesPopped = false;
-				if (target.canPopFrames()) {
-					// JDK 1.4 drop to frame support:
-					// JDK 1.4 spec is faulty around methods that have
-					// been rendered obsolete after class redefinition.
-					// Thus, pop the frames that contain affected methods
-					// *before* the class redefinition to avoid problems.
-					try {
-						attemptPopFrames(target, resourcesToReplace,
-								qualifiedNamesToReplace, poppedThreads);
-						framesPopped = true; // No exception occurred
-					} catch (DebugException de) {
-						if (shouldLogHCRException(de)) {
+	/**
+	 * Performs a hot code replace with the given resources in a single target.
+	 *
+	 * @param target
+	 *            the target in which to perform HCR
+	 * @param resources
+	 *            the resources which correspond to the changed classes
+	 * @param qualifiedNames
+	 *            the qualified names of the changed classes
+	 * @param classFileBytes
+	 *            the contents of the changed class files, shared by all targets
+	 * @param ms
+	 *            status collecting drop to frame failures
+	 */
+	private void doHotCodeReplace(JDIDebugTarget target, List<IResource> resources, List<String> qualifiedNames,
+			Map<IResource, byte[]> classFileBytes, MultiStatus ms) {
+		long start = System.currentTimeMillis();
+		// Make a local copy of the resources/names to swap so we can filter
+		// unloaded types on a per-target basis.
+		List<IResource> resourcesToReplace = new ArrayList<>(resources);
+		List<String> qualifiedNamesToReplace = new ArrayList<>(qualifiedNames);
+
+		// Make sure we only try to replace types from related projects
+		target.filterUnrelatedResources(resourcesToReplace, qualifiedNamesToReplace);
+		if (qualifiedNamesToReplace.isEmpty()) {
+			// If none of the changed types are related to our target, do nothing.
+			return;
+		}
+
+		target.filterNotLoadedTypes(resourcesToReplace, qualifiedNamesToReplace);
+		if (qualifiedNamesToReplace.isEmpty()) {
+			// If none of the changed types are loaded, do nothing.
+			return;
+		}
+
+		Map<String, byte[]> digests = computeDigests(resourcesToReplace, qualifiedNamesToReplace, classFileBytes);
+		filterUnchangedTypes(target, resourcesToReplace, qualifiedNamesToReplace, digests);
+		if (qualifiedNamesToReplace.isEmpty()) {
+			// If the class files were rewritten with the bytes the target
+			// already runs, do nothing.
+			return;
+		}
+
+		List<byte[]> bytesToReplace = new ArrayList<>(resourcesToReplace.size());
+		for (IResource resource : resourcesToReplace) {
+			bytesToReplace.add(classFileBytes.get(resource));
+		}
+		ClassFileDelta delta = new ClassFileDelta(target, qualifiedNamesToReplace, bytesToReplace,
+				fMethodDigests.computeIfAbsent(target, t -> new ConcurrentHashMap<>()));
+
+		List<IThread> poppedThreads = new ArrayList<>();
+		target.setIsPerformingHotCodeReplace(true);
+		long redefineTime = 0;
+		try {
+			boolean framesPopped = false;
+			if (target.canPopFrames()) {
+				// JDK 1.4 drop to frame support:
+				// JDK 1.4 spec is faulty around methods that have
+				// been rendered obsolete after class redefinition.
+				// Thus, pop the frames that contain affected methods
+				// *before* the class redefinition to avoid problems.
+				try {
+					attemptPopFrames(target, resourcesToReplace,
+							qualifiedNamesToReplace, delta, poppedThreads);
+					framesPopped = true; // No exception occurred
+				} catch (DebugException de) {
+					if (shouldLogHCRException(de)) {
+						synchronized (ms) {
 							ms.merge(de.getStatus());
 						}
 					}
 				}
-				target.removeOutOfSynchTypes(qualifiedNamesToReplace);
-				if (target.supportsJDKHotCodeReplace()) {
-					redefineTypesJDK(target, resourcesToReplace,
-							qualifiedNamesToReplace);
-				} else if (target.supportsJ9HotCodeReplace()) {
-					redefineTypesJ9(target, qualifiedNamesToReplace);
-				}
-				if (containsObsoleteMethods(target)) {
-					fireObsoleteMethods(target);
+			}
+			target.removeOutOfSynchTypes(qualifiedNamesToReplace);
+			long redefineStart = System.currentTimeMillis();
+			if (target.supportsJDKHotCodeReplace()) {
+				redefineTypesJDK(target, resourcesToReplace,
+						qualifiedNamesToReplace, classFileBytes);
+			} else if (target.supportsJ9HotCodeReplace()) {
+				redefineTypesJ9(target, qualifiedNamesToReplace);
+			}
+			redefineTime = System.currentTimeMillis() - redefineStart;
+			recordPushedTypes(target, qualifiedNamesToReplace, digests);
+			delta.typesRedefined();
+			if (containsObsoleteMethods(target)) {
+				fireObsoleteMethods(target);
+			}
+			try {
+				if (target.canPopFrames() && framesPopped) {
+					// Second half of JDK 1.4 drop to frame support:
+					// All affected frames have been popped and the classes
+					// have been reloaded. Step into the first changed
+					// frame of each affected thread.
+					// must re-set 'is doing HCR' to be able to step
+					target.setIsPerformingHotCodeReplace(false);
+					attemptStepIn(poppedThreads);
+				} else {
+					// J9 drop to frame support:
+					// After redefining classes, drop to frame
+					attemptDropToFrame(target, resourcesToReplace,
+							qualifiedNamesToReplace, delta);
 				}
-				try {
-					if (target.canPopFrames() && framesPopped) {
-						// Second half of JDK 1.4 drop to frame support:
-						// All affected frames have been popped and the classes
-						// have been reloaded. Step into the first changed
-						// frame of each affected thread.
-						// must re-set 'is doing HCR' to be able to step
-						target.setIsPerformingHotCodeReplace(false);
-						attemptStepIn(poppedThreads);
-					} else {
-						// J9 drop to frame support:
-						// After redefining classes, drop to frame
-						attemptDropToFrame(target, resourcesToReplace,
-								qualifiedNamesToReplace);
-					}
-				} catch (DebugException de) {
-					if (shouldLogHCRException(de)) {
+			} catch (DebugException de) {
+				if (shouldLogHCRException(de)) {
+					synchronized (ms) {
 						ms.merge(de.getStatus());
 					}
 				}
-				fireHCRSucceeded(target);
-			} catch (DebugException de) {
-				// target update failed
-				fireHCRFailed(target, de);
 			}
-			// also re-set 'is doing HCR' here in case HCR failed
-			target.setIsPerformingHotCodeReplace(false);
-			target.fireChangeEvent(DebugEvent.CONTENT);
+			long totalTime = System.currentTimeMillis() - start;
+			if (JDIDebugOptions.DEBUG_HCR) {
+				JDIDebugOptions.trace(JDIDebugOptions.DEBUG_HCR_FLAG, "Replaced " + qualifiedNamesToReplace.size() + " type(s) in " + target.getName() //$NON-NLS-1$ //$NON-NLS-2$
+						+ ": redefine " + redefineTime + "ms, total " + totalTime + "ms", null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			fireHCRSucceeded(target, redefineTime, totalTime);
+		} catch (DebugException de) {
+			// target update failed
+			fireHCRFailed(target, de);
 		}
-		if (!ms.isOK()) {
-			JDIDebugPlugin.log(ms);
+		// also re-set 'is doing HCR' here in case HCR failed
+		target.setIsPerformingHotCodeReplace(false);
+		target.fireChangeEvent(DebugEvent.CONTENT);
+	}
+
+	/**
+	 * Returns the contents of the given class files. Class files which cannot be
+	 * read are not contained in the returned map.
+	 *
+	 * @param resources
+	 *            the changed class files
+	 * @return a mapping of class file to the bytes which make up that class file
+	 */
+	private Map<IResource, byte[]> readClassFiles(List<IResource> resources) {
+		Map<IResource, byte[]> bytes = new HashMap<>(resources.size());
+		for (IResource resource : resources) {
+			try {
+				bytes.put(resource, Util.getResourceContentsAsByteArray((IFile) resource));
+			} catch (JavaModelException jme) {
+				// skipped, same as when the type could not be found
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * Returns a mapping of qualified type name to the digest of the class file
+	 * bytes which would be pushed to a target for that type.
+	 */
+	private Map<String, byte[]> computeDigests(List<IResource> resources, List<String> qualifiedNames,
+			Map<IResource, byte[]> classFileBytes) {
+		Map<String, byte[]> digests = new HashMap<>(resources.size());
+		MessageDigest md;
+		try {
+			md = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return digests;
+		}
+		for (int i = 0; i < resources.size(); i++) {
+			byte[] bytes = classFileBytes.get(resources.get(i));
+			if (bytes != null) {
+				digests.put(qualifiedNames.get(i), md.digest(bytes));
+			}
+		}
+		return digests;
+	}
+
+	/**
+	 * Removes the types from the given collections whose class file bytes are
+	 * identical to the bytes last pushed to the given target.
+	 *
+	 * @param target
+	 *            the target to replace types in
+	 * @param resources
+	 *            the list of resources to filter
+	 * @param qualifiedNames
+	 *            the list of qualified names to filter, which corresponds to
+	 *            the list of resources on a one-to-one-basis
+	 * @param digests
+	 *            the digests of the class files to push
+	 */
+	private void filterUnchangedTypes(JDIDebugTarget target, List<IResource> resources, List<String> qualifiedNames,
+			Map<String, byte[]> digests) {
+		Map<String, byte[]> pushed = fPushedDigests.get(target);
+		if (pushed == null) {
+			return;
+		}
+		Iterator<IResource> resourceIter = resources.iterator();
+		Iterator<String> nameIter = qualifiedNames.iterator();
+		while (resourceIter.hasNext()) {
+			resourceIter.next();
+			String name = nameIter.next();
+			byte[] digest = digests.get(name);
+			if (digest != null && Arrays.equals(digest, pushed.get(name))) {
+				resourceIter.remove();
+				nameIter.remove();
+			}
+		}
+	}
+
+	/**
+	 * Remembers the digests of the class files which have been redefined in
+	 * the given target, so that unchanged class files are not pushed to the
+	 * target again.
+	 */
+	private void recordPushedTypes(JDIDebugTarget target, List<String> qualifiedNames, Map<String, byte[]> digests) {
+		Map<String, byte[]> pushed = fPushedDigests.computeIfAbsent(target, t -> new ConcurrentHashMap<>());
+		for (String name : qualifiedNames) {
+			byte[] digest = digests.get(name);
+			if (digest != null) {
+				pushed.put(name, digest);
+			}
 		}
-		fDeltaCache.clear();
 	}
 
 	private boolean isHCREnabled(JDIDebugTarget target) {
@@ -596,11 +789,11 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * This method is to be used for JDK hot code replace.
 	 */
 	private void redefineTypesJDK(JDIDebugTarget target, List<IResource> resources,
-			List<String> qualifiedNames) throws DebugException {
+			List<String> qualifiedNames, Map<IResource, byte[]> classFileBytes) throws DebugException {
 		if (target.supportsJDKHotCodeReplace()) {
 			target.setHCROccurred(true);
 			Map<ReferenceType, byte[]> typesToBytes = getTypesToBytes(target, resources,
-					qualifiedNames);
+					qualifiedNames, classFileBytes);
 			try {
 				VirtualMachine vm = target.getVM();
 				if (vm == null) {
@@ -694,11 +887,13 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 *            the fully qualified type names corresponding to the
 	 *            classfiles. The typeNames correspond to the resources on a
 	 *            one-to-one basis.
+	 * @param classFileBytes
+	 *            the contents of the class files
 	 * @return a mapping of class files to bytes key: class file value: the
 	 *         bytes which make up that classfile
 	 */
 	private Map<ReferenceType, byte[]> getTypesToBytes(JDIDebugTarget target, List<IResource> resources,
-			List<String> qualifiedNames) {
+			List<String> qualifiedNames, Map<IResource, byte[]> classFileBytes) {
 		Map<ReferenceType, byte[]> typesToBytes = new HashMap<>(resources.size());
 		Iterator<IResource> resourceIter = resources.iterator();
 		Iterator<String> nameIter = qualifiedNames.iterator();
@@ -707,13 +902,11 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		while (resourceIter.hasNext()) {
 			resource = resourceIter.next();
 			name = nameIter.next();
-			List<ReferenceType> classes = target.jdiClassesByName(name);
-			byte[] bytes = null;
-			try {
-				bytes = Util.getResourceContentsAsByteArray((IFile) resource);
-			} catch (JavaModelException jme) {
+			byte[] bytes = classFileBytes.get(resource);
+			if (bytes == null) {
 				continue;
 			}
+			List<ReferenceType> classes = target.jdiClassesByName(name);
 			for(ReferenceType type : classes) {
 				typesToBytes.put(type, bytes);
 			}
@@ -744,10 +937,12 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	/**
 	 * Notifies listeners that a hot code replace attempt succeeded
 	 */
-	private void fireHCRSucceeded(IJavaDebugTarget target) {
+	private void fireHCRSucceeded(IJavaDebugTarget target, long redefineTime, long totalTime) {
 		ListenerList<IJavaHotCodeReplaceListener> listeners = getHotCodeReplaceListeners(target);
-		for (IJavaHotCodeReplaceListener listener : listeners) {
-			listener.hotCodeReplaceSucceeded(target);
+		synchronized (fNotificationLock) {
+			for (IJavaHotCodeReplaceListener listener : listeners) {
+				listener.hotCodeReplaceSucceeded(target, redefineTime, totalTime);
+			}
 		}
 	}
 
@@ -757,8 +952,10 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 */
 	private void fireHCRFailed(JDIDebugTarget target, DebugException exception) {
 		ListenerList<IJavaHotCodeReplaceListener> listeners = getHotCodeReplaceListeners(target);
-		for (IJavaHotCodeReplaceListener listener : listeners) {
-			listener.hotCodeReplaceFailed(target, exception);
+		synchronized (fNotificationLock) {
+			for (IJavaHotCodeReplaceListener listener : listeners) {
+				listener.hotCodeReplaceFailed(target, exception);
+			}
 		}
 	}
 
@@ -767,8 +964,10 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 */
 	private void fireObsoleteMethods(JDIDebugTarget target) {
 		ListenerList<IJavaHotCodeReplaceListener> listeners = getHotCodeReplaceListeners(target);
-		for (IJavaHotCodeReplaceListener listener : listeners) {
-			listener.obsoleteMethods(target);
+		synchronized (fNotificationLock) {
+			for (IJavaHotCodeReplaceListener listener : listeners) {
+				listener.obsoleteMethods(target);
+			}
 		}
 	}
 
@@ -780,11 +979,13 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 *            the debug target in which frames are to be dropped
 	 * @param replacedClassNames
 	 *            the classes that have been redefined
+	 * @param classFileDelta
+	 *            method level changes of the redefined classes
 	 */
 	protected void attemptDropToFrame(JDIDebugTarget target, List<IResource> resources,
-			List<String> replacedClassNames) throws DebugException {
+			List<String> replacedClassNames, ClassFileDelta classFileDelta) throws DebugException {
 		List<JDIStackFrame> dropFrames = getAffectedFrames(target.getThreads(), resources,
-				replacedClassNames);
+				replacedClassNames, classFileDelta);
 
 		// All threads that want to drop to frame are able. Proceed with the
 		// drop
@@ -811,14 +1012,16 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 *            the debug target in which frames are to be dropped
 	 * @param replacedClassNames
 	 *            the classes that have been redefined
+	 * @param classFileDelta
+	 *            method level changes of the redefined classes
 	 * @param poppedThreads
 	 *            a list of the threads in which frames were popped.This
 	 *            parameter may have entries added by this method
 	 */
 	protected void attemptPopFrames(JDIDebugTarget target, List<IResource> resources,
-			List<String> replacedClassNames, List<IThread> poppedThreads) throws DebugException {
+			List<String> replacedClassNames, ClassFileDelta classFileDelta, List<IThread> poppedThreads) throws DebugException {
 		List<JDIStackFrame> popFrames = getAffectedFrames(target.getThreads(), resources,
-				replacedClassNames);
+				replacedClassNames, classFileDelta);
 
 		// All threads that want to drop to frame are able. Proceed with the
 		// drop
@@ -861,7 +1064,7 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * Returns a list of frames which should be popped in the given threads.
 	 */
 	protected List<JDIStackFrame> getAffectedFrames(IThread[] threads, List<IResource> resourceList,
-			List<String> replacedClassNames) throws DebugException {
+			List<String> replacedClassNames, ClassFileDelta classFileDelta) throws DebugException {
 		JDIThread thread = null;
 		JDIStackFrame affectedFrame = null;
 		List<JDIStackFrame> popFrames = new ArrayList<>();
@@ -871,7 +1074,7 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		for (int i = 0; i < numThreads; i++) {
 			thread = (JDIThread) threads[i];
 			if (thread.isSuspended()) {
-				affectedFrame = getAffectedFrame(thread, replacedClassNames);
+				affectedFrame = getAffectedFrame(thread, replacedClassNames, classFileDelta);
 				if (affectedFrame == null) {
 					// No frame to drop to in this thread
 					continue;
@@ -905,9 +1108,11 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * threads contain stack frames that reside in one of the given replaced
 	 * class names. If possible, only stack frames whose methods were directly
 	 * affected (and not simply all frames in affected types) will be returned.
+	 * Affected methods are determined from the byte code of the replaced
+	 * classes, falling back to comparing the source with the local history.
 	 */
 	protected JDIStackFrame getAffectedFrame(JDIThread thread,
-			List<String> replacedClassNames) throws DebugException {
+			List<String> replacedClassNames, ClassFileDelta classFileDelta) throws DebugException {
 		List<IJavaStackFrame> frames = thread.computeStackFrames();
 		JDIStackFrame affectedFrame = null;
 		JDIStackFrame frame = null;
@@ -918,24 +1123,33 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 			frame = (JDIStackFrame) frames.get(j);
 			if (containsChangedType(frame, replacedClassNames)) {
 				// smart drop to frame support
-				compilationUnit = getCompilationUnit(frame);
-				// if we can't find the source, then do type-based drop
-				if (compilationUnit != null) {
-					try {
-						project = compilationUnit.getCorrespondingResource()
-								.getProject();
-						delta = getDelta(compilationUnit,
-								getLastProjectBuildTime(project));
-
-						String typeName = frame.getDeclaringTypeName();
-						typeName = typeName.replace('$', '.');
-
-						if (!delta.hasChanged(typeName, frame.getName(),
-								frame.getSignature())) {
-							continue;
+				Boolean methodChanged = classFileDelta.hasChanged(frame.getDeclaringTypeName(),
+						frame.getName(), frame.getSignature());
+				if (methodChanged != null) {
+					if (!methodChanged.booleanValue()) {
+						continue;
+					}
+				} else {
+					// the byte code cannot tell, compare with the local history
+					compilationUnit = getCompilationUnit(frame);
+					// if we can't find the source, then do type-based drop
+					if (compilationUnit != null) {
+						try {
+							project = compilationUnit.getCorrespondingResource()
+									.getProject();
+							delta = getDelta(compilationUnit,
+									getLastProjectBuildTime(project));
+
+							String typeName = frame.getDeclaringTypeName();
+							typeName = typeName.replace('$', '.');
+
+							if (!delta.hasChanged(typeName, frame.getName(),
+									frame.getSignature())) {
+								continue;
+							}
+						} catch (CoreException exception) {
+							// If smart drop to frame fails, just do type-based drop
 						}
-					} catch (CoreException exception) {
-						// If smart drop to frame fails, just do type-based drop
 					}
 				}
 
@@ -972,12 +1186,14 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 */
 	private CompilationUnitDelta getDelta(ICompilationUnit cu, long time)
 			throws CoreException {
-		CompilationUnitDelta delta = fDeltaCache.get(cu);
-		if (delta == null) {
-			delta = new CompilationUnitDelta(cu, time);
-			fDeltaCache.put(cu, delta);
+		synchronized (fDeltaCache) {
+			CompilationUnitDelta delta = fDeltaCache.get(cu);
+			if (delta == null) {
+				delta = new CompilationUnitDelta(cu, time);
+				fDeltaCache.put(cu, delta);
+			}
+			return delta;
 		}
-		return delta;
 	}
 
 	/**
@@ -1400,6 +1616,8 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		if (!fHotSwapTargets.remove(target)) {
 			fNoHotSwapTargets.remove(target);
 		}
+		fPushedDigests.remove(target);
+		fMethodDigests.remove(target);
 		ILaunch[] launches = DebugPlugin.getDefault().getLaunchManager()
 				.getLaunches();
 		// If there are no more active JDIDebugTargets, stop
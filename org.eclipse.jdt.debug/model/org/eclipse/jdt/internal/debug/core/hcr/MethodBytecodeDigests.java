@@ -0,0 +1,471 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.hcr;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.VirtualMachine;
+
+/**
+ * Computes a digest of the byte code of each method declared by a type, either
+ * from a class file or from the type loaded in a VM.
+ * <p>
+ * Constant pool references in the byte code are replaced by the constants they
+ * refer to, so the digest of a method does not change when other methods of the
+ * type add or remove constants. Line number tables and other attributes are not
+ * part of the digest, the digests of a method only differ if its instructions
+ * differ.
+ * </p>
+ */
+public class MethodBytecodeDigests {
+
+	private static final int CONSTANT_Utf8 = 1;
+	private static final int CONSTANT_Integer = 3;
+	private static final int CONSTANT_Float = 4;
+	private static final int CONSTANT_Long = 5;
+	private static final int CONSTANT_Double = 6;
+	private static final int CONSTANT_Class = 7;
+	private static final int CONSTANT_String = 8;
+	private static final int CONSTANT_Fieldref = 9;
+	private static final int CONSTANT_Methodref = 10;
+	private static final int CONSTANT_InterfaceMethodref = 11;
+	private static final int CONSTANT_NameAndType = 12;
+	private static final int CONSTANT_MethodHandle = 15;
+	private static final int CONSTANT_MethodType = 16;
+	private static final int CONSTANT_Dynamic = 17;
+	private static final int CONSTANT_InvokeDynamic = 18;
+	private static final int CONSTANT_Module = 19;
+	private static final int CONSTANT_Package = 20;
+
+	private static final int TABLESWITCH = 170;
+	private static final int LOOKUPSWITCH = 171;
+	private static final int WIDE = 196;
+	private static final int IINC = 132;
+	private static final int LDC = 18;
+	private static final int IFEQ = 153;
+	private static final int JSR = 168;
+	private static final int IFNULL = 198;
+	private static final int IFNONNULL = 199;
+	private static final int GOTO_W = 200;
+	private static final int JSR_W = 201;
+
+	/**
+	 * Length of each instruction including its opcode, <code>0</code> for the
+	 * variable length switch instructions and <code>-1</code> for unknown
+	 * opcodes.
+	 */
+	private static final int[] INSTRUCTION_LENGTHS = new int[256];
+
+	/**
+	 * Whether the (first) operand of an instruction is a two byte constant
+	 * pool index. <code>ldc</code> is handled separately.
+	 */
+	private static final boolean[] CONSTANT_POOL_OPERAND = new boolean[256];
+
+	static {
+		Arrays.fill(INSTRUCTION_LENGTHS, -1);
+		Arrays.fill(INSTRUCTION_LENGTHS, 0, 16, 1); // nop .. dconst_1
+		INSTRUCTION_LENGTHS[16] = 2; // bipush
+		INSTRUCTION_LENGTHS[17] = 3; // sipush
+		INSTRUCTION_LENGTHS[LDC] = 2;
+		INSTRUCTION_LENGTHS[19] = 3; // ldc_w
+		INSTRUCTION_LENGTHS[20] = 3; // ldc2_w
+		Arrays.fill(INSTRUCTION_LENGTHS, 21, 26, 2); // iload .. aload
+		Arrays.fill(INSTRUCTION_LENGTHS, 26, 54, 1); // iload_0 .. saload
+		Arrays.fill(INSTRUCTION_LENGTHS, 54, 59, 2); // istore .. astore
+		Arrays.fill(INSTRUCTION_LENGTHS, 59, 132, 1); // istore_0 .. lxor
+		INSTRUCTION_LENGTHS[IINC] = 3;
+		Arrays.fill(INSTRUCTION_LENGTHS, 133, 153, 1); // i2l .. dcmpg
+		Arrays.fill(INSTRUCTION_LENGTHS, 153, 169, 3); // ifeq .. jsr
+		INSTRUCTION_LENGTHS[169] = 2; // ret
+		INSTRUCTION_LENGTHS[TABLESWITCH] = 0;
+		INSTRUCTION_LENGTHS[LOOKUPSWITCH] = 0;
+		Arrays.fill(INSTRUCTION_LENGTHS, 172, 178, 1); // ireturn .. return
+		Arrays.fill(INSTRUCTION_LENGTHS, 178, 185, 3); // getstatic .. invokestatic
+		INSTRUCTION_LENGTHS[185] = 5; // invokeinterface
+		INSTRUCTION_LENGTHS[186] = 5; // invokedynamic
+		INSTRUCTION_LENGTHS[187] = 3; // new
+		INSTRUCTION_LENGTHS[188] = 2; // newarray
+		INSTRUCTION_LENGTHS[189] = 3; // anewarray
+		INSTRUCTION_LENGTHS[190] = 1; // arraylength
+		INSTRUCTION_LENGTHS[191] = 1; // athrow
+		INSTRUCTION_LENGTHS[192] = 3; // checkcast
+		INSTRUCTION_LENGTHS[193] = 3; // instanceof
+		INSTRUCTION_LENGTHS[194] = 1; // monitorenter
+		INSTRUCTION_LENGTHS[195] = 1; // monitorexit
+		INSTRUCTION_LENGTHS[WIDE] = 0;
+		INSTRUCTION_LENGTHS[197] = 4; // multianewarray
+		INSTRUCTION_LENGTHS[198] = 3; // ifnull
+		INSTRUCTION_LENGTHS[199] = 3; // ifnonnull
+		INSTRUCTION_LENGTHS[200] = 5; // goto_w
+		INSTRUCTION_LENGTHS[201] = 5; // jsr_w
+
+		CONSTANT_POOL_OPERAND[19] = true; // ldc_w
+		CONSTANT_POOL_OPERAND[20] = true; // ldc2_w
+		Arrays.fill(CONSTANT_POOL_OPERAND, 178, 188, true); // getstatic .. new
+		CONSTANT_POOL_OPERAND[189] = true; // anewarray
+		CONSTANT_POOL_OPERAND[192] = true; // checkcast
+		CONSTANT_POOL_OPERAND[193] = true; // instanceof
+		CONSTANT_POOL_OPERAND[197] = true; // multianewarray
+	}
+
+	/**
+	 * A parsed constant pool, in class file format.
+	 */
+	static class ConstantPool {
+
+		private final byte[] fBytes;
+		private final int[] fOffsets;
+		private final int fEnd;
+
+		/**
+		 * Parses a constant pool with the given number of entries (the
+		 * <code>constant_pool_count</code> item) starting at the given offset.
+		 */
+		ConstantPool(byte[] bytes, int offset, int count) {
+			fBytes = bytes;
+			fOffsets = new int[count];
+			int pos = offset;
+			for (int i = 1; i < count; i++) {
+				fOffsets[i] = pos;
+				int tag = bytes[pos] & 0xFF;
+				switch (tag) {
+					case CONSTANT_Utf8:
+						pos += 3 + u2(bytes, pos + 1);
+						break;
+					case CONSTANT_Integer:
+					case CONSTANT_Float:
+					case CONSTANT_Fieldref:
+					case CONSTANT_Methodref:
+					case CONSTANT_InterfaceMethodref:
+					case CONSTANT_NameAndType:
+					case CONSTANT_Dynamic:
+					case CONSTANT_InvokeDynamic:
+						pos += 5;
+						break;
+					case CONSTANT_Long:
+					case CONSTANT_Double:
+						pos += 9;
+						i++; // takes two entries
+						break;
+					case CONSTANT_Class:
+					case CONSTANT_String:
+					case CONSTANT_MethodType:
+					case CONSTANT_Module:
+					case CONSTANT_Package:
+						pos += 3;
+						break;
+					case CONSTANT_MethodHandle:
+						pos += 4;
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown constant pool tag " + tag); //$NON-NLS-1$
+				}
+			}
+			fEnd = pos;
+		}
+
+		/**
+		 * Returns the offset of the first byte following the constant pool.
+		 */
+		int getEnd() {
+			return fEnd;
+		}
+
+		/**
+		 * Returns the contents of the given UTF8 entry.
+		 */
+		String getUtf8(int index) {
+			int pos = fOffsets[index];
+			int length = u2(fBytes, pos + 1);
+			// the names we look up are plain identifiers and descriptors
+			return new String(fBytes, pos + 3, length, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Feeds the constant with the given index to the digest, following
+		 * references to other constants.
+		 */
+		void update(MessageDigest digest, int index) {
+			if (index <= 0 || index >= fOffsets.length) {
+				digest.update((byte) 0);
+				return;
+			}
+			int pos = fOffsets[index];
+			int tag = fBytes[pos] & 0xFF;
+			digest.update((byte) tag);
+			switch (tag) {
+				case CONSTANT_Utf8:
+					digest.update(fBytes, pos + 3, u2(fBytes, pos + 1));
+					break;
+				case CONSTANT_Integer:
+				case CONSTANT_Float:
+					digest.update(fBytes, pos + 1, 4);
+					break;
+				case CONSTANT_Long:
+				case CONSTANT_Double:
+					digest.update(fBytes, pos + 1, 8);
+					break;
+				case CONSTANT_Class:
+				case CONSTANT_String:
+				case CONSTANT_MethodType:
+				case CONSTANT_Module:
+				case CONSTANT_Package:
+					update(digest, u2(fBytes, pos + 1));
+					break;
+				case CONSTANT_Fieldref:
+				case CONSTANT_Methodref:
+				case CONSTANT_InterfaceMethodref:
+				case CONSTANT_NameAndType:
+					update(digest, u2(fBytes, pos + 1));
+					update(digest, u2(fBytes, pos + 3));
+					break;
+				case CONSTANT_MethodHandle:
+					digest.update(fBytes[pos + 1]);
+					update(digest, u2(fBytes, pos + 2));
+					break;
+				case CONSTANT_Dynamic:
+				case CONSTANT_InvokeDynamic:
+					// the bootstrap method attribute index is kept as is
+					digest.update(fBytes, pos + 1, 2);
+					update(digest, u2(fBytes, pos + 3));
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Returns the digests of the methods declared in the given class file, keyed
+	 * by {@link #getKey(String, String)}. Returns <code>null</code> if the class
+	 * file cannot be read.
+	 *
+	 * @param classFile
+	 *            the bytes of a class file
+	 * @return method digests or <code>null</code>
+	 */
+	public static Map<String, byte[]> compute(byte[] classFile) {
+		MessageDigest digest = newDigest();
+		if (digest == null) {
+			return null;
+		}
+		try {
+			ConstantPool pool = new ConstantPool(classFile, 10, u2(classFile, 8));
+			int pos = pool.getEnd() + 6; // access flags, this class, super class
+			pos += 2 + 2 * u2(classFile, pos); // interfaces
+			int fieldCount = u2(classFile, pos);
+			pos += 2;
+			for (int i = 0; i < fieldCount; i++) {
+				pos = skipAttributes(classFile, pos + 6);
+			}
+			int methodCount = u2(classFile, pos);
+			pos += 2;
+			Map<String, byte[]> digests = new HashMap<>(methodCount);
+			for (int i = 0; i < methodCount; i++) {
+				String name = pool.getUtf8(u2(classFile, pos + 2));
+				String descriptor = pool.getUtf8(u2(classFile, pos + 4));
+				int attributeCount = u2(classFile, pos + 6);
+				pos += 8;
+				for (int j = 0; j < attributeCount; j++) {
+					int length = u4(classFile, pos + 2);
+					if ("Code".equals(pool.getUtf8(u2(classFile, pos)))) { //$NON-NLS-1$
+						// max_stack (2), max_locals (2), code_length (4), code
+						int codeLength = u4(classFile, pos + 10);
+						update(digest, pool, classFile, pos + 14, codeLength);
+						digests.put(getKey(name, descriptor), digest.digest());
+					}
+					pos += 6 + length;
+				}
+			}
+			return digests;
+		} catch (RuntimeException e) {
+			// malformed or unsupported class file
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the digests of the methods declared by the given type as it is
+	 * currently loaded in its VM, keyed by {@link #getKey(String, String)}.
+	 * Returns <code>null</code> if the VM cannot provide the byte code or
+	 * constant pool of the type.
+	 *
+	 * @param type
+	 *            a loaded type
+	 * @return method digests or <code>null</code>
+	 */
+	public static Map<String, byte[]> compute(ReferenceType type) {
+		VirtualMachine vm = type.virtualMachine();
+		if (!vm.canGetBytecodes() || !vm.canGetConstantPool()) {
+			return null;
+		}
+		MessageDigest digest = newDigest();
+		if (digest == null) {
+			return null;
+		}
+		try {
+			ConstantPool pool = new ConstantPool(type.constantPool(), 0, type.constantPoolCount());
+			List<Method> methods = type.methods();
+			Map<String, byte[]> digests = new HashMap<>(methods.size());
+			for (Method method : methods) {
+				if (method.isAbstract() || method.isNative()) {
+					continue;
+				}
+				byte[] code = method.bytecodes();
+				update(digest, pool, code, 0, code.length);
+				digests.put(getKey(method.name(), method.signature()), digest.digest());
+			}
+			return digests;
+		} catch (RuntimeException e) {
+			// the VM cannot provide the information or the type went away
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the key of a method with the given name and signature.
+	 */
+	public static String getKey(String name, String signature) {
+		return name + signature;
+	}
+
+	/**
+	 * Returns whether an instruction of the given byte code branches to the
+	 * given code index, e.g. the <code>goto</code> of a loop which begins at
+	 * that index.
+	 *
+	 * @param code
+	 *            the byte code of a method
+	 * @param target
+	 *            a code index
+	 * @return whether a branch or switch instruction jumps to the code index
+	 * @throws IllegalArgumentException
+	 *             if the byte code contains an unknown opcode
+	 */
+	public static boolean isBranchTarget(byte[] code, int target) {
+		int pc = 0;
+		while (pc < code.length) {
+			int opcode = code[pc] & 0xFF;
+			int instructionLength = INSTRUCTION_LENGTHS[opcode];
+			if ((opcode >= IFEQ && opcode <= JSR) || opcode == IFNULL || opcode == IFNONNULL) {
+				if (pc + (short) u2(code, pc + 1) == target) {
+					return true;
+				}
+			} else if (opcode == GOTO_W || opcode == JSR_W) {
+				if (pc + u4(code, pc + 1) == target) {
+					return true;
+				}
+			} else if (opcode == WIDE) {
+				instructionLength = (code[pc + 1] & 0xFF) == IINC ? 6 : 4;
+			} else if (opcode == TABLESWITCH || opcode == LOOKUPSWITCH) {
+				int pos = pc + 1 + ((4 - ((pc + 1) & 3)) & 3);
+				if (pc + u4(code, pos) == target) {
+					return true;
+				}
+				int end;
+				if (opcode == TABLESWITCH) {
+					int low = u4(code, pos + 4);
+					int high = u4(code, pos + 8);
+					end = pos + 12 + 4 * (high - low + 1);
+					pos += 12;
+				} else {
+					end = pos + 8 + 8 * u4(code, pos + 4);
+					pos += 12; // offset of the first match-offset pair
+				}
+				for (; pos < end; pos += opcode == TABLESWITCH ? 4 : 8) {
+					if (pc + u4(code, pos) == target) {
+						return true;
+					}
+				}
+				instructionLength = end - pc;
+			} else if (instructionLength <= 0) {
+				throw new IllegalArgumentException("Unknown opcode " + opcode); //$NON-NLS-1$
+			}
+			pc += instructionLength;
+		}
+		return false;
+	}
+
+	/**
+	 * Feeds the given byte code to the digest, replacing constant pool indices
+	 * by the constants they refer to.
+	 */
+	private static void update(MessageDigest digest, ConstantPool pool, byte[] code, int start, int length) {
+		int end = start + length;
+		int pc = start;
+		while (pc < end) {
+			int opcode = code[pc] & 0xFF;
+			int instructionLength = INSTRUCTION_LENGTHS[opcode];
+			digest.update((byte) opcode);
+			if (opcode == LDC) {
+				pool.update(digest, code[pc + 1] & 0xFF);
+			} else if (CONSTANT_POOL_OPERAND[opcode]) {
+				pool.update(digest, u2(code, pc + 1));
+				// invokeinterface count, invokedynamic zeros, multianewarray dimensions
+				digest.update(code, pc + 3, instructionLength - 3);
+			} else if (opcode == WIDE) {
+				instructionLength = (code[pc + 1] & 0xFF) == IINC ? 6 : 4;
+				digest.update(code, pc + 1, instructionLength - 1);
+			} else if (opcode == TABLESWITCH || opcode == LOOKUPSWITCH) {
+				int pos = pc + 1 + ((4 - ((pc - start + 1) & 3)) & 3);
+				if (opcode == TABLESWITCH) {
+					int low = u4(code, pos + 4);
+					int high = u4(code, pos + 8);
+					pos += 12 + 4 * (high - low + 1);
+				} else {
+					pos += 8 + 8 * u4(code, pos + 4);
+				}
+				instructionLength = pos - pc;
+				digest.update(code, pc + 1, instructionLength - 1);
+			} else if (instructionLength > 0) {
+				digest.update(code, pc + 1, instructionLength - 1);
+			} else {
+				throw new IllegalArgumentException("Unknown opcode " + opcode); //$NON-NLS-1$
+			}
+			pc += instructionLength;
+		}
+	}
+
+	private static int skipAttributes(byte[] bytes, int pos) {
+		int count = u2(bytes, pos);
+		pos += 2;
+		for (int i = 0; i < count; i++) {
+			pos += 6 + u4(bytes, pos + 2);
+		}
+		return pos;
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	private static int u2(byte[] bytes, int pos) {
+		return ((bytes[pos] & 0xFF) << 8) | (bytes[pos + 1] & 0xFF);
+	}
+
+	private static int u4(byte[] bytes, int pos) {
+		return ((bytes[pos] & 0xFF) << 24) | ((bytes[pos + 1] & 0xFF) << 16) | ((bytes[pos + 2] & 0xFF) << 8) | (bytes[pos + 3] & 0xFF);
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.logicalstructures;
+
+import java.text.MessageFormat;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.internal.debug.core.model.JDIClassHistogram;
+import org.eclipse.jdt.internal.debug.core.model.JDIPlaceholderValue;
+
+/**
+ * Java value listing the types of a class histogram whose instances grew the
+ * most since its baseline, or the types with the most instances if the
+ * histogram has no baseline. Each type is a child variable whose value is the
+ * number of instances and their growth.
+ *
+ * @see JDIClassHistogram
+ * @since 3.26
+ */
+public class JDIClassHistogramValue extends JDIAllInstancesValue {
+
+	private final boolean fHasBaseline;
+	private final int fTypeCount;
+	private final String[] fNames;
+	private final IJavaObject[] fCounts;
+
+	/**
+	 * Constructor, computes the top types of the given histogram.
+	 *
+	 * @param histogram
+	 *            the class histogram
+	 * @param max
+	 *            the maximum number of types to list
+	 */
+	public JDIClassHistogramValue(JDIClassHistogram histogram, int max) {
+		super(histogram.getDebugTarget(), null);
+		fHasBaseline = histogram.getBaseline() != null;
+		fTypeCount = histogram.size();
+		int[] top = histogram.getTopGrowers(max);
+		fNames = new String[top.length];
+		fCounts = new IJavaObject[top.length];
+		for (int i = 0; i < top.length; i++) {
+			int index = top[i];
+			String count = Long.toString(histogram.getCount(index));
+			if (fHasBaseline) {
+				count = MessageFormat.format(LogicalStructuresMessages.JDIClassHistogramValue_0, count, Long.toString(histogram.getGrowth(index)));
+			}
+			fNames[i] = histogram.getTypeName(index);
+			fCounts[i] = new JDIPlaceholderValue(histogram.getDebugTarget(), count);
+		}
+	}
+
+	@Override
+	protected IJavaObject[] getInstances() {
+		return fCounts;
+	}
+
+	@Override
+	public IVariable getVariable(int offset) throws DebugException {
+		if (offset > fCounts.length - 1 || offset < 0) {
+			internalError(LogicalStructuresMessages.JDIAllInstancesValue_1);
+		}
+		return new JDIPlaceholderVariable(fNames[offset], fCounts[offset]);
+	}
+
+	@Override
+	public String getValueString() {
+		if (fCounts.length == 0) {
+			return LogicalStructuresMessages.JDIClassHistogramValue_3;
+		}
+		String message = fHasBaseline ? LogicalStructuresMessages.JDIClassHistogramValue_1 : LogicalStructuresMessages.JDIClassHistogramValue_2;
+		return MessageFormat.format(message, Integer.toString(fCounts.length), Integer.toString(fTypeCount));
+	}
+
+	@Override
+	public String getDetailString() {
+		StringBuilder buf = new StringBuilder(getValueString()).append('\n');
+		for (int i = 0; i < fCounts.length; i++) {
+			buf.append(fNames[i]).append(' ').append(fCounts[i]).append('\n');
+		}
+		return buf.toString();
+	}
+}
@@ -33,6 +33,11 @@ public class LogicalStructuresMessages extends NLS {
 	public static String JDIAllInstancesValue_12;
 	public static String JDIAllInstancesValue_13;
 
+	public static String JDIClassHistogramValue_0;
+	public static String JDIClassHistogramValue_1;
+	public static String JDIClassHistogramValue_2;
+	public static String JDIClassHistogramValue_3;
+
 	public static String JavaLogicalStructures_0;
 	public static String JavaLogicalStructures_1;
 	public static String JavaLogicalStructures_2;
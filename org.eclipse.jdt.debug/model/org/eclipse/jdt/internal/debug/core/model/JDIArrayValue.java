@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.List;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IIndexedValue;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.ArrayReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaValue;
 
@@ -28,6 +29,7 @@ import com.sun.jdi.ArrayReference;
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.InvalidTypeException;
 import com.sun.jdi.Value;
+import com.sun.jdi.VirtualMachine;
 
 public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		IIndexedValue {
@@ -304,4 +306,47 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		setValues(0, length, values, 0);
 	}
 
+	/**
+	 * Replaces the components of this <code>byte[]</code> starting at the given
+	 * offset with the given bytes, without creating a value for each byte when
+	 * the underlying VM supports it.
+	 *
+	 * @param offset
+	 *            offset in this array to start replacing values at
+	 * @param values
+	 *            replacement values
+	 * @throws DebugException
+	 *             if the values cannot be set
+	 */
+	public void setValues(int offset, byte[] values) throws DebugException {
+		try {
+			ArrayReference array = getArrayReference();
+			if (array instanceof ArrayReferenceImpl) {
+				((ArrayReferenceImpl) array).setValues(offset, values);
+			} else {
+				VirtualMachine vm = array.virtualMachine();
+				List<Value> list = new ArrayList<>(values.length);
+				for (byte value : values) {
+					list.add(vm.mirrorOf(value));
+				}
+				array.setValues(offset, list, 0, values.length);
+			}
+		} catch (InvalidTypeException e) {
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_setting_value_in_array,
+							e.toString()), e);
+		} catch (ClassNotLoadedException e) {
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_setting_value_in_array,
+							e.toString()), e);
+		} catch (RuntimeException e) {
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_setting_value_in_array,
+							e.toString()), e);
+		}
+	}
+
 }
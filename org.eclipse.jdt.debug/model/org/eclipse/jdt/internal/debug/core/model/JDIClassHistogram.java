@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.debug.core.DebugException;
+
+import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.VirtualMachine;
+
+/**
+ * The number of instances of each type loaded in a VM, taken while the VM is
+ * suspended.
+ * <p>
+ * The instances of all loaded types are counted with a few requests of many
+ * types each, several of them sent at once. A histogram is compared to the
+ * last histogram taken at an earlier suspend of the same target, its baseline,
+ * so that the types whose instances grow the most can be found.
+ * </p>
+ *
+ * @since 3.26
+ */
+public final class JDIClassHistogram {
+
+	/**
+	 * Number of types whose instances are counted by one request
+	 */
+	private static final int BATCH = 1000;
+
+	/**
+	 * Number of requests sent at once
+	 */
+	private static final int PIPELINE = 4;
+
+	private final JDIDebugTarget fTarget;
+	private final ReferenceType[] fTypes;
+	private final long[] fCounts;
+	private final int fSuspendCount;
+	private JDIClassHistogram fBaseline;
+
+	/**
+	 * Open addressing table of the indexes of the types plus one, built on
+	 * demand
+	 */
+	private int[] fIndex;
+
+	private JDIClassHistogram(JDIDebugTarget target, ReferenceType[] types, long[] counts, int suspendCount) {
+		fTarget = target;
+		fTypes = types;
+		fCounts = counts;
+		fSuspendCount = suspendCount;
+	}
+
+	/**
+	 * Counts the instances of all types loaded in the given target. The
+	 * histogram is compared to the last one taken at an earlier suspend of the
+	 * target.
+	 *
+	 * @param target
+	 *            a target supporting instance retrieval
+	 * @param monitor
+	 *            progress monitor
+	 * @return the histogram or <code>null</code> if canceled
+	 * @throws DebugException
+	 *             if the instances cannot be counted
+	 */
+	public static JDIClassHistogram take(JDIDebugTarget target, IProgressMonitor monitor) throws DebugException {
+		VirtualMachine vm = target.getVM();
+		if (vm == null) {
+			target.requestFailed(JDIDebugModelMessages.JDIClassHistogram_1, null);
+		}
+		int suspendCount = target.getSuspendCount();
+		ReferenceType[] types = null;
+		long[] counts = null;
+		try {
+			List<ReferenceType> classes = vm.allClasses();
+			types = classes.toArray(new ReferenceType[classes.size()]);
+			counts = count(vm, types, monitor);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			target.targetRequestFailed(JDIDebugModelMessages.JDIClassHistogram_1, e.getCause());
+		} catch (RuntimeException e) {
+			target.targetRequestFailed(JDIDebugModelMessages.JDIClassHistogram_1, e);
+		}
+		if (counts == null || target.getSuspendCount() != suspendCount) {
+			return null;
+		}
+		JDIClassHistogram histogram = new JDIClassHistogram(target, types, counts, suspendCount);
+		JDIClassHistogram last = target.getLastHistogram().getAndSet(histogram);
+		if (last != null) {
+			// compare to the last histogram of an earlier suspend
+			histogram.fBaseline = last.fSuspendCount == suspendCount ? last.fBaseline : last;
+			if (histogram.fBaseline != null) {
+				histogram.fBaseline.fBaseline = null;
+			}
+		}
+		return histogram;
+	}
+
+	/**
+	 * Counts the instances of the given types in batches, sending the requests
+	 * for several batches at once.
+	 *
+	 * @return the counts or <code>null</code> if canceled
+	 */
+	private static long[] count(VirtualMachine vm, ReferenceType[] types, IProgressMonitor monitor) throws InterruptedException, ExecutionException {
+		int batches = (types.length + BATCH - 1) / BATCH;
+		SubMonitor progress = SubMonitor.convert(monitor, JDIDebugModelMessages.JDIClassHistogram_0, batches);
+		long[] counts = new long[types.length];
+		ExecutorService executor = Executors.newFixedThreadPool(PIPELINE, runnable -> {
+			Thread thread = new Thread(runnable, JDIDebugModelMessages.JDIClassHistogram_0);
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			@SuppressWarnings("unchecked")
+			Future<long[]>[] replies = new Future[batches];
+			List<ReferenceType> all = Arrays.asList(types);
+			int requested = 0;
+			for (int i = 0; i < batches; i++) {
+				while (requested < batches && requested < i + PIPELINE * 2) {
+					List<ReferenceType> batch = all.subList(requested * BATCH, Math.min(types.length, (requested + 1) * BATCH));
+					replies[requested++] = executor.submit(() -> count(vm, batch));
+				}
+				if (progress.isCanceled()) {
+					return null;
+				}
+				long[] batch = replies[i].get();
+				replies[i] = null;
+				System.arraycopy(batch, 0, counts, i * BATCH, batch.length);
+				progress.worked(1);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return counts;
+	}
+
+	private static long[] count(VirtualMachine vm, List<ReferenceType> types) {
+		try {
+			return vm.instanceCounts(types);
+		} catch (ObjectCollectedException e) {
+			// a type has been unloaded, count the others one by one
+			long[] counts = new long[types.size()];
+			for (int i = 0; i < counts.length; i++) {
+				try {
+					counts[i] = vm.instanceCounts(List.of(types.get(i)))[0];
+				} catch (ObjectCollectedException e2) {
+					counts[i] = 0;
+				}
+			}
+			return counts;
+		}
+	}
+
+	/**
+	 * @return the target the histogram has been taken of
+	 */
+	public JDIDebugTarget getDebugTarget() {
+		return fTarget;
+	}
+
+	/**
+	 * Returns the histogram taken at an earlier suspend this histogram is
+	 * compared to. A histogram forgets its baseline once a histogram of a later
+	 * suspend has been taken.
+	 *
+	 * @return the baseline or <code>null</code> if none
+	 */
+	public JDIClassHistogram getBaseline() {
+		return fBaseline;
+	}
+
+	/**
+	 * @return the number of types
+	 */
+	public int size() {
+		return fTypes.length;
+	}
+
+	/**
+	 * @return the number of instances of all types
+	 */
+	public long getTotalCount() {
+		long total = 0;
+		for (long count : fCounts) {
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * @param index
+	 *            index of a type
+	 * @return the name of the type
+	 */
+	public String getTypeName(int index) {
+		try {
+			return fTypes[index].name();
+		} catch (VMDisconnectedException | ObjectCollectedException e) {
+			return fTypes[index].signature();
+		}
+	}
+
+	/**
+	 * @param index
+	 *            index of a type
+	 * @return the type
+	 */
+	public ReferenceType getType(int index) {
+		return fTypes[index];
+	}
+
+	/**
+	 * @param index
+	 *            index of a type
+	 * @return the number of instances of the type
+	 */
+	public long getCount(int index) {
+		return fCounts[index];
+	}
+
+	/**
+	 * @param index
+	 *            index of a type
+	 * @return the number of instances of the type minus the number in the
+	 *         baseline, or the number of instances without baseline
+	 */
+	public long getGrowth(int index) {
+		long count = fCounts[index];
+		if (fBaseline == null) {
+			return count;
+		}
+		int base = fBaseline.indexOf(fTypes[index]);
+		return base == -1 ? count : count - fBaseline.fCounts[base];
+	}
+
+	/**
+	 * Returns the indexes of the types whose instances grew the most since the
+	 * baseline, or of the types with the most instances without baseline. Types
+	 * whose instances did not grow are left out.
+	 *
+	 * @param max
+	 *            maximum number of types
+	 * @return the indexes of the types, by decreasing growth
+	 */
+	public int[] getTopGrowers(int max) {
+		long[] growth = new long[fTypes.length];
+		for (int i = 0; i < growth.length; i++) {
+			growth[i] = getGrowth(i);
+		}
+		// min heap of the greatest growths found so far
+		int[] heap = new int[Math.min(max, growth.length)];
+		int size = 0;
+		for (int i = 0; i < growth.length; i++) {
+			if (growth[i] <= 0) {
+				continue;
+			}
+			if (size < heap.length) {
+				heap[size] = i;
+				siftUp(heap, size++, growth);
+			} else if (size > 0 && growth[i] > growth[heap[0]]) {
+				heap[0] = i;
+				siftDown(heap, size, growth);
+			}
+		}
+		int[] top = new int[size];
+		while (size > 0) {
+			top[--size] = heap[0];
+			heap[0] = heap[size];
+			siftDown(heap, size, growth);
+		}
+		return top;
+	}
+
+	private static void siftUp(int[] heap, int index, long[] keys) {
+		int node = heap[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (keys[heap[parent]] <= keys[node]) {
+				break;
+			}
+			heap[index] = heap[parent];
+			index = parent;
+		}
+		heap[index] = node;
+	}
+
+	private static void siftDown(int[] heap, int size, long[] keys) {
+		if (size == 0) {
+			return;
+		}
+		int node = heap[0];
+		int index = 0;
+		int half = size >>> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+				child++;
+			}
+			if (keys[node] <= keys[heap[child]]) {
+				break;
+			}
+			heap[index] = heap[child];
+			index = child;
+		}
+		heap[index] = node;
+	}
+
+	/**
+	 * Returns the index of the given type or -1 if it was not loaded.
+	 */
+	private synchronized int indexOf(ReferenceType type) {
+		if (fIndex == null) {
+			int capacity = Integer.highestOneBit(Math.max(fTypes.length, 8) * 2 - 1) << 1;
+			fIndex = new int[capacity];
+			int mask = capacity - 1;
+			for (int i = 0; i < fTypes.length; i++) {
+				int slot = spread(fTypes[i].hashCode()) & mask;
+				while (fIndex[slot] != 0) {
+					slot = slot + 1 & mask;
+				}
+				fIndex[slot] = i + 1;
+			}
+		}
+		int mask = fIndex.length - 1;
+		for (int slot = spread(type.hashCode()) & mask; fIndex[slot] != 0; slot = slot + 1 & mask) {
+			if (fTypes[fIndex[slot] - 1].equals(type)) {
+				return fIndex[slot] - 1;
+			}
+		}
+		return -1;
+	}
+
+	private static int spread(int hash) {
+		int h = hash * 0x9E3779B9;
+		return h ^ h >>> 16;
+	}
+}
@@ -48,6 +48,7 @@ public class JDIDebugModelMessages extends NLS {
 	public static String JDIDebugTarget_2;
 
 	public static String JDIDebugTarget_4;
+	public static String JDIDebugTarget_5;
 	public static String JDIDebugTarget_does_not_support_disconnect;
 	public static String JDIDebugTarget_does_not_support_storage_retrieval;
 	public static String JDIDebugTarget_does_not_support_termination;
@@ -103,6 +104,17 @@ public class JDIDebugModelMessages extends NLS {
 	public static String JDIReferenceListValue_9;
 	public static String JDIReferenceListValue_11;
 	public static String JDIReferenceListValue_15;
+	public static String JDIClassHistogram_0;
+	public static String JDIClassHistogram_1;
+	public static String JDIReferencePathSearch_0;
+	public static String JDIReferencePathSearch_1;
+	public static String JDIReferencePathsValue_0;
+	public static String JDIReferencePathsValue_1;
+	public static String JDIReferencePathsValue_2;
+	public static String JDIReferencePathsValue_3;
+	public static String JDIReferencePathsValue_4;
+	public static String JDIReferencePathsValue_5;
+	public static String JDIReferencePathsValue_6;
 
 	public static String JDIReferenceType_5;
 
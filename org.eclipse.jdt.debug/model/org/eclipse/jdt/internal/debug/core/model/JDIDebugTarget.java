@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -63,11 +65,13 @@ import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IMemoryBlock;
 import org.eclipse.debug.core.model.IMemoryBlockRetrieval;
 import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.core.model.IStepFilter;
 import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.request.ThreadLifecycleRequestImpl;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -104,6 +108,7 @@ import com.sun.jdi.InternalException;
 import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ThreadGroupReference;
 import com.sun.jdi.ThreadReference;
@@ -121,6 +126,7 @@ import com.sun.jdi.event.VMStartEvent;
 import com.sun.jdi.request.ClassPrepareRequest;
 import com.sun.jdi.request.EventRequest;
 import com.sun.jdi.request.EventRequestManager;
+import com.sun.jdi.request.ThreadDeathRequest;
 
 /**
  * Debug target for JDI debug model.
@@ -143,6 +149,13 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final List<JDIThreadGroup> fGroups;
 
+	/**
+	 * Whether the threads of a thread group are system threads, by thread
+	 * group. The names and parents of the thread groups do not change, so the
+	 * thread group tree is only walked once per thread group.
+	 */
+	private final Map<ThreadGroupReference, Boolean> fSystemThreadGroups = new ConcurrentHashMap<>();
+
 	/**
 	 * Associated system process, or <code>null</code> if not available.
 	 */
@@ -221,6 +234,29 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private ThreadNameChangeHandler fThreadNameChangeHandler;
 
+	/**
+	 * The thread death event handler
+	 */
+	private ThreadDeathHandler fThreadDeathHandler;
+
+	/**
+	 * Whether virtual threads are only tracked once they report an event or
+	 * are asked for, see {@link JDIDebugModel#PREF_TRACK_VIRTUAL_THREADS_LAZILY}
+	 */
+	private boolean fTrackVirtualThreadsLazily;
+
+	/**
+	 * Lock held while listing virtual threads or creating the model of a
+	 * virtual thread that is not tracked yet
+	 */
+	private final Object fVirtualThreadsLock = new Object();
+
+	/**
+	 * The virtual threads of the VM, as listed by the last call to
+	 * {@link #getVirtualThreadCount()}
+	 */
+	private List<ThreadReference> fVirtualThreads = Collections.emptyList();
+
 	/**
 	 * Whether this VM is suspended.
 	 */
@@ -250,6 +286,19 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final ConcurrentMap<IJavaProject, IAstEvaluationEngine> fEngines = new ConcurrentHashMap<>(2);
 
+	/**
+	 * Paths from GC roots searched by object while this target is suspended,
+	 * see {@link JDIReferencePathsValue}. The searches are discarded when this
+	 * target or one of its threads resumes, and when this target terminates.
+	 */
+	private final Map<IJavaObject, JDIReferencePathsValue> fReferencePaths = new ConcurrentHashMap<>();
+
+	/**
+	 * The last class histogram taken of this target, see
+	 * {@link JDIClassHistogram}. Forgotten when this target terminates.
+	 */
+	private final AtomicReference<JDIClassHistogram> fLastHistogram = new AtomicReference<>();
+
 	/**
 	 * List of step filters - each string is a pattern/fully qualified name of a
 	 * type to filter.
@@ -307,6 +356,41 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 * Mask used to flip individual bit masks via XOR
 	 */
 	private static final int XOR_MASK = 0xFFF;
+
+	/**
+	 * Step filter kind - the step filters contributed to the Java debug model.
+	 * Never part of the step filter state mask.
+	 */
+	private static final int FILTER_CONTRIBUTED = 0x100;
+
+	/**
+	 * The kinds of step filter whose verdicts are remembered, in the order in
+	 * which they are consulted. Contributed step filters are consulted last
+	 * and never remembered, as they may change their mind at any time.
+	 */
+	private static final int[] STEP_FILTER_KINDS = { FILTER_STATIC_INITIALIZERS,
+			FILTER_SYNTHETICS, FILTER_CONSTRUCTORS, FILTER_GETTERS,
+			FILTER_SETTERS };
+
+	/**
+	 * Maximum number of methods whose step filter verdicts are remembered
+	 */
+	private static final int MAX_STEP_FILTER_VERDICTS = 1024;
+
+	/**
+	 * Step filter verdicts of the methods stepped into, least recently used
+	 * first, see {@link #isStepFiltered(Method, boolean)}. The lower half of
+	 * each value holds the kinds of step filter filtering the method, the upper
+	 * half the kinds which have been consulted. Guarded by itself.
+	 */
+	private final Map<Method, Integer> fStepFilterVerdicts = Collections.synchronizedMap(new LinkedHashMap<Method, Integer>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Method, Integer> eldest) {
+			return size() > MAX_STEP_FILTER_VERDICTS;
+		}
+	});
 	/**
 	 * Whether this debug target is currently performing a hot code replace
 	 */
@@ -556,6 +640,11 @@ public class JDIDebugTarget extends JDIDebugElement implements
 				JDIDebugModel.PREF_REQUEST_TIMEOUT,
 				JDIDebugModel.DEF_REQUEST_TIMEOUT,
 				null));
+		fTrackVirtualThreadsLazily = Platform.getPreferencesService().getBoolean(
+				JDIDebugPlugin.getUniqueIdentifier(),
+				JDIDebugModel.PREF_TRACK_VIRTUAL_THREADS_LAZILY,
+				false,
+				null) && getVM() instanceof VirtualMachineImpl vm && vm.mayCreateVirtualThreads();
 		initializeRequests();
 		initializeState();
 		initializeBreakpoints();
@@ -597,6 +686,15 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			} catch (RuntimeException e) {
 				internalError(e);
 			}
+			if (threads != null && vm instanceof VirtualMachineImpl vmImpl) {
+				// fetch what the threads need for initialization in bulk
+				// rather than one round trip at a time per thread
+				try {
+					vmImpl.prefetchThreadInfo(threads);
+				} catch (RuntimeException e) {
+					internalError(e);
+				}
+			}
 			if (threads != null) {
 				Iterator<ThreadReference> initialThreads = threads.iterator();
 				while (initialThreads.hasNext()) {
@@ -616,7 +714,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	protected void initializeRequests() {
 		setThreadStartHandler(new ThreadStartHandler());
 		setThreadNameChangeHandler(new ThreadNameChangeHandler());
-		new ThreadDeathHandler();
+		fThreadDeathHandler = new ThreadDeathHandler();
 	}
 
 	/**
@@ -1024,6 +1122,154 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return null;
 	}
 
+	/**
+	 * Returns the model thread for the given underlying thread. When virtual
+	 * threads are tracked lazily, the model of a virtual thread that is not
+	 * tracked yet is created and the end of the thread is requested.
+	 *
+	 * @param tr
+	 *            the underlying thread
+	 * @return the model thread or <code>null</code> if none
+	 * @since 3.26
+	 */
+	public JDIThread findOrCreateThread(ThreadReference tr) {
+		JDIThread thread = findThread(tr);
+		if (thread != null || !fTrackVirtualThreadsLazily) {
+			return thread;
+		}
+		synchronized (fVirtualThreadsLock) {
+			thread = findThread(tr);
+			if (thread == null) {
+				thread = createThread(tr);
+				if (thread != null && thread.isVirtualThread()) {
+					fThreadDeathHandler.createRequest(tr);
+				}
+			}
+			return thread;
+		}
+	}
+
+	/**
+	 * Returns whether virtual threads are only tracked once they report an
+	 * event or are asked for. Such threads can be listed with
+	 * {@link #getVirtualThreads(int, int)}.
+	 *
+	 * @return whether virtual threads are tracked lazily
+	 * @since 3.26
+	 */
+	public boolean isTrackingVirtualThreadsLazily() {
+		return fTrackVirtualThreadsLazily;
+	}
+
+	/**
+	 * Lists the virtual threads of the VM with one request and returns their
+	 * number. The list is kept for {@link #getVirtualThreads(int, int)}.
+	 *
+	 * @return the number of virtual threads
+	 * @throws DebugException
+	 *             if the threads cannot be listed
+	 * @since 3.26
+	 */
+	public int getVirtualThreadCount() throws DebugException {
+		List<ThreadReference> threads = new ArrayList<>();
+		VirtualMachine vm = getVM();
+		if (vm != null) {
+			try {
+				for (ReferenceType type : vm.classesByName("java.lang.VirtualThread")) { //$NON-NLS-1$
+					for (ObjectReference object : type.instances(0)) {
+						if (object instanceof ThreadReference thread) {
+							threads.add(thread);
+						}
+					}
+				}
+			} catch (VMDisconnectedException e) {
+				return 0;
+			} catch (RuntimeException e) {
+				targetRequestFailed(JDIDebugModelMessages.JDIDebugTarget_5, e);
+			}
+		}
+		synchronized (fVirtualThreadsLock) {
+			fVirtualThreads = threads;
+		}
+		return threads.size();
+	}
+
+	/**
+	 * Returns whether the VM has virtual threads, without listing them. The
+	 * threads which have not started or have terminated but are not garbage
+	 * collected yet are counted as well.
+	 *
+	 * @return whether there are instances of virtual threads
+	 * @throws DebugException
+	 *             if the threads cannot be counted
+	 * @since 3.26
+	 */
+	public boolean hasVirtualThreads() throws DebugException {
+		VirtualMachine vm = getVM();
+		if (vm == null) {
+			return false;
+		}
+		try {
+			List<ReferenceType> types = vm.classesByName("java.lang.VirtualThread"); //$NON-NLS-1$
+			if (types.isEmpty()) {
+				return false;
+			}
+			for (long count : vm.instanceCounts(types)) {
+				if (count > 0) {
+					return true;
+				}
+			}
+		} catch (VMDisconnectedException e) {
+			return false;
+		} catch (RuntimeException e) {
+			targetRequestFailed(JDIDebugModelMessages.JDIDebugTarget_5, e);
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the models of a page of the virtual threads listed by the last
+	 * call to {@link #getVirtualThreadCount()}, creating the models of the
+	 * threads not tracked yet. Threads which have not started or have
+	 * terminated are skipped, as they report no events.
+	 *
+	 * @param offset
+	 *            index of the first thread
+	 * @param length
+	 *            maximum number of threads
+	 * @return the threads still alive
+	 * @since 3.26
+	 */
+	public JDIThread[] getVirtualThreads(int offset, int length) {
+		List<ThreadReference> threads;
+		synchronized (fVirtualThreadsLock) {
+			threads = fVirtualThreads;
+		}
+		List<JDIThread> page = new ArrayList<>(Math.max(0, Math.min(length, threads.size() - offset)));
+		for (int i = offset; i < threads.size() && i < offset + length; i++) {
+			if (!isRunning(threads.get(i))) {
+				continue;
+			}
+			JDIThread thread = findOrCreateThread(threads.get(i));
+			if (thread != null && !thread.isTerminated()) {
+				page.add(thread);
+			}
+		}
+		return page.toArray(new JDIThread[page.size()]);
+	}
+
+	/**
+	 * Returns whether the given thread has started and has not terminated.
+	 */
+	private static boolean isRunning(ThreadReference thread) {
+		try {
+			int status = thread.status();
+			return status != ThreadReference.THREAD_STATUS_NOT_STARTED && status != ThreadReference.THREAD_STATUS_ZOMBIE;
+		} catch (ObjectCollectedException | VMDisconnectedException e) {
+			return false;
+		}
+	}
+
 	@Override
 	public String getName() throws DebugException {
 		if (fName == null) {
@@ -1843,12 +2089,15 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			engine.dispose();
 			return true;
 		});
+		JDIReferencePathsValue.discardPaths(this);
+		fLastHistogram.set(null);
 		fVirtualMachine = null;
 		setThreadStartHandler(null);
 		setEventDispatcher(null);
 		setStepFilters(new String[0]);
 		fHCRListeners.clear();
 		fKnownTypes.clear();
+		fSystemThreadGroups.clear();
 		fProjects = null;
 		fBreakpoints.clear();
 	}
@@ -2217,6 +2466,10 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			if (manager != null) {
 				try {
 					EventRequest req = manager.createThreadStartRequest();
+					if (fTrackVirtualThreadsLazily && req instanceof ThreadLifecycleRequestImpl lifecycleRequest) {
+						// virtual threads are tracked once they report an event
+						lifecycleRequest.addPlatformThreadsOnlyFilter();
+					}
 					req.setSuspendPolicy(EventRequest.SUSPEND_NONE);
 					req.enable();
 					addJDIEventListener(this, req);
@@ -2304,6 +2557,9 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		// terminated threads marked for removal from the fThreads list
 		private final Map<Event, JDIThread> toRemove = Collections.synchronizedMap(new HashMap<>());
 
+		// the request for the death of all threads
+		private EventRequest fRequest;
+
 		protected ThreadDeathHandler() {
 			createRequest();
 		}
@@ -2316,9 +2572,39 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			if (manager != null) {
 				try {
 					EventRequest req = manager.createThreadDeathRequest();
+					if (fTrackVirtualThreadsLazily && req instanceof ThreadLifecycleRequestImpl lifecycleRequest) {
+						// the death of a virtual thread is requested once it is tracked
+						lifecycleRequest.addPlatformThreadsOnlyFilter();
+					}
+					req.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+					req.enable();
+					addJDIEventListener(this, req);
+					fRequest = req;
+				} catch (RuntimeException e) {
+					logError(e);
+				}
+			}
+		}
+
+		/**
+		 * Creates and registers a request to listen to the death of the given
+		 * virtual thread, which is tracked lazily. The request is deleted once
+		 * the thread has died.
+		 *
+		 * @param thread
+		 *            a virtual thread
+		 */
+		protected void createRequest(ThreadReference thread) {
+			EventRequestManager manager = getEventRequestManager();
+			if (manager != null) {
+				try {
+					ThreadDeathRequest req = manager.createThreadDeathRequest();
+					req.addThreadFilter(thread);
 					req.setSuspendPolicy(EventRequest.SUSPEND_NONE);
 					req.enable();
 					addJDIEventListener(this, req);
+				} catch (VMDisconnectedException e) {
+					// the target is gone
 				} catch (RuntimeException e) {
 					logError(e);
 				}
@@ -2368,6 +2654,21 @@ public class JDIDebugTarget extends JDIDebugElement implements
 					fThreads.remove(thread);
 				}
 			}
+			EventRequest request = event.request();
+			if (request != fRequest) {
+				// the thread of a request for a single virtual thread has died
+				removeJDIEventListener(this, request);
+				EventRequestManager manager = getEventRequestManager();
+				if (manager != null) {
+					try {
+						manager.deleteEventRequest(request);
+					} catch (VMDisconnectedException e) {
+						// the target is gone
+					} catch (RuntimeException e) {
+						logError(e);
+					}
+				}
+			}
 		}
 
 	}
@@ -2751,6 +3052,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	@Override
 	public void setStepFilters(String[] list) {
 		fStepFilters = list;
+		fStepFilterVerdicts.clear();
 	}
 
 	@Override
@@ -2761,6 +3063,84 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			fStepFilterMask = fStepFilterMask
 					& (STEP_FILTERS_ENABLED ^ XOR_MASK);
 		}
+		fStepFilterVerdicts.clear();
+	}
+
+	/**
+	 * Returns whether the given method is filtered by the enabled step filters
+	 * of this target: static initializer, synthetic, constructor, getter and
+	 * setter filters and, optionally, the step filters contributed to the
+	 * Java debug model.
+	 * <p>
+	 * The verdict of each built-in kind of filter is computed once per method
+	 * and remembered until the step filters change or classes are redefined,
+	 * as it may cost a round trip to the VM (e.g. to get the byte codes of a
+	 * getter). The contributed step filters are consulted each time.
+	 * </p>
+	 *
+	 * @param method
+	 *            the method to check
+	 * @param contributed
+	 *            whether the contributed step filters apply
+	 * @return whether the method is filtered
+	 */
+	public boolean isStepFiltered(Method method, boolean contributed) {
+		int mask = fStepFilterMask;
+		if ((mask & STEP_FILTERS_ENABLED) == 0) {
+			return false;
+		}
+		int wanted = mask & (FILTER_STATIC_INITIALIZERS | FILTER_SYNTHETICS
+				| FILTER_CONSTRUCTORS | FILTER_GETTERS | FILTER_SETTERS);
+		Integer cached = fStepFilterVerdicts.get(method);
+		int verdicts = cached == null ? 0 : cached.intValue() & 0xFFFF;
+		int consulted = cached == null ? 0 : cached.intValue() >>> 16;
+		if ((verdicts & wanted) != 0) {
+			return true;
+		}
+		int missing = wanted & ~consulted;
+		if (missing != 0) {
+			for (int kind : STEP_FILTER_KINDS) {
+				if ((missing & kind) != 0) {
+					consulted |= kind;
+					if (isStepFiltered(method, kind)) {
+						verdicts |= kind;
+						break;
+					}
+				}
+			}
+			fStepFilterVerdicts.put(method, Integer.valueOf(consulted << 16 | verdicts));
+			if ((verdicts & wanted) != 0) {
+				return true;
+			}
+		}
+		return contributed && isStepFiltered(method, FILTER_CONTRIBUTED);
+	}
+
+	/**
+	 * Returns whether the given kind of step filter filters the given method.
+	 */
+	private static boolean isStepFiltered(Method method, int kind) {
+		switch (kind) {
+			case FILTER_STATIC_INITIALIZERS:
+				return method.isStaticInitializer();
+			case FILTER_SYNTHETICS:
+				return method.isSynthetic();
+			case FILTER_CONSTRUCTORS:
+				return method.isConstructor();
+			case FILTER_GETTERS:
+				return JDIMethod.isGetterMethod(method);
+			case FILTER_SETTERS:
+				return JDIMethod.isSetterMethod(method);
+			case FILTER_CONTRIBUTED:
+				for (IStepFilter contributedFilter : DebugPlugin.getStepFilters(JDIDebugPlugin.getUniqueIdentifier())) {
+					if (contributedFilter.isFiltered(method)) {
+						return true;
+					}
+				}
+				return false;
+			default:
+				return false;
+		}
 	}
 
 	@Override
@@ -2796,6 +3176,25 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Returns the paths from GC roots searched by object while this target is
+	 * suspended.
+	 *
+	 * @return the paths by object
+	 */
+	Map<IJavaObject, JDIReferencePathsValue> getReferencePaths() {
+		return fReferencePaths;
+	}
+
+	/**
+	 * Returns the last class histogram taken of this target.
+	 *
+	 * @return the reference to the last histogram
+	 */
+	AtomicReference<JDIClassHistogram> getLastHistogram() {
+		return fLastHistogram;
+	}
+
 	/**
 	 * Returns an evaluation engine for the given project, creating one if
 	 * necessary.
@@ -2813,6 +3212,35 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return engine;
 	}
 
+	/**
+	 * Returns the number of stack frames of each of the given suspended
+	 * threads and, if this target supports monitor information, the number of
+	 * monitors each owns and whether it waits to enter a monitor. This is
+	 * fetched with one group of requests for all threads.
+	 *
+	 * @param threads
+	 *            threads of this target
+	 * @return for each thread, its number of frames, its number of owned
+	 *         monitors and 1 if it waits to enter a monitor or 0, the last two
+	 *         being -1 without monitor information, or <code>null</code> if
+	 *         unknown, for example if the thread is not suspended
+	 * @since 3.26
+	 */
+	public int[][] getFrameAndMonitorCounts(List<JDIThread> threads) {
+		if (getVM() instanceof VirtualMachineImpl vm && isAvailable()) {
+			List<ThreadReference> references = new ArrayList<>(threads.size());
+			for (JDIThread thread : threads) {
+				references.add(thread.getUnderlyingThread());
+			}
+			try {
+				return vm.fetchFrameAndMonitorCounts(references, supportsMonitorInformation());
+			} catch (RuntimeException e) {
+				// answered one thread at a time by the caller
+			}
+		}
+		return new int[threads.size()][];
+	}
+
 	@Override
 	public boolean supportsMonitorInformation() {
 		if (!isAvailable()) {
@@ -2832,6 +3260,8 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	public void setIsPerformingHotCodeReplace(boolean isPerformingHotCodeReplace) {
 		fIsPerformingHotCodeReplace = isPerformingHotCodeReplace;
+		// redefined methods may be filtered differently
+		fStepFilterVerdicts.clear();
 	}
 
 	@Override
@@ -2905,6 +3335,14 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	@Override
 	public void handleDebugEvents(DebugEvent[] events) {
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.RESUME && event.getDetail() != DebugEvent.EVALUATION_IMPLICIT
+					&& event.getSource() instanceof JDIDebugElement element && element.getDebugTarget() == this) {
+				// the objects may change
+				JDIReferencePathsValue.discardPaths(this);
+				break;
+			}
+		}
 		if (events.length == 1) {
 			DebugEvent event = events[0];
 			if (event.getSource().equals(getProcess())
@@ -2949,6 +3387,61 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Returns whether the threads of the given thread group are system
+	 * threads, i.e. whether the group is not the main thread group or one of
+	 * its descendants. The answer is remembered for the group and the groups
+	 * walked up to find it.
+	 *
+	 * @param group
+	 *            a thread group
+	 * @param mainGroupName
+	 *            the name of the main thread group
+	 * @return whether the threads of the group are system threads
+	 * @throws DebugException
+	 *             if the thread group tree cannot be walked
+	 */
+	boolean isSystemThreadGroup(ThreadGroupReference group, String mainGroupName) throws DebugException {
+		Boolean system = fSystemThreadGroups.get(group);
+		if (system != null) {
+			return system.booleanValue();
+		}
+		List<ThreadGroupReference> walked = new ArrayList<>();
+		system = Boolean.TRUE;
+		ThreadGroupReference tgr = group;
+		while (tgr != null) {
+			Boolean known = fSystemThreadGroups.get(tgr);
+			if (known != null) {
+				system = known;
+				break;
+			}
+			walked.add(tgr);
+			String tgn = null;
+			try {
+				tgn = tgr.name();
+				tgr = tgr.parent();
+			} catch (UnsupportedOperationException e) {
+				return false;
+			} catch (RuntimeException e) {
+				targetRequestFailed(
+						MessageFormat.format(
+								JDIDebugModelMessages.JDIThread_exception_determining_if_system_thread,
+								e.toString()), e);
+				// execution will not reach this line, as
+				// #targetRequestFailed will throw an exception
+				return false;
+			}
+			if (tgn != null && tgn.equals(mainGroupName)) {
+				system = Boolean.FALSE;
+				break;
+			}
+		}
+		for (ThreadGroupReference walkedGroup : walked) {
+			fSystemThreadGroups.put(walkedGroup, system);
+		}
+		return system.booleanValue();
+	}
+
 	JDIThreadGroup findThreadGroup(ThreadGroupReference group) {
 		synchronized (fGroups) {
 			Iterator<JDIThreadGroup> groups = fGroups.iterator();
@@ -463,7 +463,7 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 		try {
 			JDIDebugTarget debugTarget = (JDIDebugTarget) getDebugTarget();
 			for (ThreadReference threadReference : getUnderlyingObject().waitingThreads()) {
-				JDIThread jdiThread = debugTarget.findThread(threadReference);
+				JDIThread jdiThread = debugTarget.findOrCreateThread(threadReference);
 				if (jdiThread != null) {
 					waiting.add(jdiThread);
 				}
@@ -490,7 +490,7 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 			ThreadReference thread = getUnderlyingObject().owningThread();
 			JDIDebugTarget debugTarget = (JDIDebugTarget) getDebugTarget();
 			if (thread != null) {
-				owningThread = debugTarget.findThread(thread);
+				owningThread = debugTarget.findOrCreateThread(thread);
 			}
 		} catch (IncompatibleThreadStateException e) {
 			targetRequestFailed(JDIDebugModelMessages.JDIObjectValue_1, e);
@@ -41,6 +41,20 @@ public class JDIReferenceListVariable extends JDIPlaceholderVariable {
 		super(name, new JDIReferenceListValue(root));
 	}
 
+	/**
+	 * Creates a new variable that stores the given list of references.
+	 *
+	 * @param name
+	 *            The name this variable should use
+	 * @param references
+	 *            The list of references, e.g. the paths to GC roots of an
+	 *            object
+	 * @since 3.26
+	 */
+	public JDIReferenceListVariable(String name, JDIReferenceListValue references) {
+		super(name, references);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
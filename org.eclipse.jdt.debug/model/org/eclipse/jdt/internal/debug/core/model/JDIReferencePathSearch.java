@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+
+import com.sun.jdi.ClassObjectReference;
+import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VMDisconnectedException;
+
+/**
+ * Searches the shortest paths of references from GC roots to an object in the
+ * background, breadth first over the referrers of the objects found so far.
+ * <p>
+ * The referrers of several objects are requested at once, so that the search
+ * does not wait for one reply after the other. A path ends at a class object,
+ * which holds the static fields of its class, at a thread, or at an object
+ * without referrers, which is referenced from a thread stack or by JNI. The
+ * search is bounded in the number of objects it visits and it is canceled
+ * when the target resumes.
+ * </p>
+ *
+ * @since 3.26
+ */
+public class JDIReferencePathSearch extends Job {
+
+	/**
+	 * Receives the paths as they are found.
+	 */
+	public interface IReferencePathListener {
+
+		/**
+		 * Notifies that a path has been found.
+		 *
+		 * @param path
+		 *            the objects of the path, from the GC root to the object
+		 *            searched for
+		 * @param rootKind
+		 *            one of {@link JDIReferencePathSearch#ROOT_STATIC},
+		 *            {@link JDIReferencePathSearch#ROOT_THREAD} or
+		 *            {@link JDIReferencePathSearch#ROOT_STACK}
+		 */
+		void pathFound(ObjectReference[] path, int rootKind);
+
+		/**
+		 * Notifies that the search is over.
+		 *
+		 * @param visited
+		 *            number of objects visited
+		 * @param complete
+		 *            whether all objects referring to the object searched
+		 *            for have been visited
+		 */
+		void searchFinished(int visited, boolean complete);
+	}
+
+	/**
+	 * The path starts at a class object, i.e. at a static field
+	 */
+	public static final int ROOT_STATIC = 0;
+
+	/**
+	 * The path starts at a thread
+	 */
+	public static final int ROOT_THREAD = 1;
+
+	/**
+	 * The path starts at an object without referrers, i.e. at a local
+	 * variable of a thread stack or at a JNI reference
+	 */
+	public static final int ROOT_STACK = 2;
+
+	/**
+	 * Maximum number of objects visited
+	 */
+	private static final int MAX_OBJECTS = 100000;
+
+	/**
+	 * Maximum number of referrers requested for an object
+	 */
+	private static final int MAX_REFERRERS = 1000;
+
+	/**
+	 * Number of requests sent at once
+	 */
+	private static final int PIPELINE = 4;
+
+	/**
+	 * Number of objects whose referrers are requested ahead of the object
+	 * being visited
+	 */
+	private static final int BATCH = 64;
+
+	private final JDIDebugTarget fTarget;
+	private final ObjectReference fObject;
+	private final int fMaxPaths;
+	private final IReferencePathListener fListener;
+	private final int fSuspendCount;
+
+	/**
+	 * Objects visited so far, and the index of the object each one refers to
+	 */
+	private ObjectReference[] fNodes = new ObjectReference[256];
+	private int[] fReferents = new int[256];
+	private int fSize;
+	private final LongSet fVisited = new LongSet();
+
+	/**
+	 * Creates a search of the paths to the given object.
+	 *
+	 * @param target
+	 *            the debug target of the object
+	 * @param object
+	 *            the object to search the paths to
+	 * @param maxPaths
+	 *            number of paths after which the search stops
+	 * @param listener
+	 *            receives the paths
+	 */
+	public JDIReferencePathSearch(JDIDebugTarget target, ObjectReference object, int maxPaths, IReferencePathListener listener) {
+		super(JDIDebugModelMessages.JDIReferencePathSearch_0);
+		fTarget = target;
+		fObject = object;
+		fMaxPaths = maxPaths;
+		fListener = listener;
+		fSuspendCount = target.getSuspendCount();
+		setSystem(true);
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		boolean complete = false;
+		ExecutorService executor = Executors.newFixedThreadPool(PIPELINE, runnable -> {
+			Thread thread = new Thread(runnable, JDIDebugModelMessages.JDIReferencePathSearch_0);
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			complete = search(executor, monitor);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (VMDisconnectedException e) {
+			// the target is gone
+		} catch (ExecutionException | RuntimeException e) {
+			JDIDebugPlugin.log(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), MessageFormat.format(JDIDebugModelMessages.JDIReferencePathSearch_1, e.toString()), e));
+		} finally {
+			executor.shutdownNow();
+			fListener.searchFinished(fSize, complete);
+		}
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Visits the objects referring to the object searched for, level by level.
+	 *
+	 * @return whether all objects have been visited
+	 */
+	private boolean search(ExecutorService executor, IProgressMonitor monitor) throws InterruptedException, ExecutionException {
+		fVisited.add(fObject.uniqueID());
+		int[] frontier = { add(fObject, -1) };
+		int paths = 0;
+		while (frontier.length > 0) {
+			int[] next = new int[16];
+			int nextSize = 0;
+			@SuppressWarnings("unchecked")
+			Future<List<ObjectReference>>[] referrers = new Future[frontier.length];
+			int requested = 0;
+			for (int i = 0; i < frontier.length; i++) {
+				while (requested < frontier.length && requested < i + BATCH) {
+					ObjectReference object = fNodes[frontier[requested]];
+					referrers[requested++] = executor.submit(() -> getReferrers(object));
+				}
+				if (isStale(monitor)) {
+					return false;
+				}
+				List<ObjectReference> objects = referrers[i].get();
+				referrers[i] = null;
+				if (objects == null) {
+					// collected, no path goes through the object anymore
+					continue;
+				}
+				int node = frontier[i];
+				if (objects.isEmpty()) {
+					report(node, ROOT_STACK);
+					paths++;
+				}
+				for (ObjectReference object : objects) {
+					if (!fVisited.add(object.uniqueID())) {
+						continue;
+					}
+					if (fSize == MAX_OBJECTS) {
+						return false;
+					}
+					int child = add(object, node);
+					if (object instanceof ClassObjectReference) {
+						report(child, ROOT_STATIC);
+						paths++;
+					} else if (object instanceof ThreadReference) {
+						report(child, ROOT_THREAD);
+						paths++;
+					} else {
+						if (nextSize == next.length) {
+							next = Arrays.copyOf(next, nextSize * 2);
+						}
+						next[nextSize++] = child;
+					}
+				}
+				if (paths >= fMaxPaths) {
+					return false;
+				}
+			}
+			frontier = Arrays.copyOf(next, nextSize);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the search has been canceled or the objects may have
+	 * changed since it started.
+	 */
+	private boolean isStale(IProgressMonitor monitor) {
+		return monitor.isCanceled() || fTarget.isTerminated() || fTarget.isDisconnected() || fTarget.getSuspendCount() != fSuspendCount;
+	}
+
+	/**
+	 * Returns the objects referring to the given object, or <code>null</code>
+	 * if it has been garbage collected.
+	 */
+	private static List<ObjectReference> getReferrers(ObjectReference object) {
+		try {
+			return object.referringObjects(MAX_REFERRERS);
+		} catch (ObjectCollectedException e) {
+			return null;
+		}
+	}
+
+	private int add(ObjectReference object, int referent) {
+		if (fSize == fNodes.length) {
+			fNodes = Arrays.copyOf(fNodes, fSize * 2);
+			fReferents = Arrays.copyOf(fReferents, fSize * 2);
+		}
+		fNodes[fSize] = object;
+		fReferents[fSize] = referent;
+		return fSize++;
+	}
+
+	/**
+	 * Reports the path from the given node to the object searched for.
+	 */
+	private void report(int node, int rootKind) {
+		int length = 0;
+		for (int i = node; i != -1; i = fReferents[i]) {
+			length++;
+		}
+		ObjectReference[] path = new ObjectReference[length];
+		int index = 0;
+		for (int i = node; i != -1; i = fReferents[i]) {
+			path[index++] = fNodes[i];
+		}
+		fListener.pathFound(path, rootKind);
+	}
+
+	/**
+	 * Open addressing set of the unique IDs of the visited objects.
+	 */
+	private static final class LongSet {
+		private long[] fValues = new long[1024];
+		private int fCount;
+		private boolean fContainsZero;
+
+		/**
+		 * Adds the given value and returns whether it was not contained.
+		 */
+		boolean add(long value) {
+			if (value == 0) {
+				boolean added = !fContainsZero;
+				fContainsZero = true;
+				return added;
+			}
+			int mask = fValues.length - 1;
+			int index = hash(value) & mask;
+			while (fValues[index] != 0) {
+				if (fValues[index] == value) {
+					return false;
+				}
+				index = index + 1 & mask;
+			}
+			fValues[index] = value;
+			if (++fCount * 2 > fValues.length) {
+				rehash();
+			}
+			return true;
+		}
+
+		private void rehash() {
+			long[] values = new long[fValues.length * 2];
+			int mask = values.length - 1;
+			for (long value : fValues) {
+				if (value != 0) {
+					int index = hash(value) & mask;
+					while (values[index] != 0) {
+						index = index + 1 & mask;
+					}
+					values[index] = value;
+				}
+			}
+			fValues = values;
+		}
+
+		private static int hash(long value) {
+			long h = value * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ h >>> 32);
+		}
+	}
+}
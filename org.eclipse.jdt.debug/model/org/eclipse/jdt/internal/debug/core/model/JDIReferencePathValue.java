@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.text.MessageFormat;
+
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaObject;
+
+/**
+ * A path of references from a GC root to an object, found by a
+ * {@link JDIReferencePathSearch}. The children of this value are
+ * <code>JDIReferenceListEntryVariable</code>s, one for each object of the path
+ * starting with the GC root.
+ *
+ * @see JDIReferencePathsValue
+ * @since 3.26
+ */
+public class JDIReferencePathValue extends JDIReferenceListValue {
+
+	private final IJavaObject[] fPath;
+
+	/**
+	 * Constructor
+	 *
+	 * @param path
+	 *            the objects of the path, from the GC root to the object the
+	 *            path leads to
+	 */
+	public JDIReferencePathValue(IJavaObject[] path) {
+		super(path[path.length - 1]);
+		fPath = path;
+	}
+
+	@Override
+	protected IJavaObject[] getReferences() {
+		return fPath;
+	}
+
+	@Override
+	public IVariable[] getVariables() {
+		IVariable[] variables = new IVariable[fPath.length];
+		for (int i = 0; i < fPath.length; i++) {
+			variables[i] = new JDIReferenceListEntryVariable(MessageFormat.format(JDIDebugModelMessages.JDIReferenceListValue_0, Integer.toString(i)), fPath[i]);
+		}
+		return variables;
+	}
+
+	@Override
+	public boolean hasVariables() {
+		return true;
+	}
+
+	@Override
+	public String getDetailString() {
+		StringBuilder buf = new StringBuilder();
+		for (IJavaObject object : fPath) {
+			buf.append(object).append('\n');
+		}
+		return buf.toString();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		// paths to the same object are distinct
+		return this == o;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(this);
+	}
+}
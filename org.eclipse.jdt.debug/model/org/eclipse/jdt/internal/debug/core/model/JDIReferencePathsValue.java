@@ -0,0 +1,207 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIPlaceholderVariable;
+
+import com.sun.jdi.ObjectReference;
+
+/**
+ * The shortest paths of references from GC roots to the root object, searched
+ * in the background by a {@link JDIReferencePathSearch}. The children of this
+ * value are the paths found so far, see {@link JDIReferencePathValue}, and a
+ * change event is fired whenever a path is found.
+ * <p>
+ * The paths are remembered per object by the target while it stays suspended,
+ * so that views can show them as the children of the object.
+ * </p>
+ *
+ * @since 3.26
+ */
+public class JDIReferencePathsValue extends JDIReferenceListValue implements JDIReferencePathSearch.IReferencePathListener {
+
+	/**
+	 * Number of paths after which the search stops
+	 */
+	private static final int MAX_PATHS = 10;
+
+	private final JDIReferencePathSearch fSearch;
+	private final int fSuspendCount;
+	private final List<JDIPlaceholderVariable> fPaths = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Message telling how the search ended, or <code>null</code> while
+	 * searching
+	 */
+	private volatile String fResult;
+
+	private JDIReferencePathsValue(IJavaObject root) {
+		super(root);
+		JDIDebugTarget target = (JDIDebugTarget) root.getDebugTarget();
+		fSuspendCount = target.getSuspendCount();
+		fSearch = new JDIReferencePathSearch(target, ((JDIObjectValue) root).getUnderlyingObject(), MAX_PATHS, this);
+	}
+
+	/**
+	 * Starts searching the paths from GC roots to the given object, canceling
+	 * a previous search for the object.
+	 *
+	 * @param root
+	 *            a non-null object
+	 * @return the paths to the object
+	 */
+	public static JDIReferencePathsValue searchPaths(IJavaObject root) {
+		JDIReferencePathsValue paths = new JDIReferencePathsValue(root);
+		JDIReferencePathsValue previous = paths.getJavaDebugTarget().getReferencePaths().put(root, paths);
+		if (previous != null) {
+			previous.fSearch.cancel();
+		}
+		paths.fSearch.schedule();
+		paths.fireChangeEvent(DebugEvent.CONTENT);
+		return paths;
+	}
+
+	/**
+	 * Returns the paths searched to the given object since the target has
+	 * been suspended.
+	 *
+	 * @param root
+	 *            an object
+	 * @return the paths to the object or <code>null</code> if they have not
+	 *         been searched
+	 */
+	public static JDIReferencePathsValue getPaths(IJavaObject root) {
+		if (!(root.getDebugTarget() instanceof JDIDebugTarget target)) {
+			return null;
+		}
+		JDIReferencePathsValue paths = target.getReferencePaths().get(root);
+		return paths == null || paths.isStale() ? null : paths;
+	}
+
+	/**
+	 * Cancels the searches of the paths remembered by the given target and
+	 * forgets them, as the target resumes or terminates.
+	 *
+	 * @param target
+	 *            a debug target
+	 */
+	static void discardPaths(JDIDebugTarget target) {
+		target.getReferencePaths().values().removeIf(paths -> {
+			paths.fSearch.cancel();
+			return true;
+		});
+	}
+
+	private boolean isStale() {
+		JDIDebugTarget target = getJavaDebugTarget();
+		return target.isTerminated() || target.isDisconnected() || target.getSuspendCount() != fSuspendCount;
+	}
+
+	@Override
+	public void pathFound(ObjectReference[] path, int rootKind) {
+		IJavaObject[] objects = new IJavaObject[path.length];
+		for (int i = 0; i < path.length; i++) {
+			objects[i] = (IJavaObject) JDIValue.createValue(getJavaDebugTarget(), path[i]);
+		}
+		String label;
+		switch (rootKind) {
+			case JDIReferencePathSearch.ROOT_STATIC:
+				label = JDIDebugModelMessages.JDIReferencePathsValue_0;
+				break;
+			case JDIReferencePathSearch.ROOT_THREAD:
+				label = JDIDebugModelMessages.JDIReferencePathsValue_1;
+				break;
+			default:
+				label = JDIDebugModelMessages.JDIReferencePathsValue_2;
+				break;
+		}
+		label = MessageFormat.format(label, Integer.toString(fPaths.size()), Integer.toString(path.length - 1));
+		fPaths.add(new JDIPlaceholderVariable(label, new JDIReferencePathValue(objects)));
+		fireChangeEvent(DebugEvent.CONTENT);
+	}
+
+	@Override
+	public void searchFinished(int visited, boolean complete) {
+		if (fPaths.isEmpty()) {
+			fResult = JDIDebugModelMessages.JDIReferencePathsValue_4;
+		} else if (!complete) {
+			fResult = MessageFormat.format(JDIDebugModelMessages.JDIReferencePathsValue_5, Integer.toString(visited));
+		} else {
+			fResult = ""; //$NON-NLS-1$
+		}
+		fireChangeEvent(DebugEvent.CONTENT);
+	}
+
+	/**
+	 * @return whether the search is over
+	 */
+	public boolean isSearchFinished() {
+		return fResult != null;
+	}
+
+	@Override
+	protected IJavaObject[] getReferences() {
+		return new IJavaObject[0];
+	}
+
+	@Override
+	public IVariable[] getVariables() {
+		List<JDIPlaceholderVariable> paths = List.copyOf(fPaths);
+		String result = fResult;
+		if (result == null) {
+			result = JDIDebugModelMessages.JDIReferencePathsValue_3;
+		}
+		if (result.isEmpty()) {
+			return paths.toArray(new IVariable[paths.size()]);
+		}
+		IVariable[] variables = paths.toArray(new IVariable[paths.size() + 1]);
+		variables[paths.size()] = new JDIPlaceholderVariable(result, new JDIPlaceholderValue(getJavaDebugTarget(), result));
+		return variables;
+	}
+
+	@Override
+	public boolean hasVariables() {
+		return true;
+	}
+
+	@Override
+	public String getDetailString() {
+		StringBuilder buf = new StringBuilder();
+		for (JDIPlaceholderVariable path : fPaths) {
+			buf.append(path.getName()).append('\n');
+			buf.append(((JDIReferencePathValue) path.getValue()).getDetailString());
+		}
+		String result = fResult;
+		buf.append(result == null ? JDIDebugModelMessages.JDIReferencePathsValue_3 : result);
+		return buf.toString();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		// a new search gives new paths
+		return this == o;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(this);
+	}
+}
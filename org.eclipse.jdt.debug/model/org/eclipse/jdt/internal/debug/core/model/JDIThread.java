@@ -17,6 +17,7 @@
 package org.eclipse.jdt.internal.debug.core.model;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -39,10 +40,12 @@ import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IStep;
-import org.eclipse.debug.core.model.IStepFilter;
 import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.ITerminate;
 import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdi.internal.ThreadReferenceImpl;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.debug.core.IEvaluationRunnable;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
@@ -57,6 +60,7 @@ import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.breakpoints.ConditionalBreakpointHandler;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint;
@@ -85,6 +89,7 @@ import com.sun.jdi.ThreadGroupReference;
 import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.Value;
+import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventSet;
 import com.sun.jdi.event.ExceptionEvent;
@@ -286,6 +291,12 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	private volatile MethodEntryRequest fCurrentMethodEntryRequest;
 
+	/**
+	 * Number of round trips to the VM the last completed step took, or
+	 * <code>-1</code> if unknown
+	 */
+	private volatile long fStepRoundTrips = -1;
+
 	/**
 	 * Method for which a result value is expected
 	 */
@@ -370,6 +381,18 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	protected void initialize() throws ObjectCollectedException {
 		fStackFrames = new Vector<>();
+		try {
+			// fetch the group, type, status and daemon state of the thread
+			// with one group of requests, unless prefetched for all threads
+			if (fThread.virtualMachine() instanceof VirtualMachineImpl vm) {
+				vm.prefetchThreadInfo(List.of(fThread));
+			}
+		} catch (VMDisconnectedException e) {
+			disconnected();
+			return;
+		} catch (RuntimeException e) {
+			logError(e);
+		}
 		// system thread
 		try {
 			determineIfSystemThread();
@@ -419,6 +442,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 			// see bug 30816
 			if (fThread.status() == ThreadReference.THREAD_STATUS_UNKNOWN) {
 				setRunning(true);
+				// the prefetched suspend state is not asked for
+				if (fThread instanceof ThreadReferenceImpl threadImpl) {
+					threadImpl.forgetPrefetchedStatus();
+				}
 				return;
 			}
 		} catch (VMDisconnectedException e) {
@@ -547,28 +574,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	protected void determineIfSystemThread() throws DebugException {
 		fIsSystemThread = false;
 		ThreadGroupReference tgr = getUnderlyingThreadGroup();
-		fIsSystemThread = tgr != null;
-		while (tgr != null) {
-			String tgn = null;
-			try {
-				tgn = tgr.name();
-				tgr = tgr.parent();
-			} catch (UnsupportedOperationException e) {
-				fIsSystemThread = false;
-				break;
-			} catch (RuntimeException e) {
-				targetRequestFailed(
-						MessageFormat.format(
-								JDIDebugModelMessages.JDIThread_exception_determining_if_system_thread,
-								e.toString()), e);
-				// execution will not reach this line, as
-				// #targetRequestFailed will throw an exception
-				return;
-			}
-			if (tgn != null && tgn.equals(MAIN_THREAD_GROUP)) {
-				fIsSystemThread = false;
-				break;
-			}
+		if (tgr != null) {
+			fIsSystemThread = getJavaDebugTarget().isSystemThreadGroup(tgr, MAIN_THREAD_GROUP);
 		}
 	}
 
@@ -600,6 +607,11 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	protected void determineIfDaemonThread() throws DebugException {
 		fIsDaemon = false;
 		try {
+			if (getUnderlyingThread() instanceof ThreadReferenceImpl thread) {
+				// cached by the thread, usually prefetched
+				fIsDaemon = thread.isDaemon();
+				return;
+			}
 			ReferenceType referenceType = getUnderlyingThread().referenceType();
 			Field field = referenceType.fieldByName("daemon"); //$NON-NLS-1$
 			if (field == null) {
@@ -1627,6 +1639,30 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return getPendingStepHandler() != null;
 	}
 
+	/**
+	 * Returns the number of round trips to the underlying VM the last
+	 * completed step took, including the secondary steps performed because of
+	 * step filters.
+	 *
+	 * @return number of round trips, or <code>-1</code> if unknown
+	 */
+	public long getStepRoundTrips() {
+		return fStepRoundTrips;
+	}
+
+	/**
+	 * Returns the number of round trips to the underlying VM performed so far.
+	 *
+	 * @return number of round trips, or <code>-1</code> if unknown
+	 */
+	private long getRoundTripCount() {
+		VirtualMachine vm = getVM();
+		if (vm instanceof VirtualMachineImpl) {
+			return ((VirtualMachineImpl) vm).roundTripCount();
+		}
+		return -1;
+	}
+
 	@Override
 	public boolean isSuspended() {
 		return !fRunning && !fTerminated;
@@ -2426,6 +2462,25 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		 */
 		private StepRequest fStepRequest;
 
+		/**
+		 * Requests of this handler which are deleted but are still to be
+		 * cleared in the underlying VM. They are cleared along with enabling
+		 * the requests of the next secondary step, in a single round trip.
+		 */
+		private final List<EventRequest> fObsoleteRequests = new ArrayList<>(4);
+
+		/**
+		 * Whether deleted requests are kept in {@link #fObsoleteRequests}
+		 * rather than cleared in the underlying VM right away
+		 */
+		private boolean fReplacingStepRequest;
+
+		/**
+		 * Round trip count of the VM when the step was initiated, or
+		 * <code>-1</code> if unknown
+		 */
+		private long fStartRoundTrips = -1;
+
 		/**
 		 * Initiates a step in the underlying VM by creating a step request of
 		 * the appropriate kind (over, into, return), and resuming this thread.
@@ -2456,6 +2511,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				if (top == null) {
 					return;
 				}
+				fStartRoundTrips = getRoundTripCount();
 				setOriginalStepKind(getStepKind());
 				StackFrame frame = top.getUnderlyingStackFrame();
 				if (frame == null) {
@@ -2552,12 +2608,15 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				request.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
 				request.addCountFilter(1);
 				attachFiltersToStepRequest(request);
-				request.enable();
+				// requests are enabled at once, along with clearing the
+				// obsolete requests of the previous step
+				List<EventRequest> requests = new ArrayList<>(4);
+				requests.add(request);
 
 				if (manager.virtualMachine().canGetMethodReturnValues() && showStepResultIsEnabled(getDebugTarget())) {
 					if (fCurrentMethodExitRequest != null) {
 						removeJDIEventListener(this, fCurrentMethodExitRequest);
-						manager.deleteEventRequest(fCurrentMethodExitRequest);
+						fObsoleteRequests.add(fCurrentMethodExitRequest);
 						fCurrentMethodExitRequest = null;
 						Thread t = fCurrentMethodExitRequestDisabler;
 						if (t != null) {
@@ -2567,12 +2626,12 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					}
 					if (fCurrentExceptionRequest != null) {
 						removeJDIEventListener(this, fCurrentExceptionRequest);
-						manager.deleteEventRequest(fCurrentExceptionRequest);
+						fObsoleteRequests.add(fCurrentExceptionRequest);
 						fCurrentExceptionRequest = null;
 					}
 					if (fCurrentMethodEntryRequest != null) {
 						removeJDIEventListener(this, fCurrentMethodEntryRequest);
-						manager.deleteEventRequest(fCurrentMethodEntryRequest);
+						fObsoleteRequests.add(fCurrentMethodEntryRequest);
 						fCurrentMethodEntryRequest = null;
 					}
 					fStepResultCandidate = null;
@@ -2614,7 +2673,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 							}
 						}
 						methodExitRequest.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
-						methodExitRequest.enable();
+						requests.add(methodExitRequest);
 						fCurrentMethodExitRequest = methodExitRequest;
 						Method method = currentFrame.location().method();
 
@@ -2625,20 +2684,21 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 						ExceptionRequest exceptionRequest = manager.createExceptionRequest(null, true, false);
 						exceptionRequest.addThreadFilter(fThread);
 						exceptionRequest.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
-						exceptionRequest.enable();
+						requests.add(exceptionRequest);
 						fCurrentExceptionRequest = exceptionRequest;
 						addJDIEventListener(this, exceptionRequest);
 
 						if (kind == StepRequest.STEP_OVER) {
 							MethodEntryRequest methodEntryRequest = manager.createMethodEntryRequest();
 							methodEntryRequest.addThreadFilter(fThread);
-							methodEntryRequest.enable();
 							methodEntryRequest.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+							requests.add(methodEntryRequest);
 							fCurrentMethodEntryRequest = methodEntryRequest;
 							fStepOverLocation = currentFrame.location();
 							fStepOverFrameCount = frameCount; // depth of the frame where the step-over is being done
 							addJDIEventListener(this, methodEntryRequest);
 						}
+						replaceRequests(manager, requests);
 
 						int timeout = getStepResultTimeout();
 						if (timeout != 0) {
@@ -2674,6 +2734,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 						}
 					}
 				}
+				if (!requests.isEmpty()) {
+					// unless enabled along with the step result requests
+					replaceRequests(manager, requests);
+				}
 				return request;
 			} catch (RuntimeException e) {
 				targetRequestFailed(
@@ -2688,6 +2752,30 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 		}
 
+		/**
+		 * Clears the obsolete requests of this handler and enables the given
+		 * requests in the underlying VM. When supported by the VM, this costs
+		 * a single round trip.
+		 *
+		 * @param manager
+		 *            the event request manager of the underlying VM
+		 * @param requests
+		 *            the requests to enable, emptied once enabled
+		 */
+		private void replaceRequests(EventRequestManager manager, List<EventRequest> requests) {
+			List<EventRequest> obsolete = new ArrayList<>(fObsoleteRequests);
+			fObsoleteRequests.clear();
+			if (manager instanceof EventRequestManagerImpl) {
+				((EventRequestManagerImpl) manager).replaceEventRequests(obsolete, requests);
+			} else {
+				manager.deleteEventRequests(obsolete);
+				for (EventRequest request : requests) {
+					request.enable();
+				}
+			}
+			requests.clear();
+		}
+
 		/**
 		 * Returns the kind of step this handler implements.
 		 *
@@ -2736,10 +2824,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 			try {
 				if (fCurrentMethodExitRequest != null) {
 					removeJDIEventListener(this, fCurrentMethodExitRequest);
-					EventRequestManager manager = getEventRequestManager();
-					if (manager != null) {
-						manager.deleteEventRequest(fCurrentMethodExitRequest);
-					}
+					fObsoleteRequests.add(fCurrentMethodExitRequest);
 					fCurrentMethodExitRequest = null;
 					Thread t = fCurrentMethodExitRequestDisabler;
 					if (t != null) {
@@ -2749,27 +2834,21 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				}
 				if (fCurrentExceptionRequest != null) {
 					removeJDIEventListener(this, fCurrentExceptionRequest);
-					EventRequestManager manager = getEventRequestManager();
-					if (manager != null) {
-						manager.deleteEventRequest(fCurrentExceptionRequest);
-					}
+					fObsoleteRequests.add(fCurrentExceptionRequest);
 					fCurrentExceptionRequest = null;
 				}
 				if (fCurrentMethodEntryRequest != null) {
 					removeJDIEventListener(this, fCurrentMethodEntryRequest);
-					EventRequestManager manager = getEventRequestManager();
-					if (manager != null) {
-						manager.deleteEventRequest(fCurrentMethodEntryRequest);
-					}
+					fObsoleteRequests.add(fCurrentMethodEntryRequest);
 					fCurrentMethodEntryRequest = null;
 				}
 				StepRequest req = getStepRequest();
 				if (req != null) {
 					removeJDIEventListener(this, req);
-					EventRequestManager manager = getEventRequestManager();
-					if (manager != null) {
-						manager.deleteEventRequest(req);
-					}
+					fObsoleteRequests.add(req);
+				}
+				if (!fReplacingStepRequest) {
+					deleteObsoleteRequests();
 				}
 			} catch (RuntimeException e) {
 				logError(e);
@@ -2778,6 +2857,77 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 			}
 		}
 
+		/**
+		 * Clears the requests of this handler which are deleted but are still
+		 * to be cleared in the underlying VM, in a single round trip.
+		 */
+		private void deleteObsoleteRequests() {
+			if (fObsoleteRequests.isEmpty()) {
+				return;
+			}
+			List<EventRequest> obsolete = new ArrayList<>(fObsoleteRequests);
+			fObsoleteRequests.clear();
+			EventRequestManager manager = getEventRequestManager();
+			if (manager != null) {
+				manager.deleteEventRequests(obsolete);
+			}
+		}
+
+		/**
+		 * Replaces this handler's step request with another step request of
+		 * the specified kind, see {@link #createSecondaryStepRequest(int)}.
+		 * The requests of the current step are cleared in the underlying VM
+		 * along with enabling the requests of the new step, so that replacing
+		 * them costs a single round trip. Step requests themselves cannot be
+		 * reused, as their count filter has expired and the VM steps from
+		 * the location at which they were enabled.
+		 *
+		 * @param kind
+		 *            of <code>StepRequest.STEP_INTO</code>,
+		 *            <code>StepRequest.STEP_OVER</code>,
+		 *            <code>StepRequest.STEP_OUT</code>
+		 * @exception DebugException
+		 *                if this method fails. Reasons include:
+		 *                <ul>
+		 *                <li>Failure communicating with the VM. The
+		 *                DebugException's status code contains the underlying
+		 *                exception responsible for the failure.</li>
+		 *                </ul>
+		 */
+		protected void replaceStepRequest(int kind) throws DebugException {
+			fReplacingStepRequest = true;
+			try {
+				deleteStepRequest();
+			} finally {
+				fReplacingStepRequest = false;
+			}
+			try {
+				createSecondaryStepRequest(kind);
+			} finally {
+				try {
+					deleteObsoleteRequests();
+				} catch (RuntimeException e) {
+					logError(e);
+				}
+			}
+		}
+
+		/**
+		 * Replaces this handler's step request with another step request of
+		 * the appropriate kind, see {@link #replaceStepRequest(int)}.
+		 *
+		 * @exception DebugException
+		 *                if this method fails. Reasons include:
+		 *                <ul>
+		 *                <li>Failure communicating with the VM. The
+		 *                DebugException's status code contains the underlying
+		 *                exception responsible for the failure.</li>
+		 *                </ul>
+		 */
+		protected void replaceStepRequest() throws DebugException {
+			replaceStepRequest(getStepKind());
+		}
+
 		/**
 		 * If step filters are currently switched on and the current location is
 		 * not a filtered location, set all active filters on the step request.
@@ -2857,14 +3007,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					return true;
 				}
 				if (event instanceof MethodEntryEvent) {
-					removeJDIEventListener(this, fCurrentMethodEntryRequest);
-					EventRequestManager manager = getEventRequestManager();
-					if (manager != null) {
-						manager.deleteEventRequest(fCurrentMethodEntryRequest);
-					}
-					fCurrentMethodEntryRequest = null;
-					deleteStepRequest();
-					createSecondaryStepRequest(StepRequest.STEP_OUT);
+					replaceStepRequest(StepRequest.STEP_OUT);
 					return true;
 				}
 				StepEvent stepEvent = (StepEvent) event;
@@ -2891,8 +3034,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 				if (target.isStatementOnlyStepping()) {
 					if (skipImmediateInstructionsOnStepping(currentLocation)) {
-						deleteStepRequest();
-						createSecondaryStepRequest(StepRequest.STEP_OVER);
+						replaceStepRequest(StepRequest.STEP_OVER);
 						return true;
 					}
 				}
@@ -2903,16 +3045,14 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 						if (underlyingFrameCount > fStepOverFrameCount) {
 							// sometimes a MethodEntryEvent does not stop the thread but is delivered with another one grouped
 							// in an event set. in this situation, multiple step-returns must be done.
-							deleteStepRequest();
-							createSecondaryStepRequest(StepRequest.STEP_OUT);
+							replaceStepRequest(StepRequest.STEP_OUT);
 							return true;
 						}
 						if (underlyingFrameCount == fStepOverFrameCount && stepOverLocation2.method().equals(currentLocation.method())) {
 							int lineNumber = stepOverLocation2.lineNumber();
 							if (lineNumber != -1 && lineNumber == currentLocation.lineNumber()) {
 								// line has not changed yet (probably returned from invocation with STEP_OUT)
-								deleteStepRequest();
-								createSecondaryStepRequest(StepRequest.STEP_OVER);
+								replaceStepRequest(StepRequest.STEP_OVER);
 								return true;
 							}
 						}
@@ -2923,8 +3063,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 				if (!target.isStepThruFilters()) {
 					if (shouldDoStepReturn()) {
-						deleteStepRequest();
-						createSecondaryStepRequest(StepRequest.STEP_OUT);
+						replaceStepRequest(StepRequest.STEP_OUT);
 						return true;
 					}
 				}
@@ -2936,8 +3075,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 						|| shouldDoExtraStepInto(currentLocation)
 						|| (getStepKind() == StepRequest.STEP_OVER && isSyntheticAndNotAvailable(currentLocation, stepOverLocation2))) {
 					setRunning(true);
-					deleteStepRequest();
-					createSecondaryStepRequest();
+					replaceStepRequest();
 					clearMethodResult();
 					return true;
 					// otherwise, we're done stepping
@@ -2995,21 +3133,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		 */
 		protected boolean locationIsFiltered(Method method, boolean orig) {
 			if (isStepFiltersEnabled()) {
-				JDIDebugTarget target = getJavaDebugTarget();
-				if ((target.isFilterStaticInitializers() && method.isStaticInitializer())
-						|| (target.isFilterSynthetics() && method.isSynthetic())
-						|| (target.isFilterConstructors() && method.isConstructor())
-						|| (target.isFilterGetters() && JDIMethod.isGetterMethod(method))
-						|| (target.isFilterSetters() && JDIMethod.isSetterMethod(method))) {
-					return true;
-				}
-				if(!orig) {
-					for (IStepFilter contributedFilter : DebugPlugin.getStepFilters(JDIDebugPlugin.getUniqueIdentifier())) {
-						if (contributedFilter.isFiltered(method)) {
-							return true;
-						}
-					}
-				}
+				return getJavaDebugTarget().isStepFiltered(method, !orig);
 			}
 			return false;
 		}
@@ -3031,6 +3155,13 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 			setRunning(false);
 			deleteStepRequest();
 			setPendingStepHandler(null);
+			long roundTrips = getRoundTripCount();
+			if (fStartRoundTrips >= 0 && roundTrips >= 0) {
+				fStepRoundTrips = roundTrips - fStartRoundTrips;
+				if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
+					JDIDebugOptions.trace("Step took " + fStepRoundTrips + " round trips"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
 			if (set != null) {
 				queueSuspendEvent(DebugEvent.STEP_END, set);
 			}
@@ -3305,8 +3436,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				}
 				// reset running state and keep going
 				setRunning(true);
-				deleteStepRequest();
-				createSecondaryStepRequest();
+				replaceStepRequest();
 				clearMethodResult();
 				return true;
 			} catch (DebugException e) {
@@ -20,6 +20,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,6 +54,11 @@ import org.eclipse.osgi.util.NLS;
  * Lookup for VMs installed in standard or usual locations; and add the existing ones that
  * are not yet known by JDT to the VM registry (usually visible in the "Installed JREs"
  * preference page)
+ * <p>
+ * Locations are validated concurrently. The candidates found in the directories containing
+ * a collection of VM installations are remembered along with their time stamps, so that
+ * they are not validated again until they change, see {@link DetectedVMsCache}.
+ * </p>
  */
 public class DetectVMInstallationsJob extends Job {
 
@@ -63,6 +77,14 @@ public class DetectVMInstallationsJob extends Job {
 	 */
 	private static final String PROPERTY_DETECT_VM_INSTALLATIONS_JOB_DISABLED = "DetectVMInstallationsJob.disabled"; //$NON-NLS-1$
 	private static final Object FAMILY = DetectVMInstallationsJob.class;
+	/**
+	 * File in the state location remembering the VMs found in root directories
+	 */
+	private static final String ROOTS_FILE = ".detectedVMCandidates.xml"; //$NON-NLS-1$
+	/**
+	 * Time between two updates of the progress of a search, in milliseconds
+	 */
+	private static final long PROGRESS_INTERVAL = 100;
 
 	public DetectVMInstallationsJob() {
 		super(LaunchingMessages.lookupInstalledJVMs);
@@ -154,29 +176,43 @@ public class DetectVMInstallationsJob extends Job {
 		rootDirectories.add(new File(System.getProperty("user.home"), ".sdkman/candidates/java")); //$NON-NLS-1$ //$NON-NLS-2$
 		rootDirectories.add(new File(miseDataDir(), "installs/java")); //$NON-NLS-1$
 
-		Set<File> directories = rootDirectories.stream().filter(File::isDirectory)
-			.map(dir -> dir.listFiles(File::isDirectory))
-			.flatMap(Arrays::stream)
-			.filter(Objects::nonNull)
-				.collect(Collectors.toCollection(HashSet::new));
+		Set<File> candidates = new HashSet<>(rootsCache().findVMs(rootDirectories, locations -> validate(locations, standardType)));
 
 		// particular VM installations
+		Set<File> homes = new HashSet<>();
 		String javaHome = System.getenv("JAVA_HOME"); //$NON-NLS-1$
 		if (javaHome != null) {
-			directories.add(new File(javaHome));
+			homes.add(new File(javaHome));
 		}
 		String jdkHome = System.getenv("JDK_HOME"); //$NON-NLS-1$
 		if (jdkHome != null) {
-			directories.add(new File(jdkHome));
+			homes.add(new File(jdkHome));
 		}
 		System.getenv().forEach((key, value) -> {
 			if (key.startsWith("JAVA_HOME_") || (key.startsWith("JAVA") && key.endsWith("_HOME"))) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-				directories.add(new File(value));
+				homes.add(new File(value));
 			}
 		});
+		Set<File> directories = canonicalFiles(homes.stream());
+		directories.removeAll(candidates);
 		// other common/standard lookup strategies can be added here
-		return directories.stream()
-			.filter(Objects::nonNull)
+		candidates.addAll(validate(directories, standardType));
+		return candidates;
+	}
+
+	/**
+	 * Returns the cache of the VMs found in root directories, stored in the state location.
+	 */
+	private static DetectedVMsCache rootsCache() {
+		LaunchingPlugin plugin = LaunchingPlugin.getDefault();
+		return new DetectedVMsCache(plugin == null ? null : plugin.getStateLocation().append(ROOTS_FILE).toFile());
+	}
+
+	/**
+	 * Returns the canonical forms of the given files which are directories.
+	 */
+	private static Set<File> canonicalFiles(Stream<File> files) {
+		return files.filter(Objects::nonNull)
 			.filter(File::isDirectory)
 			.map(t -> {
 				try {
@@ -185,10 +221,49 @@ public class DetectVMInstallationsJob extends Job {
 					return null;
 				}
 			}).filter(Objects::nonNull)
-			.filter(location -> standardType.validateInstallLocation(location).isOK())
 			.collect(Collectors.toCollection(HashSet::new));
 	}
 
+	/**
+	 * Returns the given locations which are valid install locations of the given type,
+	 * validating them concurrently.
+	 */
+	private static Set<File> validate(Collection<File> locations, IVMInstallType type) {
+		Set<File> valid = new HashSet<>();
+		if (locations.isEmpty()) {
+			return valid;
+		}
+		List<Callable<File>> tasks = locations.stream()
+			.map(location -> (Callable<File>) () -> type.validateInstallLocation(location).isOK() ? location : null)
+			.collect(Collectors.toList());
+		ForkJoinPool pool = newPool();
+		try {
+			for (Future<File> future : pool.invokeAll(tasks)) {
+				try {
+					File location = future.get();
+					if (location != null) {
+						valid.add(location);
+					}
+				} catch (ExecutionException e) {
+					LaunchingPlugin.log(e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			pool.shutdownNow();
+		}
+		return valid;
+	}
+
+	/**
+	 * Returns a pool for validating locations, which may block while VMs are
+	 * launched to retrieve their library information.
+	 */
+	private static ForkJoinPool newPool() {
+		return new ForkJoinPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+	}
+
 	@SuppressWarnings("nls")
 	private void computeWindowsCandidates(Collection<File> rootDirectories) {
 		List<String> progFiles = List.of("ProgramFiles", "ProgramFiles(x86)");
@@ -251,69 +326,157 @@ public class DetectVMInstallationsJob extends Job {
 	 * Searches the specified directory recursively for installed VMs, adding each
 	 * detected VM to the <code>found</code> list. Any directories specified in
 	 * the <code>ignore</code> are not traversed.
+	 * <p>
+	 * Directories are searched concurrently, and the VMs are added in the order a
+	 * depth first search would find them.
+	 * </p>
 	 */
 	public static void search(File directory, List<File> found, List<IVMInstallType> types, Set<File> ignore, IProgressMonitor monitor) {
 		if (monitor.isCanceled()) {
 			return;
 		}
+		Set<File> visited = ConcurrentHashMap.newKeySet();
+		visited.addAll(ignore);
+		SearchProgress progress = new SearchProgress();
+		SearchTask task = new SearchTask(directory, JavaRuntime.getVMInstallTypes(), visited, progress);
+		ForkJoinPool pool = newPool();
+		boolean interrupted = false;
+		try {
+			pool.execute(task);
+			while (!task.isDone()) {
+				if (monitor.isCanceled()) {
+					progress.canceled = true;
+				}
+				File file = progress.file;
+				if (file != null) {
+					monitor.subTask(NLS.bind(LaunchingMessages.SearchingJVMs, Integer.toString(progress.found.get()),
+							file.toPath().normalize().toAbsolutePath().toString().replace("&", "&&"))); // @see bug 29855 //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				try {
+					task.get(PROGRESS_INTERVAL, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException | ExecutionException e) {
+					// still searching, or failed as reported by join
+				} catch (InterruptedException e) {
+					progress.canceled = true;
+					interrupted = true;
+					task.join();
+				}
+			}
+			task.join();
+		} finally {
+			pool.shutdownNow();
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		task.collect(found, types);
+		ignore.addAll(visited);
+	}
+
+	/**
+	 * State of a search shared by its tasks
+	 */
+	private static class SearchProgress {
+		/**
+		 * Number of VMs found so far
+		 */
+		final AtomicInteger found = new AtomicInteger();
+		/**
+		 * File being searched, shown in the progress
+		 */
+		volatile File file;
+		volatile boolean canceled;
+	}
+
+	/**
+	 * Searches a directory for installed VMs, forking a task for each sub directory
+	 * which is not an installed VM itself.
+	 */
+	private static class SearchTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final File fDirectory;
+		private final IVMInstallType[] fVMTypes;
+		private final Set<File> fVisited;
+		private final SearchProgress fProgress;
+		private final List<File> fFound = new ArrayList<>();
+		private final List<IVMInstallType> fTypes = new ArrayList<>();
+		private final List<SearchTask> fSubTasks = new ArrayList<>();
 
-		String[] fileNames = directory.list();
-		if (fileNames == null) {
-			return; // not a directory
+		SearchTask(File directory, IVMInstallType[] vmTypes, Set<File> visited, SearchProgress progress) {
+			fDirectory = directory;
+			fVMTypes = vmTypes;
+			fVisited = visited;
+			fProgress = progress;
 		}
-		List<String> names = new ArrayList<>();
-		names.add(null); // self
-		names.addAll(List.of(fileNames));
-		List<File> subDirs = new ArrayList<>();
-		for (String name : names) {
-			if (monitor.isCanceled()) {
+
+		@Override
+		protected void compute() {
+			if (fProgress.canceled) {
 				return;
 			}
-			File file = name == null ? directory : new File(directory, name);
-			monitor.subTask(NLS.bind(LaunchingMessages.SearchingJVMs, Integer.toString(found.size()),
-					file.toPath().normalize().toAbsolutePath().toString().replace("&", "&&") )); // @see bug 29855 //$NON-NLS-1$ //$NON-NLS-2$
-			IVMInstallType[] vmTypes = JavaRuntime.getVMInstallTypes();
-			if (file.isDirectory()) {
-				if (ignore.add(file)) {
-					boolean validLocation = false;
-
-					// Take the first VM install type that claims the location as a
-					// valid VM install.  VM install types should be smart enough to not
-					// claim another type's VM, but just in case...
-					for (int j = 0; j < vmTypes.length; j++) {
-						if (monitor.isCanceled()) {
-							return;
-						}
-						IVMInstallType type = vmTypes[j];
-						IStatus status = type.validateInstallLocation(file);
-						if (status.isOK()) {
-							String filePath = file.getPath();
-							int index = filePath.lastIndexOf(File.separatorChar);
-							File newFile = file;
-							// remove bin folder from install location as java executables are found only under bin for Java 9 and above
-							if (index > 0 && filePath.substring(index + 1).equals("bin")) { //$NON-NLS-1$
-								newFile = new File(filePath.substring(0, index));
-							}
-							found.add(newFile);
-							types.add(type);
-							validLocation = true;
-							break;
+			String[] fileNames = fDirectory.list();
+			if (fileNames == null) {
+				return; // not a directory
+			}
+			List<String> names = new ArrayList<>();
+			names.add(null); // self
+			names.addAll(List.of(fileNames));
+			for (String name : names) {
+				if (fProgress.canceled) {
+					return;
+				}
+				File file = name == null ? fDirectory : new File(fDirectory, name);
+				fProgress.file = file;
+				if (file.isDirectory() && fVisited.add(file)) {
+					IVMInstallType type = validate(file);
+					if (type != null) {
+						String filePath = file.getPath();
+						int index = filePath.lastIndexOf(File.separatorChar);
+						File newFile = file;
+						// remove bin folder from install location as java executables are found only under bin for Java 9 and above
+						if (index > 0 && filePath.substring(index + 1).equals("bin")) { //$NON-NLS-1$
+							newFile = new File(filePath.substring(0, index));
 						}
-					}
-					if (!validLocation) {
-						subDirs.add(file);
+						fFound.add(newFile);
+						fTypes.add(type);
+						fProgress.found.incrementAndGet();
+					} else if (!fProgress.canceled) {
+						fSubTasks.add(new SearchTask(file, fVMTypes, fVisited, fProgress));
 					}
 				}
 			}
+			invokeAll(fSubTasks);
 		}
-		while (!subDirs.isEmpty()) {
-			File subDir = subDirs.remove(0);
-			search(subDir, found, types, ignore, monitor);
-			if (monitor.isCanceled()) {
-				return;
+
+		/**
+		 * Returns the first VM install type that claims the location as a valid VM
+		 * install, or <code>null</code> if none. VM install types should be smart enough
+		 * to not claim another type's VM, but just in case...
+		 */
+		private IVMInstallType validate(File file) {
+			for (IVMInstallType type : fVMTypes) {
+				if (fProgress.canceled) {
+					return null;
+				}
+				if (type.validateInstallLocation(file).isOK()) {
+					return type;
+				}
 			}
+			return null;
 		}
 
+		/**
+		 * Adds the VMs found by this task and its sub tasks in depth first order.
+		 */
+		void collect(List<File> found, List<IVMInstallType> types) {
+			found.addAll(fFound);
+			types.addAll(fTypes);
+			for (SearchTask subTask : fSubTasks) {
+				subTask.collect(found, types);
+			}
+		}
 	}
 
 	public static void initialize() {
@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Remembers the candidate VM installations found in directories containing a
+ * collection of VM installations, e.g. <code>/usr/lib/jvm</code>, and whether
+ * they are valid.
+ * <p>
+ * A root directory is listed again only when its time stamp changes. A
+ * candidate is validated again when its own time stamp changes, i.e. the time
+ * stamp of the candidate directory or of its <code>bin</code> or
+ * <code>lib</code> directory, so that a VM which was still being extracted or
+ * failed validation is detected once it is complete.
+ * </p>
+ */
+public class DetectedVMsCache {
+
+	/**
+	 * A candidate VM installation
+	 */
+	private static class Candidate {
+		final long stamp;
+		final boolean valid;
+
+		Candidate(long stamp, boolean valid) {
+			this.stamp = stamp;
+			this.valid = valid;
+		}
+	}
+
+	/**
+	 * The candidates found in a root directory, along with the time stamp of
+	 * the directory when they were found
+	 */
+	private static class RootEntry {
+		final long stamp;
+		final Map<File, Candidate> candidates;
+
+		RootEntry(long stamp, Map<File, Candidate> candidates) {
+			this.stamp = stamp;
+			this.candidates = candidates;
+		}
+	}
+
+	private final File fFile;
+
+	/**
+	 * Creates a cache stored in the given file.
+	 *
+	 * @param file
+	 *            the file, or <code>null</code> to not remember anything
+	 */
+	public DetectedVMsCache(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * Returns the valid VM installations in the given root directories,
+	 * validating only the candidates which are new or changed since the last
+	 * call, and remembers the result.
+	 *
+	 * @param rootDirectories
+	 *            directories containing a collection of VM installations
+	 * @param validator
+	 *            returns the valid locations among the given canonical
+	 *            locations
+	 * @return the canonical locations of the valid VM installations
+	 */
+	public Set<File> findVMs(Collection<File> rootDirectories, Function<Collection<File>, Set<File>> validator) {
+		Map<String, RootEntry> roots = read();
+		Map<String, RootEntry> updated = new HashMap<>();
+		Set<File> found = new HashSet<>();
+		Set<File> toValidate = new HashSet<>();
+		boolean changed = false;
+		for (File root : rootDirectories) {
+			if (!root.isDirectory()) {
+				continue;
+			}
+			RootEntry entry = roots.get(root.getAbsolutePath());
+			long rootStamp = root.lastModified();
+			Set<File> subDirs;
+			if (entry != null && entry.stamp == rootStamp) {
+				subDirs = entry.candidates.keySet();
+			} else {
+				File[] files = root.listFiles(File::isDirectory);
+				subDirs = files == null ? Set.of() : canonicalFiles(files);
+				changed = true;
+			}
+			Map<File, Candidate> candidates = new HashMap<>();
+			for (File dir : subDirs) {
+				if (!dir.isDirectory()) {
+					changed = true;
+					continue;
+				}
+				long stamp = stamp(dir);
+				Candidate candidate = entry == null ? null : entry.candidates.get(dir);
+				if (candidate != null && candidate.stamp == stamp) {
+					if (candidate.valid) {
+						found.add(dir);
+					}
+				} else {
+					candidate = new Candidate(stamp, false);
+					toValidate.add(dir);
+					changed = true;
+				}
+				candidates.put(dir, candidate);
+			}
+			updated.put(root.getAbsolutePath(), new RootEntry(rootStamp, candidates));
+		}
+		if (!toValidate.isEmpty()) {
+			Set<File> valid = validator.apply(toValidate);
+			if (Thread.currentThread().isInterrupted()) {
+				// do not remember candidates which have not been validated
+				return found;
+			}
+			for (RootEntry entry : updated.values()) {
+				entry.candidates.replaceAll((dir, candidate) -> toValidate.contains(dir) ? new Candidate(candidate.stamp, valid.contains(dir)) : candidate);
+			}
+			found.addAll(valid);
+		}
+		if (changed || updated.size() != roots.size()) {
+			write(updated);
+		}
+		return found;
+	}
+
+	/**
+	 * Returns the time stamp of a candidate VM installation: the latest time
+	 * stamp of its directory and the directories checked by the validation.
+	 */
+	private static long stamp(File dir) {
+		long stamp = dir.lastModified();
+		stamp = Math.max(stamp, new File(dir, "bin").lastModified()); //$NON-NLS-1$
+		stamp = Math.max(stamp, new File(dir, "lib").lastModified()); //$NON-NLS-1$
+		return stamp;
+	}
+
+	private static Set<File> canonicalFiles(File[] files) {
+		Set<File> canonical = new HashSet<>();
+		for (File file : files) {
+			try {
+				canonical.add(file.getCanonicalFile());
+			} catch (IOException e) {
+				// ignore the file
+			}
+		}
+		return canonical;
+	}
+
+	/**
+	 * Reads the candidates found by a previous call.
+	 *
+	 * @return the candidates by root directory path
+	 */
+	private Map<String, RootEntry> read() {
+		Map<String, RootEntry> roots = new HashMap<>();
+		if (fFile == null || !fFile.exists()) {
+			return roots;
+		}
+		try (InputStream stream = new BufferedInputStream(new FileInputStream(fFile))) {
+			@SuppressWarnings("restriction")
+			DocumentBuilder parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createDocumentBuilderWithErrorOnDOCTYPE();
+			parser.setErrorHandler(new DefaultHandler());
+			Element root = parser.parse(new InputSource(stream)).getDocumentElement();
+			if (root.getNodeName().equalsIgnoreCase("roots")) { //$NON-NLS-1$
+				NodeList nodes = root.getChildNodes();
+				for (int i = 0; i < nodes.getLength(); i++) {
+					Node node = nodes.item(i);
+					if (node.getNodeType() == Node.ELEMENT_NODE && node.getNodeName().equalsIgnoreCase("root")) { //$NON-NLS-1$
+						Element element = (Element) node;
+						try {
+							long stamp = Long.parseLong(element.getAttribute("stamp")); //$NON-NLS-1$
+							Map<File, Candidate> candidates = new HashMap<>();
+							NodeList children = element.getChildNodes();
+							for (int j = 0; j < children.getLength(); j++) {
+								Node child = children.item(j);
+								if (child.getNodeType() == Node.ELEMENT_NODE && child.getNodeName().equalsIgnoreCase("candidate")) { //$NON-NLS-1$
+									Element candidate = (Element) child;
+									candidates.put(new File(candidate.getAttribute("loc")), new Candidate(Long.parseLong(candidate.getAttribute("stamp")), //$NON-NLS-1$ //$NON-NLS-2$
+											Boolean.parseBoolean(candidate.getAttribute("valid")))); //$NON-NLS-1$
+								}
+							}
+							roots.put(element.getAttribute("loc"), new RootEntry(stamp, candidates)); //$NON-NLS-1$
+						} catch (NumberFormatException e) {
+							// search the root directory again
+						}
+					}
+				}
+			}
+		} catch (IOException | ParserConfigurationException | SAXException e) {
+			LaunchingPlugin.log(e);
+		}
+		return roots;
+	}
+
+	/**
+	 * Writes the given candidates.
+	 *
+	 * @param roots
+	 *            the candidates by root directory path
+	 */
+	private void write(Map<String, RootEntry> roots) {
+		if (fFile == null) {
+			return;
+		}
+		try {
+			Document doc = DebugPlugin.newDocument();
+			Element element = doc.createElement("roots"); //$NON-NLS-1$
+			doc.appendChild(element);
+			for (Map.Entry<String, RootEntry> root : roots.entrySet()) {
+				Element rootElement = doc.createElement("root"); //$NON-NLS-1$
+				rootElement.setAttribute("loc", root.getKey()); //$NON-NLS-1$
+				rootElement.setAttribute("stamp", Long.toString(root.getValue().stamp)); //$NON-NLS-1$
+				for (Map.Entry<File, Candidate> candidate : root.getValue().candidates.entrySet()) {
+					Element candidateElement = doc.createElement("candidate"); //$NON-NLS-1$
+					candidateElement.setAttribute("loc", candidate.getKey().getPath()); //$NON-NLS-1$
+					candidateElement.setAttribute("stamp", Long.toString(candidate.getValue().stamp)); //$NON-NLS-1$
+					candidateElement.setAttribute("valid", Boolean.toString(candidate.getValue().valid)); //$NON-NLS-1$
+					rootElement.appendChild(candidateElement);
+				}
+				element.appendChild(rootElement);
+			}
+			String xml = DebugPlugin.serializeDocument(doc);
+			try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(fFile))) {
+				stream.write(xml.getBytes(StandardCharsets.UTF_8));
+			}
+		} catch (IOException | CoreException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+}
@@ -91,6 +91,7 @@ public class LaunchingMessages extends NLS {
 
 	public static String LaunchingPlugin_39;
 	public static String LaunchingPlugin_40;
+	public static String LaunchingPlugin_41;
 
 	public static String libraryLocation_assert_libraryNotNull;
 
@@ -251,4 +252,6 @@ public class LaunchingMessages extends NLS {
 
 	public static String configuringJVM;
 
+	public static String SystemPackagesIndex_0;
+
 }
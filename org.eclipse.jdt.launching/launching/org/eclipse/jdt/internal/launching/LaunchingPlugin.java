@@ -165,6 +165,54 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 */
 	private static final ConcurrentHashMap<String, LibraryInfo> fgLibraryInfoMap = new ConcurrentHashMap<>(10);
 
+	/**
+	 * Mapping of top-level VM installation directories to the modification time of
+	 * the java executable the library info in {@link #fgLibraryInfoMap} has been
+	 * retrieved from, when known.
+	 *
+	 * @since 3.24
+	 */
+	private static final ConcurrentHashMap<String, Long> fgExecutableStampMap = new ConcurrentHashMap<>(10);
+
+	/**
+	 * Whether the library info has been restored from the state location
+	 *
+	 * @since 3.24
+	 */
+	private static volatile boolean fgLibraryInfoRestored;
+
+	/**
+	 * Whether the library info changed since it has last been saved
+	 *
+	 * @since 3.24
+	 */
+	private static volatile boolean fgLibraryInfoChanged;
+
+	/**
+	 * Delay after the last change of the library info before it is saved, in
+	 * milliseconds
+	 *
+	 * @since 3.24
+	 */
+	private static final long SAVE_LIBRARY_INFO_DELAY = 1000;
+
+	/**
+	 * Saves the library info once it stops changing
+	 *
+	 * @since 3.24
+	 */
+	private static final Job fgSaveLibraryInfoJob = new Job(LaunchingMessages.LaunchingPlugin_41) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			saveLibraryInfo();
+			return Status.OK_STATUS;
+		}
+	};
+
+	static {
+		fgSaveLibraryInfoJob.setSystem(true);
+	}
+
 	/**
 	 * Mapping of the last time the directory of a given SDK was modified.
 	 * <br><br>
@@ -423,12 +471,32 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 * path, or <code>null</code> if none
 	 */
 	public static LibraryInfo getLibraryInfo(String javaInstallPath) {
-		if (fgLibraryInfoMap.isEmpty()) {
+		if (!fgLibraryInfoRestored) {
 			restoreLibraryInfo();
 		}
 		return fgLibraryInfoMap.get(javaInstallPath);
 	}
 
+	/**
+	 * Returns the library info that corresponds to the specified JRE install
+	 * path, or <code>null</code> if none or if it has been retrieved from a java
+	 * executable with another modification time.
+	 *
+	 * @param javaInstallPath the absolute path to the java executable
+	 * @param executableStamp the modification time of the java executable
+	 * @return the library info that corresponds to the specified JRE install
+	 * path and executable, or <code>null</code> if none
+	 * @since 3.24
+	 */
+	public static LibraryInfo getLibraryInfo(String javaInstallPath, long executableStamp) {
+		LibraryInfo info = getLibraryInfo(javaInstallPath);
+		Long stamp = fgExecutableStampMap.get(javaInstallPath);
+		if (info != null && stamp != null && stamp.longValue() != executableStamp) {
+			return null;
+		}
+		return info;
+	}
+
 	/**
 	 * Sets the library info that corresponds to the specified JRE install
 	 * path.
@@ -437,12 +505,32 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 * @param info the library information, or <code>null</code> to remove
 	 */
 	public static void setLibraryInfo(String javaInstallPath, LibraryInfo info) {
+		setLibraryInfo(javaInstallPath, info, 0);
+	}
+
+	/**
+	 * Sets the library info that corresponds to the specified JRE install
+	 * path, retrieved from a java executable with the given modification time.
+	 * The library info is saved once it stops changing.
+	 *
+	 * @param javaInstallPath home location for a JRE
+	 * @param info the library information, or <code>null</code> to remove
+	 * @param executableStamp the modification time of the java executable, or
+	 * <code>0</code> if unknown
+	 * @since 3.24
+	 */
+	public static void setLibraryInfo(String javaInstallPath, LibraryInfo info, long executableStamp) {
 		if (isVMLogging()) {
 			LaunchingPlugin.log(LaunchingMessages.VMLogging_2 + javaInstallPath);
 		}
-		if (fgLibraryInfoMap.isEmpty()) {
+		if (!fgLibraryInfoRestored) {
 			restoreLibraryInfo();
 		}
+		if (executableStamp == 0) {
+			fgExecutableStampMap.remove(javaInstallPath);
+		} else {
+			fgExecutableStampMap.put(javaInstallPath, Long.valueOf(executableStamp));
+		}
 		if (info == null) {
 			fgLibraryInfoMap.remove(javaInstallPath);
 			if (!fgInstallTimeMap.isEmpty()) {
@@ -455,7 +543,8 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 		}
 		//once the library info has been set we can forget it has changed
 		fgHasChanged.remove(javaInstallPath);
-		saveLibraryInfo();
+		fgLibraryInfoChanged = true;
+		fgSaveLibraryInfoJob.schedule(SAVE_LIBRARY_INFO_DELAY);
 	}
 
 	public static boolean isVMLogging() {
@@ -540,6 +629,10 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 			InstanceScope.INSTANCE.getNode(ID_PLUGIN).removePreferenceChangeListener(this);
 			JavaRuntime.removeVMInstallChangedListener(this);
 			JavaRuntime.saveVMConfiguration();
+			fgSaveLibraryInfoJob.cancel();
+			if (fgLibraryInfoChanged) {
+				saveLibraryInfo();
+			}
 			fgXMLParser = null;
 			fWorkspaceServiceTracker.close();
 		} finally {
@@ -812,6 +905,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 
 	@Override
 	public void vmAdded(IVMInstall vm) {
+		SystemPackagesIndex.schedule(vm);
 	}
 
 	@Override
@@ -825,6 +919,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 
 	@Override
 	public void vmRemoved(IVMInstall vm) {
+		SystemPackagesIndex.delete(vm);
 		if (!fBatchingChanges) {
 			VMChanges changes = new VMChanges();
 			changes.vmRemoved(vm);
@@ -875,8 +970,15 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 		while (locations.hasNext()) {
 			String home = locations.next();
 			LibraryInfo info = fgLibraryInfoMap.get(home);
+			if (info == null) {
+				continue;
+			}
 			Element locationElemnet = infoAsElement(doc, info);
 			locationElemnet.setAttribute("home", home); //$NON-NLS-1$
+			Long stamp = fgExecutableStampMap.get(home);
+			if (stamp != null) {
+				locationElemnet.setAttribute("executableStamp", stamp.toString()); //$NON-NLS-1$
+			}
 			config.appendChild(locationElemnet);
 		}
 
@@ -925,7 +1027,8 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	/**
 	 * Saves the library info in a local workspace state location
 	 */
-	private static void saveLibraryInfo() {
+	private static synchronized void saveLibraryInfo() {
+		fgLibraryInfoChanged = false;
 		try {
 			String xml = getLibraryInfoAsXML();
 			IPath libPath = getDefault().getStateLocation();
@@ -947,8 +1050,11 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	/**
 	 * Restores library information for VMs
 	 */
-	private static void restoreLibraryInfo() {
-		fgLibraryInfoMap.clear();
+	private static synchronized void restoreLibraryInfo() {
+		if (fgLibraryInfoRestored) {
+			return;
+		}
+		fgLibraryInfoRestored = true;
 		IPath libPath = getDefault().getStateLocation();
 		libPath = libPath.append("libraryInfos.xml"); //$NON-NLS-1$
 		File file = libPath.toFile();
@@ -981,7 +1087,15 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 									LaunchingPlugin.log(LaunchingMessages.VMLogging_1 + location);
 								}
 								LibraryInfo info = new LibraryInfo(version, bootpath, extDirs, endDirs);
-								fgLibraryInfoMap.put(location, info);
+								fgLibraryInfoMap.putIfAbsent(location, info);
+								String stamp = element.getAttribute("executableStamp"); //$NON-NLS-1$
+								if (!stamp.isEmpty()) {
+									try {
+										fgExecutableStampMap.putIfAbsent(location, Long.valueOf(stamp));
+									} catch (NumberFormatException e) {
+										// retrieve the library info again when the executable changes
+									}
+								}
 							}
 						}
 					}
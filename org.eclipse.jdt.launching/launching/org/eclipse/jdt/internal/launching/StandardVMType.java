@@ -31,12 +31,14 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -109,7 +111,13 @@ public class StandardVMType extends AbstractVMInstallType {
 	 * Map of the install path for which we were unable to generate
 	 * the library info during this session.
 	 */
-	private static Map<String, LibraryInfo> fgFailedInstallPath = new HashMap<>();
+	private static Map<String, LibraryInfo> fgFailedInstallPath = new ConcurrentHashMap<>();
+
+	/**
+	 * Map of the install path for which the library info is being generated, so
+	 * that concurrent requests for the same install path launch its VM only once.
+	 */
+	private static final Map<String, FutureTask<LibraryInfo>> fgPendingLibraryInfo = new ConcurrentHashMap<>();
 
 	/**
 	 * Cache for default library locations. See {@link #getDefaultLibraryLocations(File)}
@@ -118,7 +126,7 @@ public class StandardVMType extends AbstractVMInstallType {
 	 *
 	 * @since 3.7
 	 */
-	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new HashMap<>();
+	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new ConcurrentHashMap<>();
 
 	/**
 	 * The list of locations in which to look for the java executable in candidate
@@ -205,33 +213,68 @@ public class StandardVMType extends AbstractVMInstallType {
 	 * Return library information corresponding to the specified install
 	 * location. If the information does not exist, create it using the given Java
 	 * executable.
+	 * <p>
+	 * The information of different install locations may be created concurrently,
+	 * the information of one install location is created once.
+	 * </p>
 	 * @param javaHome the Java home folder
 	 * @param javaExecutable the Java executable file
 	 * @return the {@link LibraryInfo} for the home and executable path or an empty object, never <code>null</code>
 	 */
-	protected synchronized LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
+	protected LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
 		String installPath = javaHome.getAbsolutePath();
-		LibraryInfo info = LaunchingPlugin.getLibraryInfo(installPath);
-		if (info == null || LaunchingPlugin.timeStampChanged(installPath)) {
-			info = fgFailedInstallPath.get(installPath);
-			if (info == null) {
-				String version = readReleaseVersion(javaHome);
-				if (JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) > 0) {
-					info = new LibraryInfo(version, new String[0], new String[0], new String[0]);
-					LaunchingPlugin.setLibraryInfo(installPath, info);
-				} else {
+		long executableStamp = javaExecutable == null ? 0 : javaExecutable.lastModified();
+		LibraryInfo info = LaunchingPlugin.getLibraryInfo(installPath, executableStamp);
+		if (info != null && !LaunchingPlugin.timeStampChanged(installPath)) {
+			return info;
+		}
+		FutureTask<LibraryInfo> task = new FutureTask<>(() -> createLibraryInfo(javaHome, javaExecutable, executableStamp));
+		FutureTask<LibraryInfo> pending = fgPendingLibraryInfo.putIfAbsent(installPath, task);
+		if (pending == null) {
+			pending = task;
+			try {
+				task.run();
+			} finally {
+				fgPendingLibraryInfo.remove(installPath, task);
+			}
+		}
+		try {
+			return pending.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			LaunchingPlugin.log(e.getCause());
+		}
+		return getDefaultLibraryInfo(javaHome);
+	}
+
+	/**
+	 * Creates the library information of the specified install location using the
+	 * given Java executable, and remembers it.
+	 */
+	private LibraryInfo createLibraryInfo(File javaHome, File javaExecutable, long executableStamp) {
+		String installPath = javaHome.getAbsolutePath();
+		LibraryInfo info = fgFailedInstallPath.get(installPath);
+		if (info == null) {
+			String version = readReleaseVersion(javaHome);
+			if (JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) > 0) {
+				info = new LibraryInfo(version, new String[0], new String[0], new String[0]);
+				LaunchingPlugin.setLibraryInfo(installPath, info, executableStamp);
+			} else {
+				info = generateLibraryInfo(javaHome, javaExecutable);
+				if (info == null) {
+					// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
 					info = generateLibraryInfo(javaHome, javaExecutable);
-					if (info == null) {
-						// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
-						info = generateLibraryInfo(javaHome, javaExecutable);
-					}
-					if (info == null) {
-						info = getDefaultLibraryInfo(javaHome);
-						fgFailedInstallPath.put(installPath, info);
-					} else {
-						// only persist if we were able to generate information - see bug 70011
-						LaunchingPlugin.setLibraryInfo(installPath, info);
-					}
+				}
+				if (info == null) {
+					info = getDefaultLibraryInfo(javaHome);
+					fgFailedInstallPath.put(installPath, info);
+				} else {
+					// only persist if we were able to generate information - see bug 70011
+					LaunchingPlugin.setLibraryInfo(installPath, info, executableStamp);
 				}
 			}
 		}
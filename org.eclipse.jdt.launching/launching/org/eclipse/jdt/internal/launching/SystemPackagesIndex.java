@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.LibraryLocation;
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Index of the packages provided by VM installs, see
+ * {@link JavaRuntime#getProvidedVMPackages(IVMInstall, String)}, persisted in the
+ * state location so that the libraries of the VMs are not read again on every start.
+ * <p>
+ * There is one index file per VM install and release. An index is valid as long as
+ * the libraries of its VM have the modification times they had when it was written.
+ * The package names are stored sorted, each one sharing the prefix of the previous one,
+ * and the index files are read at once.
+ * </p>
+ */
+public final class SystemPackagesIndex {
+
+	/**
+	 * Directory of the index files in the state location
+	 */
+	private static final String INDEX_DIRECTORY = "systemPackages"; //$NON-NLS-1$
+
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	/**
+	 * First bytes of an index file, "JPKG"
+	 */
+	private static final int MAGIC = 0x4A504B47;
+
+	private static final int FORMAT_VERSION = 1;
+
+	private SystemPackagesIndex() {
+	}
+
+	/**
+	 * Returns the indexed packages of the given VM install and release, or
+	 * <code>null</code> if they have not been indexed or if the index is out of date.
+	 *
+	 * @param vm
+	 *            a VM install
+	 * @param release
+	 *            the normalized release, or <code>null</code> for the release of the VM
+	 * @return the distinct and alphabetically sorted immutable set of package names, or
+	 *         <code>null</code>
+	 */
+	public static Set<String> read(IVMInstall vm, String release) {
+		File file = getIndexFile(vm, release);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try {
+			// not memory mapped, as a mapped file cannot be replaced or deleted on Windows
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != getLibraryStamp(vm)) {
+				return null;
+			}
+			if (!getString(buffer).equals(vm.getInstallLocation().getAbsolutePath())) {
+				return null;
+			}
+			int count = buffer.getInt();
+			Set<String> packages = new LinkedHashSet<>(count * 4 / 3 + 1);
+			String previous = ""; //$NON-NLS-1$
+			for (int i = 0; i < count; i++) {
+				int prefix = Short.toUnsignedInt(buffer.getShort());
+				String name = previous.substring(0, prefix) + getString(buffer);
+				packages.add(name);
+				previous = name;
+			}
+			return Collections.unmodifiableSet(packages);
+		} catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+			// index the packages again
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the index of the packages of the given VM install and release.
+	 *
+	 * @param vm
+	 *            a VM install
+	 * @param release
+	 *            the normalized release, or <code>null</code> for the release of the VM
+	 * @param packages
+	 *            the alphabetically sorted package names
+	 */
+	public static void write(IVMInstall vm, String release, Set<String> packages) {
+		File file = getIndexFile(vm, release);
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(file.toPath().getParent());
+			Path temp = Files.createTempFile(file.toPath().getParent(), file.getName(), null);
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(FORMAT_VERSION);
+					out.writeLong(getLibraryStamp(vm));
+					putString(out, vm.getInstallLocation().getAbsolutePath());
+					out.writeInt(packages.size());
+					String previous = ""; //$NON-NLS-1$
+					for (String name : packages) {
+						int prefix = commonPrefixLength(previous, name);
+						out.writeShort(prefix);
+						putString(out, name.substring(prefix));
+						previous = name;
+					}
+				}
+				try {
+					Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Deletes the indexes of the given VM install.
+	 *
+	 * @param vm
+	 *            a VM install
+	 */
+	public static void delete(IVMInstall vm) {
+		File directory = getIndexDirectory();
+		if (directory == null) {
+			return;
+		}
+		String prefix = getIndexPrefix(vm);
+		File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix));
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Indexes the packages of the given VM install in the background, unless they are
+	 * indexed already.
+	 *
+	 * @param vm
+	 *            a VM install
+	 */
+	public static void schedule(IVMInstall vm) {
+		Job job = new Job(NLS.bind(LaunchingMessages.SystemPackagesIndex_0, vm.getName())) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				if (vm.getInstallLocation() != null && vm.getInstallLocation().isDirectory()) {
+					try {
+						JavaRuntime.getProvidedVMPackages(vm, null);
+					} catch (CoreException e) {
+						// the packages are read again when they are asked for
+					}
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
+	}
+
+	/**
+	 * Returns a value which changes when the libraries of the given VM install are
+	 * modified.
+	 */
+	private static long getLibraryStamp(IVMInstall vm) {
+		long stamp = 1;
+		if (JavaRuntime.isModularJava(vm)) {
+			File lib = new File(vm.getInstallLocation(), "lib"); //$NON-NLS-1$
+			stamp = 31 * stamp + new File(lib, "modules").lastModified(); //$NON-NLS-1$
+			stamp = 31 * stamp + new File(lib, "jrt-fs.jar").lastModified(); //$NON-NLS-1$
+		} else {
+			for (LibraryLocation location : JavaRuntime.getLibraryLocations(vm)) {
+				IPath path = location.getSystemLibraryPath();
+				if (path != null) {
+					stamp = 31 * stamp + path.toFile().lastModified();
+				}
+			}
+		}
+		return stamp;
+	}
+
+	private static File getIndexDirectory() {
+		LaunchingPlugin plugin = LaunchingPlugin.getDefault();
+		if (plugin == null) {
+			return null;
+		}
+		return plugin.getStateLocation().append(INDEX_DIRECTORY).toFile();
+	}
+
+	private static String getIndexPrefix(IVMInstall vm) {
+		String id = vm.getVMInstallType().getId() + '_' + vm.getId();
+		return id.replaceAll("[^\\w.-]", "_") + '_'; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static File getIndexFile(IVMInstall vm, String release) {
+		File directory = getIndexDirectory();
+		if (directory == null || vm.getInstallLocation() == null) {
+			return null;
+		}
+		return new File(directory, getIndexPrefix(vm) + (release == null ? "default" : release) + INDEX_EXTENSION); //$NON-NLS-1$
+	}
+
+	private static int commonPrefixLength(String previous, String name) {
+		int max = Math.min(Math.min(previous.length(), name.length()), 0xFFFF);
+		int length = 0;
+		while (length < max && previous.charAt(length) == name.charAt(length)) {
+			length++;
+		}
+		if (length > 0 && Character.isHighSurrogate(name.charAt(length - 1))) {
+			// do not split a surrogate pair
+			length--;
+		}
+		return length;
+	}
+
+	private static void putString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > 0xFFFF) {
+			throw new IllegalArgumentException(string);
+		}
+		out.writeShort(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String getString(ByteBuffer buffer) {
+		byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
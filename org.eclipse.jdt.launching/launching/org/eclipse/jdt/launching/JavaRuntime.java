@@ -101,6 +101,7 @@ import org.eclipse.jdt.internal.launching.RuntimeClasspathEntryResolver;
 import org.eclipse.jdt.internal.launching.RuntimeClasspathProvider;
 import org.eclipse.jdt.internal.launching.SocketAttachConnector;
 import org.eclipse.jdt.internal.launching.StandardVMType;
+import org.eclipse.jdt.internal.launching.SystemPackagesIndex;
 import org.eclipse.jdt.internal.launching.VMDefinitionsContainer;
 import org.eclipse.jdt.internal.launching.VMListener;
 import org.eclipse.jdt.internal.launching.VariableClasspathEntry;
@@ -3491,8 +3492,15 @@ public final class JavaRuntime {
 			try {
 				release = String.valueOf(release); // ConcurrentHashMap does not support null keys -> use "null" instead of null
 				Set<String> packages = vmInstall.systemPackages.computeIfAbsent(release, r -> {
+					String vmRelease = "null".equals(r) ? null : r; //$NON-NLS-1$
+					Set<String> indexedPackages = SystemPackagesIndex.read(vmInstall, vmRelease);
+					if (indexedPackages != null) {
+						return indexedPackages;
+					}
 					try {
-						return querySystemPackages(vmInstall, "null".equals(r) ? null : r, isModular); //$NON-NLS-1$
+						Set<String> vmPackages = querySystemPackages(vmInstall, vmRelease, isModular);
+						SystemPackagesIndex.write(vmInstall, vmRelease, vmPackages);
+						return vmPackages;
 					} catch (CoreException e) {
 						throw new IllegalArgumentException(e);
 					}